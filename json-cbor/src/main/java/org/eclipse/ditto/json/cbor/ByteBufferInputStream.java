@@ -32,7 +32,7 @@ final class ByteBufferInputStream extends InputStream {
             return new ByteArrayInputStream(
                     byteBuffer.array(),
                     byteBuffer.arrayOffset() + byteBuffer.position(),
-                    byteBuffer.limit());
+                    byteBuffer.remaining());
         }
         return new ByteBufferInputStream(byteBuffer);
     }
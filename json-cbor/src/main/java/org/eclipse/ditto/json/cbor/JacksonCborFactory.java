@@ -12,9 +12,7 @@
  */
 package org.eclipse.ditto.json.cbor;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.text.MessageFormat;
 import java.util.LinkedHashMap;
@@ -28,6 +26,8 @@ import org.eclipse.ditto.json.CborFactory;
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonFieldSelectorTrie;
 import org.eclipse.ditto.json.JsonNumber;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonParseException;
@@ -91,18 +91,33 @@ public final class JacksonCborFactory implements CborFactory {
         // this buffer.
         final ByteBuffer slicedByteBuffer = byteBuffer.slice();
         try {
-            final CBORParser parser = JACKSON_CBOR_FACTORY.createParser(ByteBufferInputStream.of(slicedByteBuffer));
-            return parseValue(parser, slicedByteBuffer);
+            return parseValue(createParser(slicedByteBuffer), slicedByteBuffer);
         } catch (final IOException | IllegalArgumentException e) {
             throw createJsonParseException(slicedByteBuffer, e);
         }
     }
 
+    @Override
+    public JsonObject readFrom(final byte[] bytes, final JsonFieldSelector fieldSelector) {
+        final JsonFieldSelectorTrie fieldSelectorTrie = JsonFieldSelectorTrie.of(fieldSelector.getPointers());
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
+        try {
+            final CBORParser parser = JACKSON_CBOR_FACTORY.createParser(bytes);
+            final JsonToken token = parser.nextToken();
+            if (JsonToken.VALUE_NULL == token) {
+                return JsonFactory.nullObject();
+            } else if (JsonToken.START_OBJECT != token) {
+                throw new IOException("Expected CBOR object but got token " + token + ".");
+            }
+            return parseSelectedObject(parser, byteBuffer, fieldSelectorTrie);
+        } catch (final IOException | IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw createJsonParseException(byteBuffer, e);
+        }
+    }
+
     @Override
     public byte[] toByteArray(final JsonValue jsonValue) throws IOException {
-        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        writeToOutputStream(jsonValue, baos);
-        return baos.toByteArray();
+        return ReusableCborWriter.writeToByteArray(JACKSON_CBOR_FACTORY, jsonValue::writeValue);
     }
 
     @Override
@@ -112,38 +127,33 @@ public final class JacksonCborFactory implements CborFactory {
 
     @Override
     public void writeToByteBuffer(final JsonValue jsonValue, final ByteBuffer byteBuffer) throws IOException {
-        final ByteBufferOutputStream byteBufferOutputStream = new ByteBufferOutputStream(byteBuffer);
-        writeToOutputStream(jsonValue, byteBufferOutputStream);
+        ReusableCborWriter.write(JACKSON_CBOR_FACTORY, new ByteBufferOutputStream(byteBuffer), jsonValue::writeValue);
     }
 
     @Override
     public byte[] createCborRepresentation(final Map<String, JsonField> jsonFieldMap, final int guessedSerializedSize)
             throws IOException {
-        final ByteArrayOutputStream baos = new ByteArrayOutputStream(guessedSerializedSize);
 
-        try (final JacksonSerializationContext serializationContext = new JacksonSerializationContext(baos)) {
+        return ReusableCborWriter.writeToByteArray(JACKSON_CBOR_FACTORY, serializationContext -> {
             writeStartObjectWithLength(serializationContext, jsonFieldMap.size());
             for (final JsonField jsonField : jsonFieldMap.values()) {
                 jsonField.writeKeyAndValue(serializationContext);
             }
             serializationContext.getJacksonGenerator().writeEndObject();
-        }
-        return baos.toByteArray();
+        });
     }
 
     @Override
     public byte[] createCborRepresentation(final List<JsonValue> list, final int guessedSerializedSize)
             throws IOException {
-        final ByteArrayOutputStream baos = new ByteArrayOutputStream(guessedSerializedSize);
 
-        try (final JacksonSerializationContext serializationContext = new JacksonSerializationContext(baos)) {
+        return ReusableCborWriter.writeToByteArray(JACKSON_CBOR_FACTORY, serializationContext -> {
             serializationContext.getJacksonGenerator().writeStartArray(list.size());
             for (final JsonValue jsonValue : list) {
                 jsonValue.writeValue(serializationContext);
             }
             serializationContext.getJacksonGenerator().writeEndArray();
-        }
-        return baos.toByteArray();
+        });
     }
 
     private static void writeStartObjectWithLength(final JacksonSerializationContext serializationContext, int length)
@@ -162,6 +172,18 @@ public final class JacksonCborFactory implements CborFactory {
         }
     }
 
+    /*
+     * Jackson parses byte arrays in place while it copies the content of input streams chunk-wise into its own
+     * buffer. Thus the backing array of heap buffers is handed over directly.
+     */
+    private static CBORParser createParser(final ByteBuffer byteBuffer) throws IOException {
+        if (byteBuffer.hasArray()) {
+            return JACKSON_CBOR_FACTORY.createParser(byteBuffer.array(),
+                    byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining());
+        }
+        return JACKSON_CBOR_FACTORY.createParser(ByteBufferInputStream.of(byteBuffer));
+    }
+
     private static JsonParseException createJsonParseException(final ByteBuffer byteBuffer, final Exception e) {
         return JsonParseException.newBuilder()
                 .message(MessageFormat.format(
@@ -171,29 +193,29 @@ public final class JacksonCborFactory implements CborFactory {
                 .build();
     }
 
-    private static void writeToOutputStream(final JsonValue jsonValue, final OutputStream outputStream)
-            throws IOException {
-        final JacksonSerializationContext
-                serializationContext = new JacksonSerializationContext(JACKSON_CBOR_FACTORY, outputStream);
-        jsonValue.writeValue(serializationContext);
-        serializationContext.close();
-    }
-
     private static JsonValue parseValue(final CBORParser parser, final ByteBuffer byteBuffer) throws IOException {
-        return parseValue(parser, byteBuffer, parser.nextToken());
+        return parseValue(parser, byteBuffer, parser.nextToken(), false);
     }
 
+    /*
+     * Only the outermost object or array is decoded. Nested objects and arrays are skipped and backed by their CBOR
+     * representation, they decode themselves on first access.
+     */
     private static JsonValue parseValue(final CBORParser parser, final ByteBuffer byteBuffer,
-            @Nullable final JsonToken currentToken)
+            @Nullable final JsonToken currentToken, final boolean nested)
             throws IOException {
         if (currentToken == null) {
             throw new IOException("Unexpected end of input while expecting value.");
         }
         switch (currentToken) {
             case START_OBJECT:
-                return parseObject(parser, byteBuffer);
+                return nested
+                        ? JsonFactory.createLazyJsonObject(skipChildren(parser, byteBuffer))
+                        : parseObject(parser, byteBuffer);
             case START_ARRAY:
-                return parseArray(parser, byteBuffer);
+                return nested
+                        ? JsonFactory.createLazyJsonArray(skipChildren(parser, byteBuffer))
+                        : parseArray(parser, byteBuffer);
             case VALUE_STRING:
                 return JsonValue.of(parser.getValueAsString());
             case VALUE_NUMBER_INT:
@@ -231,24 +253,81 @@ public final class JacksonCborFactory implements CborFactory {
         final long startOffset = parser.getTokenLocation().getByteOffset();
         while (parser.nextToken() == JsonToken.FIELD_NAME) {
             final String key = parser.currentName();
-            final JsonField jsonField = JsonField.newInstance(key, parseValue(parser, byteBuffer));
+            final JsonValue jsonValue = parseValue(parser, byteBuffer, parser.nextToken(), true);
+            final JsonField jsonField = JsonField.newInstance(key, jsonValue);
             map.put(key, jsonField);
         }
         final long endOffset = parser.getTokenLocation().getByteOffset();
         return JsonFactory.createJsonObject(map, getBytesFromInputSource(startOffset, endOffset, byteBuffer));
     }
 
+    /*
+     * Only decodes the fields selected by the trie; the values of all other fields are skipped without creating
+     * JsonValues for them.
+     */
+    private static JsonObject parseSelectedObject(final CBORParser parser, final ByteBuffer byteBuffer,
+            final JsonFieldSelectorTrie fieldSelectorTrie) throws IOException {
+
+        final LinkedHashMap<String, JsonField> map = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String key = parser.currentName();
+            final JsonToken valueToken = parser.nextToken();
+            @Nullable final JsonFieldSelectorTrie child = fieldSelectorTrie.getChildOrNull(key);
+            if (null == child) {
+                parser.skipChildren();
+            } else {
+                @Nullable final JsonValue jsonValue = parseSelectedValue(parser, byteBuffer, valueToken, child);
+                if (null != jsonValue) {
+                    map.put(key, JsonField.newInstance(key, jsonValue));
+                }
+            }
+        }
+        return JsonFactory.createJsonObject(map, null);
+    }
+
+    @Nullable
+    private static JsonValue parseSelectedValue(final CBORParser parser, final ByteBuffer byteBuffer,
+            @Nullable final JsonToken currentToken, final JsonFieldSelectorTrie fieldSelectorTrie) throws IOException {
+
+        if (fieldSelectorTrie.isEmpty()) {
+            return parseValue(parser, byteBuffer, currentToken, true);
+        }
+        final long startOffset = parser.getTokenLocation().getByteOffset();
+        if (JsonToken.START_OBJECT == currentToken) {
+            final JsonObject selectedFields = parseSelectedObject(parser, byteBuffer, fieldSelectorTrie);
+            if (!selectedFields.isEmpty()) {
+                return selectedFields;
+            } else if (fieldSelectorTrie.isEndOfPointer()) {
+                // none of the longer pointers matched, thus the shorter one selects the whole object
+                final long endOffset = parser.getTokenLocation().getByteOffset();
+                return JsonFactory.createLazyJsonObject(getBytesFromInputSource(startOffset, endOffset, byteBuffer));
+            }
+            return null;
+        } else if (fieldSelectorTrie.isEndOfPointer()) {
+            return parseValue(parser, byteBuffer, currentToken, true);
+        }
+        parser.skipChildren();
+        return null;
+    }
+
     private static JsonArray parseArray(final CBORParser parser, final ByteBuffer byteBuffer) throws IOException {
         final LinkedList<JsonValue> list = new LinkedList<>();
         final long startOffset = parser.getTokenLocation().getByteOffset();
         while (parser.nextToken() != JsonToken.END_ARRAY) {
-            final JsonValue jsonValue = parseValue(parser, byteBuffer, parser.currentToken());
+            final JsonValue jsonValue = parseValue(parser, byteBuffer, parser.currentToken(), true);
             list.add(jsonValue);
         }
         final long endOffset = parser.getTokenLocation().getByteOffset();
         return JsonFactory.createJsonArray(list, getBytesFromInputSource(startOffset, endOffset, byteBuffer));
     }
 
+    private static byte[] skipChildren(final CBORParser parser, final ByteBuffer byteBuffer) throws IOException {
+        final long startOffset = parser.getTokenLocation().getByteOffset();
+        parser.skipChildren();
+        final long endOffset = parser.getTokenLocation().getByteOffset();
+        return getBytesFromInputSource(startOffset, endOffset, byteBuffer);
+    }
+
     private static byte[] getBytesFromInputSource(final long startOffset, final long endOffset,
             final ByteBuffer byteBuffer) {
         assert endOffset > startOffset;
@@ -19,7 +19,6 @@ import java.nio.ByteBuffer;
 import org.eclipse.ditto.json.SerializationContext;
 
 import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 
 /**
  * Implementation of {@link SerializationContext} backed by Jackson's {@link JsonGenerator}.
@@ -43,10 +42,6 @@ final class JacksonSerializationContext implements SerializationContext {
         jacksonGenerator = jacksonFactory.createGenerator(this.outputStream);
     }
 
-    JacksonSerializationContext(final OutputStream outputStream) throws IOException {
-        this(new CBORFactory(), outputStream);
-    }
-
     /**
      * Creates a JacksonSerializationContext that writes to the designated target.
      *
@@ -60,6 +55,17 @@ final class JacksonSerializationContext implements SerializationContext {
         this(jacksonFactory, new ByteBufferOutputStream(targetBuffer));
     }
 
+    /**
+     * Sets the target all subsequent writes go to.
+     * The generator has to be flushed before the target is switched.
+     *
+     * @param target the stream to write serialized data to. The stream is considered to be borrowed and will not be
+     * closed.
+     */
+    void setTarget(final OutputStream target) {
+        outputStream.setTarget(target);
+    }
+
     JsonGenerator getJacksonGenerator() {
         return jacksonGenerator;
     }
@@ -141,13 +147,17 @@ final class JacksonSerializationContext implements SerializationContext {
      */
     static final class ControllableOutputStream extends OutputStream {
 
-        private final OutputStream target;
+        private OutputStream target;
         private boolean enabled = true;
 
         ControllableOutputStream(final OutputStream target) {
             this.target = target;
         }
 
+        void setTarget(final OutputStream target) {
+            this.target = target;
+        }
+
         void enable() {
             this.enabled = true;
         }
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.cbor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * Keeps a {@link JacksonSerializationContext} and an output buffer per thread in order to reuse the Jackson generator
+ * and its buffers for all CBOR values written by that thread.
+ * <p>
+ * A writer is borrowed for the duration of a single write.
+ * Writes which are nested in another write on the same thread, e. g. when writing a JSON object creates the CBOR
+ * representation of a child, use an own writer.
+ * If a write fails, the writer is discarded as the state of its generator is undefined.
+ * </p>
+ */
+@NotThreadSafe
+final class ReusableCborWriter {
+
+    /**
+     * Writers with a larger output buffer are not retained to prevent single large values from occupying memory.
+     */
+    static final int MAX_RETAINED_BUFFER_SIZE = 512 * 1024;
+
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    private static final ThreadLocal<ReusableCborWriter> WRITERS = new ThreadLocal<>();
+
+    private final ExposedByteArrayOutputStream buffer;
+    private final JacksonSerializationContext serializationContext;
+
+    private ReusableCborWriter(final CBORFactory cborFactory) throws IOException {
+        buffer = new ExposedByteArrayOutputStream();
+        serializationContext = new JacksonSerializationContext(cborFactory, buffer);
+    }
+
+    /**
+     * Writes with the given operation to the given output stream.
+     *
+     * @param cborFactory the factory for creating the Jackson generator if there is no reusable writer.
+     * @param outputStream the stream to write to.
+     * @param writeOperation the operation which writes the CBOR value.
+     * @throws IOException if writing failed.
+     */
+    static void write(final CBORFactory cborFactory, final OutputStream outputStream,
+            final WriteOperation writeOperation) throws IOException {
+
+        final ReusableCborWriter writer = borrow(cborFactory);
+        writer.serializationContext.setTarget(outputStream);
+        writeOperation.write(writer.serializationContext);
+        writer.serializationContext.flush();
+        writer.serializationContext.setTarget(writer.buffer);
+        writer.giveBack();
+    }
+
+    /**
+     * Writes with the given operation and returns the written bytes.
+     *
+     * @param cborFactory the factory for creating the Jackson generator if there is no reusable writer.
+     * @param writeOperation the operation which writes the CBOR value.
+     * @return the written bytes.
+     * @throws IOException if writing failed.
+     */
+    static byte[] writeToByteArray(final CBORFactory cborFactory, final WriteOperation writeOperation)
+            throws IOException {
+
+        final ReusableCborWriter writer = borrow(cborFactory);
+        writer.buffer.reset();
+        writeOperation.write(writer.serializationContext);
+        writer.serializationContext.flush();
+        final byte[] result = writer.buffer.toByteArray();
+        writer.giveBack();
+        return result;
+    }
+
+    private static ReusableCborWriter borrow(final CBORFactory cborFactory) throws IOException {
+        @Nullable final ReusableCborWriter writer = WRITERS.get();
+        if (null != writer) {
+            WRITERS.remove();
+            return writer;
+        }
+        return new ReusableCborWriter(cborFactory);
+    }
+
+    private void giveBack() {
+        if (buffer.getCapacity() <= MAX_RETAINED_BUFFER_SIZE) {
+            buffer.reset();
+            WRITERS.set(this);
+        }
+    }
+
+    /**
+     * Writes a CBOR value to a serialization context.
+     */
+    @FunctionalInterface
+    interface WriteOperation {
+
+        /**
+         * Writes the CBOR value.
+         *
+         * @param serializationContext the context to write to.
+         * @throws IOException if writing failed.
+         */
+        void write(JacksonSerializationContext serializationContext) throws IOException;
+
+    }
+
+    private static final class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+
+        private ExposedByteArrayOutputStream() {
+            super(INITIAL_BUFFER_SIZE);
+        }
+
+        private int getCapacity() {
+            return buf.length;
+        }
+
+    }
+
+}
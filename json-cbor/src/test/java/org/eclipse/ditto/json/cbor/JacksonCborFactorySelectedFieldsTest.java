@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.cbor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JacksonCborFactory#readFrom(byte[], JsonFieldSelector)}.
+ */
+public final class JacksonCborFactorySelectedFieldsTest {
+
+    private static final JsonObject THING = JsonFactory.newObject("{\"thingId\":\"org.eclipse.ditto:thing\"," +
+            "\"attributes\":{\"manufacturer\":\"ACME\",\"tags\":[\"a\",\"b\"],\"empty\":{}}," +
+            "\"features\":{\"temp\":{\"properties\":{\"value\":23.5,\"unit\":\"°C\",\"unknown\":null}}}}");
+
+    private final JacksonCborFactory cborFactory = new JacksonCborFactory();
+
+    @Test
+    public void readSelectedFieldsEqualsGetWithFieldSelector() throws IOException {
+        final byte[] cborBytes = cborFactory.toByteArray(THING);
+        final JsonFieldSelector[] fieldSelectors = {
+                JsonFieldSelector.newInstance("thingId"),
+                JsonFieldSelector.newInstance("attributes/manufacturer", "features/temp/properties/value"),
+                JsonFieldSelector.newInstance("attributes/tags", "attributes/empty", "unknown"),
+                JsonFieldSelector.newInstance("thingId/foo", "features/temp/properties/x"),
+                JsonFieldSelector.newInstance("features/temp", "features/temp/properties/unit"),
+                JsonFieldSelector.newInstance("attributes", "attributes/missing")
+        };
+
+        for (final JsonFieldSelector fieldSelector : fieldSelectors) {
+            assertThat(cborFactory.readFrom(cborBytes, fieldSelector))
+                    .as(fieldSelector.toString())
+                    .isEqualTo(THING.get(fieldSelector));
+        }
+    }
+
+    @Test
+    public void readSelectedFieldsOfNullReturnsNullObject() throws IOException {
+        final byte[] cborBytes = cborFactory.toByteArray(JsonValue.nullLiteral());
+
+        assertThat(cborFactory.readFrom(cborBytes, JsonFieldSelector.newInstance("a")))
+                .isEqualTo(JsonFactory.nullObject());
+    }
+
+    @Test
+    public void readSelectedFieldsOfArrayFails() throws IOException {
+        final byte[] cborBytes = cborFactory.toByteArray(JsonFactory.newArray("[1,2]"));
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> cborFactory.readFrom(cborBytes, JsonFieldSelector.newInstance("a")));
+    }
+
+}
@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import org.assertj.core.api.Assertions;
 import org.eclipse.ditto.json.JsonFactory;
@@ -75,6 +76,15 @@ public final class JacksonCborFactoryTest {
         assertThat(result).isEqualTo(testValue);
     }
 
+    @Test
+    public void readFromByteArrayDecodesNestedValuesOnAccess() {
+        final JsonValue result = cborFactory.readFrom(testBytes);
+        assertThat(result.toString()).isEqualTo(testValue.toString());
+        assertThat(result.isObject() ? result.asObject().getValue("Image/Thumbnail/Width") : Optional.empty())
+                .isEqualTo(testValue.isObject() ? testValue.asObject().getValue("Image/Thumbnail/Width")
+                        : Optional.empty());
+    }
+
     @Test
     public void readFromByteArrayWithOffset() {
         final int paddingFront = 20;
@@ -91,6 +101,30 @@ public final class JacksonCborFactoryTest {
         assertThat(result).isEqualTo(testValue);
     }
 
+    @Test
+    public void readFromHeapByteBufferWithPosition() {
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(testBytes.length + 3);
+        byteBuffer.put(new byte[]{1, 2, 3});
+        byteBuffer.put(testBytes);
+        byteBuffer.flip();
+        byteBuffer.position(3);
+
+        final JsonValue result = cborFactory.readFrom(byteBuffer.slice());
+
+        assertThat(result).isEqualTo(testValue);
+    }
+
+    @Test
+    public void readFromDirectByteBuffer() {
+        final ByteBuffer directBuffer = ByteBuffer.allocateDirect(testBytes.length);
+        directBuffer.put(testBytes);
+        directBuffer.flip();
+
+        final JsonValue result = cborFactory.readFrom(directBuffer);
+
+        assertThat(result).isEqualTo(testValue);
+    }
+
     @Test
     public void readFromByteBufferWithInaccessibleArray() {
         // ReadOnlyByteBuffers throw an exception when trying to access the backing array directly.
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.cbor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ReusableCborWriter} via {@link JacksonCborFactory}.
+ */
+public final class ReusableCborWriterTest {
+
+    private static final JsonObject JSON_OBJECT = JsonFactory.newObject("{\"thingId\":\"org.eclipse.ditto:thing\"," +
+            "\"attributes\":{\"a\":[1,2.5,true,null,\"x\"],\"b\":{\"c\":12345678901}}}");
+
+    private final JacksonCborFactory underTest = new JacksonCborFactory();
+
+    @Test
+    public void consecutiveWritesProduceSameBytesAsFreshGenerator() throws IOException {
+        final byte[] expected = CborTestUtils.serializeWithJackson(JSON_OBJECT);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(underTest.toByteArray(JSON_OBJECT)).isEqualTo(expected);
+            assertThat(underTest.toByteArray(JsonValue.of(i))).isEqualTo(CborTestUtils.serializeWithJackson(
+                    JsonValue.of(i)));
+        }
+    }
+
+    @Test
+    public void nestedWriteOfModifiedObjectUsesOwnWriter() throws IOException {
+        // the modified object creates the CBOR representation of its modified children while being written
+        final JsonObject modified = JSON_OBJECT.setValue(JsonPointer.of("attributes/b/d"), "new")
+                .setValue(JsonPointer.of("attributes/e"), JsonArray.of(1, 2, 3));
+        final JsonObject expected = JsonFactory.newObject(modified.toString());
+
+        final byte[] bytes = underTest.toByteArray(modified);
+
+        assertThat(bytes).isEqualTo(CborTestUtils.serializeWithJackson(expected));
+        assertThat(underTest.readFrom(bytes)).isEqualTo(expected);
+    }
+
+    @Test
+    public void writeAfterFailedWriteProducesValidBytes() throws IOException {
+        final ByteBuffer tooSmallBuffer = ByteBuffer.allocate(10);
+        assertThatExceptionOfType(BufferOverflowException.class)
+                .isThrownBy(() -> underTest.writeToByteBuffer(JSON_OBJECT, tooSmallBuffer));
+
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(1024);
+        underTest.writeToByteBuffer(JSON_OBJECT, byteBuffer);
+        byteBuffer.flip();
+
+        assertThat(underTest.readFrom(byteBuffer)).isEqualTo(JSON_OBJECT);
+    }
+
+    @Test
+    public void writeValueLargerThanRetainedBuffer() throws IOException {
+        final StringBuilder stringBuilder = new StringBuilder();
+        while (stringBuilder.length() <= ReusableCborWriter.MAX_RETAINED_BUFFER_SIZE) {
+            stringBuilder.append("0123456789");
+        }
+        final JsonValue largeValue = JsonValue.of(stringBuilder.toString());
+
+        assertThat(underTest.readFrom(underTest.toByteArray(largeValue))).isEqualTo(largeValue);
+        assertThat(underTest.toByteArray(JSON_OBJECT)).isEqualTo(CborTestUtils.serializeWithJackson(JSON_OBJECT));
+    }
+
+}
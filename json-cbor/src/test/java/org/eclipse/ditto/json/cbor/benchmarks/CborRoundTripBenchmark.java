@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.cbor.benchmarks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.benchmarks.ThingPayloads;
+import org.eclipse.ditto.json.cbor.JacksonCborFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures CBOR round-trips of things through {@link JacksonCborFactory} like they happen when things are sent
+ * between the Ditto services.
+ * The {@code roundTrip} benchmark decodes a thing, modifies one of its properties and encodes it again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class CborRoundTripBenchmark {
+
+    private static final JsonPointer PROPERTY_POINTER = JsonPointer.of("features/sensor-0/properties/counter");
+
+    /**
+     * Approximate size of the thing in bytes when serialized as JSON string.
+     */
+    @Param({"300", "5000", "100000"})
+    public int payloadSize;
+
+    private CborFactory cborFactory;
+    private JsonObject thing;
+    private byte[] cborPayload;
+    private ByteBuffer byteBuffer;
+    private int counter;
+
+    @Setup
+    public void setup() throws IOException {
+        cborFactory = new JacksonCborFactory();
+        thing = ThingPayloads.createThing(payloadSize);
+        cborPayload = cborFactory.toByteArray(thing);
+        byteBuffer = ByteBuffer.allocate(cborPayload.length * 2);
+        counter = 0;
+    }
+
+    @Benchmark
+    public JsonValue decode() {
+        return cborFactory.readFrom(cborPayload);
+    }
+
+    @Benchmark
+    public byte[] modifyAndEncode() throws IOException {
+        return cborFactory.toByteArray(thing.setValue(PROPERTY_POINTER, counter++));
+    }
+
+    @Benchmark
+    public ByteBuffer modifyAndWriteToByteBuffer() throws IOException {
+        byteBuffer.clear();
+        cborFactory.writeToByteBuffer(thing.setValue(PROPERTY_POINTER, counter++), byteBuffer);
+        return byteBuffer;
+    }
+
+    @Benchmark
+    public byte[] roundTrip() throws IOException {
+        final JsonObject decoded = cborFactory.readFrom(cborPayload).asObject();
+        return cborFactory.toByteArray(decoded.setValue(PROPERTY_POINTER, counter++));
+    }
+
+}
@@ -70,6 +70,19 @@ public interface CborFactory {
      */
     JsonValue readFrom(ByteBuffer byteBuffer);
 
+    /**
+     * Deserializes a {@code JsonObject} by parsing the passed {@code bytes} with CBOR.
+     * Only the fields selected by {@code fieldSelector} are decoded, the values of all other fields are skipped.
+     * The result is equal to the result of {@link JsonObject#get(JsonFieldSelector)} invoked on the whole object.
+     *
+     * @param bytes the bytes to parse with CBOR.
+     * @param fieldSelector selects the fields to be decoded.
+     * @return the parsed JsonObject.
+     * @throws JsonParseException if the content of {@code bytes} cannot be deserialized to a {@link JsonObject}.
+     * @since 2.0.0
+     */
+    JsonObject readFrom(byte[] bytes, JsonFieldSelector fieldSelector);
+
     /**
      * Serializes a CBOR byte array from the passed {@code jsonValue}.
      *
@@ -22,7 +22,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -122,6 +121,34 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         return new ImmutableJsonArray(SoftReferencedValueList.of(values, stringRepresentation, cborRepresentation));
     }
 
+    /**
+     * Returns a new JSON array which takes ownership of the given freshly parsed values.
+     * The list is neither copied nor may it be modified afterwards.
+     *
+     * @param parsedValues the values of the JSON array to be created.
+     * @param stringRepresentation the already known string representation of the returned array or {@code null}.
+     * @return a new JSON array.
+     * @throws NullPointerException if {@code parsedValues} is {@code null}.
+     */
+    static ImmutableJsonArray ofParsed(final List<JsonValue> parsedValues,
+            @Nullable final String stringRepresentation) {
+
+        requireNonNull(parsedValues, ASSERTION_VALUES_OF_JSON_ARRAY);
+        return new ImmutableJsonArray(SoftReferencedValueList.ofParsed(parsedValues, stringRepresentation));
+    }
+
+    /**
+     * Returns a new JSON array which is only backed by the given string representation.
+     * The values are not decoded before they are accessed for the first time.
+     *
+     * @param stringRepresentation the compact and valid string representation of a JSON array.
+     * @return a new JSON array which lazily decodes {@code stringRepresentation}.
+     * @throws NullPointerException if {@code stringRepresentation} is {@code null}.
+     */
+    static ImmutableJsonArray ofUnparsed(final String stringRepresentation) {
+        return new ImmutableJsonArray(SoftReferencedValueList.ofUnparsed(stringRepresentation));
+    }
+
     private static void checkValue(final Object value) {
         requireNonNull(value, "The value to add must not be null!");
     }
@@ -272,6 +299,16 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         return valueList.asJsonArrayString();
     }
 
+    /**
+     * Returns the string representation of this array if it is already known.
+     *
+     * @return the string representation or {@code null} if it would have to be created.
+     */
+    @Nullable
+    String getStringRepresentationOrNull() {
+        return valueList.jsonArrayStringRepresentation;
+    }
+
     @Override
     public void writeValue(final SerializationContext serializationContext) throws IOException {
         valueList.writeValue(serializationContext);
@@ -300,10 +337,10 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         private int hashCode;
         private SoftReference<List<JsonValue>> valuesReference;
 
-        private SoftReferencedValueList(final List<JsonValue> jsonValueList,
+        private SoftReferencedValueList(@Nullable final List<JsonValue> jsonValueList,
                 @Nullable final String stringRepresentation,
                 @Nullable final byte[] cborArrayRepresentation) {
-            valuesReference = new SoftReference<>(Collections.unmodifiableList(new ArrayList<>(jsonValueList)));
+            valuesReference = new SoftReference<>(jsonValueList);
             jsonArrayStringRepresentation = stringRepresentation;
             this.cborArrayRepresentation = cborArrayRepresentation;
             if (jsonArrayStringRepresentation == null && cborArrayRepresentation == null) {
@@ -327,23 +364,58 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         }
 
         static SoftReferencedValueList of(final List<JsonValue> values) {
-            return new SoftReferencedValueList(values, null, null);
+            return new SoftReferencedValueList(copyOf(values), null, null);
         }
 
         static SoftReferencedValueList of(final List<JsonValue> jsonValueList,
                 @Nullable final String stringRepresentation) {
-            return new SoftReferencedValueList(jsonValueList, stringRepresentation, null);
+            return new SoftReferencedValueList(copyOf(jsonValueList), stringRepresentation, null);
         }
 
         static SoftReferencedValueList of(final List<JsonValue> jsonValueList,
                 @Nullable final byte[] cborRepresentation) {
-            return new SoftReferencedValueList(jsonValueList, null, cborRepresentation);
+            return new SoftReferencedValueList(copyOf(jsonValueList), null, cborRepresentation);
         }
 
         static SoftReferencedValueList of(final List<JsonValue> jsonValueList,
                 @Nullable final String stringRepresentation,
                 @Nullable final byte[] cborRepresentation) {
-            return new SoftReferencedValueList(jsonValueList, stringRepresentation, cborRepresentation);
+            return new SoftReferencedValueList(copyOf(jsonValueList), stringRepresentation, cborRepresentation);
+        }
+
+        static SoftReferencedValueList ofParsed(final List<JsonValue> parsedValueList,
+                @Nullable final String stringRepresentation) {
+            return new SoftReferencedValueList(unmodifiableCompactList(parsedValueList), stringRepresentation, null);
+        }
+
+        static SoftReferencedValueList ofUnparsed(final String stringRepresentation) {
+            requireNonNull(stringRepresentation, "The string representation of JSON array must not be null!");
+            return new SoftReferencedValueList(null, stringRepresentation, null);
+        }
+
+        static SoftReferencedValueList ofUnparsed(final byte[] cborArrayRepresentation) {
+            requireNonNull(cborArrayRepresentation, "The CBOR representation of JSON array must not be null!");
+            return new SoftReferencedValueList(null, null, cborArrayRepresentation);
+        }
+
+        private static List<JsonValue> copyOf(final List<JsonValue> jsonValueList) {
+            @Nullable final List<JsonValue> numberValueList = NumberValueList.tryToCreate(jsonValueList);
+            if (null != numberValueList) {
+                return numberValueList;
+            }
+            return Collections.unmodifiableList(new ArrayList<>(jsonValueList));
+        }
+
+        /**
+         * Large lists of numbers are stored in a primitive array as boxing each number costs a multiple of the
+         * memory of the plain value.
+         */
+        private static List<JsonValue> unmodifiableCompactList(final List<JsonValue> jsonValueList) {
+            @Nullable final List<JsonValue> numberValueList = NumberValueList.tryToCreate(jsonValueList);
+            if (null != numberValueList) {
+                return numberValueList;
+            }
+            return Collections.unmodifiableList(jsonValueList);
         }
 
         private String createStringRepresentation(final Iterable<JsonValue> jsonValues) {
@@ -410,18 +482,16 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         }
 
         private static List<JsonValue> parseToList(final String jsonArrayString) {
-            final ValueListJsonHandler jsonHandler = new ValueListJsonHandler();
-            JsonValueParser.fromString(jsonHandler).accept(jsonArrayString);
-            return jsonHandler.getValue();
+            return unmodifiableCompactList(OnePassJsonParser.parseArrayValues(jsonArrayString));
         }
 
         private static List<JsonValue> parseToList(final byte[] cborArrayRepresentation) {
             final JsonValue jsonArray = CBOR_FACTORY.readFrom(cborArrayRepresentation);
-            List<JsonValue> list = new LinkedList<>();
-            for (JsonValue jsonValue : jsonArray.asArray()) {
+            final List<JsonValue> list = new ArrayList<>(jsonArray.asArray().getSize());
+            for (final JsonValue jsonValue : jsonArray.asArray()) {
                 list.add(jsonValue);
             }
-            return list;
+            return unmodifiableCompactList(list);
         }
 
         Iterator<JsonValue> getIterator() {
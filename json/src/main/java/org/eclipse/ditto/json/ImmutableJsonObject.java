@@ -115,6 +115,33 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         ));
     }
 
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance which takes ownership of the given freshly parsed fields.
+     * The map is neither copied nor may it be modified afterwards.
+     *
+     * @param parsedFields the fields of the new JSON object.
+     * @param stringRepresentation the already known string representation of the returned object or {@code null}.
+     * @return a new JSON object containing the {@code parsedFields}.
+     * @throws NullPointerException if {@code parsedFields} is {@code null}.
+     */
+    static ImmutableJsonObject ofParsed(final Map<String, JsonField> parsedFields,
+            @Nullable final String stringRepresentation) {
+
+        return new ImmutableJsonObject(SoftReferencedFieldMap.ofParsed(parsedFields, stringRepresentation));
+    }
+
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance which is only backed by the given string representation.
+     * The fields are not decoded before they are accessed for the first time.
+     *
+     * @param stringRepresentation the compact and valid string representation of a JSON object.
+     * @return a new JSON object which lazily decodes {@code stringRepresentation}.
+     * @throws NullPointerException if {@code stringRepresentation} is {@code null}.
+     */
+    static ImmutableJsonObject ofUnparsed(final String stringRepresentation) {
+        return new ImmutableJsonObject(SoftReferencedFieldMap.ofUnparsed(stringRepresentation));
+    }
+
     @Override
     public JsonObject setValue(final CharSequence key, final int value) {
         return setValue(key, JsonValue.of(value));
@@ -530,6 +557,16 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         return fieldMap.asJsonObjectString();
     }
 
+    /**
+     * Returns the string representation of this object if it is already known.
+     *
+     * @return the string representation or {@code null} if it would have to be created.
+     */
+    @Nullable
+    String getStringRepresentationOrNull() {
+        return fieldMap.jsonObjectStringRepresentation;
+    }
+
     @Override
     public void writeValue(final SerializationContext serializationContext) throws IOException {
         fieldMap.writeValue(serializationContext);
@@ -544,6 +581,12 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
     static final class SoftReferencedFieldMap {
 
         private static final long CBOR_MAX_COMPRESSION_RATIO = 5; // "false" compressed to one byte
+
+        /*
+         * Objects with at least this many fields are not copied on modification; instead the modified object shares
+         * the structure of the original one, see PersistentJsonFieldMap.
+         */
+        static final int PERSISTENT_FIELDS_THRESHOLD = 32;
         private static final CborFactory CBOR_FACTORY;
 
         static {
@@ -557,12 +600,13 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         private byte[] cborObjectRepresentation;
         private int hashCode;
         private SoftReference<Map<String, JsonField>> fieldsReference;
+        @Nullable private final Map<String, JsonField> modifiedFields;
 
-        private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap,
+        private SoftReferencedFieldMap(@Nullable final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation) {
 
-            requireNonNull(jsonFieldMap, "The fields of JSON object must not be null!");
-            fieldsReference = new SoftReference<>(Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap)));
+            fieldsReference = new SoftReference<>(jsonFieldMap);
+            modifiedFields = null;
             jsonObjectStringRepresentation = stringRepresentation;
             this.cborObjectRepresentation = cborObjectRepresentation;
             if (jsonObjectStringRepresentation == null && cborObjectRepresentation == null) {
@@ -581,28 +625,62 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             hashCode = 0;
         }
 
+        /*
+         * The fields of a modified object are strongly referenced, thus the string and CBOR representations are only
+         * created on demand. Otherwise each modification of a nested object would serialize all of its parents again.
+         */
+        private SoftReferencedFieldMap(final Map<String, JsonField> modifiedFields) {
+            fieldsReference = new SoftReference<>(modifiedFields);
+            this.modifiedFields = modifiedFields;
+            jsonObjectStringRepresentation = null;
+            cborObjectRepresentation = null;
+            hashCode = 0;
+        }
+
         static SoftReferencedFieldMap empty() {
             return of(Collections.emptyMap(), "{}", new byte[]{(byte) 0xA0});
         }
 
         static SoftReferencedFieldMap of(final Map<String, JsonField> fieldMap) {
-            return new SoftReferencedFieldMap(fieldMap, null, null);
+            return new SoftReferencedFieldMap(copyOf(fieldMap), null, null);
         }
 
         static SoftReferencedFieldMap of(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation) {
-            return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation, null);
+            return new SoftReferencedFieldMap(copyOf(jsonFieldMap), stringRepresentation, null);
         }
 
         static SoftReferencedFieldMap of(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final byte[] cborObjectRepresentation) {
-            return new SoftReferencedFieldMap(jsonFieldMap, null, cborObjectRepresentation);
+            return new SoftReferencedFieldMap(copyOf(jsonFieldMap), null, cborObjectRepresentation);
         }
 
         static SoftReferencedFieldMap of(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation,
                 @Nullable final byte[] cborObjectRepresentation) {
-            return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation, cborObjectRepresentation);
+            return new SoftReferencedFieldMap(copyOf(jsonFieldMap), stringRepresentation, cborObjectRepresentation);
+        }
+
+        static SoftReferencedFieldMap ofParsed(final Map<String, JsonField> parsedFieldMap,
+                @Nullable final String stringRepresentation) {
+            requireNonNull(parsedFieldMap, "The fields of JSON object must not be null!");
+            return new SoftReferencedFieldMap(Collections.unmodifiableMap(parsedFieldMap), stringRepresentation,
+                    null);
+        }
+
+        static SoftReferencedFieldMap ofUnparsed(final String stringRepresentation) {
+            requireNonNull(stringRepresentation, "The string representation of JSON object must not be null!");
+            return new SoftReferencedFieldMap(null, stringRepresentation, null);
+        }
+
+        static SoftReferencedFieldMap ofUnparsed(final byte[] cborObjectRepresentation) {
+            requireNonNull(cborObjectRepresentation, "The CBOR representation of JSON object must not be null!");
+            return new SoftReferencedFieldMap(null, null, cborObjectRepresentation);
+        }
+
+        private static Map<String, JsonField> copyOf(final Map<String, JsonField> jsonFieldMap) {
+            requireNonNull(jsonFieldMap, "The fields of JSON object must not be null!");
+            return Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap));
         }
 
         private String createStringRepresentation(final Map<String, JsonField> jsonFieldMap) {
@@ -637,9 +715,25 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         SoftReferencedFieldMap put(final String key, final JsonField value) {
+            final PersistentJsonFieldMap persistent = getPersistentFieldsOrNull();
+            if (null != persistent) {
+                return new SoftReferencedFieldMap(persistent.with(key, value));
+            }
             final Map<String, JsonField> fieldsCopy = copyFields();
             fieldsCopy.put(key, value);
-            return of(fieldsCopy);
+            return new SoftReferencedFieldMap(Collections.unmodifiableMap(fieldsCopy));
+        }
+
+        @Nullable
+        private PersistentJsonFieldMap getPersistentFieldsOrNull() {
+            if (modifiedFields instanceof PersistentJsonFieldMap) {
+                return (PersistentJsonFieldMap) modifiedFields;
+            }
+            final Map<String, JsonField> fields = fields();
+            if (fields.size() >= PERSISTENT_FIELDS_THRESHOLD) {
+                return PersistentJsonFieldMap.copyOf(fields);
+            }
+            return null;
         }
 
         private Map<String, JsonField> copyFields() {
@@ -647,15 +741,27 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         SoftReferencedFieldMap putAll(final Iterable<JsonField> jsonFields) {
+            final PersistentJsonFieldMap persistent = getPersistentFieldsOrNull();
+            if (null != persistent) {
+                PersistentJsonFieldMap result = persistent;
+                for (final JsonField jsonField : jsonFields) {
+                    result = result.with(jsonField.getKeyName(), jsonField);
+                }
+                return new SoftReferencedFieldMap(result);
+            }
             final Map<String, JsonField> fieldsCopy = copyFields();
             jsonFields.forEach(jsonField -> fieldsCopy.put(jsonField.getKeyName(), jsonField));
-            return of(fieldsCopy);
+            return new SoftReferencedFieldMap(Collections.unmodifiableMap(fieldsCopy));
         }
 
         SoftReferencedFieldMap remove(final String key) {
+            final PersistentJsonFieldMap persistent = getPersistentFieldsOrNull();
+            if (null != persistent) {
+                return new SoftReferencedFieldMap(persistent.without(key));
+            }
             final Map<String, JsonField> fieldsCopy = copyFields();
             fieldsCopy.remove(key);
-            return of(fieldsCopy);
+            return new SoftReferencedFieldMap(Collections.unmodifiableMap(fieldsCopy));
         }
 
         Stream<JsonField> getStream() {
@@ -667,6 +773,9 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         private Map<String, JsonField> fields() {
+            if (null != modifiedFields) {
+                return modifiedFields;
+            }
             Map<String, JsonField> result = fieldsReference.get();
             if (null == result) {
                 result = recoverFields();
@@ -686,9 +795,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         private static Map<String, JsonField> parseToMap(final String jsonObjectString) {
-            final FieldMapJsonHandler jsonHandler = new FieldMapJsonHandler();
-            JsonValueParser.fromString(jsonHandler).accept(jsonObjectString);
-            return jsonHandler.getValue();
+            return Collections.unmodifiableMap(OnePassJsonParser.parseObjectFields(jsonObjectString));
         }
 
         private static Map<String, JsonField> parseToMap(final byte[] cborObjectRepresentation) {
@@ -767,8 +874,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             if (cborObjectRepresentation != null) {
                 return cborObjectRepresentation.length * CBOR_MAX_COMPRESSION_RATIO;
             }
-            assert false; // this should never happen
-            return Long.MAX_VALUE;
+            return asJsonObjectString().length();
         }
 
     }
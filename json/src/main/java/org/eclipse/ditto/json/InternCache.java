@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Bounded cache which returns the same immutable instance for equal strings, e. g. the same {@link JsonKey} for all
+ * occurrences of {@code "thingId"}.
+ * <p>
+ * The cache is direct-mapped: each string hashes to exactly one slot and a miss replaces the slot's previous entry.
+ * Thus neither lookups nor replacements need locking and the memory of the cache never grows beyond its capacity.
+ * Strings longer than {@link #MAX_STRING_LENGTH} are not cached as they are rarely repeated.
+ * </p>
+ *
+ * @param <T> the type of the cached instances.
+ */
+@ThreadSafe
+final class InternCache<T> {
+
+    static final int MAX_STRING_LENGTH = 64;
+
+    private final AtomicReferenceArray<Entry<T>> slots;
+    private final int mask;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    /**
+     * Constructs a new {@code InternCache} object.
+     *
+     * @param capacity the number of slots of the cache, must be a power of two.
+     * @throws IllegalArgumentException if {@code capacity} is no power of two.
+     */
+    InternCache(final int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("The capacity <" + capacity + "> is no power of two!");
+        }
+        slots = new AtomicReferenceArray<>(capacity);
+        mask = capacity - 1;
+        hits = new LongAdder();
+        misses = new LongAdder();
+    }
+
+    /**
+     * Returns the cached instance for the given string or creates, caches and returns a new one.
+     *
+     * @param string the string to get the instance for.
+     * @param factory creates a new instance for {@code string} if none is cached.
+     * @return the instance.
+     */
+    T get(final String string, final Function<String, T> factory) {
+        if (string.length() > MAX_STRING_LENGTH) {
+            return factory.apply(string);
+        }
+        final int index = spread(string.hashCode()) & mask;
+        @Nullable final Entry<T> entry = slots.get(index);
+        if (null != entry && string.equals(entry.string)) {
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+        final T result = factory.apply(string);
+        slots.lazySet(index, new Entry<>(string, result));
+        return result;
+    }
+
+    /**
+     * Returns the current statistics of this cache.
+     *
+     * @return the statistics.
+     */
+    InterningStatistics getStatistics() {
+        return InterningStatistics.of(hits.sum(), misses.sum());
+    }
+
+    private static int spread(final int hashCode) {
+        // the hash codes of short strings differ mostly in their low bits, mix in the high bits as well
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    private static final class Entry<T> {
+
+        private final String string;
+        private final T value;
+
+        private Entry(final String string, final T value) {
+            this.string = string;
+            this.value = value;
+        }
+
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Statistics about how often an interned instance, e. g. of a {@link JsonKey}, could be re-used instead of creating
+ * a new one.
+ * The counts are accumulated since the start of the JVM.
+ * <p>
+ * <b>This is a Ditto internal class which is not intended for re-use.</b>
+ * It therefore is not treated as API which is held binary compatible to previous versions.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class InterningStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+
+    private InterningStatistics(final long hitCount, final long missCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+    }
+
+    static InterningStatistics of(final long hitCount, final long missCount) {
+        return new InterningStatistics(hitCount, missCount);
+    }
+
+    /**
+     * Returns the number of times an interned instance was re-used.
+     *
+     * @return the hit count.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of times a new instance had to be created.
+     *
+     * @return the miss count.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the ratio of hits to all requests.
+     *
+     * @return the hit rate between {@code 0.0} and {@code 1.0}; {@code 1.0} if there were no requests yet.
+     */
+    public double getHitRate() {
+        final long requestCount = hitCount + missCount;
+        return 0 == requestCount ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final InterningStatistics that = (InterningStatistics) o;
+        return hitCount == that.hitCount && missCount == that.missCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hitCount, missCount);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                "]";
+    }
+
+}
@@ -14,9 +14,9 @@ package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.Arrays;
@@ -26,6 +26,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
@@ -42,6 +43,8 @@ public final class JsonFactory {
 
     private static final String NULL_STRING = "null";
     private static final byte[] NULL_DATA = NULL_STRING.getBytes(StandardCharsets.UTF_8);
+    private static final InternCache<JsonKey> KEY_CACHE = new InternCache<>(4096);
+    private static final InternCache<JsonPointer> POINTER_CACHE = new InternCache<>(2048);
 
     /*
      * This utility class is not meant to be instantiated.
@@ -53,6 +56,7 @@ public final class JsonFactory {
     /**
      * Returns JSON key for the given character sequence. If the given key value is already a JSON key, this is
      * immediately properly cast and returned.
+     * Keys for frequently used strings are interned, i. e. the same instance may be returned for equal strings.
      *
      * @param keyValue the character sequence value of the JSON key to be created.
      * @return a new JSON key with {@code keyValue} as its value.
@@ -60,9 +64,26 @@ public final class JsonFactory {
      * @throws IllegalArgumentException if {@code keyValue} is empty.
      */
     public static JsonKey newKey(final CharSequence keyValue) {
+        if (keyValue instanceof String && !((String) keyValue).isEmpty()) {
+            return KEY_CACHE.get((String) keyValue, ImmutableJsonKey::of);
+        }
         return ImmutableJsonKey.of(keyValue);
     }
 
+    /**
+     * Returns the statistics of interning the JSON keys created by {@link #newKey(CharSequence)}.
+     * <p>
+     * <b>This is a Ditto internal API is not intended for re-use.</b>
+     * It therefore is not treated as API which is held binary compatible to previous versions.
+     * </p>
+     *
+     * @return the statistics.
+     * @since 2.0.0
+     */
+    public static InterningStatistics getKeyInterningStatistics() {
+        return KEY_CACHE.getStatistics();
+    }
+
     /**
      * Returns a JSON literal which represents {@code null}.
      *
@@ -201,6 +222,54 @@ public final class JsonFactory {
         return JsonValueParser.fromReader().apply(reader);
     }
 
+    /**
+     * Reads the given UTF-8 encoded bytes and creates a JSON value based on the read data.
+     * The bytes are parsed in one pass without decoding them to a String first.
+     * Only the outermost JSON object or array is decoded eagerly; nested objects and arrays are validated but
+     * decode their content on first access and write their original representation unchanged.
+     *
+     * @param jsonData the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws JsonParseException if {@code jsonData} is empty or if it is no valid JSON.
+     * @since 2.0.0
+     */
+    public static JsonValue readFrom(final byte[] jsonData) {
+        requireNonNull(jsonData, "The JSON data to read from must not be null!");
+        return readFrom(ByteBuffer.wrap(jsonData));
+    }
+
+    /**
+     * Reads the remaining UTF-8 encoded bytes of the given buffer and creates a JSON value based on the read data.
+     * The bytes are parsed in one pass without decoding them to a String first.
+     * Only the outermost JSON object or array is decoded eagerly; nested objects and arrays are validated but
+     * decode their content on first access and write their original representation unchanged.
+     * Neither the position nor the limit of {@code byteBuffer} are changed by this method.
+     *
+     * @param byteBuffer the buffer containing the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document.
+     * @throws NullPointerException if {@code byteBuffer} is {@code null}.
+     * @throws JsonParseException if {@code byteBuffer} has no remaining bytes or if it contains no valid JSON.
+     * @since 2.0.0
+     */
+    public static JsonValue readFrom(final ByteBuffer byteBuffer) {
+        return JsonValueParser.fromByteBuffer().apply(byteBuffer);
+    }
+
+    /**
+     * Reads the entire input stream, which is expected to provide UTF-8 encoded bytes, and parses it as JSON value.
+     * The stream is not closed by this method.
+     *
+     * @param inputStream the stream to read the JSON value from.
+     * @return a JSON value which represents the read stream.
+     * @throws NullPointerException if {@code inputStream} is {@code null}.
+     * @throws JsonParseException if an I/O error occurred or if the input is no valid JSON.
+     * @since 2.0.0
+     */
+    public static JsonValue readFrom(final InputStream inputStream) {
+        return JsonValueParser.fromInputStream().apply(inputStream);
+    }
+
     /**
      * Returns a new mutable builder for a {@code JsonObject}.
      *
@@ -287,8 +356,7 @@ public final class JsonFactory {
         if (isJsonNullLiteralData(jsonData)) {
             return nullObject();
         } else {
-            final Reader reader = new InputStreamReader(new ByteArrayInputStream(jsonData));
-            final JsonValue jsonValue = JsonValueParser.fromReader().apply(reader);
+            final JsonValue jsonValue = JsonValueParser.fromByteBuffer().apply(ByteBuffer.wrap(jsonData));
             if (!jsonValue.isObject()) {
                 final String msgPattern = "<{0}> is not a valid JSON object!";
                 throw JsonParseException.newBuilder()
@@ -298,6 +366,59 @@ public final class JsonFactory {
         }
     }
 
+    /**
+     * Creates a JSON object from the given string which only contains the fields selected by the given field selector.
+     * The result is equal to {@code newObject(jsonString).get(fieldSelector)} but the values of fields which are not
+     * selected are only validated and never created.
+     *
+     * @param jsonString the string that represents the JSON object.
+     * @param fieldSelector selects the fields to be parsed.
+     * @return the JSON object that has been created from the selected fields of the string.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws JsonParseException if {@code jsonString} does not contain a valid JSON object.
+     * @since 2.0.0
+     */
+    public static JsonObject newObject(final String jsonString, final JsonFieldSelector fieldSelector) {
+        requireNonNull(jsonString, "The JSON string to create a JSON object from must not be null!");
+        if (jsonString.isEmpty()) {
+            throw new IllegalArgumentException("The JSON string to create a JSON object from must not be empty!");
+        }
+
+        if (isJsonNullLiteralString(jsonString)) {
+            return nullObject();
+        } else {
+            return JsonValueParser.selectedFieldsFromString(fieldSelector).apply(jsonString);
+        }
+    }
+
+    /**
+     * Creates a JSON object from the given UTF-8 encoded byte array which only contains the fields selected by the
+     * given field selector.
+     * The result is equal to {@code newObject(jsonData).get(fieldSelector)} but the values of fields which are not
+     * selected are only validated and never created.
+     *
+     * @param jsonData the byte array that represents the JSON object.
+     * @param fieldSelector selects the fields to be parsed.
+     * @return the JSON object that has been created from the selected fields of the data.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonData} is empty.
+     * @throws JsonParseException if {@code jsonData} does not contain a valid JSON object.
+     * @since 2.0.0
+     */
+    public static JsonObject newObject(final byte[] jsonData, final JsonFieldSelector fieldSelector) {
+        requireNonNull(jsonData, "The JSON data to create a JSON object from must not be null!");
+        if (jsonData.length == 0) {
+            throw new IllegalArgumentException("The JSON data to create a JSON object from must not be empty!");
+        }
+
+        if (isJsonNullLiteralData(jsonData)) {
+            return nullObject();
+        } else {
+            return JsonValueParser.selectedFieldsFromByteBuffer(fieldSelector).apply(ByteBuffer.wrap(jsonData));
+        }
+    }
+
     private static boolean isJsonNullLiteralString(final String s) {
         return NULL_STRING.equals(s);
     }
@@ -380,6 +501,28 @@ public final class JsonFactory {
         return JsonValueMerger.mergeJsonValues(jsonValue1, jsonValue2);
     }
 
+    /**
+     * Computes the minimal JSON merge patch which turns {@code oldObject} into {@code newObject}, i. e. merging the
+     * patch into {@code oldObject} via {@link #mergeJsonValues(JsonValue, JsonValue)} yields an object which is equal
+     * to {@code newObject}.
+     * Implementation is conform to <a href="https://tools.ietf.org/html/rfc7396">RFC 7396</a>: removed fields are set
+     * to {@code null} and arrays are replaced as a whole.
+     * Subtrees which both objects share by reference are skipped without comparing them.
+     *
+     * @param oldObject the old object.
+     * @param newObject the new object.
+     * @return the merge patch which is empty if both objects are equal or an empty Optional if the difference cannot
+     * be expressed as merge patch. This is the case if either object is a JSON null or if {@code newObject} sets a
+     * field to {@code null} as RFC 7396 interprets {@code null} as removal.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @since 2.0.0
+     */
+    public static Optional<JsonObject> diff(final JsonObject oldObject, final JsonObject newObject) {
+        requireNonNull(oldObject, "The old object must not be null!");
+        requireNonNull(newObject, "The new object must not be null!");
+        return Optional.ofNullable(JsonMergePatchDiff.diff(oldObject, newObject));
+    }
+
     /**
      * Returns a JSON NULL literal which is typed as JSON object.
      *
@@ -543,6 +686,9 @@ public final class JsonFactory {
      * <li>{@code "~dum~die~dum"} and</li>
      * <li>{@code "baz"}.</li>
      * </ol>
+     * <p>
+     * Pointers for frequently used strings are interned, i. e. the same instance may be returned for equal strings.
+     * </p>
      *
      * @param slashDelimitedCharSequence a string representing a JSON pointer.
      * @return a new JSON pointer consisting of the JSON keys which were extracted from {@code
@@ -550,9 +696,26 @@ public final class JsonFactory {
      * @throws NullPointerException if {@code slashDelimitedCharSequence} is {@code null}.
      */
     public static JsonPointer newPointer(final CharSequence slashDelimitedCharSequence) {
+        if (slashDelimitedCharSequence instanceof String && !((String) slashDelimitedCharSequence).isEmpty()) {
+            return POINTER_CACHE.get((String) slashDelimitedCharSequence, ImmutableJsonPointer::ofParsed);
+        }
         return ImmutableJsonPointer.ofParsed(slashDelimitedCharSequence);
     }
 
+    /**
+     * Returns the statistics of interning the JSON pointers created by {@link #newPointer(CharSequence)}.
+     * <p>
+     * <b>This is a Ditto internal API is not intended for re-use.</b>
+     * It therefore is not treated as API which is held binary compatible to previous versions.
+     * </p>
+     *
+     * @return the statistics.
+     * @since 2.0.0
+     */
+    public static InterningStatistics getPointerInterningStatistics() {
+        return POINTER_CACHE.getStatistics();
+    }
+
     /**
      * Returns a new mutable builder for {@code JsonParseOptions}.
      *
@@ -882,6 +1045,23 @@ public final class JsonFactory {
                 ImmutableJsonArray.SoftReferencedValueList.of(jsonValueList, cborRepresentation));
     }
 
+    /**
+     * Creates a {@link JsonArray} which is only backed by the passed CBOR representation.
+     * The values of the array are not decoded before they are accessed for the first time.
+     * <p>
+     * <b>This is a Ditto internal API is not intended for re-use.</b>
+     * It therefore is not treated as API which is held binary compatible to previous versions.
+     * </p>
+     *
+     * @param cborRepresentation the valid CBOR serialized representation of the JsonArray.
+     * @return the created JsonArray.
+     * @throws NullPointerException if {@code cborRepresentation} is {@code null}.
+     * @since 2.0.0
+     */
+    public static JsonArray createLazyJsonArray(final byte[] cborRepresentation) {
+        return new ImmutableJsonArray(ImmutableJsonArray.SoftReferencedValueList.ofUnparsed(cborRepresentation));
+    }
+
     /**
      * Creates a {@link JsonObject} backed with an already serialized CBOR representation as the passed bytes.
      * <p>
@@ -900,6 +1080,23 @@ public final class JsonFactory {
                 ImmutableJsonObject.SoftReferencedFieldMap.of(jsonFieldMap, null, cborObjectRepresentation));
     }
 
+    /**
+     * Creates a {@link JsonObject} which is only backed by the passed CBOR representation.
+     * The fields of the object are not decoded before they are accessed for the first time.
+     * <p>
+     * <b>This is a Ditto internal API is not intended for re-use.</b>
+     * It therefore is not treated as API which is held binary compatible to previous versions.
+     * </p>
+     *
+     * @param cborObjectRepresentation the valid CBOR serialized representation of the JsonObject.
+     * @return the created JsonObject.
+     * @throws NullPointerException if {@code cborObjectRepresentation} is {@code null}.
+     * @since 2.0.0
+     */
+    public static JsonObject createLazyJsonObject(final byte[] cborObjectRepresentation) {
+        return new ImmutableJsonObject(ImmutableJsonObject.SoftReferencedFieldMap.ofUnparsed(cborObjectRepresentation));
+    }
+
     /**
      * Converts the specified char sequence to a {@link JsonPointer} which is guaranteed to be not empty.
      *
@@ -19,10 +19,11 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
- * Package-private trie representation of a {@code JsonFieldSelector}. The trie structure is easier to traverse
+ * Trie representation of a {@code JsonFieldSelector}. The trie structure is easier to traverse
  * a {@code JsonObject} by, since it requires no merging of sub-objects.
  * <p>
  * A normal {@code JsonFieldSelector} is a list of {@code JsonPointer}s, for example:
@@ -49,17 +50,30 @@ import javax.annotation.concurrent.NotThreadSafe;
  *
  * }</pre>
  * </p>
+ * <p>
+ * <b>This is a Ditto internal class which is not intended for re-use.</b>
+ * It therefore is not treated as API which is held binary compatible to previous versions.
+ * It is public for parsers of other modules which only decode the selected fields of their input.
+ * </p>
+ *
+ * @since 2.0.0
  */
 @NotThreadSafe
-final class JsonFieldSelectorTrie {
+public final class JsonFieldSelectorTrie {
 
     /**
      * Children of the trie.
      */
     private final Map<JsonKey, JsonFieldSelectorTrie> children;
 
+    /**
+     * Whether a JSON pointer ends at this node.
+     */
+    private boolean endOfPointer;
+
     private JsonFieldSelectorTrie() {
         children = new LinkedHashMap<>();
+        endOfPointer = false;
     }
 
     /**
@@ -69,7 +83,7 @@ final class JsonFieldSelectorTrie {
      * @return trie representation of the collection.
      * @throws NullPointerException if {@code jsonPointers} is {@code null}.
      */
-    static JsonFieldSelectorTrie of(final Iterable<JsonPointer> jsonPointers) {
+    public static JsonFieldSelectorTrie of(final Iterable<JsonPointer> jsonPointers) {
         requireNonNull(jsonPointers, "The JSON pointers must not be null!");
 
         final JsonFieldSelectorTrie trie = new JsonFieldSelectorTrie();
@@ -103,6 +117,8 @@ final class JsonFieldSelectorTrie {
                 final JsonFieldSelectorTrie child = theChild != null ? theChild : new JsonFieldSelectorTrie();
                 return child.addJsonKeyIterator(iterator);
             });
+        } else {
+            endOfPointer = true;
         }
         return this;
     }
@@ -112,10 +128,34 @@ final class JsonFieldSelectorTrie {
      *
      * @return {@code true} if this trie has a child, {@code false} else.
      */
-    boolean isEmpty() {
+    public boolean isEmpty() {
         return children.isEmpty();
     }
 
+    /**
+     * Indicates whether one of the JSON pointers this trie was created from ends at this node.
+     * If this trie has children as well, the value at this node is only selected as a whole if none of the longer
+     * pointers match a value.
+     *
+     * @return {@code true} if a JSON pointer ends at this node, {@code false} else.
+     */
+    public boolean isEndOfPointer() {
+        return endOfPointer;
+    }
+
+    /**
+     * Retrieves the child for the specified key without creating an empty trie if there is none.
+     *
+     * @param key label of the child.
+     * @return the child or {@code null} if this trie has no child for {@code key}.
+     * @throws NullPointerException if {@code key} is {@code null}.
+     * @throws IllegalArgumentException if {@code key} is empty.
+     */
+    @Nullable
+    public JsonFieldSelectorTrie getChildOrNull(final CharSequence key) {
+        return children.get(JsonKey.of(key));
+    }
+
     /**
      * Returns the keys of the children.
      *
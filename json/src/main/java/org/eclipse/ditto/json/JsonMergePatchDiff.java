@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Package-private function to compute the minimal JSON merge patch between two {@link JsonObject}s.
+ * Merging the computed patch into the old object via {@link JsonValueMerger#mergeJsonValues(JsonValue, JsonValue)}
+ * yields an object which is equal to the new object.
+ * Implementation is conform to <a href="https://tools.ietf.org/html/rfc7396">RFC 7396</a>.
+ */
+@Immutable
+final class JsonMergePatchDiff {
+
+    private JsonMergePatchDiff() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Computes the merge patch which turns {@code oldObject} into {@code newObject}.
+     * Fields with equal values are omitted from the patch; values which are the same instance, like the unchanged
+     * subtrees of a modified object, are skipped without comparing them.
+     *
+     * @param oldObject the old object.
+     * @param newObject the new object.
+     * @return the merge patch or {@code null} if the difference cannot be expressed as merge patch because
+     * {@code newObject} is a JSON null or sets a field to {@code null} which RFC 7396 would interpret as removal.
+     */
+    @Nullable
+    static JsonObject diff(final JsonObject oldObject, final JsonObject newObject) {
+        if (oldObject.isNull() || newObject.isNull()) {
+            return null;
+        }
+        final JsonObjectBuilder patchBuilder = JsonFactory.newObjectBuilder();
+        for (final JsonField oldField : oldObject) {
+            if (!newObject.contains(oldField.getKey())) {
+                patchBuilder.set(oldField.getKey(), JsonFactory.nullLiteral());
+            }
+        }
+        for (final JsonField newField : newObject) {
+            final JsonKey key = newField.getKey();
+            final JsonValue newValue = newField.getValue();
+            final Optional<JsonValue> oldValue = oldObject.getValue(key);
+            if (!oldValue.isPresent()) {
+                if (!isMergeable(newValue)) {
+                    return null;
+                }
+                patchBuilder.set(key, newValue);
+            } else if (oldValue.get() != newValue && !oldValue.get().equals(newValue)) {
+                @Nullable final JsonValue valuePatch = diffValues(oldValue.get(), newValue);
+                if (null == valuePatch) {
+                    return null;
+                }
+                patchBuilder.set(key, valuePatch);
+            }
+        }
+        return patchBuilder.build();
+    }
+
+    @Nullable
+    private static JsonValue diffValues(final JsonValue oldValue, final JsonValue newValue) {
+        if (isNonNullObject(oldValue) && isNonNullObject(newValue)) {
+            return diff(oldValue.asObject(), newValue.asObject());
+        } else if (isMergeable(newValue)) {
+            return newValue;
+        }
+        return null;
+    }
+
+    private static boolean isNonNullObject(final JsonValue jsonValue) {
+        return jsonValue.isObject() && !jsonValue.isNull();
+    }
+
+    /*
+     * Merging a value into a missing or non-object value drops all null values of the value's objects.
+     * Null values within arrays are kept as arrays are always replaced as a whole.
+     */
+    private static boolean isMergeable(final JsonValue jsonValue) {
+        if (jsonValue.isNull()) {
+            return false;
+        } else if (jsonValue.isObject()) {
+            for (final JsonField jsonField : jsonValue.asObject()) {
+                if (!isMergeable(jsonField.getValue())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+}
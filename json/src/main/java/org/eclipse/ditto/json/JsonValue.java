@@ -12,7 +12,11 @@
  */
 package org.eclipse.ditto.json;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 import javax.annotation.Nullable;
 
@@ -289,6 +293,36 @@ public interface JsonValue {
      */
     void writeValue(SerializationContext serializationContext) throws IOException;
 
+    /**
+     * Writes the UTF-8 encoded string representation of this JSON value to the given output stream.
+     * The written bytes are equal to the UTF-8 encoded result of {@link #toString()}, however the string
+     * representation is not created as a whole but escaped and encoded in chunks.
+     * The stream is neither flushed nor closed by this method.
+     *
+     * @param outputStream the stream to write to.
+     * @throws NullPointerException if {@code outputStream} is {@code null}.
+     * @throws IOException if writing to {@code outputStream} failed.
+     * @since 2.0.0
+     */
+    default void writeTo(final OutputStream outputStream) throws IOException {
+        JsonValueWriter.write(this, requireNonNull(outputStream, "The OutputStream to write to must not be null!"));
+    }
+
+    /**
+     * Writes the UTF-8 encoded string representation of this JSON value to the given buffer starting at its current
+     * position. The written bytes are equal to the UTF-8 encoded result of {@link #toString()}, however the string
+     * representation is not created as a whole but escaped and encoded in chunks.
+     *
+     * @param byteBuffer the buffer to write to.
+     * @throws NullPointerException if {@code byteBuffer} is {@code null}.
+     * @throws java.nio.BufferOverflowException if {@code byteBuffer} has not enough remaining space. The content and
+     * position of the buffer are undefined in this case.
+     * @since 2.0.0
+     */
+    default void writeTo(final ByteBuffer byteBuffer) {
+        JsonValueWriter.write(this, requireNonNull(byteBuffer, "The ByteBuffer to write to must not be null!"));
+    }
+
 
     /**
      * Returns an upper bound for the size (in chars), that the serialized version of this value might have.
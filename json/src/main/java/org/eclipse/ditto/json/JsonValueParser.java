@@ -15,8 +15,11 @@ package org.eclipse.ditto.json;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
+import java.util.Arrays;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -78,6 +81,89 @@ final class JsonValueParser {
         return JsonValueParser::tryToReadJsonValueFrom;
     }
 
+    /**
+     * Returns a Function for parsing the remaining UTF-8 encoded bytes of a {@code ByteBuffer} to an instance of
+     * {@link JsonValue}.
+     * The bytes are parsed in one pass without decoding them to a String first.
+     * Neither the position nor the limit of the buffer are changed.
+     *
+     * @return the function.
+     * @since 2.0.0
+     */
+    public static Function<ByteBuffer, JsonValue> fromByteBuffer() {
+        return JsonValueParser::tryToParseJsonValueFrom;
+    }
+
+    /**
+     * Returns a Function for obtaining an instance of {@link JsonValue} from an {@code InputStream} which provides
+     * UTF-8 encoded bytes.
+     * The stream is read until its end but it is not closed.
+     *
+     * @return the function.
+     * @since 2.0.0
+     */
+    public static Function<InputStream, JsonValue> fromInputStream() {
+        return JsonValueParser::tryToReadJsonValueFrom;
+    }
+
+    /**
+     * Returns a Function for parsing the string representation of a JSON object to an instance of {@link JsonObject}
+     * which only contains the fields selected by the given field selector.
+     * The values of fields which are not selected are validated but not created.
+     *
+     * @param fieldSelector selects the fields to be parsed.
+     * @return the function.
+     * @throws NullPointerException if {@code fieldSelector} is {@code null}.
+     * @since 2.0.0
+     */
+    public static Function<String, JsonObject> selectedFieldsFromString(final JsonFieldSelector fieldSelector) {
+        final JsonFieldSelectorTrie fieldSelectorTrie = getFieldSelectorTrie(fieldSelector);
+        return jsonString -> {
+            requireNonNull(jsonString, "The JSON string to be parsed must not be null!");
+            try {
+                return OnePassJsonParser.parseSelectedFields(jsonString, fieldSelectorTrie);
+            } catch (final StackOverflowError | IllegalArgumentException e) {
+                throw JsonParseException.newBuilder()
+                        .message(MessageFormat.format("Failed to parse JSON string ''{0}''!", jsonString))
+                        .cause(e)
+                        .build();
+            }
+        };
+    }
+
+    /**
+     * Returns a Function for parsing the remaining UTF-8 encoded bytes of a {@code ByteBuffer} to an instance of
+     * {@link JsonObject} which only contains the fields selected by the given field selector.
+     * The values of fields which are not selected are validated but not created.
+     * Neither the position nor the limit of the buffer are changed.
+     *
+     * @param fieldSelector selects the fields to be parsed.
+     * @return the function.
+     * @throws NullPointerException if {@code fieldSelector} is {@code null}.
+     * @since 2.0.0
+     */
+    public static Function<ByteBuffer, JsonObject> selectedFieldsFromByteBuffer(
+            final JsonFieldSelector fieldSelector) {
+
+        final JsonFieldSelectorTrie fieldSelectorTrie = getFieldSelectorTrie(fieldSelector);
+        return byteBuffer -> {
+            requireNonNull(byteBuffer, "The ByteBuffer to be parsed must not be null!");
+            try {
+                return OnePassJsonParser.parseSelectedFields(byteBuffer, fieldSelectorTrie);
+            } catch (final StackOverflowError | IllegalArgumentException e) {
+                throw JsonParseException.newBuilder()
+                        .message("Failed to parse JSON object from bytes!")
+                        .cause(e)
+                        .build();
+            }
+        };
+    }
+
+    private static JsonFieldSelectorTrie getFieldSelectorTrie(final JsonFieldSelector fieldSelector) {
+        requireNonNull(fieldSelector, "The JSON field selector must not be null!");
+        return JsonFieldSelectorTrie.of(fieldSelector.getPointers());
+    }
+
     private static <T> T tryToParseJsonValue(final String jsonString,
             final DittoJsonHandler<?, ?, T> dittoJsonHandler) {
 
@@ -121,4 +207,48 @@ final class JsonValueParser {
         return dittoJsonHandler.getValue();
     }
 
+    private static JsonValue tryToParseJsonValueFrom(final ByteBuffer byteBuffer) {
+        requireNonNull(byteBuffer, "The ByteBuffer to be parsed must not be null!");
+        if (!byteBuffer.hasRemaining()) {
+            throw new JsonParseException("The JSON data to read from must not be empty!");
+        }
+        try {
+            return OnePassJsonParser.parse(byteBuffer);
+        } catch (final StackOverflowError | IllegalArgumentException | NullPointerException e) {
+            // "ditto-json" library also throws IllegalArgumentException when for example strings which may not be empty
+            // (e.g. keys) are empty
+            throw JsonParseException.newBuilder()
+                    .message("Failed to parse JSON value from bytes!")
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private static JsonValue tryToReadJsonValueFrom(final InputStream inputStream) {
+        requireNonNull(inputStream, "The InputStream must not be null!");
+        final ByteBuffer byteBuffer;
+        try {
+            byteBuffer = readFully(inputStream);
+        } catch (final IOException e) {
+            throw JsonParseException.newBuilder()
+                    .message("Failed to parse JSON value from input stream!")
+                    .cause(e)
+                    .build();
+        }
+        return tryToParseJsonValueFrom(byteBuffer);
+    }
+
+    private static ByteBuffer readFully(final InputStream inputStream) throws IOException {
+        byte[] buffer = new byte[Math.max(inputStream.available(), 1024)];
+        int length = 0;
+        int read;
+        while (-1 != (read = inputStream.read(buffer, length, buffer.length - length))) {
+            length += read;
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+        return ByteBuffer.wrap(buffer, 0, length);
+    }
+
 }
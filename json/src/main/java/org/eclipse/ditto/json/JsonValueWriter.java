@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Writes the UTF-8 encoded string representation of a {@link JsonValue} without creating it as Java String first.
+ * <p>
+ * Strings are escaped and encoded straight into a buffer which is re-used by all writers of the same thread and which
+ * is flushed to the target whenever it is full.
+ * JSON objects and arrays which already know their string representation, e. g. because they were parsed and not
+ * modified since, are written by encoding that representation.
+ * The written bytes are equal to the UTF-8 encoded result of {@link JsonValue#toString()}.
+ * </p>
+ */
+@NotThreadSafe
+final class JsonValueWriter {
+
+    static final int BUFFER_SIZE = 8192;
+
+    /*
+     * A buffer is removed from the thread local while it is in use, thus a nested invocation on the same thread (e. g.
+     * by an OutputStream which writes JSON itself) allocates its own buffer.
+     */
+    private static final ThreadLocal<byte[]> BUFFERS = new ThreadLocal<>();
+
+    private static final byte[] HEX_DIGITS = {
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'
+    };
+
+    // a surrogate pair is encoded as 4 bytes, an escaped control character as 6 bytes
+    private static final int MAX_BYTES_PER_CHAR = 6;
+
+    private final byte[] buffer;
+    private final Target target;
+    private int count;
+
+    private JsonValueWriter(final byte[] buffer, final Target target) {
+        this.buffer = buffer;
+        this.target = target;
+        count = 0;
+    }
+
+    /**
+     * Writes the given JSON value to the given output stream. The stream is neither flushed nor closed.
+     *
+     * @param jsonValue the JSON value to be written.
+     * @param outputStream the stream to write to.
+     * @throws IOException if writing to {@code outputStream} failed.
+     */
+    static void write(final JsonValue jsonValue, final OutputStream outputStream) throws IOException {
+        write(jsonValue, outputStream::write);
+    }
+
+    /**
+     * Writes the given JSON value to the given byte buffer starting at its current position.
+     *
+     * @param jsonValue the JSON value to be written.
+     * @param byteBuffer the buffer to write to.
+     * @throws java.nio.BufferOverflowException if {@code byteBuffer} has not enough remaining space.
+     * @throws java.nio.ReadOnlyBufferException if {@code byteBuffer} is read-only.
+     */
+    static void write(final JsonValue jsonValue, final ByteBuffer byteBuffer) {
+        try {
+            write(jsonValue, byteBuffer::put);
+        } catch (final IOException e) {
+            // ByteBuffer.put does not throw IOExceptions
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void write(final JsonValue jsonValue, final Target target) throws IOException {
+        byte[] buffer = BUFFERS.get();
+        if (null == buffer) {
+            buffer = new byte[BUFFER_SIZE];
+        } else {
+            BUFFERS.remove();
+        }
+        try {
+            final JsonValueWriter writer = new JsonValueWriter(buffer, target);
+            writer.writeValue(jsonValue);
+            writer.flush();
+        } finally {
+            BUFFERS.set(buffer);
+        }
+    }
+
+    private void writeValue(final JsonValue jsonValue) throws IOException {
+        if (jsonValue.isNull()) {
+            writeRaw("null");
+        } else if (jsonValue.isObject()) {
+            writeObject(jsonValue.asObject());
+        } else if (jsonValue.isArray()) {
+            writeArray(jsonValue.asArray());
+        } else if (jsonValue.isString()) {
+            writeString(jsonValue.asString());
+        } else {
+            // booleans and numbers consist of ASCII characters only
+            writeRaw(jsonValue.toString());
+        }
+    }
+
+    private void writeObject(final JsonObject jsonObject) throws IOException {
+        @Nullable final String stringRepresentation = jsonObject instanceof ImmutableJsonObject
+                ? ((ImmutableJsonObject) jsonObject).getStringRepresentationOrNull()
+                : null;
+        if (null != stringRepresentation) {
+            writeRaw(stringRepresentation);
+        } else {
+            writeByte('{');
+            boolean first = true;
+            for (final JsonField jsonField : jsonObject) {
+                if (!first) {
+                    writeByte(',');
+                }
+                writeString(jsonField.getKeyName());
+                writeByte(':');
+                writeValue(jsonField.getValue());
+                first = false;
+            }
+            writeByte('}');
+        }
+    }
+
+    private void writeArray(final JsonArray jsonArray) throws IOException {
+        @Nullable final String stringRepresentation = jsonArray instanceof ImmutableJsonArray
+                ? ((ImmutableJsonArray) jsonArray).getStringRepresentationOrNull()
+                : null;
+        if (null != stringRepresentation) {
+            writeRaw(stringRepresentation);
+        } else {
+            writeByte('[');
+            boolean first = true;
+            for (final JsonValue jsonValue : jsonArray) {
+                if (!first) {
+                    writeByte(',');
+                }
+                writeValue(jsonValue);
+                first = false;
+            }
+            writeByte(']');
+        }
+    }
+
+    private void writeString(final String string) throws IOException {
+        writeByte('"');
+        final int length = string.length();
+        for (int i = 0; i < length; i++) {
+            final char c = string.charAt(i);
+            if (c < 0x80) {
+                ensureCapacity(MAX_BYTES_PER_CHAR);
+                if (c < 0x20) {
+                    writeEscapedControlCharacter(c);
+                } else if ('"' == c || '\\' == c) {
+                    buffer[count++] = '\\';
+                    buffer[count++] = (byte) c;
+                } else {
+                    buffer[count++] = (byte) c;
+                }
+            } else {
+                i = writeNonAscii(string, i, c);
+            }
+        }
+        writeByte('"');
+    }
+
+    private void writeEscapedControlCharacter(final char c) {
+        buffer[count++] = '\\';
+        switch (c) {
+            case '\b':
+                buffer[count++] = 'b';
+                break;
+            case '\f':
+                buffer[count++] = 'f';
+                break;
+            case '\n':
+                buffer[count++] = 'n';
+                break;
+            case '\r':
+                buffer[count++] = 'r';
+                break;
+            case '\t':
+                buffer[count++] = 't';
+                break;
+            default:
+                buffer[count++] = 'u';
+                buffer[count++] = '0';
+                buffer[count++] = '0';
+                buffer[count++] = HEX_DIGITS[c >> 4];
+                buffer[count++] = HEX_DIGITS[c & 0xF];
+        }
+    }
+
+    /**
+     * Writes the given chars without escaping them.
+     */
+    private void writeRaw(final String chars) throws IOException {
+        final int length = chars.length();
+        for (int i = 0; i < length; i++) {
+            final char c = chars.charAt(i);
+            if (c < 0x80) {
+                if (count == buffer.length) {
+                    flush();
+                }
+                buffer[count++] = (byte) c;
+            } else {
+                i = writeNonAscii(chars, i, c);
+            }
+        }
+    }
+
+    /**
+     * Encodes the non-ASCII char at the given index.
+     *
+     * @return the index of the last char which was consumed.
+     */
+    private int writeNonAscii(final String chars, final int index, final char c) throws IOException {
+        ensureCapacity(MAX_BYTES_PER_CHAR);
+        int result = index;
+        if (c < 0x800) {
+            buffer[count++] = (byte) (0xC0 | (c >> 6));
+            buffer[count++] = (byte) (0x80 | (c & 0x3F));
+        } else if (!Character.isSurrogate(c)) {
+            buffer[count++] = (byte) (0xE0 | (c >> 12));
+            buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer[count++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c) && index + 1 < chars.length() &&
+                Character.isLowSurrogate(chars.charAt(index + 1))) {
+            final int codePoint = Character.toCodePoint(c, chars.charAt(index + 1));
+            buffer[count++] = (byte) (0xF0 | (codePoint >> 18));
+            buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            buffer[count++] = (byte) (0x80 | (codePoint & 0x3F));
+            result++;
+        } else {
+            // malformed surrogate, replaced like String.getBytes(StandardCharsets.UTF_8) does
+            buffer[count++] = '?';
+        }
+        return result;
+    }
+
+    private void writeByte(final char c) throws IOException {
+        if (count == buffer.length) {
+            flush();
+        }
+        buffer[count++] = (byte) c;
+    }
+
+    private void ensureCapacity(final int byteCount) throws IOException {
+        if (count + byteCount > buffer.length) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        if (0 < count) {
+            target.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Target {
+
+        void write(byte[] bytes, int offset, int length) throws IOException;
+
+    }
+
+}
@@ -46,6 +46,11 @@ final class NoopCborFactory implements CborFactory {
         throw UNSUPPORTED_OPERATION_EXCEPTION;
     }
 
+    @Override
+    public JsonObject readFrom(final byte[] bytes, final JsonFieldSelector fieldSelector) {
+        throw UNSUPPORTED_OPERATION_EXCEPTION;
+    }
+
     @Override
     public byte[] toByteArray(final JsonValue jsonValue) {
         throw UNSUPPORTED_OPERATION_EXCEPTION;
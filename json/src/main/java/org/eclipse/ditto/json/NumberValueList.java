@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Unmodifiable list of JSON numbers which keeps the values in a primitive array instead of boxing each of them in
+ * a {@link JsonNumber} object.
+ * The JSON numbers are created on access; they are equal to and serialize exactly like the values the list was
+ * created from.
+ * <p>
+ * Only homogeneous lists qualify:
+ * <ul>
+ *     <li>{@code long[]} for lists of {@link ImmutableJsonInt}s and {@link ImmutableJsonLong}s where either all
+ *     values are {@code ImmutableJsonLong}s or an {@code ImmutableJsonLong} is only used for values outside the int
+ *     range (which is what the parser creates),</li>
+ *     <li>{@code double[]} for lists of {@link ImmutableJsonDouble}s.</li>
+ * </ul>
+ * </p>
+ */
+@Immutable
+abstract class NumberValueList extends AbstractList<JsonValue> implements RandomAccess {
+
+    /**
+     * The minimum size of a list to be backed by a primitive array.
+     * For smaller lists the saved memory does not justify the costs of unboxing and re-boxing.
+     */
+    static final int MIN_SIZE = 16;
+
+    private NumberValueList() {
+        super();
+    }
+
+    /**
+     * Returns a list which is backed by a primitive array if the given values qualify for it.
+     *
+     * @param values the values of the list.
+     * @return the primitive backed list or {@code null} if {@code values} are too few or not homogeneous.
+     */
+    @Nullable
+    static List<JsonValue> tryToCreate(final List<JsonValue> values) {
+        final int size = values.size();
+        if (size < MIN_SIZE) {
+            return null;
+        }
+        final JsonValue first = values.get(0);
+        if (first instanceof ImmutableJsonDouble) {
+            return DoubleValues.tryToUnbox(values);
+        } else if (first instanceof ImmutableJsonInt || first instanceof ImmutableJsonLong) {
+            return LongValues.tryToUnbox(values);
+        }
+        return null;
+    }
+
+    @Immutable
+    private static final class LongValues extends NumberValueList {
+
+        private final long[] values;
+        private final boolean allLong;
+
+        private LongValues(final long[] values, final boolean allLong) {
+            this.values = values;
+            this.allLong = allLong;
+        }
+
+        @Nullable
+        private static LongValues tryToUnbox(final List<JsonValue> jsonValues) {
+            final long[] values = new long[jsonValues.size()];
+            boolean allLong = true;
+            boolean intRangeAsInt = true;
+            int i = 0;
+            for (final JsonValue jsonValue : jsonValues) {
+                final long value;
+                if (jsonValue instanceof ImmutableJsonInt) {
+                    value = ((ImmutableJsonInt) jsonValue).getValue();
+                    allLong = false;
+                } else if (jsonValue instanceof ImmutableJsonLong) {
+                    value = ((ImmutableJsonLong) jsonValue).getValue();
+                    if (isIntRange(value)) {
+                        intRangeAsInt = false;
+                    }
+                } else {
+                    return null;
+                }
+                if (!allLong && !intRangeAsInt) {
+                    return null;
+                }
+                values[i++] = value;
+            }
+            return new LongValues(values, allLong);
+        }
+
+        private static boolean isIntRange(final long value) {
+            return Integer.MIN_VALUE <= value && value <= Integer.MAX_VALUE;
+        }
+
+        @Override
+        public JsonValue get(final int index) {
+            final long value = values[index];
+            if (!allLong && isIntRange(value)) {
+                return ImmutableJsonInt.of((int) value);
+            }
+            return ImmutableJsonLong.of(value);
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+    }
+
+    @Immutable
+    private static final class DoubleValues extends NumberValueList {
+
+        private final double[] values;
+
+        private DoubleValues(final double[] values) {
+            this.values = values;
+        }
+
+        @Nullable
+        private static DoubleValues tryToUnbox(final List<JsonValue> jsonValues) {
+            final double[] values = new double[jsonValues.size()];
+            int i = 0;
+            for (final JsonValue jsonValue : jsonValues) {
+                if (!(jsonValue instanceof ImmutableJsonDouble)) {
+                    return null;
+                }
+                values[i++] = ((ImmutableJsonDouble) jsonValue).getValue();
+            }
+            return new DoubleValues(values);
+        }
+
+        @Override
+        public JsonValue get(final int index) {
+            return ImmutableJsonDouble.of(values[index]);
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+    }
+
+}
@@ -0,0 +1,710 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Parses JSON from UTF-8 encoded bytes or from a String in one pass.
+ * <p>
+ * In contrast to parsing via {@link DefaultDittoJsonHandler} UTF-8 input is not decoded to a String first and the
+ * values of JSON arrays and objects are not collected in temporary lists which are copied afterwards: the collected
+ * values are directly handed over to the created {@link ImmutableJsonArray} resp. {@link ImmutableJsonObject}.
+ * If a JSON array or object is written in its compact form (no insignificant whitespace and no escaped characters)
+ * its string representation is taken from the input as is.
+ * </p>
+ * <p>
+ * When parsing lazily, only the fields resp. values of the outermost JSON object or array are decoded.
+ * Nested JSON objects and arrays in compact form are validated and skipped; they are only backed by their string
+ * representation and decode their own content on first access.
+ * </p>
+ * <p>
+ * Object keys are created via {@link JsonFactory#newKey(CharSequence)}, thus frequently used keys and their names are
+ * shared between all parsed objects.
+ * </p>
+ * <p>
+ * When parsing selectively, a {@link JsonFieldSelectorTrie} determines which fields of a JSON object are decoded.
+ * The values of all other fields are only validated and skipped.
+ * </p>
+ * <p>
+ * <em>An instance of this class is not safe to be re-used!</em>
+ * </p>
+ */
+@NotThreadSafe
+final class OnePassJsonParser {
+
+    private static final int MAX_SAFE_LONG_DIGITS = 18;
+    private static final String TRUE = "true";
+    private static final String FALSE = "false";
+    private static final String NULL = "null";
+
+    @Nullable private final ByteBuffer bytes;
+    @Nullable private final String chars;
+    private final boolean lazy;
+    private final int start;
+    private final int limit;
+    private int position;
+    private int depth;
+    private boolean compact;
+    @Nullable private byte[] copyBuffer;
+
+    private OnePassJsonParser(@Nullable final ByteBuffer bytes, @Nullable final String chars, final boolean lazy) {
+        this.bytes = bytes;
+        this.chars = chars;
+        this.lazy = lazy;
+        if (null != bytes) {
+            start = bytes.position();
+            limit = bytes.limit();
+        } else {
+            start = 0;
+            limit = null != chars ? chars.length() : 0;
+        }
+        position = start;
+        depth = 0;
+        compact = true;
+        copyBuffer = null;
+    }
+
+    /**
+     * Parses the remaining UTF-8 encoded bytes of the given buffer to a JSON value.
+     * Nested JSON objects and arrays are decoded lazily.
+     * Neither the position nor the limit of {@code input} are changed by this method.
+     *
+     * @param input the UTF-8 encoded JSON document.
+     * @return the parsed JSON value.
+     * @throws JsonParseException if {@code input} is empty or does not contain valid JSON.
+     */
+    static JsonValue parse(final ByteBuffer input) {
+        final OnePassJsonParser parser = new OnePassJsonParser(input, null, true);
+        parser.skipWhitespace();
+        final JsonValue result = parser.readValue();
+        parser.expectEndOfInput();
+        return result;
+    }
+
+    /**
+     * Parses the fields of the given string representation of a JSON object.
+     * Nested JSON objects and arrays are decoded lazily.
+     *
+     * @param jsonObjectString the string representation of a JSON object.
+     * @return the fields of the JSON object in the order of their appearance.
+     * @throws JsonParseException if {@code jsonObjectString} does not contain a valid JSON object.
+     */
+    static Map<String, JsonField> parseObjectFields(final String jsonObjectString) {
+        final OnePassJsonParser parser = new OnePassJsonParser(null, jsonObjectString, true);
+        parser.skipWhitespace();
+        parser.expect('{', "'{'");
+        final Map<String, JsonField> result = parser.readFields();
+        parser.expectEndOfInput();
+        return result;
+    }
+
+    /**
+     * Parses the values of the given string representation of a JSON array.
+     * Nested JSON objects and arrays are decoded lazily.
+     *
+     * @param jsonArrayString the string representation of a JSON array.
+     * @return the values of the JSON array.
+     * @throws JsonParseException if {@code jsonArrayString} does not contain a valid JSON array.
+     */
+    static List<JsonValue> parseArrayValues(final String jsonArrayString) {
+        final OnePassJsonParser parser = new OnePassJsonParser(null, jsonArrayString, true);
+        parser.skipWhitespace();
+        parser.expect('[', "'['");
+        final List<JsonValue> result = parser.readValues();
+        parser.expectEndOfInput();
+        return result;
+    }
+
+    /**
+     * Parses only the fields of the JSON object in the remaining UTF-8 encoded bytes of the given buffer which are
+     * selected by the given trie.
+     * Neither the position nor the limit of {@code input} are changed by this method.
+     *
+     * @param input the UTF-8 encoded JSON object.
+     * @param fieldSelectorTrie determines the fields to be decoded.
+     * @return the JSON object which contains the selected fields.
+     * @throws JsonParseException if {@code input} does not contain a valid JSON object.
+     * @see #parseSelectedFields(String, JsonFieldSelectorTrie)
+     */
+    static JsonObject parseSelectedFields(final ByteBuffer input, final JsonFieldSelectorTrie fieldSelectorTrie) {
+        return new OnePassJsonParser(input, null, true).parseSelectedFields(fieldSelectorTrie);
+    }
+
+    /**
+     * Parses only the fields of the given string representation of a JSON object which are selected by the given trie.
+     * The result is equal to the result of {@link JsonObject#get(JsonFieldSelector)} invoked on the whole parsed
+     * object, but values of fields which are not selected are never created.
+     *
+     * @param jsonObjectString the string representation of a JSON object.
+     * @param fieldSelectorTrie determines the fields to be decoded.
+     * @return the JSON object which contains the selected fields.
+     * @throws JsonParseException if {@code jsonObjectString} does not contain a valid JSON object.
+     */
+    static JsonObject parseSelectedFields(final String jsonObjectString,
+            final JsonFieldSelectorTrie fieldSelectorTrie) {
+
+        return new OnePassJsonParser(null, jsonObjectString, true).parseSelectedFields(fieldSelectorTrie);
+    }
+
+    private JsonObject parseSelectedFields(final JsonFieldSelectorTrie fieldSelectorTrie) {
+        skipWhitespace();
+        if (position >= limit || '{' != at(position)) {
+            throw unexpectedCharacter("'{'");
+        }
+        final JsonObject result = readSelectedFields(fieldSelectorTrie);
+        expectEndOfInput();
+        return result;
+    }
+
+    private void expectEndOfInput() {
+        skipWhitespace();
+        if (position < limit) {
+            throw unexpectedCharacter("end of input");
+        }
+    }
+
+    private JsonValue readValue() {
+        if (position >= limit) {
+            throw unexpectedEndOfInput("value");
+        }
+        switch (at(position)) {
+            case '{':
+                return lazy && 0 < depth ? readContainerLazily(true) : readObject();
+            case '[':
+                return lazy && 0 < depth ? readContainerLazily(false) : readArray();
+            case '"':
+                return ImmutableJsonString.of(readString());
+            case 't':
+                skipLiteral(TRUE);
+                return ImmutableJsonBoolean.TRUE;
+            case 'f':
+                skipLiteral(FALSE);
+                return ImmutableJsonBoolean.FALSE;
+            case 'n':
+                skipLiteral(NULL);
+                return ImmutableJsonNull.getInstance();
+            default:
+                return readNumber();
+        }
+    }
+
+    private JsonValue readContainerLazily(final boolean isObject) {
+        final int containerStart = position;
+        final boolean parentCompact = compact;
+        compact = true;
+        skipValue();
+        if (compact) {
+            compact = parentCompact;
+            final String stringRepresentation = decode(containerStart, position);
+            return isObject
+                    ? ImmutableJsonObject.ofUnparsed(stringRepresentation)
+                    : ImmutableJsonArray.ofUnparsed(stringRepresentation);
+        }
+
+        // not compact: the string representation can't be taken from the input, thus decode the container now
+        position = containerStart;
+        compact = parentCompact;
+        return isObject ? readObject() : readArray();
+    }
+
+    private JsonObject readObject() {
+        final int objectStart = position;
+        final boolean parentCompact = compact;
+        compact = true;
+        position++;
+        final Map<String, JsonField> fields = readFields();
+        final String stringRepresentation = compact ? decode(objectStart, position) : null;
+        compact = parentCompact && compact;
+        return ImmutableJsonObject.ofParsed(fields, stringRepresentation);
+    }
+
+    private Map<String, JsonField> readFields() {
+        depth++;
+        final Map<String, JsonField> fields = new LinkedHashMap<>();
+        skipWhitespace();
+        if (!tryToConsume('}')) {
+            do {
+                skipWhitespace();
+                final String name = readName();
+                skipWhitespace();
+                expect(':', "':'");
+                skipWhitespace();
+                final JsonValue value = readValue();
+                final JsonKey key = JsonFactory.newKey(name);
+                fields.put(key.toString(), ImmutableJsonField.newInstance(key, value));
+                skipWhitespace();
+            } while (tryToConsume(','));
+            expect('}', "'}'");
+        }
+        depth--;
+        return fields;
+    }
+
+    private JsonObject readSelectedFields(final JsonFieldSelectorTrie fieldSelectorTrie) {
+        position++;
+        depth++;
+        final Map<String, JsonField> fields = new LinkedHashMap<>();
+        skipWhitespace();
+        if (!tryToConsume('}')) {
+            do {
+                skipWhitespace();
+                final String name = readName();
+                skipWhitespace();
+                expect(':', "':'");
+                skipWhitespace();
+                @Nullable final JsonFieldSelectorTrie child = fieldSelectorTrie.getChildOrNull(name);
+                @Nullable final JsonValue value = null != child ? readSelectedValue(child) : null;
+                if (null != value) {
+                    final JsonKey key = JsonFactory.newKey(name);
+                    fields.put(key.toString(), ImmutableJsonField.newInstance(key, value));
+                } else if (null == child) {
+                    skipValue();
+                }
+                skipWhitespace();
+            } while (tryToConsume(','));
+            expect('}', "'}'");
+        }
+        depth--;
+        return ImmutableJsonObject.ofParsed(fields, null);
+    }
+
+    /**
+     * Reads the value at the current position as far as it is selected by the given trie.
+     *
+     * @return the selected value or {@code null} if the trie selects nothing of it.
+     */
+    @Nullable
+    private JsonValue readSelectedValue(final JsonFieldSelectorTrie fieldSelectorTrie) {
+        if (fieldSelectorTrie.isEmpty()) {
+            return readValue();
+        }
+        final int valueStart = position;
+        if (position < limit && '{' == at(position)) {
+            final JsonObject selectedFields = readSelectedFields(fieldSelectorTrie);
+            if (!selectedFields.isEmpty()) {
+                return selectedFields;
+            }
+        } else {
+            skipValue();
+        }
+        if (fieldSelectorTrie.isEndOfPointer()) {
+
+            // none of the longer pointers matched, thus the shorter one selects the whole value
+            position = valueStart;
+            return readValue();
+        }
+        return null;
+    }
+
+    private JsonArray readArray() {
+        final int arrayStart = position;
+        final boolean parentCompact = compact;
+        compact = true;
+        position++;
+        final List<JsonValue> values = readValues();
+        final String stringRepresentation = compact ? decode(arrayStart, position) : null;
+        compact = parentCompact && compact;
+        return ImmutableJsonArray.ofParsed(values, stringRepresentation);
+    }
+
+    private List<JsonValue> readValues() {
+        depth++;
+        final List<JsonValue> values = new ArrayList<>();
+        skipWhitespace();
+        if (!tryToConsume(']')) {
+            do {
+                skipWhitespace();
+                values.add(readValue());
+                skipWhitespace();
+            } while (tryToConsume(','));
+            expect(']', "']'");
+        }
+        depth--;
+        return values;
+    }
+
+    private String readName() {
+        if (position >= limit || '"' != at(position)) {
+            throw unexpectedCharacter("name");
+        }
+        return readString();
+    }
+
+    private String readString() {
+        final int contentStart = position + 1;
+        final boolean escaped = skipString();
+        return escaped ? unescape(contentStart, position - 1) : decode(contentStart, position - 1);
+    }
+
+    private String unescape(final int from, final int to) {
+        final StringBuilder stringBuilder = new StringBuilder(to - from);
+        int segmentStart = from;
+        int i = from;
+        while (i < to) {
+            if ('\\' == at(i)) {
+                stringBuilder.append(decode(segmentStart, i));
+                final int escapedChar = at(i + 1);
+                switch (escapedChar) {
+                    case 'b':
+                        stringBuilder.append('\b');
+                        break;
+                    case 'f':
+                        stringBuilder.append('\f');
+                        break;
+                    case 'n':
+                        stringBuilder.append('\n');
+                        break;
+                    case 'r':
+                        stringBuilder.append('\r');
+                        break;
+                    case 't':
+                        stringBuilder.append('\t');
+                        break;
+                    case 'u':
+                        int hexChar = 0;
+                        for (int j = i + 2; j < i + 6; j++) {
+                            hexChar = (hexChar << 4) | Character.digit(at(j), 16);
+                        }
+                        stringBuilder.append((char) hexChar);
+                        i += 4;
+                        break;
+                    default:
+                        stringBuilder.append((char) escapedChar);
+                }
+                i += 2;
+                segmentStart = i;
+            } else {
+                i++;
+            }
+        }
+        return stringBuilder.append(decode(segmentStart, to)).toString();
+    }
+
+    private JsonNumber readNumber() {
+        final int numberStart = position;
+        final boolean decimal = skipNumber();
+        if (decimal) {
+            return ImmutableJsonDouble.of(Double.parseDouble(decodeAscii(numberStart, position)));
+        }
+        final boolean negative = '-' == at(numberStart);
+        final int firstDigit = negative ? numberStart + 1 : numberStart;
+        if (position - firstDigit <= MAX_SAFE_LONG_DIGITS) {
+            long magnitude = 0;
+            for (int i = firstDigit; i < position; i++) {
+                magnitude = magnitude * 10 + (at(i) - '0');
+            }
+            return getIntegerOrLong(negative ? -magnitude : magnitude);
+        }
+        final String numberString = decodeAscii(numberStart, position);
+        try {
+            return getIntegerOrLong(Long.parseLong(numberString));
+        } catch (final NumberFormatException e) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("Number <{0}> at position <{1}> is out of range!", numberString,
+                            numberStart - start))
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private static JsonNumber getIntegerOrLong(final long value) {
+        if (Integer.MIN_VALUE <= value && value <= Integer.MAX_VALUE) {
+            return ImmutableJsonInt.of((int) value);
+        }
+        return ImmutableJsonLong.of(value);
+    }
+
+    private void skipValue() {
+        if (position >= limit) {
+            throw unexpectedEndOfInput("value");
+        }
+        switch (at(position)) {
+            case '{':
+                skipObject();
+                break;
+            case '[':
+                skipArray();
+                break;
+            case '"':
+                skipString();
+                break;
+            case 't':
+                skipLiteral(TRUE);
+                break;
+            case 'f':
+                skipLiteral(FALSE);
+                break;
+            case 'n':
+                skipLiteral(NULL);
+                break;
+            default:
+                skipNumber();
+        }
+    }
+
+    private void skipObject() {
+        position++;
+        skipWhitespace();
+        if (!tryToConsume('}')) {
+            do {
+                skipWhitespace();
+                if (position >= limit || '"' != at(position)) {
+                    throw unexpectedCharacter("name");
+                }
+                if (position + 1 < limit && '"' == at(position + 1)) {
+                    throw JsonParseException.newBuilder()
+                            .message(MessageFormat.format("Empty key at position <{0}>!", position - start))
+                            .cause(new IllegalArgumentException("The key string must not be empty!"))
+                            .build();
+                }
+                skipString();
+                skipWhitespace();
+                expect(':', "':'");
+                skipWhitespace();
+                skipValue();
+                skipWhitespace();
+            } while (tryToConsume(','));
+            expect('}', "'}'");
+        }
+    }
+
+    private void skipArray() {
+        position++;
+        skipWhitespace();
+        if (!tryToConsume(']')) {
+            do {
+                skipWhitespace();
+                skipValue();
+                skipWhitespace();
+            } while (tryToConsume(','));
+            expect(']', "']'");
+        }
+    }
+
+    /**
+     * Skips the string at the current position.
+     *
+     * @return whether the string contains escape sequences.
+     */
+    private boolean skipString() {
+        position++;
+        boolean escaped = false;
+        while (position < limit) {
+            final int current = at(position);
+            if ('"' == current) {
+                position++;
+                if (escaped) {
+                    compact = false;
+                }
+                return escaped;
+            } else if ('\\' == current) {
+                escaped = true;
+                position++;
+                skipEscape();
+            } else if (current < 0x20) {
+                throw unexpectedCharacter("valid string character");
+            } else {
+                position++;
+            }
+        }
+        throw unexpectedEndOfInput("'\"'");
+    }
+
+    private void skipEscape() {
+        if (position >= limit) {
+            throw unexpectedEndOfInput("escape sequence");
+        }
+        switch (at(position)) {
+            case '"':
+            case '/':
+            case '\\':
+            case 'b':
+            case 'f':
+            case 'n':
+            case 'r':
+            case 't':
+                position++;
+                break;
+            case 'u':
+                for (int i = 0; i < 4; i++) {
+                    position++;
+                    if (position >= limit) {
+                        throw unexpectedEndOfInput("hexadecimal digit");
+                    }
+                    if (Character.digit(at(position), 16) < 0) {
+                        throw unexpectedCharacter("hexadecimal digit");
+                    }
+                }
+                position++;
+                break;
+            default:
+                throw unexpectedCharacter("valid escape sequence");
+        }
+    }
+
+    /**
+     * Skips the number at the current position.
+     *
+     * @return whether the number has a fraction or an exponent.
+     */
+    private boolean skipNumber() {
+        tryToConsume('-');
+        final int firstDigit = position;
+        if (!tryToConsumeDigit()) {
+            throw unexpectedCharacter("value");
+        }
+        if ('0' != at(firstDigit)) {
+            while (tryToConsumeDigit()) {
+                // consume all digits of the integer part
+            }
+        }
+        boolean decimal = false;
+        if (tryToConsume('.')) {
+            decimal = true;
+            skipDigits();
+        }
+        if (tryToConsume('e') || tryToConsume('E')) {
+            decimal = true;
+            if (!tryToConsume('+')) {
+                tryToConsume('-');
+            }
+            skipDigits();
+        }
+        return decimal;
+    }
+
+    private void skipDigits() {
+        if (!tryToConsumeDigit()) {
+            throw unexpectedCharacter("digit");
+        }
+        while (tryToConsumeDigit()) {
+            // consume all digits
+        }
+    }
+
+    private boolean tryToConsumeDigit() {
+        if (position < limit) {
+            final int current = at(position);
+            if ('0' <= current && current <= '9') {
+                position++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void skipLiteral(final String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (position >= limit) {
+                throw unexpectedEndOfInput(literal);
+            }
+            if (literal.charAt(i) != at(position)) {
+                throw unexpectedCharacter(literal);
+            }
+            position++;
+        }
+    }
+
+    private void skipWhitespace() {
+        while (position < limit) {
+            final int current = at(position);
+            if (' ' == current || '\t' == current || '\n' == current || '\r' == current) {
+                compact = false;
+                position++;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private boolean tryToConsume(final char expected) {
+        if (position < limit && expected == at(position)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(final char expected, final String description) {
+        if (!tryToConsume(expected)) {
+            if (position >= limit) {
+                throw unexpectedEndOfInput(description);
+            }
+            throw unexpectedCharacter(description);
+        }
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private int at(final int index) {
+        if (null != bytes) {
+            return bytes.get(index) & 0xFF;
+        }
+        return chars.charAt(index);
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private String decode(final int from, final int to) {
+        if (null == bytes) {
+            return chars.substring(from, to);
+        } else if (bytes.hasArray()) {
+            return new String(bytes.array(), bytes.arrayOffset() + from, to - from, StandardCharsets.UTF_8);
+        }
+        return new String(copy(from, to), 0, to - from, StandardCharsets.UTF_8);
+    }
+
+    private String decodeAscii(final int from, final int to) {
+        final char[] result = new char[to - from];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (char) at(from + i);
+        }
+        return new String(result);
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private byte[] copy(final int from, final int to) {
+        final int length = to - from;
+        byte[] result = copyBuffer;
+        if (null == result || result.length < length) {
+            result = new byte[Math.max(length, 256)];
+            copyBuffer = result;
+        }
+        for (int i = 0; i < length; i++) {
+            result[i] = bytes.get(from + i);
+        }
+        return result;
+    }
+
+    private JsonParseException unexpectedCharacter(final String expected) {
+        final String actual = position < limit ? String.valueOf((char) at(position)) : "";
+        return new JsonParseException(MessageFormat.format(
+                "Failed to parse JSON: expected {0} but got <{1}> at position <{2}>!", expected, actual,
+                position - start));
+    }
+
+    private JsonParseException unexpectedEndOfInput(final String expected) {
+        return new JsonParseException(MessageFormat.format(
+                "Failed to parse JSON: expected {0} but reached the end of input at position <{1}>!", expected,
+                position - start));
+    }
+
+}
@@ -0,0 +1,464 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * An immutable map of JSON fields which shares its structure with the map it was derived from.
+ * <p>
+ * The fields are looked up by their key name in a hash array mapped trie (HAMT).
+ * Their insertion order is kept in a second, sparse trie indexed by an increasing insertion number.
+ * Thus {@link #with(String, JsonField)} and {@link #without(String)} only copy the paths from the roots of both
+ * tries to the affected field which costs {@code O(log n)} instead of copying all {@code n} fields.
+ * Like {@link java.util.LinkedHashMap} replacing the value of an existing key does not change the order.
+ * </p>
+ * <p>
+ * Removed fields leave a gap in the insertion order trie. If there are more gaps than fields, the map is rebuilt.
+ * </p>
+ */
+@Immutable
+final class PersistentJsonFieldMap extends AbstractMap<String, JsonField> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final PersistentJsonFieldMap EMPTY = new PersistentJsonFieldMap(null, null, 0, 0, 0);
+
+    @Nullable private final HashNode hashRoot;
+    @Nullable private final Object[] orderRoot;
+    private final int orderShift;
+    private final int size;
+    private final int nextIndex;
+
+    private PersistentJsonFieldMap(@Nullable final HashNode hashRoot,
+            @Nullable final Object[] orderRoot,
+            final int orderShift,
+            final int size,
+            final int nextIndex) {
+
+        this.hashRoot = hashRoot;
+        this.orderRoot = orderRoot;
+        this.orderShift = orderShift;
+        this.size = size;
+        this.nextIndex = nextIndex;
+    }
+
+    /**
+     * Returns an empty map.
+     *
+     * @return the empty map.
+     */
+    static PersistentJsonFieldMap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a map containing the given fields in the iteration order of {@code fields}.
+     *
+     * @param fields the fields to be contained in the returned map.
+     * @return the map.
+     */
+    static PersistentJsonFieldMap copyOf(final Map<String, JsonField> fields) {
+        if (fields instanceof PersistentJsonFieldMap) {
+            return (PersistentJsonFieldMap) fields;
+        }
+        return build(fields.entrySet());
+    }
+
+    private static PersistentJsonFieldMap build(final Iterable<Map.Entry<String, JsonField>> fields) {
+        PersistentJsonFieldMap result = EMPTY;
+        for (final Map.Entry<String, JsonField> field : fields) {
+            result = result.with(field.getKey(), field.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a map which additionally contains the given field.
+     * If the map already contains {@code key}, the field is replaced at its position.
+     *
+     * @param key the key name of the field.
+     * @param field the field to be associated with {@code key}.
+     * @return the derived map.
+     */
+    PersistentJsonFieldMap with(final String key, final JsonField field) {
+        final int hash = key.hashCode();
+        final Entry existing = find(key, hash);
+        if (null != existing) {
+            if (existing.getValue() == field) {
+                return this;
+            }
+            final Entry replacement = new Entry(key, hash, field, existing.index);
+            return new PersistentJsonFieldMap(put(hashRoot, replacement, 0),
+                    setInOrder(orderRoot, orderShift, existing.index, replacement), orderShift, size, nextIndex);
+        }
+
+        final Entry entry = new Entry(key, hash, field, nextIndex);
+        Object[] newOrderRoot = orderRoot;
+        int newOrderShift = orderShift;
+        if (null != newOrderRoot && nextIndex >>> newOrderShift >= WIDTH) {
+            newOrderRoot = new Object[WIDTH];
+            newOrderRoot[0] = orderRoot;
+            newOrderShift += BITS;
+        }
+        return new PersistentJsonFieldMap(put(hashRoot, entry, 0),
+                setInOrder(newOrderRoot, newOrderShift, nextIndex, entry), newOrderShift, size + 1, nextIndex + 1);
+    }
+
+    /**
+     * Returns a map which does not contain the field with the given key.
+     *
+     * @param key the key name of the field to be removed.
+     * @return the derived map or this map if it does not contain {@code key}.
+     */
+    PersistentJsonFieldMap without(final String key) {
+        final int hash = key.hashCode();
+        final Entry existing = find(key, hash);
+        if (null == existing) {
+            return this;
+        }
+        if (1 == size) {
+            return EMPTY;
+        }
+        final PersistentJsonFieldMap result = new PersistentJsonFieldMap(remove(hashRoot, key, hash, 0),
+                setInOrder(orderRoot, orderShift, existing.index, null), orderShift, size - 1, nextIndex);
+        if (result.nextIndex - result.size > Math.max(result.size, WIDTH)) {
+            return build(result.entrySet());
+        }
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String && null != find((String) key, key.hashCode());
+    }
+
+    @Override
+    @Nullable
+    public JsonField get(final Object key) {
+        if (key instanceof String) {
+            final Entry entry = find((String) key, key.hashCode());
+            if (null != entry) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Set<Map.Entry<String, JsonField>> entrySet() {
+        return new AbstractSet<Map.Entry<String, JsonField>>() {
+            @Override
+            public Iterator<Map.Entry<String, JsonField>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Nullable
+    private Entry find(final String key, final int hash) {
+        Object node = hashRoot;
+        int shift = 0;
+        while (node instanceof HashNode) {
+            final HashNode hashNode = (HashNode) node;
+            final int bit = bitFor(hash, shift);
+            if (0 == (hashNode.bitmap & bit)) {
+                return null;
+            }
+            node = hashNode.children[hashNode.indexOf(bit)];
+            shift += BITS;
+        }
+        if (node instanceof Entry) {
+            final Entry entry = (Entry) node;
+            return entry.matches(key, hash) ? entry : null;
+        }
+        if (node instanceof Entry[]) {
+            for (final Entry entry : (Entry[]) node) {
+                if (entry.matches(key, hash)) {
+                    return entry;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static HashNode put(@Nullable final HashNode node, final Entry entry, final int shift) {
+        if (null == node) {
+            return new HashNode(bitFor(entry.hash, shift), new Object[]{entry});
+        }
+        final int bit = bitFor(entry.hash, shift);
+        final int index = node.indexOf(bit);
+        if (0 == (node.bitmap & bit)) {
+            return node.withInsertedChild(index, bit, entry);
+        }
+
+        final Object child = node.children[index];
+        final Object newChild;
+        if (child instanceof HashNode) {
+            newChild = put((HashNode) child, entry, shift + BITS);
+        } else if (child instanceof Entry) {
+            final Entry childEntry = (Entry) child;
+            if (childEntry.matches(entry.getKey(), entry.hash)) {
+                newChild = entry;
+            } else if (childEntry.hash == entry.hash) {
+                newChild = new Entry[]{childEntry, entry};
+            } else {
+                newChild = merge(childEntry, childEntry.hash, entry, shift + BITS);
+            }
+        } else {
+            final Entry[] collisions = (Entry[]) child;
+            if (collisions[0].hash == entry.hash) {
+                newChild = putCollision(collisions, entry);
+            } else {
+                newChild = merge(collisions, collisions[0].hash, entry, shift + BITS);
+            }
+        }
+        return node.withReplacedChild(index, newChild);
+    }
+
+    private static HashNode merge(final Object existingChild, final int existingHash, final Entry entry,
+            final int shift) {
+
+        final int existingBit = bitFor(existingHash, shift);
+        final int bit = bitFor(entry.hash, shift);
+        if (existingBit == bit) {
+            return new HashNode(bit, new Object[]{merge(existingChild, existingHash, entry, shift + BITS)});
+        }
+        final Object[] children = Integer.compareUnsigned(existingBit, bit) < 0
+                ? new Object[]{existingChild, entry}
+                : new Object[]{entry, existingChild};
+        return new HashNode(existingBit | bit, children);
+    }
+
+    private static Entry[] putCollision(final Entry[] collisions, final Entry entry) {
+        for (int i = 0; i < collisions.length; i++) {
+            if (collisions[i].matches(entry.getKey(), entry.hash)) {
+                final Entry[] result = collisions.clone();
+                result[i] = entry;
+                return result;
+            }
+        }
+        final Entry[] result = new Entry[collisions.length + 1];
+        System.arraycopy(collisions, 0, result, 0, collisions.length);
+        result[collisions.length] = entry;
+        return result;
+    }
+
+    @Nullable
+    private static HashNode remove(@Nullable final HashNode node, final String key, final int hash,
+            final int shift) {
+
+        if (null == node) {
+            return null;
+        }
+        final int bit = bitFor(hash, shift);
+        if (0 == (node.bitmap & bit)) {
+            return node;
+        }
+        final int index = node.indexOf(bit);
+        final Object child = node.children[index];
+        @Nullable Object newChild;
+        if (child instanceof HashNode) {
+            final HashNode newChildNode = remove((HashNode) child, key, hash, shift + BITS);
+            newChild = newChildNode;
+            if (null != newChildNode && 1 == newChildNode.children.length &&
+                    !(newChildNode.children[0] instanceof HashNode)) {
+                // pull a single remaining entry up in order to keep the trie shallow
+                newChild = newChildNode.children[0];
+            }
+        } else if (child instanceof Entry) {
+            if (!((Entry) child).matches(key, hash)) {
+                return node;
+            }
+            newChild = null;
+        } else {
+            newChild = removeCollision((Entry[]) child, key, hash);
+        }
+
+        if (null == newChild) {
+            return node.bitmap == bit ? null : node.withRemovedChild(index, bit);
+        }
+        return node.withReplacedChild(index, newChild);
+    }
+
+    private static Object removeCollision(final Entry[] collisions, final String key, final int hash) {
+        for (int i = 0; i < collisions.length; i++) {
+            if (collisions[i].matches(key, hash)) {
+                if (2 == collisions.length) {
+                    return collisions[1 - i];
+                }
+                final Entry[] result = new Entry[collisions.length - 1];
+                System.arraycopy(collisions, 0, result, 0, i);
+                System.arraycopy(collisions, i + 1, result, i, result.length - i);
+                return result;
+            }
+        }
+        return collisions;
+    }
+
+    private static int bitFor(final int hash, final int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static Object[] setInOrder(@Nullable final Object[] node, final int shift, final int index,
+            @Nullable final Entry entry) {
+
+        final Object[] result = null != node ? node.clone() : new Object[WIDTH];
+        final int slot = (index >>> shift) & MASK;
+        if (0 == shift) {
+            result[slot] = entry;
+        } else {
+            result[slot] = setInOrder((Object[]) result[slot], shift - BITS, index, entry);
+        }
+        return result;
+    }
+
+    @Nullable
+    private Object[] leafFor(final int index) {
+        Object[] node = orderRoot;
+        for (int shift = orderShift; null != node && 0 < shift; shift -= BITS) {
+            node = (Object[]) node[(index >>> shift) & MASK];
+        }
+        return node;
+    }
+
+    /**
+     * Node of the hash array mapped trie. Each child is either another node, an {@code Entry} or an array of
+     * entries whose keys have the same hash code.
+     */
+    private static final class HashNode {
+
+        private final int bitmap;
+        private final Object[] children;
+
+        private HashNode(final int bitmap, final Object[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        private int indexOf(final int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private HashNode withReplacedChild(final int index, final Object child) {
+            final Object[] newChildren = children.clone();
+            newChildren[index] = child;
+            return new HashNode(bitmap, newChildren);
+        }
+
+        private HashNode withInsertedChild(final int index, final int bit, final Object child) {
+            final Object[] newChildren = new Object[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newChildren[index] = child;
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            return new HashNode(bitmap | bit, newChildren);
+        }
+
+        private HashNode withRemovedChild(final int index, final int bit) {
+            final Object[] newChildren = new Object[children.length - 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(children, index + 1, newChildren, index, newChildren.length - index);
+            return new HashNode(bitmap & ~bit, newChildren);
+        }
+
+    }
+
+    private static final class Entry extends AbstractMap.SimpleImmutableEntry<String, JsonField> {
+
+        private static final long serialVersionUID = -2306475620487134957L;
+
+        private final int hash;
+        private final int index;
+
+        private Entry(final String key, final int hash, final JsonField field, final int index) {
+            super(key, field);
+            this.hash = hash;
+            this.index = index;
+        }
+
+        private boolean matches(final String key, final int hash) {
+            return this.hash == hash && getKey().equals(key);
+        }
+
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, JsonField>> {
+
+        private int index;
+        @Nullable private Object[] leaf;
+        @Nullable private Entry next;
+
+        private EntryIterator() {
+            index = 0;
+            leaf = null;
+            next = advance();
+        }
+
+        @Nullable
+        private Entry advance() {
+            while (index < nextIndex) {
+                if (null == leaf || 0 == (index & MASK)) {
+                    leaf = leafFor(index);
+                }
+                final Object candidate = null != leaf ? leaf[index & MASK] : null;
+                index++;
+                if (null != candidate) {
+                    return (Entry) candidate;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return null != next;
+        }
+
+        @Override
+        public Map.Entry<String, JsonField> next() {
+            final Entry result = next;
+            if (null == result) {
+                throw new NoSuchElementException();
+            }
+            next = advance();
+            return result;
+        }
+
+    }
+
+}
@@ -31,6 +31,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.assertj.core.api.Assertions;
 import org.junit.Test;
@@ -581,6 +582,29 @@ public final class ImmutableJsonObjectTest {
         assertThat(afterRemoval).isSameAs(underTest);
     }
 
+    @Test
+    public void modifyingLargeJsonObjectSharesStructureAndKeepsOrder() {
+        final Map<String, JsonField> fields = new LinkedHashMap<>();
+        for (int i = 0; i < ImmutableJsonObject.SoftReferencedFieldMap.PERSISTENT_FIELDS_THRESHOLD * 4; i++) {
+            fields.put("property" + i, JsonField.newInstance("property" + i, JsonValue.of(i)));
+        }
+        final JsonObject original = ImmutableJsonObject.of(fields);
+        final Map<String, JsonField> expectedFields = new LinkedHashMap<>(fields);
+        expectedFields.put("property3", JsonField.newInstance("property3", JsonValue.of("three")));
+        expectedFields.remove("property7");
+        expectedFields.put("additional", JsonField.newInstance("additional", JsonValue.of(true)));
+
+        final JsonObject modified = original.setValue("property3", "three")
+                .remove("property7")
+                .setValue("additional", true);
+
+        assertThat(modified).isEqualTo(ImmutableJsonObject.of(expectedFields));
+        assertThat(modified.toString()).isEqualTo(ImmutableJsonObject.of(expectedFields).toString());
+        assertThat(modified.getKeys()).containsExactlyElementsOf(
+                expectedFields.keySet().stream().map(JsonKey::of).collect(Collectors.toList()));
+        assertThat(original).isEqualTo(ImmutableJsonObject.of(fields));
+    }
+
     @Test
     public void removingExistingJsonFieldByNameReturnsDisjunctJsonObject() {
         final String nameToRemove = KNOWN_KEY_BAR.toString();
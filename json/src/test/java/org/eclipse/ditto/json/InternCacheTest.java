@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link InternCache}.
+ */
+public final class InternCacheTest {
+
+    @Test
+    public void tryToCreateWithCapacityWhichIsNoPowerOfTwo() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new InternCache<JsonKey>(100));
+    }
+
+    @Test
+    public void returnsSameInstanceForEqualStrings() {
+        final InternCache<JsonKey> underTest = new InternCache<>(16);
+
+        final JsonKey first = underTest.get(new String("thingId"), ImmutableJsonKey::of);
+        final JsonKey second = underTest.get(new String("thingId"), ImmutableJsonKey::of);
+
+        assertThat(second).isSameAs(first);
+        assertThat(underTest.getStatistics()).isEqualTo(InterningStatistics.of(1, 1));
+        assertThat(underTest.getStatistics().getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void doesNotCacheLongStrings() {
+        final InternCache<JsonKey> underTest = new InternCache<>(16);
+        final String longString = String.join("", Collections.nCopies(InternCache.MAX_STRING_LENGTH + 1, "a"));
+
+        final JsonKey first = underTest.get(longString, ImmutableJsonKey::of);
+        final JsonKey second = underTest.get(longString, ImmutableJsonKey::of);
+
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+        assertThat(underTest.getStatistics()).isEqualTo(InterningStatistics.of(0, 0));
+    }
+
+    @Test
+    public void alwaysReturnsEqualInstancesWhenFull() {
+        final InternCache<JsonKey> underTest = new InternCache<>(4);
+        final List<String> strings = IntStream.range(0, 100)
+                .mapToObj(i -> "key" + i % 10)
+                .collect(Collectors.toList());
+
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            futures.add(CompletableFuture.runAsync(() -> strings.forEach(string ->
+                    assertThat(underTest.get(string, ImmutableJsonKey::of).toString()).isEqualTo(string))));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        final InterningStatistics statistics = underTest.getStatistics();
+        assertThat(statistics.getHitCount() + statistics.getMissCount()).isEqualTo(400);
+    }
+
+    @Test
+    public void jsonFactoryInternsKeysAndPointers() {
+        final InterningStatistics keyStatistics = JsonFactory.getKeyInterningStatistics();
+
+        final Object key = JsonFactory.newKey(new String("attributes"));
+        assertThat(key).isSameAs(JsonFactory.newKey(new String("attributes")));
+        final Object pointer = JsonFactory.newPointer(new String("/features/f/properties"));
+        assertThat(pointer).isSameAs(JsonFactory.newPointer(new String("/features/f/properties")));
+        assertThat(JsonFactory.getKeyInterningStatistics().getHitCount()).isGreaterThan(keyStatistics.getHitCount());
+    }
+
+    @Test
+    public void parserInternsObjectKeys() {
+        final JsonObject first = JsonFactory.newObject("{\"manufacturer\":1}".getBytes());
+        final JsonObject second = JsonFactory.newObject("{\"manufacturer\":2}".getBytes());
+
+        final Object firstKey = first.getKeys().get(0);
+        assertThat(second.getKeys().get(0)).isSameAs(firstKey);
+    }
+
+}
@@ -19,8 +19,12 @@ import static org.mockito.Mockito.mock;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -305,6 +309,39 @@ public final class JsonFactoryTest {
         assertThat((JsonArray) jsonValue).contains("two");
     }
 
+    @Test
+    public void readFromJsonObjectBytes() {
+        final JsonValue expected = JsonFactory.newObject().setValue("foo", "bar");
+        final JsonValue actual = JsonFactory.readFrom("{\"foo\":\"bar\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void tryToReadJsonValueFromEmptyBytes() {
+        JsonFactory.readFrom(new byte[0]);
+    }
+
+    @Test
+    public void readFromJsonArrayByteBufferDoesNotChangePosition() {
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(KNOWN_JSON_ARRAY_STRING.getBytes(StandardCharsets.UTF_8));
+
+        final JsonValue jsonValue = JsonFactory.readFrom(byteBuffer);
+
+        assertThat(jsonValue).isEqualTo(JsonFactory.readFrom(KNOWN_JSON_ARRAY_STRING));
+        assertThat(byteBuffer.position()).isZero();
+    }
+
+    @Test
+    public void readFromJsonArrayInputStream() {
+        final InputStream inputStream =
+                new ByteArrayInputStream(KNOWN_JSON_ARRAY_STRING.getBytes(StandardCharsets.UTF_8));
+
+        final JsonValue jsonValue = JsonFactory.readFrom(inputStream);
+
+        assertThat(jsonValue).isEqualTo(JsonFactory.readFrom(KNOWN_JSON_ARRAY_STRING));
+    }
+
     @Test(expected = NullPointerException.class)
     public void tryToCreateNewFieldSelectorWithNullSet() {
         JsonFactory.newFieldSelector((Iterable<JsonPointer>) null);
@@ -595,6 +632,27 @@ public final class JsonFactoryTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    public void newJsonObjectWithFieldSelectorOnlyContainsSelectedFields() {
+        final JsonFieldSelector fieldSelector =
+                JsonFieldSelector.newInstance("featureId", "properties/someObj/aKey", "properties/unknown");
+        final JsonObject expected = JsonObject.newBuilder()
+                .set("featureId", "1")
+                .set(JsonPointer.of("properties/someObj/aKey"), "aValue")
+                .build();
+
+        assertThat(JsonFactory.newObject(KNOWN_JSON_OBJECT_STRING, fieldSelector)).isEqualTo(expected);
+        assertThat(JsonFactory.newObject(KNOWN_JSON_OBJECT_STRING.getBytes(StandardCharsets.UTF_8), fieldSelector))
+                .isEqualTo(expected);
+        assertThat(JsonFactory.newObject("null", fieldSelector)).isEqualTo(JsonFactory.nullObject());
+    }
+
+    @Test
+    public void tryToCreateNewJsonObjectWithFieldSelectorFromArray() {
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonFactory.newObject(KNOWN_JSON_ARRAY_STRING, JsonFieldSelector.newInstance("a")));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void newJsonObjectThrowsExceptionIfRootIsNotAnObject() {
         JsonFactory.newObject(JsonPointer.empty(), JsonValue.of(1));
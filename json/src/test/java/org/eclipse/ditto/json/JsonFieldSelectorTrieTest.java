@@ -48,6 +48,19 @@ public final class JsonFieldSelectorTrieTest {
         assertThat(getDescendantKeys(underTest, "c")).isEmpty();
     }
 
+    @Test
+    public void endOfPointerAndChildLookup() {
+        final JsonFieldSelectorTrie underTest =
+                JsonFieldSelectorTrie.of(JsonFieldSelector.newInstance("a", "a/b/c", "d"));
+
+        assertThat(underTest.isEndOfPointer()).isFalse();
+        assertThat(underTest.getChildOrNull("a").isEndOfPointer()).isTrue();
+        assertThat(underTest.getChildOrNull("a").getChildOrNull("b").isEndOfPointer()).isFalse();
+        assertThat(underTest.getChildOrNull("a").getChildOrNull("b").getChildOrNull("c").isEndOfPointer()).isTrue();
+        assertThat(underTest.getChildOrNull("d").isEmpty()).isTrue();
+        assertThat(underTest.getChildOrNull("e")).isNull();
+    }
+
     private static Set<JsonKey> keySetOf(final String... keyNames) {
         return Arrays.stream(keyNames).map(JsonKey::of).collect(Collectors.toSet());
     }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonMergePatchDiff}.
+ */
+public final class JsonMergePatchDiffTest {
+
+    private static final JsonObject THING = JsonFactory.newObject("{\"thingId\":\"org.eclipse.ditto:thing\"," +
+            "\"policyId\":\"org.eclipse.ditto:policy\",\"attributes\":{\"manufacturer\":\"ACME\"," +
+            "\"location\":{\"lat\":47.68,\"lon\":9.38},\"tags\":[\"a\",null]},\"features\":{\"sensor\":{" +
+            "\"properties\":{\"value\":1,\"unit\":\"C\"}},\"lamp\":{\"properties\":{\"on\":true}}}}");
+
+    @Test
+    public void diffOfEqualObjectsIsEmpty() {
+        assertDiff(THING, JsonFactory.newObject(THING.toString()), JsonObject.empty());
+    }
+
+    @Test
+    public void diffContainsOnlyChangedProperty() {
+        final JsonObject modified = THING.setValue(JsonPointer.of("features/sensor/properties/value"), 2);
+
+        assertDiff(THING, modified, JsonFactory.newObject("{\"features\":{\"sensor\":{\"properties\":{\"value\":2}}}}"));
+    }
+
+    @Test
+    public void diffOfParsedObjectContainsOnlyChangedProperty() {
+        final String modified = THING.toString().replace("\"ACME\"", "\"Bosch\"");
+
+        assertDiff(THING, JsonFactory.newObject(modified),
+                JsonFactory.newObject("{\"attributes\":{\"manufacturer\":\"Bosch\"}}"));
+    }
+
+    @Test
+    public void removedFieldsAreSetToNull() {
+        final JsonObject modified = THING.remove(JsonPointer.of("attributes/location"))
+                .remove(JsonPointer.of("features/lamp"));
+
+        assertDiff(THING, modified,
+                JsonFactory.newObject("{\"attributes\":{\"location\":null},\"features\":{\"lamp\":null}}"));
+    }
+
+    @Test
+    public void addedAndReplacedValuesAreSetAsWhole() {
+        final JsonObject modified = THING.setValue(JsonPointer.of("attributes/location"), "Immenstaad")
+                .setValue(JsonPointer.of("attributes/tags"), JsonArray.newBuilder().add("b").build())
+                .setValue(JsonPointer.of("features/heater"), JsonObject.newBuilder()
+                        .set("properties", JsonObject.newBuilder().set("on", false).build())
+                        .build());
+
+        assertDiff(THING, modified, JsonFactory.newObject("{\"attributes\":{\"location\":\"Immenstaad\"," +
+                "\"tags\":[\"b\"]},\"features\":{\"heater\":{\"properties\":{\"on\":false}}}}"));
+    }
+
+    @Test
+    public void objectReplacingScalarIsSetAsWhole() {
+        final JsonObject modified = THING.setValue(JsonPointer.of("thingId"), JsonObject.newBuilder()
+                .set("id", "x")
+                .build());
+
+        assertDiff(THING, modified, JsonFactory.newObject("{\"thingId\":{\"id\":\"x\"}}"));
+    }
+
+    @Test
+    public void nullValuesCannotBeExpressed() {
+        assertThat(JsonFactory.diff(THING, THING.setValue("policyId", JsonValue.nullLiteral()))).isEmpty();
+        assertThat(JsonFactory.diff(THING, THING.setValue(JsonPointer.of("features/new"),
+                JsonObject.newBuilder().set("properties", JsonValue.nullLiteral()).build()))).isEmpty();
+        assertThat(JsonFactory.diff(THING, JsonFactory.nullObject())).isEmpty();
+    }
+
+    @Test
+    public void nullValuesWithinArraysCanBeExpressed() {
+        final JsonObject modified = THING.setValue("newArray", JsonArray.of(JsonValue.nullLiteral()));
+
+        assertDiff(THING, modified, JsonObject.newBuilder().set("newArray", modified.getValue("newArray").get())
+                .build());
+    }
+
+    private static void assertDiff(final JsonObject oldObject, final JsonObject newObject,
+            final JsonObject expectedPatch) {
+
+        final JsonObject patch = JsonFactory.diff(oldObject, newObject).orElseThrow(AssertionError::new);
+
+        assertThat(patch).isEqualTo(expectedPatch);
+        assertThat(JsonFactory.mergeJsonValues(patch, oldObject)).isEqualTo(newObject);
+    }
+
+}
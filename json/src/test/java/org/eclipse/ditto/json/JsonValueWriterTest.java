@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonValueWriter}.
+ */
+public final class JsonValueWriterTest {
+
+    private static final String SPECIAL_CHARS = "quote\" backslash\\ slash/ \b\f\n\r\t \u0001\u001F \u00e4 \u20AC " +
+            "\uD83D\uDE00 lone\uD83D surrogate";
+
+    @Test
+    public void writeBuiltObjectEqualsToString() throws IOException {
+        final JsonObject jsonObject = JsonObject.newBuilder()
+                .set("string", SPECIAL_CHARS)
+                .set(SPECIAL_CHARS, 1)
+                .set("long", Long.MAX_VALUE)
+                .set("double", 23.42)
+                .set("boolean", false)
+                .set("null", JsonValue.nullLiteral())
+                .set("nullObject", JsonFactory.nullObject())
+                .set("nested", JsonObject.newBuilder()
+                        .set("array", JsonArray.newBuilder().add(1, 2).add("x").add(JsonObject.empty()).build())
+                        .build())
+                .build();
+
+        assertWrittenBytesEqualToString(jsonObject);
+    }
+
+    @Test
+    public void writeParsedAndModifiedObjectEqualsToString() throws IOException {
+        final JsonObject parsed = JsonFactory.newObject("{\"a\":{\"b\":[1,\"\\u00e4\"]},\"c\":\"\u20AC\"}");
+
+        assertWrittenBytesEqualToString(parsed);
+        assertWrittenBytesEqualToString(parsed.setValue(JsonPointer.of("a/d"), "\uD83D\uDE00"));
+    }
+
+    @Test
+    public void writePrimitives() throws IOException {
+        assertWrittenBytesEqualToString(JsonValue.of(SPECIAL_CHARS));
+        assertWrittenBytesEqualToString(JsonValue.of(-0.5));
+        assertWrittenBytesEqualToString(JsonValue.of(true));
+        assertWrittenBytesEqualToString(JsonValue.nullLiteral());
+        assertWrittenBytesEqualToString(JsonFactory.nullArray());
+    }
+
+    @Test
+    public void writeValueLargerThanBuffer() throws IOException {
+        final StringBuilder stringBuilder = new StringBuilder();
+        while (stringBuilder.length() < JsonValueWriter.BUFFER_SIZE * 3) {
+            stringBuilder.append("\u00e4\uD83D\uDE00\n");
+        }
+        final JsonArray jsonArray = JsonArray.newBuilder()
+                .add(stringBuilder.toString())
+                .add(JsonObject.newBuilder().set(stringBuilder.toString(), stringBuilder.toString()).build())
+                .build();
+
+        assertWrittenBytesEqualToString(jsonArray);
+    }
+
+    @Test
+    public void writeToByteBufferAdvancesPosition() {
+        final JsonObject jsonObject = JsonObject.newBuilder().set("key", "\u00e4").build();
+        final byte[] expected = jsonObject.toString().getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(expected.length + 10);
+        byteBuffer.put((byte) 'x');
+
+        jsonObject.writeTo(byteBuffer);
+
+        assertThat(byteBuffer.position()).isEqualTo(1 + expected.length);
+        final byte[] written = new byte[expected.length];
+        byteBuffer.flip();
+        byteBuffer.get();
+        byteBuffer.get(written);
+        assertThat(written).isEqualTo(expected);
+    }
+
+    @Test
+    public void writeToTooSmallByteBufferThrowsBufferOverflowException() {
+        final JsonValue jsonValue = JsonValue.of("too long");
+
+        assertThatExceptionOfType(BufferOverflowException.class)
+                .isThrownBy(() -> jsonValue.writeTo(ByteBuffer.allocate(4)));
+    }
+
+    @Test
+    public void nestedWriteOnSameThreadUsesOwnBuffer() throws IOException {
+        final JsonValue outer = JsonValue.of("outer");
+        final ByteArrayOutputStream inner = new ByteArrayOutputStream();
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        final OutputStream nestingStream = new OutputStream() {
+            @Override
+            public void write(final int b) {
+                target.write(b);
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) throws IOException {
+                JsonValue.of("inner").writeTo(inner);
+                target.write(b, off, len);
+            }
+        };
+
+        outer.writeTo(nestingStream);
+
+        assertThat(new String(target.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("\"outer\"");
+        assertThat(new String(inner.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("\"inner\"");
+    }
+
+    private static void assertWrittenBytesEqualToString(final JsonValue jsonValue) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        jsonValue.writeTo(outputStream);
+
+        assertThat(outputStream.toByteArray()).isEqualTo(jsonValue.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link NumberValueList}.
+ */
+public final class NumberValueListTest {
+
+    @Test
+    public void createForInts() {
+        assertPrimitiveBackedAndEqual(values(i -> JsonValue.of(i - 8)));
+    }
+
+    @Test
+    public void createForLongs() {
+        assertPrimitiveBackedAndEqual(values(i -> JsonValue.of((long) i)));
+    }
+
+    @Test
+    public void createForIntsWithLongsOutsideIntRange() {
+        assertPrimitiveBackedAndEqual(values(i -> i % 2 == 0 ? JsonValue.of(i) : JsonValue.of(Long.MAX_VALUE - i)));
+    }
+
+    @Test
+    public void createForDoubles() {
+        assertPrimitiveBackedAndEqual(values(i -> JsonValue.of(i == 0 ? -0.0 : i / 3.0)));
+    }
+
+    @Test
+    public void doNotCreateForMixedValues() {
+        assertThat(NumberValueList.tryToCreate(values(i -> i == 5 ? JsonValue.of(1.5) : JsonValue.of(i)))).isNull();
+        assertThat(NumberValueList.tryToCreate(values(i -> i == 5 ? JsonValue.of(5L) : JsonValue.of(i)))).isNull();
+        assertThat(NumberValueList.tryToCreate(values(i -> i == 5 ? JsonValue.of(5) : JsonValue.of(1.5)))).isNull();
+        assertThat(NumberValueList.tryToCreate(values(i -> i == 5 ? JsonValue.of("5") : JsonValue.of(i)))).isNull();
+    }
+
+    @Test
+    public void doNotCreateForSmallLists() {
+        final List<JsonValue> values = values(JsonValue::of);
+
+        assertThat(NumberValueList.tryToCreate(values.subList(0, NumberValueList.MIN_SIZE - 1))).isNull();
+    }
+
+    @Test
+    public void parsedAndBuiltArraysWriteSameRepresentation() {
+        final StringBuilder stringBuilder = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            stringBuilder.append(i == 0 ? "" : ",").append(i * 1.25);
+        }
+        final String jsonArrayString = stringBuilder.append(']').toString();
+        final JsonArray parsed = JsonFactory.newArray(jsonArrayString);
+        final JsonArrayBuilder arrayBuilder = JsonArray.newBuilder();
+        for (int i = 0; i < 100; i++) {
+            arrayBuilder.add(i * 1.25);
+        }
+        final JsonArray built = arrayBuilder.build();
+
+        assertThat(built).isEqualTo(parsed);
+        assertThat(built.hashCode()).isEqualTo(parsed.hashCode());
+        assertThat(built.toString()).isEqualTo(jsonArrayString);
+        assertThat(built.get(4)).contains(JsonValue.of(5.0));
+        assertThat(built.indexOf(JsonValue.of(2.5))).isEqualTo(2);
+        assertThat(built.contains(JsonValue.of(7))).isFalse();
+    }
+
+    private static List<JsonValue> values(final IntFunction<JsonValue> valueFunction) {
+        final List<JsonValue> result = new ArrayList<>();
+        for (int i = 0; i < NumberValueList.MIN_SIZE * 2; i++) {
+            result.add(valueFunction.apply(i));
+        }
+        return result;
+    }
+
+    private static void assertPrimitiveBackedAndEqual(final List<JsonValue> values) {
+        final List<JsonValue> underTest = NumberValueList.tryToCreate(values);
+
+        assertThat(underTest).isInstanceOf(NumberValueList.class).isEqualTo(values);
+        assertThat(underTest.hashCode()).isEqualTo(values.hashCode());
+        for (int i = 0; i < values.size(); i++) {
+            final JsonValue expected = values.get(i);
+            final JsonValue actual = underTest.get(i);
+            assertThat(actual.getClass()).isEqualTo(expected.getClass());
+            assertThat(actual.toString()).isEqualTo(expected.toString());
+        }
+    }
+
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link OnePassJsonParser}.
+ */
+public final class OnePassJsonParserTest {
+
+    private static final String KNOWN_JSON_STRING = "{\"thingId\":\"org.eclipse.ditto:thing\"," +
+            "\"attributes\":{\"manufacturer\":\"ACME\",\"tags\":[\"a\",\"b\"],\"empty\":{},\"none\":[]}," +
+            "\"features\":{\"temp\":{\"properties\":{\"value\":23.5,\"min\":-3,\"max\":9223372036854775807," +
+            "\"unit\":\"\u00B0C\",\"enabled\":true,\"disabled\":false,\"unknown\":null}}}}";
+
+    @Test
+    public void parseCompactObjectEqualsStringBasedParsing() {
+        final JsonValue expected = JsonFactory.readFrom(KNOWN_JSON_STRING);
+
+        final JsonValue actual = parse(KNOWN_JSON_STRING);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.toString()).isEqualTo(KNOWN_JSON_STRING);
+    }
+
+    @Test
+    public void parseFormattedObjectEqualsStringBasedParsing() {
+        final String formattedJsonString = "\n{ \"foo\" : [ 1 , 2.0,\t{ \"bar\":\r\n\"baz\" } ] ,\"x\": {}}  ";
+        final JsonValue expected = JsonFactory.readFrom(formattedJsonString);
+
+        final JsonValue actual = parse(formattedJsonString);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+    }
+
+    @Test
+    public void parseEscapedStrings() {
+        final String jsonString = "[\"quote\\\" backslash\\\\ slash\\/ \\b\\f\\n\\r\\t \\u00e4\\uD83D\\uDE00\"]";
+        final JsonValue expected = JsonFactory.readFrom(jsonString);
+
+        final JsonValue actual = parse(jsonString);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.asArray().get(0).map(JsonValue::asString))
+                .contains("quote\" backslash\\ slash/ \b\f\n\r\t \u00e4\uD83D\uDE00");
+    }
+
+    @Test
+    public void parseMultiByteCharacters() {
+        final String jsonString = "{\"k\u00FCy\":\"\u20AC \uD83D\uDE00 \u4E2D\"}";
+
+        final JsonValue actual = parse(jsonString);
+
+        assertThat(actual).isEqualTo(JsonFactory.readFrom(jsonString));
+        assertThat(actual.toString()).isEqualTo(jsonString);
+    }
+
+    @Test
+    public void parseNumbers() {
+        final String jsonString = "[0,-0,42,-2147483649,2147483648,1234567890123456789,-9223372036854775808," +
+                "1.5,-0.25,1e3,2E-2,6.02e+23]";
+
+        final JsonArray actual = parse(jsonString).asArray();
+
+        assertThat(actual).isEqualTo(JsonFactory.readFrom(jsonString));
+        assertThat(actual.get(2)).contains(JsonValue.of(42));
+        assertThat(actual.get(3)).contains(JsonValue.of(-2147483649L));
+        assertThat(actual.get(6)).contains(JsonValue.of(Long.MIN_VALUE));
+        assertThat(actual.get(10)).contains(JsonValue.of(0.02));
+    }
+
+    @Test
+    public void parsePrimitives() {
+        assertThat(parse("true")).isEqualTo(JsonValue.of(true));
+        assertThat(parse(" false ")).isEqualTo(JsonValue.of(false));
+        assertThat(parse("null")).isEqualTo(JsonValue.nullLiteral());
+        assertThat(parse("\"foo\"")).isEqualTo(JsonValue.of("foo"));
+        assertThat(parse("-12")).isEqualTo(JsonValue.of(-12));
+    }
+
+    @Test
+    public void parseFromDirectByteBuffer() {
+        final byte[] bytes = KNOWN_JSON_STRING.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length + 4);
+        directBuffer.put(new byte[]{'x', 'x'}).put(bytes).put(new byte[]{'y', 'y'});
+        directBuffer.position(2);
+        directBuffer.limit(2 + bytes.length);
+
+        final JsonValue actual = OnePassJsonParser.parse(directBuffer);
+
+        assertThat(actual).isEqualTo(JsonFactory.readFrom(KNOWN_JSON_STRING));
+        assertThat(actual.toString()).isEqualTo(KNOWN_JSON_STRING);
+        assertThat(directBuffer.position()).isEqualTo(2);
+    }
+
+    @Test
+    public void parseFromSlicedHeapByteBuffer() {
+        final byte[] bytes = ("xx" + KNOWN_JSON_STRING).getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer slice = ByteBuffer.wrap(bytes, 2, bytes.length - 2).slice();
+
+        final JsonValue actual = OnePassJsonParser.parse(slice);
+
+        assertThat(actual.toString()).isEqualTo(KNOWN_JSON_STRING);
+    }
+
+    @Test
+    public void parseDeeplyNestedArrays() {
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            stringBuilder.append('[');
+        }
+        for (int i = 0; i < 100; i++) {
+            stringBuilder.append(']');
+        }
+
+        assertThat(parse(stringBuilder.toString()).toString()).isEqualTo(stringBuilder.toString());
+    }
+
+    @Test
+    public void nestedCompactObjectIsDecodedOnAccess() {
+        final JsonObject attributes = parse(KNOWN_JSON_STRING).asObject().getValue("attributes")
+                .map(JsonValue::asObject)
+                .orElseThrow(AssertionError::new);
+
+        assertThat(attributes.toString())
+                .isEqualTo("{\"manufacturer\":\"ACME\",\"tags\":[\"a\",\"b\"],\"empty\":{},\"none\":[]}");
+        assertThat(attributes.getValue("manufacturer")).contains(JsonValue.of("ACME"));
+        assertThat(attributes.getValue("tags")).contains(JsonFactory.newArrayBuilder().add("a", "b").build());
+        assertThat(attributes.getValue("empty")).contains(JsonObject.empty());
+        assertThat(attributes.getSize()).isEqualTo(4);
+    }
+
+    @Test
+    public void nestedObjectWithEscapesIsDecodedEagerly() {
+        final String jsonString = "{\"outer\":{\"inner\":\"a\\\"b\",\"list\":[ 1 ]}}";
+
+        final JsonValue actual = parse(jsonString);
+
+        assertThat(actual).isEqualTo(JsonFactory.readFrom(jsonString));
+        assertThat(actual.asObject().getValue("outer/inner")).contains(JsonValue.of("a\"b"));
+    }
+
+    @Test
+    public void invalidNestedContainerIsDetectedWhenSkipping() {
+        assertInvalid("{\"a\":{\"b\":[1,]}}");
+        assertInvalid("[[{\"\":1}]]");
+        assertInvalid("[[\"\\x\"]]");
+    }
+
+    @Test
+    public void parseObjectFieldsOfStringRepresentation() {
+        final Map<String, JsonField> fields = OnePassJsonParser.parseObjectFields(KNOWN_JSON_STRING);
+
+        assertThat(fields.keySet()).containsExactly("thingId", "attributes", "features");
+        assertThat(JsonFactory.newObject(fields.values())).isEqualTo(JsonFactory.readFrom(KNOWN_JSON_STRING));
+    }
+
+    @Test
+    public void parseArrayValuesOfStringRepresentation() {
+        final List<JsonValue> values = OnePassJsonParser.parseArrayValues("[1,{\"a\":[true]},\"x\"]");
+
+        assertThat(values).containsExactly(JsonValue.of(1),
+                JsonObject.newBuilder().set("a", JsonFactory.newArrayBuilder().add(true).build()).build(), JsonValue.of("x"));
+    }
+
+    @Test
+    public void parseInvalidJson() {
+        assertInvalid("{\"foo\":123");
+        assertInvalid("{\"foo\" 123}");
+        assertInvalid("{foo:123}");
+        assertInvalid("[1,]");
+        assertInvalid("[1 2]");
+        assertInvalid("\"unterminated");
+        assertInvalid("\"\\x\"");
+        assertInvalid("\"\\u12G4\"");
+        assertInvalid("tru");
+        assertInvalid("nul");
+        assertInvalid("01");
+        assertInvalid("1.");
+        assertInvalid("-");
+        assertInvalid("1e");
+        assertInvalid("{} {}");
+        assertInvalid("\"control\u0001character\"");
+        assertInvalid("99999999999999999999");
+        assertInvalid("   ");
+    }
+
+    @Test
+    public void parseEmptyKeyFails() {
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonFactory.readFrom("{\"\":1}".getBytes(StandardCharsets.UTF_8)))
+                .withCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void parseSelectedFieldsEqualsGetWithFieldSelector() {
+        final JsonObject wholeObject = JsonFactory.newObject(KNOWN_JSON_STRING);
+        final JsonFieldSelector[] fieldSelectors = {
+                JsonFieldSelector.newInstance("thingId"),
+                JsonFieldSelector.newInstance("attributes/manufacturer", "features/temp/properties/value"),
+                JsonFieldSelector.newInstance("attributes/tags", "attributes/empty", "unknown"),
+                JsonFieldSelector.newInstance("thingId/foo", "attributes/tags/1", "features/temp/properties/x"),
+                JsonFieldSelector.newInstance("features/temp", "features/temp/properties/unit"),
+                JsonFieldSelector.newInstance("attributes", "attributes/missing"),
+                JsonFieldSelector.newInstance("features/temp/properties/unknown", "thingId")
+        };
+
+        for (final JsonFieldSelector fieldSelector : fieldSelectors) {
+            final JsonFieldSelectorTrie trie = JsonFieldSelectorTrie.of(fieldSelector.getPointers());
+            final JsonObject expected = wholeObject.get(fieldSelector);
+
+            assertThat(OnePassJsonParser.parseSelectedFields(KNOWN_JSON_STRING, trie))
+                    .as(fieldSelector.toString())
+                    .isEqualTo(expected);
+            assertThat(OnePassJsonParser.parseSelectedFields(
+                    ByteBuffer.wrap(KNOWN_JSON_STRING.getBytes(StandardCharsets.UTF_8)), trie))
+                    .as(fieldSelector.toString())
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void parseSelectedFieldsValidatesSkippedValues() {
+        final JsonFieldSelectorTrie trie = JsonFieldSelectorTrie.of(JsonFieldSelector.newInstance("a"));
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> OnePassJsonParser.parseSelectedFields("{\"a\":1,\"b\":{\"c\":tru}}", trie));
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> OnePassJsonParser.parseSelectedFields("[1]", trie));
+    }
+
+    private static JsonValue parse(final String jsonString) {
+        return OnePassJsonParser.parse(ByteBuffer.wrap(jsonString.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void assertInvalid(final String jsonString) {
+        assertThatExceptionOfType(JsonParseException.class)
+                .as(jsonString)
+                .isThrownBy(() -> parse(jsonString));
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PersistentJsonFieldMap}.
+ */
+public final class PersistentJsonFieldMapTest {
+
+    @Test
+    public void emptyMapContainsNothing() {
+        final PersistentJsonFieldMap underTest = PersistentJsonFieldMap.empty();
+
+        assertThat(underTest).isEmpty();
+        assertThat(underTest.get("foo")).isNull();
+        assertThat(underTest.without("foo")).isSameAs(underTest);
+    }
+
+    @Test
+    public void withKeepsInsertionOrderAndLeavesOriginalUnchanged() {
+        final PersistentJsonFieldMap original = PersistentJsonFieldMap.empty()
+                .with("b", field("b", 1))
+                .with("a", field("a", 2));
+
+        final PersistentJsonFieldMap modified = original.with("c", field("c", 3)).with("b", field("b", 4));
+
+        assertThat(modified.keySet()).containsExactly("b", "a", "c");
+        assertThat(modified.get("b")).isEqualTo(field("b", 4));
+        assertThat(original.keySet()).containsExactly("b", "a");
+        assertThat(original.get("b")).isEqualTo(field("b", 1));
+    }
+
+    @Test
+    public void keysWithSameHashCodeAreDistinguished() {
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+
+        final PersistentJsonFieldMap underTest = PersistentJsonFieldMap.empty()
+                .with("Aa", field("Aa", 1))
+                .with("BB", field("BB", 2))
+                .with("AaAa", field("AaAa", 3))
+                .with("BBBB", field("BBBB", 4));
+
+        assertThat(underTest.get("Aa")).isEqualTo(field("Aa", 1));
+        assertThat(underTest.get("BB")).isEqualTo(field("BB", 2));
+        assertThat(underTest.without("Aa").get("BB")).isEqualTo(field("BB", 2));
+        assertThat(underTest.without("Aa").without("BB").keySet()).containsExactly("AaAa", "BBBB");
+    }
+
+    @Test
+    public void behavesLikeLinkedHashMapForRandomModifications() {
+        final Random random = new Random(42L);
+        final Map<String, JsonField> expected = new LinkedHashMap<>();
+        PersistentJsonFieldMap underTest = PersistentJsonFieldMap.empty();
+
+        for (int i = 0; i < 20_000; i++) {
+            final String key = "key" + random.nextInt(3_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                underTest = underTest.without(key);
+            } else {
+                final JsonField field = field(key, i);
+                expected.put(key, field);
+                underTest = underTest.with(key, field);
+            }
+        }
+
+        assertThat(underTest).hasSameSizeAs(expected).isEqualTo(expected);
+        assertThat(underTest.keySet()).containsExactlyElementsOf(expected.keySet());
+        assertThat(underTest.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    public void copyOfKeepsIterationOrder() {
+        final Map<String, JsonField> fields = new LinkedHashMap<>();
+        for (int i = 100; i > 0; i--) {
+            fields.put("k" + i, field("k" + i, i));
+        }
+
+        final PersistentJsonFieldMap underTest = PersistentJsonFieldMap.copyOf(fields);
+
+        assertThat(underTest.values()).containsExactlyElementsOf(fields.values());
+        assertThat(PersistentJsonFieldMap.copyOf(underTest)).isSameAs(underTest);
+    }
+
+    private static JsonField field(final String key, final int value) {
+        return JsonField.newInstance(key, JsonValue.of(value));
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmarks;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Main class of the benchmark JARs of the json modules.
+ * It accepts the same arguments as {@link Main} but writes the results as JSON to {@code jmh-result.json} unless
+ * another result format or file is given via {@code -rf} resp. {@code -rff}.
+ * This allows comparing the results of different Ditto versions with common JMH tooling.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args the JMH command line arguments.
+     * @throws Exception if the arguments are invalid or the benchmarks failed to run.
+     */
+    public static void main(final String... args) throws Exception {
+        final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList() ||
+                commandLineOptions.shouldListWithParams() || commandLineOptions.shouldListProfilers() ||
+                commandLineOptions.shouldListResultFormats()) {
+            Main.main(args);
+        } else {
+            final ChainedOptionsBuilder optionsBuilder = new OptionsBuilder().parent(commandLineOptions);
+            if (!commandLineOptions.getResultFormat().hasValue()) {
+                optionsBuilder.resultFormat(ResultFormatType.JSON);
+            }
+            new Runner(optionsBuilder.build()).run();
+        }
+    }
+
+}
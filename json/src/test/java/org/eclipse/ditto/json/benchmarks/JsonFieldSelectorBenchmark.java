@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures retrieving the selected fields of a thing, e. g. for a {@code RetrieveThing} with {@code fields} parameter.
+ * The {@code get} benchmarks work on an already parsed thing, the {@code parse} benchmarks start from the UTF-8 bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class JsonFieldSelectorBenchmark {
+
+    private static final JsonFieldSelector FIELD_SELECTOR =
+            JsonFactory.newFieldSelector("thingId,attributes/location,features/sensor-1/properties/value",
+                    JsonFactory.newParseOptionsBuilder().withoutUrlDecoding().build());
+
+    /**
+     * Approximate size of the thing in bytes.
+     */
+    @Param({"300", "5000", "100000"})
+    public int payloadSize;
+
+    private JsonObject thing;
+    private byte[] payload;
+
+    @Setup
+    public void setup() {
+        thing = ThingPayloads.createThing(payloadSize);
+        payload = thing.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public JsonObject get() {
+        return thing.get(FIELD_SELECTOR);
+    }
+
+    @Benchmark
+    public JsonObject parseAndGet() {
+        return JsonFactory.readFrom(payload).asObject().get(FIELD_SELECTOR);
+    }
+
+    @Benchmark
+    public JsonObject parseSelectedFields() {
+        return JsonFactory.newObject(payload, FIELD_SELECTOR);
+    }
+
+}
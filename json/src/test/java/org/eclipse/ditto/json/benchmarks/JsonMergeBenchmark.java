@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures merging a JSON merge patch into a thing like a {@code MergeThing} command does.
+ * The small patch modifies a single property, the large patch modifies a property of every feature.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class JsonMergeBenchmark {
+
+    /**
+     * Approximate size of the thing in bytes.
+     */
+    @Param({"300", "5000", "100000"})
+    public int payloadSize;
+
+    private JsonObject thing;
+    private JsonObject smallPatch;
+    private JsonObject largePatch;
+
+    @Setup
+    public void setup() {
+        thing = ThingPayloads.createThing(payloadSize);
+        smallPatch = JsonObject.newBuilder()
+                .set(JsonFactory.newPointer("features/sensor-0/properties/value"), 42.0)
+                .set(JsonFactory.newPointer("attributes/manufacturer"), JsonValue.nullLiteral())
+                .build();
+        final JsonObjectBuilder largePatchBuilder = JsonObject.newBuilder();
+        thing.getValue("features")
+                .map(JsonValue::asObject)
+                .ifPresent(features -> features.getKeys().forEach(featureId -> largePatchBuilder.set(
+                        JsonFactory.newPointer("features/" + featureId + "/properties/enabled"), true)));
+        largePatch = largePatchBuilder.build();
+    }
+
+    @Benchmark
+    public JsonObject mergeSmallPatch() {
+        return JsonFactory.mergeJsonValues(smallPatch, thing).asObject();
+    }
+
+    @Benchmark
+    public JsonObject mergeLargePatch() {
+        return JsonFactory.mergeJsonValues(largePatch, thing).asObject();
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares modifying a single property of a feature with many properties.
+ * The {@code copy} benchmarks copy all properties like {@code JsonObject.setValue} did before large objects shared
+ * their structure; the {@code shared} benchmarks use {@code JsonObject.setValue} resp. {@code JsonObject.remove}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class JsonObjectModificationBenchmark {
+
+    private static final JsonPointer PROPERTY_POINTER = JsonPointer.of("features/sensor/properties/property42");
+
+    /**
+     * Number of properties of the modified feature.
+     */
+    @Param({"16", "200", "2000"})
+    public int propertyCount;
+
+    private JsonObject thing;
+    private JsonObject sharedThing;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        final JsonObjectBuilder propertiesBuilder = JsonObject.newBuilder();
+        for (int i = 0; i < propertyCount; i++) {
+            propertiesBuilder.set("property" + i, i);
+        }
+        thing = JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:benchmark-thing")
+                .set(JsonPointer.of("features/sensor/properties"), propertiesBuilder.build())
+                .build();
+
+        // a modified object keeps sharing its structure with subsequently modified objects
+        sharedThing = thing.setValue(PROPERTY_POINTER, -1);
+        counter = 0;
+    }
+
+    @Benchmark
+    public JsonObject setPropertyCopy() {
+        return copySet(thing, PROPERTY_POINTER, counter++);
+    }
+
+    @Benchmark
+    public JsonObject setPropertyShared() {
+        return sharedThing.setValue(PROPERTY_POINTER, counter++);
+    }
+
+    @Benchmark
+    public JsonObject removePropertyCopy() {
+        final JsonObject properties = thing.getValue(PROPERTY_POINTER.cutLeaf())
+                .map(value -> JsonFactory.newObjectBuilder(value.asObject()).remove("property42").build())
+                .orElseThrow(IllegalStateException::new);
+        return copySet(thing, PROPERTY_POINTER.cutLeaf(), properties);
+    }
+
+    @Benchmark
+    public JsonObject removePropertyShared() {
+        return sharedThing.remove(PROPERTY_POINTER);
+    }
+
+    private static JsonObject copySet(final JsonObject object, final JsonPointer pointer, final Object value) {
+        final String key = pointer.getRoot().map(Object::toString).orElseThrow(IllegalStateException::new);
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder(object);
+        if (pointer.getLevelCount() == 1) {
+            if (value instanceof JsonObject) {
+                builder.set(key, (JsonObject) value);
+            } else {
+                builder.set(key, (int) value);
+            }
+        } else {
+            final JsonObject child = object.getValue(key)
+                    .map(v -> v.asObject())
+                    .orElseThrow(IllegalStateException::new);
+            builder.set(key, copySet(child, pointer.nextLevel(), value));
+        }
+        return builder.build();
+    }
+
+}
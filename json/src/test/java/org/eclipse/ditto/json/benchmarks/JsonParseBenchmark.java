@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares parsing UTF-8 encoded JSON via an intermediate String with parsing the bytes directly.
+ * The {@code forward} benchmarks read a single top-level field and write the parsed thing again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class JsonParseBenchmark {
+
+    /**
+     * Approximate size of the parsed thing in bytes.
+     */
+    @Param({"300", "5000", "100000"})
+    public int payloadSize;
+
+    private byte[] payload;
+
+    @Setup
+    public void setup() {
+        payload = ThingPayloads.createThing(payloadSize).toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public JsonValue parseViaString() {
+        return JsonFactory.readFrom(new String(payload, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public JsonValue parseBytes() {
+        return JsonFactory.readFrom(payload);
+    }
+
+    @Benchmark
+    public String forwardViaString() {
+        final JsonObject thing = JsonFactory.readFrom(new String(payload, StandardCharsets.UTF_8)).asObject();
+        return thing.getValue("thingId").map(JsonValue::asString).orElse("") + thing;
+    }
+
+    @Benchmark
+    public String forwardBytes() {
+        final JsonObject thing = JsonFactory.readFrom(payload).asObject();
+        return thing.getValue("thingId").map(JsonValue::asString).orElse("") + thing;
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPatch;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures applying a sequence of {@link JsonPatch}es to a thing.
+ * As the json module only models JSON patches, they are applied with {@code JsonObject.setValue} and
+ * {@code JsonObject.remove} which is what each operation boils down to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class JsonPatchBenchmark {
+
+    /**
+     * Approximate size of the thing in bytes.
+     */
+    @Param({"300", "5000", "100000"})
+    public int payloadSize;
+
+    private JsonObject thing;
+    private List<JsonPatch> patches;
+
+    @Setup
+    public void setup() {
+        thing = ThingPayloads.createThing(payloadSize);
+        patches = new ArrayList<>();
+        patches.add(JsonFactory.newPatch(JsonPatch.Operation.REPLACE,
+                JsonFactory.newPointer("features/sensor-0/properties/value"), JsonValue.of(23.5)));
+        patches.add(JsonFactory.newPatch(JsonPatch.Operation.ADD,
+                JsonFactory.newPointer("features/sensor-0/properties/status/since"), JsonValue.of("2021-01-01")));
+        patches.add(JsonFactory.newPatch(JsonPatch.Operation.REMOVE,
+                JsonFactory.newPointer("attributes/location/lon"), null));
+        patches.add(JsonFactory.newPatch(JsonPatch.Operation.ADD,
+                JsonFactory.newPointer("attributes/serialNumber"), JsonValue.of("4711")));
+    }
+
+    @Benchmark
+    public JsonObject applyPatches() {
+        JsonObject result = thing;
+        for (final JsonPatch patch : patches) {
+            result = apply(result, patch);
+        }
+        return result;
+    }
+
+    private static JsonObject apply(final JsonObject jsonObject, final JsonPatch patch) {
+        switch (patch.getOperation()) {
+            case ADD:
+            case REPLACE:
+                return jsonObject.setValue(patch.getPath(), patch.getValue().orElse(JsonValue.nullLiteral()));
+            case REMOVE:
+                return jsonObject.remove(patch.getPath());
+            default:
+                throw new IllegalArgumentException("Unknown operation: " + patch.getOperation());
+        }
+    }
+
+}
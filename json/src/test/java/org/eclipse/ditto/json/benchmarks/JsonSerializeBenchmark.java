@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures serializing a thing after one of its properties was modified, as it happens whenever a modified thing is
+ * persisted or published.
+ * Unmodified parts of the thing keep their already known string representation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class JsonSerializeBenchmark {
+
+    private static final JsonPointer PROPERTY_POINTER = JsonPointer.of("features/sensor-0/properties/counter");
+
+    /**
+     * Approximate size of the serialized thing in bytes.
+     */
+    @Param({"300", "5000", "100000"})
+    public int payloadSize;
+
+    private JsonObject thing;
+    private ByteArrayOutputStream outputStream;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        thing = ThingPayloads.createThing(payloadSize);
+        outputStream = new ByteArrayOutputStream(payloadSize * 2);
+        counter = 0;
+    }
+
+    @Benchmark
+    public String modifyAndToString() {
+        return thing.setValue(PROPERTY_POINTER, counter++).toString();
+    }
+
+    @Benchmark
+    public int modifyAndWriteTo() throws IOException {
+        outputStream.reset();
+        thing.setValue(PROPERTY_POINTER, counter++).writeTo(outputStream);
+        return outputStream.size();
+    }
+
+}
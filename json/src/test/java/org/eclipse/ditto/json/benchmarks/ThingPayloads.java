@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmarks;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+
+/**
+ * Creates realistic thing payloads for the benchmarks.
+ */
+public final class ThingPayloads {
+
+    private ThingPayloads() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Creates a thing JSON object with about the given size whose properties are distributed among features.
+     *
+     * @param approximateSize the approximate size of the string representation of the created thing.
+     * @return the thing.
+     */
+    public static JsonObject createThing(final int approximateSize) {
+        final JsonObjectBuilder featuresBuilder = JsonObject.newBuilder();
+        final JsonObject baseThing = JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:benchmark-thing")
+                .set("policyId", "org.eclipse.ditto:benchmark-policy")
+                .set("attributes", JsonObject.newBuilder()
+                        .set("manufacturer", "ACME")
+                        .set("location", JsonObject.newBuilder().set("lat", 47.68).set("lon", 9.38).build())
+                        .build())
+                .build();
+
+        int size = baseThing.toString().length();
+        int featureIndex = 0;
+        while (size < approximateSize) {
+            final JsonObject feature = JsonObject.newBuilder()
+                    .set("definition", JsonFactory.newArrayBuilder().add("org.eclipse.ditto:sensor:1.0.0").build())
+                    .set("properties", JsonObject.newBuilder()
+                            .set("value", featureIndex * 1.5)
+                            .set("counter", featureIndex)
+                            .set("timestamp", 1609459200000L + featureIndex)
+                            .set("enabled", featureIndex % 2 == 0)
+                            .set("unit", "°C")
+                            .set("status", JsonObject.newBuilder().set("description", "operational").build())
+                            .build())
+                    .build();
+            final String featureId = "sensor-" + featureIndex++;
+            featuresBuilder.set(featureId, feature);
+            size += featureId.length() + feature.toString().length() + 4;
+        }
+        return baseThing.setValue("features", featuresBuilder.build());
+    }
+
+}
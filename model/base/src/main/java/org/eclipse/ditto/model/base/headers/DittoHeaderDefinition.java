@@ -315,7 +315,23 @@ public enum DittoHeaderDefinition implements HeaderDefinition {
      * @since 2.0.0
      */
     EVENT_JOURNAL_TAGS("ditto-event-journal-tags", JsonArray.class,
-            false, false, HeaderValueValidators.getJsonArrayValidator());
+            false, false, HeaderValueValidators.getJsonArrayValidator()),
+
+    /**
+     * Header definition for the consistency of search results.
+     * A search query with the value {@code "eventual"} accepts results which are read from the search index and may
+     * lag behind the things by the delay of search index updates. The search response carries {@code "eventual"} if
+     * its results were read from the search index and {@code "strong"} if they were retrieved from the things.
+     * A count query with the value {@code "eventual"} accepts approximate counts.
+     *
+     * <p>
+     * Key {@code "search-consistency"}, Java type: {@link String}.
+     * </p>
+     *
+     * @since 2.0.0
+     */
+    SEARCH_CONSISTENCY("search-consistency", String.class, true, true,
+            HeaderValueValidators.getNonEmptyValidator());
 
     /**
      * Map to speed up lookup of header definition by key.
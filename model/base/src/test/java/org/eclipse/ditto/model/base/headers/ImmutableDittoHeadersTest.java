@@ -118,6 +118,7 @@ public final class ImmutableDittoHeadersTest {
     private static final boolean KNOWN_IS_WEAK_ACK = false;
     private static final boolean KNOWN_POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY = true;
     private static final List<String> KNOWN_JOURNAL_TAGS = Lists.list("tag-a", "tag-b");
+    private static final String KNOWN_SEARCH_CONSISTENCY = "eventual";
 
 
     static {
@@ -175,6 +176,7 @@ public final class ImmutableDittoHeadersTest {
                         String.valueOf(KNOWN_POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY))
                 .putHeader(DittoHeaderDefinition.EVENT_JOURNAL_TAGS.getKey(),
                         charSequencesToJsonArray(KNOWN_JOURNAL_TAGS).toString())
+                .putHeader(DittoHeaderDefinition.SEARCH_CONSISTENCY.getKey(), KNOWN_SEARCH_CONSISTENCY)
                 .build();
 
         assertThat(underTest).isEqualTo(expectedHeaderMap);
@@ -399,6 +401,7 @@ public final class ImmutableDittoHeadersTest {
                         KNOWN_POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY)
                 .set(DittoHeaderDefinition.EVENT_JOURNAL_TAGS.getKey(),
                         charSequencesToJsonArray(KNOWN_JOURNAL_TAGS))
+                .set(DittoHeaderDefinition.SEARCH_CONSISTENCY.getKey(), KNOWN_SEARCH_CONSISTENCY)
                 .build();
         final Map<String, String> allKnownHeaders = createMapContainingAllKnownHeaders();
 
@@ -650,6 +653,7 @@ public final class ImmutableDittoHeadersTest {
                 String.valueOf(KNOWN_POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY));
         result.put(DittoHeaderDefinition.EVENT_JOURNAL_TAGS.getKey(),
                 charSequencesToJsonArray(KNOWN_JOURNAL_TAGS).toString());
+        result.put(DittoHeaderDefinition.SEARCH_CONSISTENCY.getKey(), KNOWN_SEARCH_CONSISTENCY);
 
         return result;
     }
@@ -15,6 +15,7 @@ package org.eclipse.ditto.model.enforcers;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.enforcers.tree.TreeBasedPolicyEnforcer;
+import org.eclipse.ditto.model.enforcers.trie.BitSetBasedPolicyEnforcer;
 import org.eclipse.ditto.model.enforcers.trie.TrieBasedPolicyEnforcer;
 import org.eclipse.ditto.model.policies.Policy;
 
@@ -55,6 +56,20 @@ public final class PolicyEnforcers {
         return TrieBasedPolicyEnforcer.newInstance(policy);
     }
 
+    /**
+     * Returns a Enforcer which delivers very high throughput for Policies with many subjects (e. g. hundreds of
+     * subjects) at the cost of a somewhat more expensive initialization than
+     * {@link #throughputOptimizedEvaluator(Policy)}.
+     *
+     * @param policy the Policy to initialize the evaluator with.
+     * @return the initialized Enforcer optimized for many subjects.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     * @since 2.0.0
+     */
+    public static Enforcer subjectCardinalityOptimizedEvaluator(final Policy policy) {
+        return BitSetBasedPolicyEnforcer.newInstance(policy);
+    }
+
     /**
      * Returns a Enforcer which requires little memory and delivers good performance for most of the Policies.
      *
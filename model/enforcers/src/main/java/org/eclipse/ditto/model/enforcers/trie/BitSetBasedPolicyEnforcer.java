@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.BitSet;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.enforcers.EffectedSubjectIds;
+import org.eclipse.ditto.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.policies.ResourceKey;
+
+/**
+ * Compiled variant of the {@link TrieBasedPolicyEnforcer} for policies with many subjects.
+ * <p>
+ * The policy is transformed into the same tries as for the {@code TrieBasedPolicyEnforcer}. Afterwards the subject IDs
+ * of the policy are numbered once and the set of granted and revoked subjects of each permission at each trie node is
+ * compiled to one {@link BitSet} per weight. The subject IDs of an authorization context are converted to a bit set
+ * once per check, thus a permission check is a handful of bitwise operations per trie node instead of intersecting sets
+ * of strings.
+ * <p>
+ * Building the enforcer is somewhat more expensive than building a {@code TrieBasedPolicyEnforcer}; the enforcer
+ * retains only the compiled tries.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class BitSetBasedPolicyEnforcer implements Enforcer {
+
+    private final SubjectIndex subjectIndex;
+
+    /**
+     * Compiled PolicyTrie obtained by propagating grant & revoke sets down from ancestors to descendants.
+     */
+    private final BitSetPolicyTrie inheritedTrie;
+
+    /**
+     * Compiled PolicyTrie obtained from {@code this.inheritedTrie} by propagating grant sets up from descendants to
+     * ancestors.
+     */
+    private final BitSetPolicyTrie bottomUpGrantTrie;
+
+    /**
+     * Compiled PolicyTrie obtained from {@code this.inheritedTrie} by propagating revoke sets up from descendants to
+     * ancestors.
+     */
+    private final BitSetPolicyTrie bottomUpRevokeTrie;
+
+    private BitSetBasedPolicyEnforcer(final Iterable<PolicyEntry> policy) {
+        subjectIndex = SubjectIndex.of(policy);
+        final PolicyTrie inherited = PolicyTrie.fromPolicy(policy).getTransitiveClosure();
+        inheritedTrie = BitSetPolicyTrie.of(inherited, subjectIndex);
+        bottomUpGrantTrie = BitSetPolicyTrie.of(inherited.getBottomUpGrantTrie(), subjectIndex);
+        bottomUpRevokeTrie = BitSetPolicyTrie.of(inherited.getBottomUpRevokeTrie(), subjectIndex);
+    }
+
+    /**
+     * Constructs a compiled trie-based policy enforcer from a policy.
+     *
+     * @param policy The policy to interpret.
+     * @return The policy enforcer.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     */
+    public static BitSetBasedPolicyEnforcer newInstance(final Policy policy) {
+        return new BitSetBasedPolicyEnforcer(checkNotNull(policy, "policy to interpret"));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see TrieBasedPolicyEnforcer#hasUnrestrictedPermissions(ResourceKey, AuthorizationContext, Permissions)
+     */
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        return seekWithFallback(resourceKey, bottomUpRevokeTrie, inheritedTrie)
+                .getGrantRevokeIndex()
+                .hasPermissions(toBitSet(authorizationContext), permissions);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see TrieBasedPolicyEnforcer#hasPartialPermissions(ResourceKey, AuthorizationContext, Permissions)
+     */
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey, final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        return seekWithFallback(resourceKey, bottomUpGrantTrie, inheritedTrie)
+                .getGrantRevokeIndex()
+                .hasPermissions(toBitSet(authorizationContext), permissions);
+    }
+
+    @Override
+    public EffectedSubjectIds getSubjectIdsWithPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey))
+                .getGrantRevokeIndex()
+                .getEffectedSubjectIds(permissions);
+    }
+
+    @Override
+    public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Permissions permissions) {
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey))
+                .getGrantRevokeIndex()
+                .getEffectedSubjects(permissions);
+    }
+
+    @Override
+    public Set<String> getSubjectIdsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return seekWithFallback(resourceKey, bottomUpGrantTrie, inheritedTrie)
+                .getGrantRevokeIndex()
+                .getGrantedSubjectIds(permissions);
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return seekWithFallback(resourceKey, bottomUpGrantTrie, inheritedTrie)
+                .getGrantRevokeIndex()
+                .getGrantedSubjects(permissions);
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey,
+            final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkNotNull(jsonFields, "JSON fields");
+        checkPermissions(permissions);
+
+        final JsonKey typeKey = JsonKey.of(resourceKey.getResourceType());
+
+        if (inheritedTrie.hasChild(typeKey)) {
+            final BitSetPolicyTrie start =
+                    inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+            return start.buildJsonView(jsonFields, toBitSet(authorizationContext), permissions);
+        } else {
+            return JsonFactory.newObject();
+        }
+    }
+
+    private static void checkResourceKey(final ResourceKey resourceKey) {
+        checkNotNull(resourceKey, "resource key");
+    }
+
+    private static void checkPermissions(final Permissions permissions) {
+        checkNotNull(permissions, "permissions to check");
+    }
+
+    private BitSet toBitSet(final AuthorizationContext authorizationContext) {
+        return subjectIndex.toBitSet(authorizationContext.getAuthorizationSubjectIds());
+    }
+
+    private static BitSetPolicyTrie seekWithFallback(final ResourceKey resourceKey, final BitSetPolicyTrie firstTry,
+            final BitSetPolicyTrie fallback) {
+
+        @Nullable final BitSetPolicyTrie exactNode =
+                firstTry.seekToExactNode(PolicyTrie.getJsonKeyIterator(resourceKey));
+        return null != exactNode
+                ? exactNode
+                : fallback.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+    }
+
+}
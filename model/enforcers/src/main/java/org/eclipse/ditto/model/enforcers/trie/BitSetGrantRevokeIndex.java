@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.enforcers.DefaultEffectedSubjects;
+import org.eclipse.ditto.model.enforcers.EffectedSubjectIds;
+import org.eclipse.ditto.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.model.enforcers.ImmutableEffectedSubjectIds;
+
+/**
+ * A {@link GrantRevokeIndex} compiled to bit sets of numbered subjects.
+ * It answers the same questions as the {@code GrantRevokeIndex} it was compiled from.
+ */
+@Immutable
+final class BitSetGrantRevokeIndex {
+
+    private final SubjectIndex subjectIndex;
+    private final Map<String, WeightedSubjectBitSets> grantMap;
+    private final Map<String, WeightedSubjectBitSets> revokeMap;
+
+    private BitSetGrantRevokeIndex(final SubjectIndex subjectIndex,
+            final Map<String, WeightedSubjectBitSets> grantMap,
+            final Map<String, WeightedSubjectBitSets> revokeMap) {
+
+        this.subjectIndex = subjectIndex;
+        this.grantMap = grantMap;
+        this.revokeMap = revokeMap;
+    }
+
+    /**
+     * Compiles the given grant-revoke-index.
+     *
+     * @param grantRevokeIndex the index to compile.
+     * @param subjectIndex the index to number the subject IDs with.
+     * @return the compiled index.
+     */
+    static BitSetGrantRevokeIndex of(final GrantRevokeIndex grantRevokeIndex, final SubjectIndex subjectIndex) {
+        return new BitSetGrantRevokeIndex(subjectIndex,
+                compile(grantRevokeIndex.getGranted(), subjectIndex),
+                compile(grantRevokeIndex.getRevoked(), subjectIndex));
+    }
+
+    private static Map<String, WeightedSubjectBitSets> compile(final PermissionSubjectsMap permissionSubjectsMap,
+            final SubjectIndex subjectIndex) {
+
+        final Map<String, WeightedSubjectBitSets> result = new HashMap<>(permissionSubjectsMap.size());
+        permissionSubjectsMap.forEach((permission, weightedSubjectIds) ->
+                result.put(permission, WeightedSubjectBitSets.of(weightedSubjectIds, subjectIndex)));
+        return result;
+    }
+
+    /**
+     * Check whether each of the given permissions is granted to some of the given subjects such that none of the
+     * permissions is revoked from any of the subjects with the same or a greater weight.
+     *
+     * @param subjects the subjects to check.
+     * @param permissions the permissions to check.
+     * @return result of the check.
+     * @see GrantRevokeIndex#hasPermissions(Collection, Collection)
+     */
+    boolean hasPermissions(final BitSet subjects, final Collection<String> permissions) {
+        int grantWeight = WeightedSubjectBitSets.NO_WEIGHT;
+        int revokeWeight = WeightedSubjectBitSets.NO_WEIGHT;
+        for (final String permission : permissions) {
+            final WeightedSubjectBitSets granted = grantMap.get(permission);
+            final int permissionGrantWeight = null != granted
+                    ? granted.getMaxWeight(subjects)
+                    : WeightedSubjectBitSets.NO_WEIGHT;
+            if (WeightedSubjectBitSets.NO_WEIGHT == permissionGrantWeight) {
+                return false;
+            }
+            grantWeight = Math.max(grantWeight, permissionGrantWeight);
+
+            final WeightedSubjectBitSets revoked = revokeMap.get(permission);
+            if (null != revoked) {
+                revokeWeight = Math.max(revokeWeight, revoked.getMaxWeight(subjects));
+            }
+        }
+        return WeightedSubjectBitSets.NO_WEIGHT != grantWeight && revokeWeight < grantWeight;
+    }
+
+    /**
+     * @see GrantRevokeIndex#getEffectedSubjectIds(Set)
+     */
+    @SuppressWarnings("squid:CallToDeprecatedMethod")
+    EffectedSubjectIds getEffectedSubjectIds(final Set<String> permissions) {
+        return ImmutableEffectedSubjectIds.of(getGrantedSubjectIds(permissions), getRevokedSubjectIds(permissions));
+    }
+
+    /**
+     * @see GrantRevokeIndex#getEffectedSubjects(Set)
+     */
+    EffectedSubjects getEffectedSubjects(final Set<String> permissions) {
+        return DefaultEffectedSubjects.of(getGrantedSubjects(permissions),
+                subjectIndex.toSubjects(getRevokedBitSet(permissions), AuthorizationSubject::newInstance));
+    }
+
+    /**
+     * @see GrantRevokeIndex#getGrantedSubjectIds(Set)
+     */
+    Set<String> getGrantedSubjectIds(final Set<String> permissions) {
+        return subjectIndex.toSubjectIds(getGrantedBitSet(permissions));
+    }
+
+    /**
+     * @see GrantRevokeIndex#getGrantedSubjects(Set)
+     */
+    Set<AuthorizationSubject> getGrantedSubjects(final Set<String> permissions) {
+        return subjectIndex.toSubjects(getGrantedBitSet(permissions), AuthorizationSubject::newInstance);
+    }
+
+    private Set<String> getRevokedSubjectIds(final Set<String> permissions) {
+        return subjectIndex.toSubjectIds(getRevokedBitSet(permissions));
+    }
+
+    /*
+     * Subjects which are granted all of the given permissions known to this index.
+     */
+    private BitSet getGrantedBitSet(final Set<String> permissions) {
+        @Nullable BitSet result = null;
+        for (final String permission : permissions) {
+            final WeightedSubjectBitSets granted = grantMap.get(permission);
+            if (null != granted) {
+                if (null == result) {
+                    result = (BitSet) granted.getAllSubjects().clone();
+                } else {
+                    result.and(granted.getAllSubjects());
+                }
+            }
+        }
+        return null != result ? result : new BitSet();
+    }
+
+    /*
+     * Subjects which are revoked any of the given permissions.
+     */
+    private BitSet getRevokedBitSet(final Set<String> permissions) {
+        final BitSet result = new BitSet();
+        for (final String permission : permissions) {
+            final WeightedSubjectBitSets revoked = revokeMap.get(permission);
+            if (null != revoked) {
+                result.or(revoked.getAllSubjects());
+            }
+        }
+        return result;
+    }
+
+}
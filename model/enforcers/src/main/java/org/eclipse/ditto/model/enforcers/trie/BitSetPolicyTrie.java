@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonValueContainer;
+
+/**
+ * A {@link PolicyTrie} compiled to {@link BitSetGrantRevokeIndex}es.
+ * It has the same shape as the trie it was compiled from and is immutable, thus it may be shared between threads.
+ */
+@Immutable
+final class BitSetPolicyTrie {
+
+    private final BitSetGrantRevokeIndex grantRevokeIndex;
+    private final Map<JsonKey, BitSetPolicyTrie> children;
+
+    /**
+     * Node with the grant-revoke-index of this node but without children, used for JSON fields not mentioned in the
+     * policy.
+     */
+    private final BitSetPolicyTrie leaf;
+
+    private BitSetPolicyTrie(final BitSetGrantRevokeIndex grantRevokeIndex,
+            final Map<JsonKey, BitSetPolicyTrie> children) {
+
+        this.grantRevokeIndex = grantRevokeIndex;
+        this.children = children;
+        leaf = children.isEmpty() ? this : new BitSetPolicyTrie(grantRevokeIndex, Collections.emptyMap());
+    }
+
+    /**
+     * Compiles the given policy trie.
+     *
+     * @param policyTrie the trie to compile.
+     * @param subjectIndex the index to number the subject IDs with.
+     * @return the compiled trie.
+     */
+    static BitSetPolicyTrie of(final PolicyTrie policyTrie, final SubjectIndex subjectIndex) {
+        final Map<JsonKey, PolicyTrie> policyTrieChildren = policyTrie.getChildren();
+        final Map<JsonKey, BitSetPolicyTrie> children = new HashMap<>(policyTrieChildren.size());
+        policyTrieChildren.forEach((key, child) -> children.put(key, of(child, subjectIndex)));
+        return new BitSetPolicyTrie(BitSetGrantRevokeIndex.of(policyTrie.getGrantRevokeIndex(), subjectIndex),
+                children);
+    }
+
+    /**
+     * Returns the {@link BitSetGrantRevokeIndex} at this node.
+     *
+     * @return the grant-revoke-index at this node.
+     */
+    BitSetGrantRevokeIndex getGrantRevokeIndex() {
+        return grantRevokeIndex;
+    }
+
+    /**
+     * Returns whether a child exists for the given key.
+     *
+     * @param childKey key of the child to check.
+     * @return {@code true} if a child with the given key exists, {@code false} otherwise.
+     */
+    boolean hasChild(final JsonKey childKey) {
+        return children.containsKey(childKey);
+    }
+
+    /**
+     * Seek to a trie node whose path from root matches {@code path} as much as possible.
+     *
+     * @param path the path key to match.
+     * @return the best matched node.
+     */
+    BitSetPolicyTrie seekToLeastAncestor(final Iterator<JsonKey> path) {
+        BitSetPolicyTrie result = this;
+        while (path.hasNext()) {
+            final BitSetPolicyTrie child = result.children.get(path.next());
+            if (null == child) {
+                break;
+            }
+            result = child;
+        }
+        return result;
+    }
+
+    /**
+     * Seek to the trie node whose path from root matches {@code path} exactly.
+     *
+     * @param path the resource path to match.
+     * @return the exactly matched trie node or {@code null} if no trie node matches {@code path} exactly.
+     */
+    @Nullable
+    BitSetPolicyTrie seekToExactNode(final Iterator<JsonKey> path) {
+        BitSetPolicyTrie result = this;
+        while (null != result && path.hasNext()) {
+            result = result.children.get(path.next());
+        }
+        return result;
+    }
+
+    /**
+     * Builds a view of the given JSON fields which contains only the values the given subjects have the given
+     * permissions on.
+     *
+     * @param jsonFields the JSON fields to build the view of.
+     * @param subjects the subjects to check.
+     * @param permissions the permissions to check.
+     * @return the view.
+     */
+    JsonObject buildJsonView(final Iterable<JsonField> jsonFields, final BitSet subjects,
+            final Collection<String> permissions) {
+
+        if (jsonFields instanceof JsonObject && ((JsonObject) jsonFields).isNull()) {
+            return (JsonObject) jsonFields;
+        }
+
+        final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
+        for (final JsonField field : jsonFields) {
+            final BitSetPolicyTrie relevantTrie = children.getOrDefault(field.getKey(), leaf);
+            final JsonValue jsonView = relevantTrie.getViewForJsonValueOrNull(field.getValue(), subjects, permissions);
+            if (null != jsonView) {
+                outputObjectBuilder.set(field.getKey(), jsonView);
+            }
+        }
+
+        return outputObjectBuilder.build();
+    }
+
+    @Nullable
+    private JsonValue getViewForJsonValueOrNull(final JsonValue jsonValue, final BitSet subjects,
+            final Collection<String> permissions) {
+
+        final JsonValue result;
+        if (jsonValue.isObject()) {
+            result = filterCandidate(buildJsonView(jsonValue.asObject(), subjects, permissions), subjects,
+                    permissions);
+        } else if (jsonValue.isArray()) {
+            result = getViewForJsonArrayOrNull(jsonValue.asArray(), subjects, permissions);
+        } else if (grantRevokeIndex.hasPermissions(subjects, permissions)) {
+            result = jsonValue;
+        } else {
+            result = null;
+        }
+
+        return result;
+    }
+
+    @Nullable
+    private JsonValue getViewForJsonArrayOrNull(final JsonArray jsonArray, final BitSet subjects,
+            final Collection<String> permissions) {
+
+        final JsonArrayBuilder candidateBuilder = JsonFactory.newArrayBuilder();
+        for (final JsonValue value : jsonArray) {
+            final JsonValue view = getViewForJsonValueOrNull(value, subjects, permissions);
+            if (null != view) {
+                candidateBuilder.add(view);
+            }
+        }
+        return filterCandidate(candidateBuilder.build(), subjects, permissions);
+    }
+
+    @Nullable
+    private <T extends JsonValue & JsonValueContainer<?>> T filterCandidate(final T candidate, final BitSet subjects,
+            final Collection<String> permissions) {
+
+        if (!candidate.isEmpty() || grantRevokeIndex.hasPermissions(subjects, permissions)) {
+            return candidate;
+        }
+        return null;
+    }
+
+}
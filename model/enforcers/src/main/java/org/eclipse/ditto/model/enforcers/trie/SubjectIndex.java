@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.policies.Subject;
+
+/**
+ * Numbers the subject IDs of a policy so that sets of subjects can be represented as {@link BitSet}s.
+ * The number of a subject ID is the index of its bit.
+ */
+@Immutable
+final class SubjectIndex {
+
+    private final Map<String, Integer> indices;
+    private final String[] subjectIds;
+
+    private SubjectIndex(final Map<String, Integer> indices, final String[] subjectIds) {
+        this.indices = indices;
+        this.subjectIds = subjectIds;
+    }
+
+    /**
+     * Numbers all subject IDs of the given policy in the order of their first occurrence.
+     *
+     * @param policy the policy whose subject IDs to number.
+     * @return the index.
+     */
+    static SubjectIndex of(final Iterable<PolicyEntry> policy) {
+        final Map<String, Integer> indices = new HashMap<>();
+        for (final PolicyEntry policyEntry : policy) {
+            for (final Subject subject : policyEntry.getSubjects()) {
+                indices.putIfAbsent(subject.getId().toString(), indices.size());
+            }
+        }
+        final String[] subjectIds = new String[indices.size()];
+        indices.forEach((subjectId, index) -> subjectIds[index] = subjectId);
+        return new SubjectIndex(indices, subjectIds);
+    }
+
+    /**
+     * Returns the number of the given subject ID.
+     *
+     * @param subjectId the subject ID.
+     * @return the number or {@code -1} if the subject ID does not occur in the policy.
+     */
+    int indexOf(final String subjectId) {
+        final Integer index = indices.get(subjectId);
+        return null != index ? index : -1;
+    }
+
+    /**
+     * Returns the bit set of the given subject IDs.
+     * Subject IDs which do not occur in the policy are ignored as they cannot be granted or revoked anything.
+     *
+     * @param subjectIds the subject IDs.
+     * @return the bit set with the bits of the known subject IDs set.
+     */
+    BitSet toBitSet(final Collection<String> subjectIds) {
+        final BitSet result = new BitSet(this.subjectIds.length);
+        for (final String subjectId : subjectIds) {
+            final int index = indexOf(subjectId);
+            if (index >= 0) {
+                result.set(index);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the subject IDs of the set bits of the given bit set.
+     *
+     * @param bitSet the bit set.
+     * @return the subject IDs.
+     */
+    Set<String> toSubjectIds(final BitSet bitSet) {
+        return toSubjects(bitSet, Function.identity());
+    }
+
+    /**
+     * Returns the subjects of the set bits of the given bit set.
+     *
+     * @param bitSet the bit set.
+     * @param subjectFactory creates a subject from its ID.
+     * @param <T> the type of the subjects.
+     * @return the subjects.
+     */
+    <T> Set<T> toSubjects(final BitSet bitSet, final Function<String, T> subjectFactory) {
+        final Set<T> result = new HashSet<>();
+        for (int i = bitSet.nextSetBit(0); i >= 0; i = bitSet.nextSetBit(i + 1)) {
+            result.add(subjectFactory.apply(subjectIds[i]));
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * The subjects related to one permission in a {@link PermissionSubjectsMap} compiled to one {@link BitSet} per
+ * distinct weight.
+ * The bit sets are ordered by descending weight, thus the maximum weight of any subject of a query is the weight of
+ * the first bit set which intersects the bit set of the query.
+ */
+@Immutable
+final class WeightedSubjectBitSets {
+
+    /**
+     * Returned by {@link #getMaxWeight(BitSet)} if none of the queried subjects is related to the permission.
+     */
+    static final int NO_WEIGHT = Integer.MIN_VALUE;
+
+    private final int[] weights;
+    private final BitSet[] subjectsByWeight;
+    private final BitSet allSubjects;
+
+    private WeightedSubjectBitSets(final int[] weights, final BitSet[] subjectsByWeight, final BitSet allSubjects) {
+        this.weights = weights;
+        this.subjectsByWeight = subjectsByWeight;
+        this.allSubjects = allSubjects;
+    }
+
+    /**
+     * Compiles the weighted subjects of one permission.
+     *
+     * @param weightedSubjectIds the weights of the subject IDs related to the permission.
+     * @param subjectIndex the index to number the subject IDs with.
+     * @return the compiled subjects.
+     */
+    static WeightedSubjectBitSets of(final Map<String, Integer> weightedSubjectIds,
+            final SubjectIndex subjectIndex) {
+
+        final Map<Integer, BitSet> bitSetsByWeight = new TreeMap<>(Comparator.reverseOrder());
+        final BitSet allSubjects = new BitSet();
+        weightedSubjectIds.forEach((subjectId, weight) -> {
+            final int index = subjectIndex.indexOf(subjectId);
+            if (index >= 0) {
+                bitSetsByWeight.computeIfAbsent(weight, w -> new BitSet()).set(index);
+                allSubjects.set(index);
+            }
+        });
+
+        final int[] weights = new int[bitSetsByWeight.size()];
+        final BitSet[] subjectsByWeight = new BitSet[bitSetsByWeight.size()];
+        int i = 0;
+        for (final Map.Entry<Integer, BitSet> entry : bitSetsByWeight.entrySet()) {
+            weights[i] = entry.getKey();
+            subjectsByWeight[i] = entry.getValue();
+            i++;
+        }
+        return new WeightedSubjectBitSets(weights, subjectsByWeight, allSubjects);
+    }
+
+    /**
+     * Returns the maximum weight of the given subjects which are related to the permission.
+     *
+     * @param subjects the subjects to check.
+     * @return the maximum weight or {@link #NO_WEIGHT} if none of the subjects is related to the permission.
+     */
+    int getMaxWeight(final BitSet subjects) {
+        for (int i = 0; i < weights.length; i++) {
+            if (subjectsByWeight[i].intersects(subjects)) {
+                return weights[i];
+            }
+        }
+        return NO_WEIGHT;
+    }
+
+    /**
+     * Returns all subjects related to the permission regardless of their weight.
+     *
+     * @return the subjects; must not be modified.
+     */
+    BitSet getAllSubjects() {
+        return allSubjects;
+    }
+
+}
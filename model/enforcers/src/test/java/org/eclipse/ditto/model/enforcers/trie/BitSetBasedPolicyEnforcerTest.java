@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyBuilder;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BitSetBasedPolicyEnforcer}.
+ */
+public final class BitSetBasedPolicyEnforcerTest {
+
+    private static final int GROUPS = 200;
+    private static final Permissions READ = Permissions.newInstance("READ");
+    private static final Permissions READ_WRITE = Permissions.newInstance("READ", "WRITE");
+
+    private static final List<String> RESOURCE_PATHS = Arrays.asList("/", "/attributes", "/attributes/location",
+            "/attributes/unknown", "/features", "/features/f3", "/features/f3/properties/secret",
+            "/features/f3/properties/other", "/features/f42/properties", "/policyId");
+
+    private static final JsonObject THING = JsonFactory.newObject("{\"thingId\":\"ns:thing\",\"policyId\":\"ns:p\"," +
+            "\"attributes\":{\"location\":{\"lat\":1,\"lon\":2},\"tags\":[\"a\",{\"b\":1}]}," +
+            "\"features\":{\"f3\":{\"properties\":{\"secret\":42,\"other\":[1,2]}}," +
+            "\"f42\":{\"properties\":{\"x\":true}}}}");
+
+    @Test
+    public void buildJsonView() {
+        final BitSetBasedPolicyEnforcer underTest =
+                BitSetBasedPolicyEnforcer.newInstance(highCardinalityPolicy(PolicyId.of("namespace", "id")));
+
+        final JsonObject createdJsonView = underTest.buildJsonView(
+                ResourceKey.newInstance("thing", "/attributes"),
+                JsonFactory.nullObject(),
+                AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance("itsMe")),
+                Permissions.none());
+
+        assertThat(createdJsonView).isEqualTo(JsonFactory.nullObject());
+    }
+
+    @Test
+    public void behavesLikeTrieBasedPolicyEnforcer() {
+        final Policy policy = highCardinalityPolicy(PolicyId.of("namespace", "id"));
+        final BitSetBasedPolicyEnforcer underTest = BitSetBasedPolicyEnforcer.newInstance(policy);
+        final TrieBasedPolicyEnforcer expected = TrieBasedPolicyEnforcer.newInstance(policy);
+
+        for (final AuthorizationContext authorizationContext : Arrays.asList(
+                authorizationContext("unknown:subject"),
+                authorizationContext("group:0"),
+                authorizationContext("group:3"),
+                authorizationContext("group:42", "unknown:subject"),
+                authorizationContext("group:3", "group:42"),
+                authorizationContext("group:42", "admin:root"),
+                authorizationContext("group:7", "group:14", "group:199"))) {
+
+            for (final String resourcePath : RESOURCE_PATHS) {
+                final ResourceKey resourceKey = ResourceKey.newInstance("thing", resourcePath);
+                for (final Permissions permissions : Arrays.asList(READ, READ_WRITE)) {
+                    assertThat(underTest.hasPartialPermissions(resourceKey, authorizationContext, permissions))
+                            .describedAs("hasPartialPermissions %s %s %s", resourceKey, authorizationContext,
+                                    permissions)
+                            .isEqualTo(expected.hasPartialPermissions(resourceKey, authorizationContext,
+                                    permissions));
+                    assertThat(underTest.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions))
+                            .describedAs("hasUnrestrictedPermissions %s %s %s", resourceKey, authorizationContext,
+                                    permissions)
+                            .isEqualTo(expected.hasUnrestrictedPermissions(resourceKey, authorizationContext,
+                                    permissions));
+                }
+            }
+            assertThat(underTest.buildJsonView(ResourceKey.newInstance("thing", "/"), THING, authorizationContext,
+                    READ))
+                    .isEqualTo(expected.buildJsonView(ResourceKey.newInstance("thing", "/"), THING,
+                            authorizationContext, READ));
+        }
+    }
+
+    @Test
+    public void collectsSameSubjectsAsTrieBasedPolicyEnforcer() {
+        final Policy policy = highCardinalityPolicy(PolicyId.of("namespace", "id"));
+        final BitSetBasedPolicyEnforcer underTest = BitSetBasedPolicyEnforcer.newInstance(policy);
+        final TrieBasedPolicyEnforcer expected = TrieBasedPolicyEnforcer.newInstance(policy);
+
+        for (final String resourcePath : RESOURCE_PATHS) {
+            final ResourceKey resourceKey = ResourceKey.newInstance("thing", resourcePath);
+            for (final Permissions permissions : Arrays.asList(READ, READ_WRITE)) {
+                assertThat(underTest.getSubjectsWithPermission(resourceKey, permissions))
+                        .isEqualTo(expected.getSubjectsWithPermission(resourceKey, permissions));
+                assertThat(underTest.getSubjectsWithPartialPermission(resourceKey, permissions))
+                        .isEqualTo(expected.getSubjectsWithPartialPermission(resourceKey, permissions));
+                assertThat(underTest.getSubjectIdsWithPartialPermission(resourceKey, permissions))
+                        .isEqualTo(expected.getSubjectIdsWithPartialPermission(resourceKey, permissions));
+            }
+        }
+    }
+
+    private static AuthorizationContext authorizationContext(final String subjectId,
+            final String... furtherSubjectIds) {
+
+        final AuthorizationSubject[] furtherSubjects = Arrays.stream(furtherSubjectIds)
+                .map(AuthorizationSubject::newInstance)
+                .toArray(AuthorizationSubject[]::new);
+        return AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                AuthorizationSubject.newInstance(subjectId), furtherSubjects);
+    }
+
+    /*
+     * One entry per group granting READ on its own feature and on all attributes, every third group is revoked READ
+     * on a nested property and every seventh group is granted WRITE on the whole thing.
+     */
+    private static Policy highCardinalityPolicy(final PolicyId policyId) {
+        final PolicyBuilder policyBuilder = PoliciesModelFactory.newPolicyBuilder(policyId)
+                .forLabel("admin")
+                .setSubject("admin:root", SubjectType.GENERATED)
+                .setGrantedPermissions("thing", JsonPointer.empty(), READ_WRITE)
+                .setRevokedPermissions("thing", JsonPointer.of("/features/f3/properties/secret"), READ)
+                .setGrantedPermissions("policy", JsonPointer.empty(), READ_WRITE);
+        for (int i = 0; i < GROUPS; i++) {
+            final String label = "group" + i;
+            policyBuilder.forLabel(label)
+                    .setSubject("group:" + i, SubjectType.GENERATED)
+                    .setGrantedPermissions("thing", JsonPointer.of("/attributes"), READ)
+                    .setGrantedPermissions("thing", JsonPointer.of("/features/f" + i), READ);
+            if (i % 3 == 0) {
+                policyBuilder.forLabel(label)
+                        .setRevokedPermissions("thing", JsonPointer.of("/features/f3/properties/secret"), READ);
+            }
+            if (i % 7 == 0) {
+                policyBuilder.forLabel(label)
+                        .setGrantedPermissions("thing", JsonPointer.empty(), READ_WRITE);
+            }
+        }
+        return policyBuilder.setRevision(1L).build();
+    }
+
+}
@@ -33,4 +33,25 @@ public final class ThingSearchConstants {
      */
     public static final EntityType ENTITY_TYPE = EntityType.of("thing-search");
 
+    /**
+     * Value of the header {@code search-consistency} for search results retrieved from the things.
+     *
+     * @since 2.0.0
+     */
+    public static final String SEARCH_CONSISTENCY_STRONG = "strong";
+
+    /**
+     * Value of the header {@code search-consistency} for search results read from the search index.
+     *
+     * @since 2.0.0
+     */
+    public static final String SEARCH_CONSISTENCY_EVENTUAL = "eventual";
+
+    /**
+     * Option of count queries accepting approximate counts.
+     *
+     * @since 2.0.0
+     */
+    public static final String COUNT_OPTION_APPROXIMATE = "approximate";
+
 }
@@ -220,6 +220,7 @@ public abstract class DittoService<C extends ServiceSpecificConfig> {
         final ActorSystem actorSystem = createActorSystem(actorSystemConfig);
         initializeActorSystem(actorSystem);
         startKamonPrometheusHttpEndpoint(actorSystem);
+        JsonInterningMetrics.start(actorSystem);
         return actorSystem;
     }
 
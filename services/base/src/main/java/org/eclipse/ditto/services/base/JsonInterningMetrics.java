@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.base;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.InterningStatistics;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+
+import akka.actor.ActorSystem;
+
+/**
+ * Periodically reports the statistics of interning JSON keys and JSON pointers as gauges.
+ * The gauges are tagged with the interned {@code type}, i. e. {@code key} or {@code pointer}.
+ */
+@Immutable
+final class JsonInterningMetrics implements Runnable {
+
+    private static final Duration REPORTING_INTERVAL = Duration.ofSeconds(10);
+    private static final String TYPE_TAG = "type";
+
+    private final Reporter keyReporter;
+    private final Reporter pointerReporter;
+
+    private JsonInterningMetrics() {
+        keyReporter = new Reporter("key", JsonFactory::getKeyInterningStatistics);
+        pointerReporter = new Reporter("pointer", JsonFactory::getPointerInterningStatistics);
+    }
+
+    /**
+     * Starts reporting the statistics with the scheduler of the given actor system.
+     *
+     * @param actorSystem the actor system.
+     */
+    static void start(final ActorSystem actorSystem) {
+        actorSystem.getScheduler()
+                .scheduleWithFixedDelay(REPORTING_INTERVAL, REPORTING_INTERVAL, new JsonInterningMetrics(),
+                        actorSystem.dispatcher());
+    }
+
+    @Override
+    public void run() {
+        keyReporter.report();
+        pointerReporter.report();
+    }
+
+    private static final class Reporter {
+
+        private final Supplier<InterningStatistics> statisticsSupplier;
+        private final Gauge hits;
+        private final Gauge misses;
+        private final Gauge hitRatePercent;
+
+        private Reporter(final String type, final Supplier<InterningStatistics> statisticsSupplier) {
+            this.statisticsSupplier = statisticsSupplier;
+            hits = DittoMetrics.gauge("json_interning_hits").tag(TYPE_TAG, type);
+            misses = DittoMetrics.gauge("json_interning_misses").tag(TYPE_TAG, type);
+            hitRatePercent = DittoMetrics.gauge("json_interning_hit_rate_percent").tag(TYPE_TAG, type);
+        }
+
+        private void report() {
+            final InterningStatistics statistics = statisticsSupplier.get();
+            hits.set(statistics.getHitCount());
+            misses.set(statistics.getMissCount());
+            hitRatePercent.set(Math.round(statistics.getHitRate() * 100));
+        }
+
+    }
+
+}
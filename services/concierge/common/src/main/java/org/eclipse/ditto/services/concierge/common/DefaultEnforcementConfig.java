@@ -32,12 +32,15 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
     private final Duration askTimeout;
     private final int bufferSize;
     private final boolean globalLiveResponseDispatching;
+    private final boolean updatePolicyEnforcersFromEvents;
 
     private DefaultEnforcementConfig(final ConfigWithFallback configWithFallback) {
         askTimeout = configWithFallback.getDuration(EnforcementConfigValue.ASK_TIMEOUT.getConfigPath());
         bufferSize = configWithFallback.getInt(EnforcementConfigValue.BUFFER_SIZE.getConfigPath());
         globalLiveResponseDispatching =
                 configWithFallback.getBoolean(EnforcementConfigValue.GLOBAL_LIVE_RESPONSE_DISPATCHING.getConfigPath());
+        updatePolicyEnforcersFromEvents = configWithFallback.getBoolean(
+                EnforcementConfigValue.UPDATE_POLICY_ENFORCERS_FROM_EVENTS.getConfigPath());
     }
 
     /**
@@ -67,6 +70,11 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         return globalLiveResponseDispatching;
     }
 
+    @Override
+    public boolean shouldUpdatePolicyEnforcersFromEvents() {
+        return updatePolicyEnforcersFromEvents;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -77,12 +85,14 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         }
         final DefaultEnforcementConfig that = (DefaultEnforcementConfig) o;
         return bufferSize == that.bufferSize && askTimeout.equals(that.askTimeout) &&
-                globalLiveResponseDispatching == that.globalLiveResponseDispatching;
+                globalLiveResponseDispatching == that.globalLiveResponseDispatching &&
+                updatePolicyEnforcersFromEvents == that.updatePolicyEnforcersFromEvents;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, bufferSize, globalLiveResponseDispatching);
+        return Objects.hash(askTimeout, bufferSize, globalLiveResponseDispatching,
+                updatePolicyEnforcersFromEvents);
     }
 
     @Override
@@ -91,6 +101,7 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
                 "askTimeout=" + askTimeout +
                 ", bufferSize=" + bufferSize +
                 ", globalLiveResponseDispatching=" + globalLiveResponseDispatching +
+                ", updatePolicyEnforcersFromEvents=" + updatePolicyEnforcersFromEvents +
                 "]";
     }
 
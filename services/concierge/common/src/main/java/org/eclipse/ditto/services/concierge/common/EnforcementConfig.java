@@ -45,6 +45,14 @@ public interface EnforcementConfig {
      */
     boolean shouldDispatchLiveResponsesGlobally();
 
+    /**
+     * Returns whether cached policy enforcers should be updated from policy events instead of being invalidated and
+     * loaded again.
+     *
+     * @return whether policy enforcers are updated from policy events.
+     */
+    boolean shouldUpdatePolicyEnforcersFromEvents();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code EnforcementConfig}.
@@ -64,7 +72,12 @@ public interface EnforcementConfig {
         /**
          * Whether to enable dispatching live responses from channels other than the subscribers.
          */
-        GLOBAL_LIVE_RESPONSE_DISPATCHING("global-live-response-dispatching", false);
+        GLOBAL_LIVE_RESPONSE_DISPATCHING("global-live-response-dispatching", false),
+
+        /**
+         * Whether to update cached policy enforcers from policy events.
+         */
+        UPDATE_POLICY_ENFORCERS_FROM_EVENTS("update-policy-enforcers-from-events", false);
 
         private final String path;
         private final Object defaultValue;
@@ -64,6 +64,10 @@ public final class DefaultEnforcementConfigTest {
         softly.assertThat(underTest.getBufferSize())
                 .as(EnforcementConfig.EnforcementConfigValue.BUFFER_SIZE.getConfigPath())
                 .isEqualTo(EnforcementConfig.EnforcementConfigValue.BUFFER_SIZE.getDefaultValue());
+        softly.assertThat(underTest.shouldUpdatePolicyEnforcersFromEvents())
+                .as(EnforcementConfig.EnforcementConfigValue.UPDATE_POLICY_ENFORCERS_FROM_EVENTS.getConfigPath())
+                .isEqualTo(EnforcementConfig.EnforcementConfigValue.UPDATE_POLICY_ENFORCERS_FROM_EVENTS
+                        .getDefaultValue());
     }
 
     @Test
@@ -76,6 +80,9 @@ public final class DefaultEnforcementConfigTest {
         softly.assertThat(underTest.getBufferSize())
                 .as(EnforcementConfig.EnforcementConfigValue.BUFFER_SIZE.getConfigPath())
                 .isEqualTo(1337);
+        softly.assertThat(underTest.shouldUpdatePolicyEnforcersFromEvents())
+                .as(EnforcementConfig.EnforcementConfigValue.UPDATE_POLICY_ENFORCERS_FROM_EVENTS.getConfigPath())
+                .isTrue();
     }
 
 }
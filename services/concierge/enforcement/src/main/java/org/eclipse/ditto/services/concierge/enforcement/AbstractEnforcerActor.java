@@ -13,6 +13,8 @@
 package org.eclipse.ditto.services.concierge.enforcement;
 
 import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nullable;
 
@@ -28,18 +30,23 @@ import org.eclipse.ditto.services.utils.cache.CaffeineCache;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcer;
+import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerUpdater;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+import org.eclipse.ditto.signals.events.policies.PolicyEvent;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 
 import akka.actor.ActorRef;
+import akka.cluster.Cluster;
 import akka.japi.pf.ReceiveBuilder;
 import akka.stream.javadsl.Sink;
 
@@ -51,6 +58,9 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
 
     private static final String TIMER_NAME = "concierge_enforcements";
 
+    private static final Counter POLICY_ENFORCER_UPDATES =
+            DittoMetrics.counter("concierge_policy_enforcer_updates_from_events");
+
     /**
      * Contextual information about this actor.
      */
@@ -63,8 +73,7 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
     @Nullable
     private final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache;
     @Nullable
-    private final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache;
-
+    private final Cache<EntityIdWithResourceType, Entry<PolicyEnforcer>> policyEnforcerCache;
 
     /**
      * Create an instance of this actor.
@@ -79,7 +88,7 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
             final ActorRef conciergeForwarder,
             @Nullable final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
             @Nullable final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
-            @Nullable final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache) {
+            @Nullable final Cache<EntityIdWithResourceType, Entry<PolicyEnforcer>> policyEnforcerCache) {
 
         super(WithDittoHeaders.class);
 
@@ -103,17 +112,30 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
         // register for receiving invalidate policy enforcers
         pubSubMediator.tell(DistPubSubAccess.subscribe(PolicyTag.PUB_SUB_TOPIC_INVALIDATE_ENFORCERS, self()),
                 ActorRef.noSender());
+        if (policyEnforcerCache != null && enforcementConfig.shouldUpdatePolicyEnforcersFromEvents()) {
+            // register for receiving all policy events in order to update the cached policy enforcers;
+            // the group is unique per enforcer so that every concierge instance receives each event
+            pubSubMediator.tell(DistPubSubAccess.subscribeViaGroup(PolicyEvent.TYPE_PREFIX,
+                    getSelf().path().toSerializationFormatWithAddress(
+                            Cluster.get(getContext().getSystem()).selfAddress()),
+                    getSelf()), ActorRef.noSender());
+        }
     }
 
     @Override
     protected void preEnhancement(final ReceiveBuilder receiveBuilder) {
         receiveBuilder
                 .match(PolicyTag.class, policyTag -> {
-                    logger.debug("Received <{}> -> Invalidating caches...", policyTag);
                     final EntityIdWithResourceType entityId = EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE,
                             policyTag.getEntityId());
-                    invalidateCaches(entityId);
+                    if (isPolicyEnforcerUpToDate(entityId, policyTag.getRevision())) {
+                        logger.debug("Received <{}> -> Policy enforcer is already up to date.", policyTag);
+                    } else {
+                        logger.debug("Received <{}> -> Invalidating caches...", policyTag);
+                        invalidateCaches(entityId);
+                    }
                 })
+                .match(PolicyEvent.class, this::updatePolicyEnforcer)
                 .match(InvalidateCacheEntry.class, invalidateCacheEntry -> {
                     logger.debug("Received <{}> -> Invalidating caches...", invalidateCacheEntry);
                     final EntityIdWithResourceType entityId = invalidateCacheEntry.getEntityId();
@@ -121,6 +143,48 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
                 });
     }
 
+    private void updatePolicyEnforcer(final PolicyEvent<?> policyEvent) {
+        if (policyEnforcerCache == null) {
+            return;
+        }
+        final EntityIdWithResourceType entityId = EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE,
+                policyEvent.getEntityId());
+        final Optional<Entry<PolicyEnforcer>> cachedEntry = getCompletedPolicyEnforcerEntry(entityId);
+        if (cachedEntry.isPresent() && cachedEntry.get().getRevision() >= policyEvent.getRevision()) {
+            logger.debug("Received <{}> -> Policy enforcer is already up to date.", policyEvent.getType());
+            return;
+        }
+        final Optional<Entry<PolicyEnforcer>> updatedEntry = cachedEntry.flatMap(entry ->
+                PolicyEnforcerUpdater.applyEvent(entry, policyEvent));
+        if (updatedEntry.isPresent()) {
+            logger.debug("Received <{}> -> Updating policy enforcer of <{}> to revision <{}>.",
+                    policyEvent.getType(), entityId, policyEvent.getRevision());
+            policyEnforcerCache.put(entityId, updatedEntry.get());
+            POLICY_ENFORCER_UPDATES.increment();
+        } else {
+            logger.debug("Received <{}> -> Invalidating caches...", policyEvent.getType());
+            invalidateCaches(entityId);
+        }
+    }
+
+    private boolean isPolicyEnforcerUpToDate(final EntityIdWithResourceType entityId, final long revision) {
+        return getCompletedPolicyEnforcerEntry(entityId)
+                .filter(entry -> entry.getRevision() >= revision)
+                .isPresent();
+    }
+
+    private Optional<Entry<PolicyEnforcer>> getCompletedPolicyEnforcerEntry(final EntityIdWithResourceType entityId) {
+        if (policyEnforcerCache == null) {
+            return Optional.empty();
+        }
+        // entries which are currently loaded are not considered because they may or may not contain the change
+        final CompletableFuture<Optional<Entry<PolicyEnforcer>>> future = policyEnforcerCache.getIfPresent(entityId);
+        if (future.isDone() && !future.isCompletedExceptionally()) {
+            return future.join().filter(Entry::exists);
+        }
+        return Optional.empty();
+    }
+
     private void invalidateCaches(final EntityIdWithResourceType entityId) {
         if (thingIdCache != null) {
             final boolean invalidated = thingIdCache.invalidate(entityId);
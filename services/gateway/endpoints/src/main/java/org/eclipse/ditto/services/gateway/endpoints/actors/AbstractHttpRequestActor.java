@@ -27,6 +27,7 @@ import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
@@ -335,8 +336,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
                                 entityPlainStringOptional.get(), contentType);
                     } else {
                         response = addEntityAccordingToContentType(responseWithoutBody,
-                                withEntity.getEntity(commandResponse.getImplementedSchemaVersion()).toString(),
-                                contentType);
+                                withEntity.getEntity(commandResponse.getImplementedSchemaVersion()), contentType);
                     }
                     completeWithResult(response);
                 })
@@ -414,7 +414,9 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
             if (optionalPayload.isPresent() && optionalContentType.isPresent() && !isBinary) {
                 final akka.http.scaladsl.model.ContentType contentType = optionalContentType.get();
                 final Object payload = optionalPayload.get();
-                final ByteString responsePayload = ByteString.fromString(payload.toString());
+                final ByteString responsePayload = payload instanceof JsonValue
+                        ? JsonValueToByteString.getInstance().apply((JsonValue) payload)
+                        : ByteString.fromString(payload.toString());
                 httpResponse = httpResponse.withEntity(HttpEntities.create(contentType, responsePayload));
             } else if (optionalRawPayload.isPresent() && optionalContentType.isPresent() && isBinary) {
                 final akka.http.scaladsl.model.ContentType contentType = optionalContentType.get();
@@ -532,6 +534,16 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
         return response.withEntity(ContentTypes.parse(contentType.getValue()), byteString);
     }
 
+    private static HttpResponse addEntityAccordingToContentType(final HttpResponse response, final JsonValue entity,
+            final ContentType contentType) {
+
+        if (contentType.isBinary()) {
+            return addEntityAccordingToContentType(response, entity.toString(), contentType);
+        }
+        return response.withEntity(ContentTypes.parse(contentType.getValue()),
+                JsonValueToByteString.getInstance().apply(entity));
+    }
+
     private static ContentType getContentType(final DittoHeaders dittoHeaders) {
         return dittoHeaders.getDittoContentType().orElse(ContentType.APPLICATION_JSON);
     }
@@ -557,7 +569,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
             final JsonSchemaVersion schemaVersion = dittoHeaders.getSchemaVersion()
                     .orElse(dittoHeaders.getImplementedSchemaVersion());
             return withOptionalEntity.getEntity(schemaVersion)
-                    .map(entity -> addEntityAccordingToContentType(response, entity.toString(),
+                    .map(entity -> addEntityAccordingToContentType(response, entity,
                             getContentType(dittoHeaders)))
                     .orElse(response);
         };
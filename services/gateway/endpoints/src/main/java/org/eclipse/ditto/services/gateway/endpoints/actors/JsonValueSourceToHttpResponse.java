@@ -45,6 +45,8 @@ final class JsonValueSourceToHttpResponse implements Function<Source<JsonValue,
      */
     static final ContentType CONTENT_TYPE_NDJSON = ContentTypes.parse("application/x-ndjson");
 
+    private static final ByteString NEWLINE_DELIMITER = ByteString.fromString("\n");
+
     private JsonValueSourceToHttpResponse() {
         super();
     }
@@ -67,16 +69,15 @@ final class JsonValueSourceToHttpResponse implements Function<Source<JsonValue,
     }
 
     private static Source<ByteString, NotUsed> getRenderedCompactJsonArraySource(final Source<JsonValue, NotUsed> source) {
-        return source.map(JsonValue::toString)
+        return source.map(JsonValueToByteString.getInstance()::apply)
                 .via(intersperseWithNewlineDelimiter())
-                .map(ByteString::fromString)
                 .withAttributes(Attributes.logLevels(Attributes.logLevelDebug(), Attributes.logLevelDebug(),
                         Attributes.logLevelError()))
                 .log(JsonValueSourceToHttpResponse.class.getSimpleName());
     }
 
-    private static Flow<String, String, NotUsed> intersperseWithNewlineDelimiter() {
-        return Flow.of(String.class).intersperse("\n");
+    private static Flow<ByteString, ByteString, NotUsed> intersperseWithNewlineDelimiter() {
+        return Flow.of(ByteString.class).intersperse(NEWLINE_DELIMITER);
     }
 
     private static HttpEntity.Chunked getChunkedHttpEntity(final Source<ByteString, NotUsed> source) {
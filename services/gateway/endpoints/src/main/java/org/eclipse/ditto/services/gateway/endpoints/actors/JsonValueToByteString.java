@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.actors;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.ConditionChecker;
+
+import akka.util.ByteString;
+import akka.util.ByteStringBuilder;
+
+/**
+ * Renders a {@link JsonValue} as UTF-8 encoded {@link ByteString} without creating its string representation as
+ * a whole first.
+ */
+@Immutable
+final class JsonValueToByteString implements Function<JsonValue, ByteString> {
+
+    private static final JsonValueToByteString INSTANCE = new JsonValueToByteString();
+
+    private JsonValueToByteString() {
+        super();
+    }
+
+    /**
+     * Returns an instance of {@code JsonValueToByteString}.
+     *
+     * @return the instance.
+     */
+    static JsonValueToByteString getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public ByteString apply(final JsonValue jsonValue) {
+        ConditionChecker.checkNotNull(jsonValue, "jsonValue");
+        final ByteStringBuilder byteStringBuilder = ByteString.createBuilder();
+        try {
+            jsonValue.writeTo(byteStringBuilder.asOutputStream());
+        } catch (final IOException e) {
+            // the OutputStream of ByteStringBuilder does not throw IOExceptions
+            throw new UncheckedIOException(e);
+        }
+        return byteStringBuilder.result();
+    }
+
+}
@@ -25,7 +25,9 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.thingsearch.ThingSearchConstants;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
 import org.eclipse.ditto.services.gateway.endpoints.routes.AbstractRoute;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.CommandConfig;
@@ -94,11 +96,11 @@ public final class ThingSearchRoute extends AbstractRoute {
      * @return {@code /search/things/count} route.
      */
     private Route countThings(final RequestContext ctx, final DittoHeaders dittoHeaders) {
-        // GET things/count?filter=<filterString>&namespaces=<namespacesString>
+        // GET things/count?filter=<filterString>&namespaces=<namespacesString>&option=approximate
         return get(() -> thingSearchParameterOptional(params -> handlePerRequest(ctx,
                 CountThings.of(calculateFilter(params.get(FILTER)),
                         calculateNamespaces(params.get(NAMESPACES)),
-                        dittoHeaders))));
+                        calculateCountHeaders(params.get(OPTION), dittoHeaders)))));
     }
 
     /*
@@ -160,6 +162,22 @@ public final class ThingSearchRoute extends AbstractRoute {
         return namespacesString.map(splitAndRemoveEmpty).orElse(null);
     }
 
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    private static DittoHeaders calculateCountHeaders(final Optional<String> optionsString,
+            final DittoHeaders dittoHeaders) {
+
+        // approximate counts are requested as eventually consistent counts from the search service
+        final List<String> options = calculateOptions(optionsString);
+        if (options != null && options.contains(ThingSearchConstants.COUNT_OPTION_APPROXIMATE)) {
+            return dittoHeaders.toBuilder()
+                    .putHeader(DittoHeaderDefinition.SEARCH_CONSISTENCY.getKey(),
+                            ThingSearchConstants.SEARCH_CONSISTENCY_EVENTUAL)
+                    .build();
+        } else {
+            return dittoHeaders;
+        }
+    }
+
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     private static List<String> calculateOptions(final Optional<String> optionsString) {
         return optionsString
@@ -24,10 +24,12 @@ import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.entity.id.NamespacedEntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
 import org.eclipse.ditto.model.thingsearch.SearchResult;
+import org.eclipse.ditto.model.thingsearch.ThingSearchConstants;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.GatewayHttpConfig;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.HttpConfig;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
@@ -112,9 +114,18 @@ final class QueryThingsPerRequestActor extends AbstractActor {
                     log.withCorrelationId(qtr)
                             .debug("Received QueryThingsResponse: {}", qtr);
 
+                    if (isReadFromSearchIndex(qtr)) {
+                        // shortcut - results read from the search index already contain the selected fields, which
+                        // need not include the thing ID
+                        originatingSender.tell(qtr, getSelf());
+                        stopMyself();
+                        return;
+                    }
+
                     queryThingsResponseThingIds = qtr.getSearchResult()
                             .stream()
-                            .map(val -> val.asObject().getValue(Thing.JsonFields.ID).orElse(null))
+                            .filter(JsonValue::isObject)
+                            .flatMap(val -> val.asObject().getValue(Thing.JsonFields.ID).stream())
                             .map(ThingId::of)
                             .collect(Collectors.toList());
 
@@ -163,6 +174,11 @@ final class QueryThingsPerRequestActor extends AbstractActor {
                 .build();
     }
 
+    private static boolean isReadFromSearchIndex(final QueryThingsResponse queryThingsResponse) {
+        return ThingSearchConstants.SEARCH_CONSISTENCY_EVENTUAL.equals(
+                queryThingsResponse.getDittoHeaders().get(DittoHeaderDefinition.SEARCH_CONSISTENCY.getKey()));
+    }
+
     /**
      * Extracts selected fields from {@link #queryThings} and ensures that the Thing ID is one of those fields.
      * If no fields are selected, this means that all fields should be returned.
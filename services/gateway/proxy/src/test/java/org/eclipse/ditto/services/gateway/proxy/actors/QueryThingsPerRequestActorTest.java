@@ -19,10 +19,12 @@ import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.thingsearch.SearchResult;
+import org.eclipse.ditto.model.thingsearch.ThingSearchConstants;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThingsResponse;
@@ -155,6 +157,52 @@ public final class QueryThingsPerRequestActorTest {
                 QueryThingsResponse.of(SearchResult.newBuilder().add(definition, definition).build(), responseHeaders));
     }
 
+    @Test
+    public void forwardsResultsReadFromSearchIndex() {
+        // GIVEN: QueryThings accepts results from the search index
+        final JsonFieldSelector fields = JsonFieldSelector.newInstance("definition");
+        final DittoHeaders eventualHeaders = dittoHeaders.toBuilder()
+                .putHeader(DittoHeaderDefinition.SEARCH_CONSISTENCY.getKey(),
+                        ThingSearchConstants.SEARCH_CONSISTENCY_EVENTUAL)
+                .build();
+        final QueryThings queryThings = QueryThings.of(null, null, fields, null, eventualHeaders);
+        final ActorRef underTest = createQueryThingsPerRequestActor(queryThings);
+        final JsonObject definition = JsonObject.newBuilder().set("definition", "vacuum:cleaner:1548").build();
+        final QueryThingsResponse queryThingsResponse = QueryThingsResponse.of(
+                SearchResult.newBuilder().addAll(asArrayWithExtra(definition, ThingId.of("thing:1"))).build(),
+                eventualHeaders.toBuilder().responseRequired(false).build());
+
+        // WHEN: QueryThingsResponse was read from the search index
+        underTest.tell(queryThingsResponse, ActorRef.noSender());
+
+        // THEN: the response is forwarded without retrieving the things
+        originalSenderProbe.expectMsg(queryThingsResponse);
+        aggregatorProbe.expectNoMessage();
+    }
+
+    @Test
+    public void forwardsResultsReadFromSearchIndexWithoutThingIds() {
+        // GIVEN: QueryThings accepts results from the search index and does not select the thing ID
+        final JsonFieldSelector fields = JsonFieldSelector.newInstance("definition");
+        final DittoHeaders eventualHeaders = dittoHeaders.toBuilder()
+                .putHeader(DittoHeaderDefinition.SEARCH_CONSISTENCY.getKey(),
+                        ThingSearchConstants.SEARCH_CONSISTENCY_EVENTUAL)
+                .build();
+        final QueryThings queryThings = QueryThings.of(null, null, fields, null, eventualHeaders);
+        final ActorRef underTest = createQueryThingsPerRequestActor(queryThings);
+        final JsonObject definition = JsonObject.newBuilder().set("definition", "vacuum:cleaner:1548").build();
+        final QueryThingsResponse queryThingsResponse = QueryThingsResponse.of(
+                SearchResult.newBuilder().add(definition, definition).build(),
+                eventualHeaders.toBuilder().responseRequired(false).build());
+
+        // WHEN: QueryThingsResponse was read from the search index with items projected to the selected fields only
+        underTest.tell(queryThingsResponse, ActorRef.noSender());
+
+        // THEN: the response is forwarded without retrieving the things
+        originalSenderProbe.expectMsg(queryThingsResponse);
+        aggregatorProbe.expectNoMessage();
+    }
+
     @Test
     public void reportOutOfSyncThings() {
         final ActorRef underTest = createQueryThingsPerRequestActor(QueryThings.of(dittoHeaders));
@@ -67,17 +67,23 @@ public final class SudoRetrieveThings extends AbstractCommand<SudoRetrieveThings
             JsonFactory.newJsonArrayFieldDefinition("payload/thingIds", FieldType.REGULAR, JsonSchemaVersion.V_1,
                     JsonSchemaVersion.V_2);
 
+    static final JsonFieldDefinition<Boolean> JSON_USE_ORIGINAL_SCHEMA_VERSION =
+            JsonFactory.newBooleanFieldDefinition("payload/useOriginalSchemaVersion", FieldType.REGULAR,
+                    JsonSchemaVersion.V_2);
+
     private final List<ThingId> thingIds;
     @Nullable private final JsonFieldSelector selectedFields;
+    private final boolean useOriginalSchemaVersion;
 
     private SudoRetrieveThings(final List<ThingId> thingIds, @Nullable final JsonFieldSelector selectedFields,
-            final DittoHeaders dittoHeaders) {
+            final DittoHeaders dittoHeaders, final boolean useOriginalSchemaVersion) {
 
         super(TYPE, dittoHeaders);
 
         requireNonNull(thingIds, "The Thing IDs must not be null!");
         this.thingIds = Collections.unmodifiableList(new ArrayList<>(thingIds));
         this.selectedFields = selectedFields;
+        this.useOriginalSchemaVersion = useOriginalSchemaVersion;
     }
 
     /**
@@ -104,7 +110,22 @@ public final class SudoRetrieveThings extends AbstractCommand<SudoRetrieveThings
     public static SudoRetrieveThings of(final List<ThingId> thingIds, @Nullable final JsonFieldSelector selectedFields,
             final DittoHeaders dittoHeaders) {
 
-        return new SudoRetrieveThings(thingIds, selectedFields, dittoHeaders);
+        return new SudoRetrieveThings(thingIds, selectedFields, dittoHeaders, false);
+    }
+
+    /**
+     * Creates a new {@code SudoRetrieveThings}. The returned things are serialized using their original schema
+     * version.
+     *
+     * @param thingIds one or more Thing IDs to be retrieved.
+     * @param dittoHeaders the command headers of the request.
+     * @return a command for retrieving Things without authorization.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static SudoRetrieveThings withOriginalSchemaVersion(final List<ThingId> thingIds,
+            final DittoHeaders dittoHeaders) {
+
+        return new SudoRetrieveThings(thingIds, null, dittoHeaders, true);
     }
 
     /**
@@ -149,7 +170,10 @@ public final class SudoRetrieveThings extends AbstractCommand<SudoRetrieveThings
                         .build()))
                 .orElse(null);
 
-        return SudoRetrieveThings.of(extractedThingIds, extractedFieldSelector, dittoHeaders);
+        final boolean isUseOriginalSchemaVersion = jsonObject.getValue(JSON_USE_ORIGINAL_SCHEMA_VERSION).orElse(false);
+
+        return new SudoRetrieveThings(extractedThingIds, extractedFieldSelector, dittoHeaders,
+                isUseOriginalSchemaVersion);
     }
 
     /**
@@ -171,6 +195,15 @@ public final class SudoRetrieveThings extends AbstractCommand<SudoRetrieveThings
         return Optional.ofNullable(selectedFields);
     }
 
+    /**
+     * Returns whether the retrieved Things should be serialized using their original schema version.
+     *
+     * @return whether to use the original schema version.
+     */
+    public boolean useOriginalSchemaVersion() {
+        return useOriginalSchemaVersion;
+    }
+
     @Override
     protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
             final Predicate<JsonField> thePredicate) {
@@ -187,6 +220,10 @@ public final class SudoRetrieveThings extends AbstractCommand<SudoRetrieveThings
         if (null != selectedFields) {
             jsonObjectBuilder.set(SudoCommand.JsonFields.SELECTED_FIELDS, selectedFields.toString(), predicate);
         }
+
+        if (useOriginalSchemaVersion) {
+            jsonObjectBuilder.set(JSON_USE_ORIGINAL_SCHEMA_VERSION, true, predicate);
+        }
     }
 
     @Override
@@ -196,13 +233,13 @@ public final class SudoRetrieveThings extends AbstractCommand<SudoRetrieveThings
 
     @Override
     public SudoRetrieveThings setDittoHeaders(final DittoHeaders dittoHeaders) {
-        return of(thingIds, selectedFields, dittoHeaders);
+        return new SudoRetrieveThings(thingIds, selectedFields, dittoHeaders, useOriginalSchemaVersion);
     }
 
     @SuppressWarnings("squid:S109")
     @Override
     public int hashCode() {
-        return Objects.hash(thingIds, selectedFields, super.hashCode());
+        return Objects.hash(thingIds, selectedFields, useOriginalSchemaVersion, super.hashCode());
     }
 
     @SuppressWarnings({"squid:MethodCyclomaticComplexity", "squid:S1067", "pmd:SimplifyConditional"})
@@ -216,7 +253,8 @@ public final class SudoRetrieveThings extends AbstractCommand<SudoRetrieveThings
         }
         final SudoRetrieveThings that = (SudoRetrieveThings) obj;
         return that.canEqual(this) && Objects.equals(thingIds, that.thingIds)
-                && Objects.equals(selectedFields, that.selectedFields) && super.equals(that);
+                && Objects.equals(selectedFields, that.selectedFields)
+                && useOriginalSchemaVersion == that.useOriginalSchemaVersion && super.equals(that);
     }
 
     @Override
@@ -227,7 +265,7 @@ public final class SudoRetrieveThings extends AbstractCommand<SudoRetrieveThings
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" + super.toString() + ", thingIds=" + thingIds + ", selectedFields="
-                + selectedFields + "]";
+                + selectedFields + ", useOriginalSchemaVersion=" + useOriginalSchemaVersion + "]";
     }
 
 }
@@ -120,6 +120,17 @@ public final class SudoRetrieveThingsTest {
         assertThat(underTest.getSelectedFields()).isEqualTo(Optional.of(getJsonFieldSelector()));
     }
 
+    @Test
+    public void jsonSerializationRetainsOriginalSchemaVersionFlag() {
+        final SudoRetrieveThings underTest =
+                SudoRetrieveThings.withOriginalSchemaVersion(getThingIds(), EMPTY_DITTO_HEADERS);
+        final JsonObject actualJson = underTest.toJson(FieldType.regularOrSpecial());
+
+        assertThat(actualJson).isEqualTo(KNOWN_JSON.setValue(
+                SudoRetrieveThings.JSON_USE_ORIGINAL_SCHEMA_VERSION.getPointer(), true));
+        assertThat(SudoRetrieveThings.fromJson(actualJson, EMPTY_DITTO_HEADERS)).isEqualTo(underTest);
+    }
+
     @Test
     public void checkSudoCommandTypeWorks() {
         final SudoRetrieveThings sudoRetrieveThings =
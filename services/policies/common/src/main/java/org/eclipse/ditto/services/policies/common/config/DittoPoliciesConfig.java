@@ -25,6 +25,8 @@ import org.eclipse.ditto.services.utils.config.ScopedConfig;
 import org.eclipse.ditto.services.utils.health.config.DefaultHealthCheckConfig;
 import org.eclipse.ditto.services.utils.health.config.HealthCheckConfig;
 import org.eclipse.ditto.services.utils.metrics.config.MetricsConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.BinaryStorageConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultBinaryStorageConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultMongoDbConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultTagsConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.MongoDbConfig;
@@ -44,6 +46,7 @@ public final class DittoPoliciesConfig implements PoliciesConfig {
 
     private final DittoServiceConfig serviceSpecificConfig;
     private final PersistenceOperationsConfig persistenceOperationsConfig;
+    private final BinaryStorageConfig binaryStorageConfig;
     private final MongoDbConfig mongoDbConfig;
     private final HealthCheckConfig healthCheckConfig;
     private final PolicyConfig policyConfig;
@@ -53,6 +56,7 @@ public final class DittoPoliciesConfig implements PoliciesConfig {
     private DittoPoliciesConfig(final ScopedConfig dittoScopedConfig) {
         serviceSpecificConfig = DittoServiceConfig.of(dittoScopedConfig, CONFIG_PATH);
         persistenceOperationsConfig = DefaultPersistenceOperationsConfig.of(dittoScopedConfig);
+        binaryStorageConfig = DefaultBinaryStorageConfig.of(dittoScopedConfig);
         mongoDbConfig = DefaultMongoDbConfig.of(dittoScopedConfig);
         healthCheckConfig = DefaultHealthCheckConfig.of(dittoScopedConfig);
         policyConfig = DefaultPolicyConfig.of(serviceSpecificConfig);
@@ -97,6 +101,11 @@ public final class DittoPoliciesConfig implements PoliciesConfig {
         return persistenceOperationsConfig;
     }
 
+    @Override
+    public BinaryStorageConfig getBinaryStorageConfig() {
+        return binaryStorageConfig;
+    }
+
     @Override
     public MongoDbConfig getMongoDbConfig() {
         return mongoDbConfig;
@@ -133,6 +142,7 @@ public final class DittoPoliciesConfig implements PoliciesConfig {
         final DittoPoliciesConfig that = (DittoPoliciesConfig) o;
         return Objects.equals(serviceSpecificConfig, that.serviceSpecificConfig) &&
                 Objects.equals(persistenceOperationsConfig, that.persistenceOperationsConfig) &&
+                Objects.equals(binaryStorageConfig, that.binaryStorageConfig) &&
                 Objects.equals(mongoDbConfig, that.mongoDbConfig) &&
                 Objects.equals(healthCheckConfig, that.healthCheckConfig) &&
                 Objects.equals(policyConfig, that.policyConfig) &&
@@ -142,8 +152,8 @@ public final class DittoPoliciesConfig implements PoliciesConfig {
 
     @Override
     public int hashCode() {
-        return Objects.hash(serviceSpecificConfig, persistenceOperationsConfig, mongoDbConfig, healthCheckConfig,
-                policyConfig, pingConfig, tagsConfig);
+        return Objects.hash(serviceSpecificConfig, persistenceOperationsConfig, binaryStorageConfig, mongoDbConfig,
+                healthCheckConfig, policyConfig, pingConfig, tagsConfig);
     }
 
     @Override
@@ -151,6 +161,7 @@ public final class DittoPoliciesConfig implements PoliciesConfig {
         return getClass().getSimpleName() + " [" +
                 "serviceSpecificConfig=" + serviceSpecificConfig +
                 ", persistenceOperationsConfig=" + persistenceOperationsConfig +
+                ", binaryStorageConfig=" + binaryStorageConfig +
                 ", mongoDbConfig=" + mongoDbConfig +
                 ", healthCheckConfig=" + healthCheckConfig +
                 ", policyConfig=" + policyConfig +
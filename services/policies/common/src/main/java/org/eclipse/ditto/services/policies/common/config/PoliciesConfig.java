@@ -16,6 +16,7 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.base.config.ServiceSpecificConfig;
 import org.eclipse.ditto.services.utils.health.config.WithHealthCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WithBinaryStorageConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithMongoDbConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithTagsConfig;
 import org.eclipse.ditto.services.utils.persistence.operations.WithPersistenceOperationsConfig;
@@ -26,7 +27,7 @@ import org.eclipse.ditto.services.utils.persistentactors.config.PingConfig;
  */
 @Immutable
 public interface PoliciesConfig extends ServiceSpecificConfig, WithHealthCheckConfig, WithPersistenceOperationsConfig,
-        WithMongoDbConfig, WithTagsConfig {
+        WithMongoDbConfig, WithTagsConfig, WithBinaryStorageConfig {
 
     /**
      * Returns the configuration settings for policy entities.
@@ -12,12 +12,18 @@
  */
 package org.eclipse.ditto.services.policies.persistence.serializer;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
 import javax.annotation.concurrent.ThreadSafe;
 
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.policies.PoliciesModelFactory;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.services.utils.persistence.mongo.AbstractMongoSnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.BinaryStorageConfig;
 import org.slf4j.LoggerFactory;
 
 /**
@@ -34,6 +40,24 @@ public final class PolicyMongoSnapshotAdapter extends AbstractMongoSnapshotAdapt
         super(LoggerFactory.getLogger(PolicyMongoSnapshotAdapter.class));
     }
 
+    /**
+     * Constructs a new {@code PolicyMongoSnapshotAdapter} which writes snapshots in the binary storage format if it
+     * is enabled.
+     *
+     * @param binaryStorageConfig the config of the binary storage format.
+     * @since 2.0.0
+     */
+    public PolicyMongoSnapshotAdapter(final BinaryStorageConfig binaryStorageConfig) {
+        super(LoggerFactory.getLogger(PolicyMongoSnapshotAdapter.class), binaryStorageConfig);
+    }
+
+    @Override
+    protected Collection<String> getPlainFieldNames() {
+        final List<String> plainFieldNames = new ArrayList<>(super.getPlainFieldNames());
+        plainFieldNames.add("policyId");
+        return Collections.unmodifiableList(plainFieldNames);
+    }
+
     @Override
     protected Policy createJsonifiableFrom(final JsonObject jsonObject) {
         return PoliciesModelFactory.newPolicy(jsonObject);
@@ -25,6 +25,8 @@ import org.eclipse.ditto.services.utils.config.ScopedConfig;
 import org.eclipse.ditto.services.utils.health.config.DefaultHealthCheckConfig;
 import org.eclipse.ditto.services.utils.health.config.HealthCheckConfig;
 import org.eclipse.ditto.services.utils.metrics.config.MetricsConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.BinaryStorageConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultBinaryStorageConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultMongoDbConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultTagsConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.MongoDbConfig;
@@ -43,6 +45,7 @@ public final class DittoThingsConfig implements ThingsConfig {
     private final DittoServiceConfig serviceSpecificConfig;
     private final boolean logIncomingMessages;
     private final PersistenceOperationsConfig persistenceOperationsConfig;
+    private final BinaryStorageConfig binaryStorageConfig;
     private final MongoDbConfig mongoDbConfig;
     private final HealthCheckConfig healthCheckConfig;
     private final TagsConfig tagsConfig;
@@ -52,6 +55,7 @@ public final class DittoThingsConfig implements ThingsConfig {
         serviceSpecificConfig = DittoServiceConfig.of(dittoScopedConfig, CONFIG_PATH);
         logIncomingMessages = serviceSpecificConfig.getBoolean(ThingsConfigValue.LOG_INCOMING_MESSAGES.getConfigPath());
         persistenceOperationsConfig = DefaultPersistenceOperationsConfig.of(dittoScopedConfig);
+        binaryStorageConfig = DefaultBinaryStorageConfig.of(dittoScopedConfig);
         mongoDbConfig = DefaultMongoDbConfig.of(dittoScopedConfig);
         healthCheckConfig = DefaultHealthCheckConfig.of(dittoScopedConfig);
         tagsConfig = DefaultTagsConfig.of(serviceSpecificConfig);
@@ -95,6 +99,11 @@ public final class DittoThingsConfig implements ThingsConfig {
         return persistenceOperationsConfig;
     }
 
+    @Override
+    public BinaryStorageConfig getBinaryStorageConfig() {
+        return binaryStorageConfig;
+    }
+
     @Override
     public MongoDbConfig getMongoDbConfig() {
         return mongoDbConfig;
@@ -132,6 +141,7 @@ public final class DittoThingsConfig implements ThingsConfig {
         return logIncomingMessages == that.logIncomingMessages &&
                 Objects.equals(serviceSpecificConfig, that.serviceSpecificConfig) &&
                 Objects.equals(persistenceOperationsConfig, that.persistenceOperationsConfig) &&
+                Objects.equals(binaryStorageConfig, that.binaryStorageConfig) &&
                 Objects.equals(mongoDbConfig, that.mongoDbConfig) &&
                 Objects.equals(healthCheckConfig, that.healthCheckConfig) &&
                 Objects.equals(tagsConfig, that.tagsConfig) &&
@@ -140,8 +150,8 @@ public final class DittoThingsConfig implements ThingsConfig {
 
     @Override
     public int hashCode() {
-        return Objects.hash(serviceSpecificConfig, logIncomingMessages, persistenceOperationsConfig, mongoDbConfig,
-                healthCheckConfig, tagsConfig, thingConfig);
+        return Objects.hash(serviceSpecificConfig, logIncomingMessages, persistenceOperationsConfig,
+                binaryStorageConfig, mongoDbConfig, healthCheckConfig, tagsConfig, thingConfig);
     }
 
     @Override
@@ -150,6 +160,7 @@ public final class DittoThingsConfig implements ThingsConfig {
                 "serviceSpecificConfig=" + serviceSpecificConfig +
                 ", logIncomingMessages=" + logIncomingMessages +
                 ", persistenceOperationsConfig=" + persistenceOperationsConfig +
+                ", binaryStorageConfig=" + binaryStorageConfig +
                 ", mongoDbConfig=" + mongoDbConfig +
                 ", healthCheckConfig=" + healthCheckConfig +
                 ", tagsConfig=" + tagsConfig +
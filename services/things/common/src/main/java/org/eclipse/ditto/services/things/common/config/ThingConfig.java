@@ -15,6 +15,8 @@ package org.eclipse.ditto.services.things.common.config;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.base.config.supervision.WithSupervisorConfig;
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.GroupCommitConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithSnapshotConfig;
 
@@ -23,4 +25,53 @@ import org.eclipse.ditto.services.utils.persistence.mongo.config.WithSnapshotCon
  */
 @Immutable
 public interface ThingConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithSnapshotConfig {
+
+    /**
+     * Indicates whether a modification of a whole thing should be persisted and published as {@code ThingMerged}
+     * event containing only the JSON merge patch between the previous and the new thing instead of a
+     * {@code ThingModified} event containing the complete new thing.
+     *
+     * @return {@code true} if merged events should be emitted for modifications of whole things.
+     * @since 2.0.0
+     */
+    boolean isEmitMergedEventOnModify();
+
+    /**
+     * Returns the config for persisting the events of commands arriving in short succession together.
+     *
+     * @return the group commit config.
+     * @since 2.0.0
+     */
+    GroupCommitConfig getGroupCommitConfig();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for {@code ThingConfig}.
+     */
+    enum ThingConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether to emit {@code ThingMerged} events for modifications of whole things.
+         */
+        EMIT_MERGED_EVENT_ON_MODIFY("emit-merged-event-on-modify", false);
+
+        private final String path;
+        private final Object defaultValue;
+
+        ThingConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
 }
@@ -17,6 +17,7 @@ import javax.annotation.concurrent.Immutable;
 import org.eclipse.ditto.services.base.config.ServiceSpecificConfig;
 import org.eclipse.ditto.services.utils.config.KnownConfigValue;
 import org.eclipse.ditto.services.utils.health.config.WithHealthCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WithBinaryStorageConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithMongoDbConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithTagsConfig;
 import org.eclipse.ditto.services.utils.persistence.operations.WithPersistenceOperationsConfig;
@@ -26,7 +27,7 @@ import org.eclipse.ditto.services.utils.persistence.operations.WithPersistenceOp
  */
 @Immutable
 public interface ThingsConfig extends ServiceSpecificConfig, WithHealthCheckConfig, WithPersistenceOperationsConfig,
-        WithMongoDbConfig, WithTagsConfig {
+        WithMongoDbConfig, WithTagsConfig, WithBinaryStorageConfig {
 
     /**
      * Indicates whether minimal information for all incoming messages should be logged.
@@ -29,6 +29,7 @@ import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoSnapsh
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.GroupCommitConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractShardedPersistenceActor;
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
@@ -138,7 +139,7 @@ public final class ThingPersistenceActor
 
     @Override
     protected ThingCommandStrategies getCreatedStrategy() {
-        return ThingCommandStrategies.getInstance();
+        return ThingCommandStrategies.getInstance(thingConfig);
     }
 
     @Override
@@ -161,6 +162,11 @@ public final class ThingPersistenceActor
         return thingConfig.getSnapshotConfig();
     }
 
+    @Override
+    protected GroupCommitConfig getGroupCommitConfig() {
+        return thingConfig.getGroupCommitConfig();
+    }
+
     @Override
     protected boolean entityExistsAsDeleted() {
         return null != entity && entity.hasLifecycle(ThingLifecycle.DELETED);
@@ -182,7 +188,7 @@ public final class ThingPersistenceActor
 
     @Override
     protected void publishEvent(final ThingEvent<?> event) {
-        distributedPub.publishWithAcks(event, ACK_EXTRACTOR, getSender());
+        distributedPub.publishWithAcks(event, ACK_EXTRACTOR, getEventSender());
     }
 
     @Override
@@ -20,7 +20,9 @@ import java.util.Optional;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.model.base.entity.metadata.Metadata;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
@@ -39,6 +41,7 @@ import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleEx
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThingResponse;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
+import org.eclipse.ditto.signals.events.things.ThingMerged;
 import org.eclipse.ditto.signals.events.things.ThingModified;
 
 /**
@@ -47,11 +50,25 @@ import org.eclipse.ditto.signals.events.things.ThingModified;
 @Immutable
 final class ModifyThingStrategy extends AbstractThingCommandStrategy<ModifyThing> {
 
+    private final boolean emitMergedEvent;
+
     /**
-     * Constructs a new {@code ModifyThingStrategy} object.
+     * Constructs a new {@code ModifyThingStrategy} object which always emits {@link ThingModified} events.
      */
     ModifyThingStrategy() {
+        this(false);
+    }
+
+    /**
+     * Constructs a new {@code ModifyThingStrategy} object.
+     *
+     * @param emitMergedEvent whether to emit a {@link ThingMerged} event containing only the JSON merge patch between
+     * the existing and the modified thing instead of a {@link ThingModified} event containing the whole modified
+     * thing.
+     */
+    ModifyThingStrategy(final boolean emitMergedEvent) {
         super(ModifyThing.class);
+        this.emitMergedEvent = emitMergedEvent;
     }
 
     @Override
@@ -198,9 +215,37 @@ final class ModifyThingStrategy extends AbstractThingCommandStrategy<ModifyThing
                 ? command.getThing()
                 : copyPolicyId(context, thing, command.getThing());
 
-        return applyModifyCommand(context, thing, eventTs, nextRevision,
-                ModifyThing.of(command.getThingEntityId(), thingWithPolicyId, null, command.getDittoHeaders()),
-                metadata);
+        final ModifyThing modifyThing =
+                ModifyThing.of(command.getThingEntityId(), thingWithPolicyId, null, command.getDittoHeaders());
+        if (emitMergedEvent) {
+            return applyModifyCommandAsMerge(context, thing, eventTs, nextRevision, modifyThing, metadata);
+        }
+        return applyModifyCommand(context, thing, eventTs, nextRevision, modifyThing, metadata);
+    }
+
+    /**
+     * Applies the {@link ModifyThing} command like {@link #applyModifyCommand} but emits a {@link ThingMerged} event
+     * with the JSON merge patch between the existing and the modified thing.
+     * Falls back to a {@link ThingModified} event if the modification cannot be expressed as merge patch, i. e. if
+     * the modified thing contains {@code null} values.
+     */
+    private Result<ThingEvent<?>> applyModifyCommandAsMerge(final Context<ThingId> context, final Thing thing,
+            final Instant eventTs, final long nextRevision, final ModifyThing command,
+            @Nullable final Metadata metadata) {
+
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        final Thing modifiedThing = mergeThingModifications(command.getThing(), thing, eventTs, nextRevision);
+        final Optional<JsonObject> mergePatch = JsonFactory.diff(thing.toJson(), modifiedThing.toJson());
+        if (mergePatch.isEmpty()) {
+            return applyModifyCommand(context, thing, eventTs, nextRevision, command, metadata);
+        }
+
+        final ThingEvent<?> event = ThingMerged.of(context.getState(), JsonPointer.empty(), mergePatch.get(),
+                nextRevision, eventTs, dittoHeaders, metadata);
+        final WithDittoHeaders<?> response = appendETagHeaderIfProvided(command,
+                ModifyThingResponse.modified(context.getState(), dittoHeaders), modifiedThing);
+
+        return ResultFactory.newMutationResult(command, event, response);
     }
 
     private Result<ThingEvent<?>> applyModifyCommand(final Context<ThingId> context, final Thing thing,
@@ -12,8 +12,12 @@
  */
 package org.eclipse.ditto.services.things.persistence.actors.strategies.commands;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.things.common.config.ThingConfig;
 import org.eclipse.ditto.services.utils.persistentactors.commands.AbstractCommandStrategies;
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.results.Result;
@@ -28,14 +32,18 @@ import org.eclipse.ditto.signals.events.things.ThingEvent;
 public final class ThingCommandStrategies
         extends AbstractCommandStrategies<Command<?>, Thing, ThingId, ThingEvent<?>> {
 
-    private static final ThingCommandStrategies INSTANCE = new ThingCommandStrategies();
+    /**
+     * One instance per value of {@link ThingConfig#isEmitMergedEventOnModify()}, the only config value the
+     * strategies depend on.
+     */
+    private static final Map<Boolean, ThingCommandStrategies> INSTANCES = new ConcurrentHashMap<>();
 
     /**
      * Constructs a new {@code ThingCommandReceiveStrategy} object.
      */
-    private ThingCommandStrategies() {
+    private ThingCommandStrategies(final boolean emitMergedEventOnModify) {
         super(Command.class);
-        addThingStrategies();
+        addThingStrategies(emitMergedEventOnModify);
         addPolicyStrategies();
         addAclStrategies();
         addAttributesStrategies();
@@ -48,12 +56,14 @@ public final class ThingCommandStrategies
     }
 
     /**
-     * Returns the <em>singleton</em> instance of {@code ThingReceiveStrategy}.
+     * Returns the instance of {@code ThingReceiveStrategy} for the given config. Instances are shared between all
+     * callers passing a config with the same {@code emit-merged-event-on-modify} setting.
      *
+     * @param thingConfig the ThingConfig of the Things service to apply.
      * @return the instance.
      */
-    public static ThingCommandStrategies getInstance() {
-        return INSTANCE;
+    public static ThingCommandStrategies getInstance(final ThingConfig thingConfig) {
+        return INSTANCES.computeIfAbsent(thingConfig.isEmitMergedEventOnModify(), ThingCommandStrategies::new);
     }
 
     /**
@@ -65,9 +75,9 @@ public final class ThingCommandStrategies
         return CreateThingStrategy.getInstance();
     }
 
-    private void addThingStrategies() {
+    private void addThingStrategies(final boolean emitMergedEventOnModify) {
         addStrategy(new ThingConflictStrategy());
-        addStrategy(new ModifyThingStrategy());
+        addStrategy(new ModifyThingStrategy(emitMergedEventOnModify));
         addStrategy(new RetrieveThingStrategy());
         addStrategy(new DeleteThingStrategy());
         addStrategy(new MergeThingStrategy());
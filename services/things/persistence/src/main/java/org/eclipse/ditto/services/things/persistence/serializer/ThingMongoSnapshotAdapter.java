@@ -12,6 +12,10 @@
  */
 package org.eclipse.ditto.services.things.persistence.serializer;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import javax.annotation.concurrent.ThreadSafe;
@@ -24,6 +28,7 @@ import org.eclipse.ditto.services.models.things.DittoThingSnapshotTaken;
 import org.eclipse.ditto.services.models.things.ThingSnapshotTaken;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.persistence.mongo.AbstractMongoSnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.BinaryStorageConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,6 +56,27 @@ public final class ThingMongoSnapshotAdapter extends AbstractMongoSnapshotAdapte
         this.pubSubMediator = pubSubMediator;
     }
 
+    /**
+     * Constructs a new {@code ThingMongoSnapshotAdapter} which writes snapshots in the binary storage format if it is
+     * enabled.
+     *
+     * @param pubSubMediator Akka pubsub mediator with which to publish snapshot events.
+     * @param binaryStorageConfig the config of the binary storage format.
+     * @since 2.0.0
+     */
+    public ThingMongoSnapshotAdapter(final ActorRef pubSubMediator, final BinaryStorageConfig binaryStorageConfig) {
+        super(LOGGER, binaryStorageConfig);
+        this.pubSubMediator = pubSubMediator;
+    }
+
+    @Override
+    protected Collection<String> getPlainFieldNames() {
+        final List<String> plainFieldNames = new ArrayList<>(super.getPlainFieldNames());
+        plainFieldNames.add("thingId");
+        plainFieldNames.add("policyId");
+        return Collections.unmodifiableList(plainFieldNames);
+    }
+
     @Override
     protected Thing createJsonifiableFrom(final JsonObject jsonObject) {
         return ThingsModelFactory.newThing(jsonObject);
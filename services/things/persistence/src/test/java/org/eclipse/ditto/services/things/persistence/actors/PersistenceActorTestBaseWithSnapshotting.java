@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.things.persistence.actors;
 
 import static org.eclipse.ditto.signals.events.things.assertions.ThingEventAssertions.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.time.Duration;
@@ -71,6 +72,7 @@ public abstract class PersistenceActorTestBaseWithSnapshotting extends Persisten
 
     private static final String SNAPSHOT_PREFIX = "ditto.things.thing.snapshot.";
     static final String SNAPSHOT_THRESHOLD = SNAPSHOT_PREFIX + "threshold";
+    static final String SNAPSHOT_BASE_INTERVAL = SNAPSHOT_PREFIX + "base-snapshot-interval";
     private static final String SNAPSHOT_INTERVAL = SNAPSHOT_PREFIX + "interval";
     private static final String ACTIVITY_CHECK_PREFIX = "ditto.things.thing.activity-check";
     private static final String ACTIVITY_CHECK_INTERVAL = ACTIVITY_CHECK_PREFIX + "inactive-interval";
@@ -79,6 +81,7 @@ public abstract class PersistenceActorTestBaseWithSnapshotting extends Persisten
     private ThingMongoEventAdapter eventAdapter;
     private ThingsJournalTestHelper<ThingEvent<?>> journalTestHelper;
     private ThingsSnapshotTestHelper<Thing> snapshotTestHelper;
+    private ThingsSnapshotTestHelper<BsonDocument> rawSnapshotTestHelper;
 
     private Map<Class<? extends Command<?>>, BiFunction<Command<?>, Thing, ThingEvent<?>>> commandToEventMapperRegistry;
 
@@ -101,6 +104,8 @@ public abstract class PersistenceActorTestBaseWithSnapshotting extends Persisten
         snapshotTestHelper = new ThingsSnapshotTestHelper<>(actorSystem,
                 PersistenceActorTestBaseWithSnapshotting::convertSnapshotDataToThing,
                 PersistenceActorTestBaseWithSnapshotting::convertDomainIdToPersistenceId);
+        rawSnapshotTestHelper = new ThingsSnapshotTestHelper<>(actorSystem, (dbObject, sequenceNumber) -> dbObject,
+                PersistenceActorTestBaseWithSnapshotting::convertDomainIdToPersistenceId);
 
         commandToEventMapperRegistry = new HashMap<>();
         commandToEventMapperRegistry.put(CreateThing.class, (command, thing) -> {
@@ -210,6 +215,22 @@ public abstract class PersistenceActorTestBaseWithSnapshotting extends Persisten
         });
     }
 
+    void assertLatestSnapshotIsDelta(final ThingId thingId, final long expectedRevision,
+            final boolean expectedDelta) {
+
+        retryOnAssertionError(() -> {
+            final BsonDocument snapshot = rawSnapshotTestHelper.getMaxSnapshot(thingId)
+                    .orElseThrow(() -> new AssertionError("Expected a snapshot of " + thingId));
+            assertEquals(expectedRevision, snapshot.getNumber("_revision").longValue());
+            assertEquals("snapshot of revision " + expectedRevision + " is a delta snapshot", expectedDelta,
+                    snapshot.containsKey("__deltaBase"));
+        });
+    }
+
+    void deleteSnapshot(final ThingId thingId, final long revision) {
+        rawSnapshotTestHelper.deleteSnapshot(thingId, revision);
+    }
+
     private static void retryOnAssertionError(final Runnable r) {
         Assertions.retryOnAssertionError(r, PERSISTENCE_ASSERT_WAIT_AT_MOST_MS, PERSISTENCE_ASSERT_RETRY_DELAY_MS);
     }
@@ -223,6 +223,144 @@ public final class ThingPersistenceActorSnapshottingTest extends PersistenceActo
         };
     }
 
+    @Test
+    public void thingIsRecoveredFromDeltaSnapshot() {
+        final Config customConfig = createNewDefaultTestConfig()
+                .withValue(SNAPSHOT_THRESHOLD, ConfigValueFactory.fromAnyRef(1))
+                .withValue(SNAPSHOT_BASE_INTERVAL, ConfigValueFactory.fromAnyRef(3));
+        setup(customConfig);
+
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+
+                ActorRef underTest = createPersistenceActorFor(thingId);
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                Thing modifiedThing = thing;
+                for (int revision = 2; revision <= 3; revision++) {
+                    modifiedThing = ThingsModelFactory.newThingBuilder(modifiedThing)
+                            .setAttribute(JsonFactory.newPointer("/counter"), JsonValue.of(revision))
+                            .removeAttribute(JsonFactory.newPointer("/removed" + (revision - 1)))
+                            .setAttribute(JsonFactory.newPointer("/removed" + revision), JsonValue.of(true))
+                            .setRevision(revision)
+                            .build();
+                    underTest.tell(ModifyThing.of(thingId, modifiedThing, null, dittoHeadersV2), getRef());
+                    expectMsgClass(ModifyThingResponse.class);
+                }
+
+                // restart actor to recover the thing from the base snapshot and the delta snapshot against it
+                watch(underTest);
+                underTest.tell(PoisonPill.getInstance(), getRef());
+                expectTerminated(underTest);
+                underTest = Retry.untilSuccess(() -> createPersistenceActorFor(thingId));
+
+                final RetrieveThing retrieveThing = RetrieveThing.getBuilder(thingId, dittoHeadersV2)
+                        .withSelectedFields(FIELD_SELECTOR)
+                        .build();
+                underTest.tell(retrieveThing, getRef());
+
+                final RetrieveThingResponse retrieveThingResponse = expectMsgClass(RetrieveThingResponse.class);
+                assertThingInResponse(retrieveThingResponse.getThing(), modifiedThing, 3);
+            }
+        };
+    }
+
+    @Test
+    public void baseSnapshotIsWrittenAfterRestartsBetweenDeltaSnapshots() {
+        final Config customConfig = createNewDefaultTestConfig()
+                .withValue(SNAPSHOT_THRESHOLD, ConfigValueFactory.fromAnyRef(1))
+                .withValue(SNAPSHOT_BASE_INTERVAL, ConfigValueFactory.fromAnyRef(3));
+        setup(customConfig);
+
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+
+                ActorRef underTest = createPersistenceActorFor(thingId);
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+                assertLatestSnapshotIsDelta(thingId, 1, false);
+
+                Thing modifiedThing = thing;
+                for (int revision = 2; revision <= 5; revision++) {
+                    // restart actor before each snapshot so that the delta ordinal is recovered from the snapshot
+                    watch(underTest);
+                    underTest.tell(PoisonPill.getInstance(), getRef());
+                    expectTerminated(underTest);
+                    underTest = Retry.untilSuccess(() -> createPersistenceActorFor(thingId));
+
+                    modifiedThing = ThingsModelFactory.newThingBuilder(modifiedThing)
+                            .setAttribute(JsonFactory.newPointer("/counter"), JsonValue.of(revision))
+                            .setRevision(revision)
+                            .build();
+                    underTest.tell(ModifyThing.of(thingId, modifiedThing, null, dittoHeadersV2), getRef());
+                    expectMsgClass(ModifyThingResponse.class);
+
+                    // every third snapshot is a base snapshot: revisions 1 and 4
+                    assertLatestSnapshotIsDelta(thingId, revision, revision != 4);
+                }
+
+                final RetrieveThing retrieveThing = RetrieveThing.getBuilder(thingId, dittoHeadersV2)
+                        .withSelectedFields(FIELD_SELECTOR)
+                        .build();
+                underTest.tell(retrieveThing, getRef());
+                final RetrieveThingResponse retrieveThingResponse = expectMsgClass(RetrieveThingResponse.class);
+                assertThingInResponse(retrieveThingResponse.getThing(), modifiedThing, 5);
+            }
+        };
+    }
+
+    @Test
+    public void deltaSnapshotIsKeptIfItsBaseSnapshotIsMissing() {
+        final Config customConfig = createNewDefaultTestConfig()
+                .withValue(SNAPSHOT_THRESHOLD, ConfigValueFactory.fromAnyRef(1))
+                .withValue(SNAPSHOT_BASE_INTERVAL, ConfigValueFactory.fromAnyRef(3));
+        setup(customConfig);
+
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+
+                ActorRef underTest = createPersistenceActorFor(thingId);
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+                assertLatestSnapshotIsDelta(thingId, 1, false);
+
+                final Thing modifiedThing = ThingsModelFactory.newThingBuilder(thing)
+                        .setAttribute(JsonFactory.newPointer("/counter"), JsonValue.of(2))
+                        .setRevision(2)
+                        .build();
+                underTest.tell(ModifyThing.of(thingId, modifiedThing, null, dittoHeadersV2), getRef());
+                expectMsgClass(ModifyThingResponse.class);
+                assertLatestSnapshotIsDelta(thingId, 2, true);
+
+                watch(underTest);
+                underTest.tell(PoisonPill.getInstance(), getRef());
+                expectTerminated(underTest);
+                deleteSnapshot(thingId, 1);
+
+                // recovery fails and the actor stops, every time it is started
+                disableLogging();
+                for (int attempt = 0; attempt < 2; attempt++) {
+                    underTest = createPersistenceActorFor(thingId);
+                    watch(underTest);
+                    underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+                    expectTerminated(underTest);
+                }
+                expectNoMessage();
+
+                // the delta snapshot is not deleted
+                assertLatestSnapshotIsDelta(thingId, 2, true);
+            }
+        };
+    }
+
     @Test
     public void actorCannotBeStartedWithNegativeSnapshotThreshold() {
         final Config customConfig = createNewDefaultTestConfig().withValue(SNAPSHOT_THRESHOLD,
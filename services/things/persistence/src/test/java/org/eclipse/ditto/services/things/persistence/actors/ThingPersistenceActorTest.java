@@ -27,6 +27,7 @@ import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils
 import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils.retrieveFeaturesResponse;
 import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils.retrieveThingResponse;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.NoSuchElementException;
 import java.util.concurrent.TimeUnit;
@@ -70,11 +71,14 @@ import org.eclipse.ditto.model.things.ThingRevision;
 import org.eclipse.ditto.model.things.ThingTooLargeException;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.services.utils.test.Retry;
 import org.eclipse.ditto.signals.commands.common.Shutdown;
 import org.eclipse.ditto.signals.commands.common.ShutdownReasonFactory;
 import org.eclipse.ditto.signals.commands.things.TestConstants;
 import org.eclipse.ditto.signals.commands.things.ThingCommand;
+import org.eclipse.ditto.signals.commands.things.exceptions.AttributeNotAccessibleException;
 import org.eclipse.ditto.signals.commands.things.exceptions.FeatureNotAccessibleException;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
@@ -122,9 +126,6 @@ import akka.cluster.pubsub.DistributedPubSubMediator;
 import akka.testkit.TestActorRef;
 import akka.testkit.javadsl.TestKit;
 import scala.PartialFunction;
-import scala.concurrent.Await;
-import scala.concurrent.Future;
-import scala.concurrent.duration.Duration;
 import scala.runtime.BoxedUnit;
 
 /**
@@ -187,10 +188,9 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
                 // terminate thing persistence actor
                 final String thingActorPath = String.format("akka://AkkaTestSystem/user/%s/pa", thingId);
                 final ActorSelection thingActorSelection = actorSystem.actorSelection(thingActorPath);
-                final Future<ActorRef> thingActorFuture =
-                        thingActorSelection.resolveOne(Duration.create(5, TimeUnit.SECONDS));
-                Await.result(thingActorFuture, Duration.create(6, TimeUnit.SECONDS));
-                final ActorRef thingActor = watch(thingActorFuture.value().get().get());
+                final ActorRef thingActor = watch(thingActorSelection.resolveOne(Duration.ofSeconds(5L))
+                        .toCompletableFuture()
+                        .get(6L, TimeUnit.SECONDS));
 
                 watch(thingActor);
                 thingActor.tell(PoisonPill.getInstance(), getRef());
@@ -234,7 +234,7 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
                 expectMsgClass(CreateThingResponse.class);
 
                 underTest.tell(modifyFeatureProperty, getRef());
-                final Object actual = receiveOne(scala.concurrent.duration.Duration.apply(1, TimeUnit.SECONDS));
+                final Object actual = receiveOne(Duration.ofSeconds(1L));
                 assertThat(actual).isInstanceOf(DittoRuntimeException.class);
                 assertThat(((DittoRuntimeException) actual).getErrorCode()).isEqualTo(
                         featureNotAccessibleException.getErrorCode());
@@ -753,6 +753,86 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
         };
     }
 
+    @Test
+    public void groupCommitRespondsToBurstOfModificationsInCommandOrder() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString("ditto.things.thing.group-commit { enabled = true, window = 1s }"));
+
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = getIdOrThrow(thing);
+        final int burst = 5;
+        final Histogram groupCommitSize = DittoMetrics.histogram("persistence_group_commit_size");
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thing);
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+                groupCommitSize.reset();
+
+                for (int i = 0; i < burst; i++) {
+                    underTest.tell(ModifyAttribute.of(thingId, JsonPointer.of("burst" + i), JsonValue.of(i),
+                            dittoHeadersV2), getRef());
+                }
+                underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+
+                // neither the modifications nor the query are answered before the group commit window elapsed
+                expectNoMessage(Duration.ofMillis(500L));
+                for (int i = 0; i < burst; i++) {
+                    expectMsgEquals(modifyAttributeResponse(thingId, JsonPointer.of("burst" + i), JsonValue.of(i),
+                            dittoHeadersV2, true));
+                }
+                final RetrieveThingResponse retrieveThingResponse = expectMsgClass(RetrieveThingResponse.class);
+                Assertions.assertThat(retrieveThingResponse.getThing().getAttributes()
+                        .flatMap(attributes -> attributes.getValue("burst" + (burst - 1))))
+                        .contains(JsonValue.of(burst - 1));
+
+                // the events of the burst were persisted with one group commit
+                Assertions.assertThat(groupCommitSize.getRecordedValues()).containsExactly((long) burst);
+
+                // the events of the group commit are in the journal
+                watch(underTest);
+                underTest.tell(PoisonPill.getInstance(), getRef());
+                expectTerminated(underTest);
+                final ActorRef recovered = createPersistenceActorFor(thing);
+                recovered.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+                final RetrieveThingResponse recoveredResponse = expectMsgClass(RetrieveThingResponse.class);
+                Assertions.assertThat(recoveredResponse.getThing().getAttributes()
+                        .flatMap(attributes -> attributes.getValue("burst" + (burst - 1))))
+                        .contains(JsonValue.of(burst - 1));
+            }
+        };
+    }
+
+    @Test
+    public void groupCommitSendsErrorResponseAfterPendingEventsArePersisted() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString("ditto.things.thing.group-commit { enabled = true, window = 1s }"));
+
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = getIdOrThrow(thing);
+        final JsonPointer attributeKey = JsonPointer.of("pending");
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thing);
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                underTest.tell(ModifyAttribute.of(thingId, attributeKey, JsonValue.of(true), dittoHeadersV2),
+                        getRef());
+                underTest.tell(DeleteAttribute.of(thingId, JsonPointer.of("nonexistent"), dittoHeadersV2),
+                        getRef());
+
+                // the error does not overtake the pending modification
+                expectNoMessage(Duration.ofMillis(500L));
+                expectMsgEquals(
+                        modifyAttributeResponse(thingId, attributeKey, JsonValue.of(true), dittoHeadersV2, true));
+                expectMsgClass(AttributeNotAccessibleException.class);
+            }
+        };
+    }
+
     @Test
     public void retrieveAttribute() {
         final JsonPointer attributeKey = JsonFactory.newPointer("isValid");
@@ -778,7 +858,7 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
                 underTest.tell(createThing, getRef());
 
                 final CreateThingResponse createThingResponse =
-                        expectMsgClass(java.time.Duration.ofSeconds(5), CreateThingResponse.class);
+                        expectMsgClass(Duration.ofSeconds(5), CreateThingResponse.class);
                 assertThingInResponseV2(createThingResponse.getThingCreated().orElse(null), thing);
 
                 // Retrieve attribute as authorized subject.
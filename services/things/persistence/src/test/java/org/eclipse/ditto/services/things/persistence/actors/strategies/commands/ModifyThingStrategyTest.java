@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.things.persistence.actors.strategies.commands;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.ditto.model.things.TestConstants.Thing.THING_V2;
 import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils.modifyThingResponse;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
@@ -19,12 +20,17 @@ import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable
 
 import java.time.Instant;
 
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
+import org.eclipse.ditto.signals.events.things.ThingMerged;
 import org.eclipse.ditto.signals.events.things.ThingModified;
 import org.junit.Before;
 import org.junit.Test;
@@ -68,4 +74,41 @@ public final class ModifyThingStrategyTest extends AbstractCommandStrategyTest {
                 ThingModified.class, modifyThingResponse(existing, thing, modifyThing.getDittoHeaders(), false));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void modifyExistingEmitsMergedEventIfEnabled() {
+        final CommandStrategy.Context<ThingId> context = getDefaultContext();
+        final Thing existing = THING_V2.toBuilder().setRevision(NEXT_REVISION - 1).build();
+        final Thing thing = existing.toBuilder()
+                .setAttribute(JsonPointer.of("manufacturer"), JsonValue.of("ACME"))
+                .removeAttribute(JsonPointer.of("maker"))
+                .build();
+        final ModifyThing modifyThing = ModifyThing.of(context.getState(), thing, null, DittoHeaders.empty());
+
+        final ThingMerged thingMerged = assertModificationResult(new ModifyThingStrategy(true), existing, modifyThing,
+                ThingMerged.class, modifyThingResponse(existing, thing, modifyThing.getDittoHeaders(), false));
+
+        assertThat(thingMerged.getResourcePath().isEmpty()).isTrue();
+        assertThat(thingMerged.getValue())
+                .isEqualTo(JsonObject.newBuilder()
+                        .set(JsonPointer.of("attributes/manufacturer"), "ACME")
+                        .set(JsonPointer.of("attributes/maker"), JsonValue.nullLiteral())
+                        .build());
+        assertThat(ThingsModelFactory.newThing(
+                JsonFactory.mergeJsonValues(thingMerged.getValue(), existing.toJson()).asObject()))
+                .isEqualTo(ThingsModelFactory.newThing(thing.toJson()));
+    }
+
+    @Test
+    public void modifyExistingEmitsModifiedEventIfMergePatchIsNotPossible() {
+        final CommandStrategy.Context<ThingId> context = getDefaultContext();
+        final Thing existing = THING_V2.toBuilder().setRevision(NEXT_REVISION - 1).build();
+        final Thing thing = existing.toBuilder()
+                .setAttribute(JsonPointer.of("manufacturer"), JsonValue.nullLiteral())
+                .build();
+        final ModifyThing modifyThing = ModifyThing.of(context.getState(), thing, null, DittoHeaders.empty());
+
+        assertModificationResult(new ModifyThingStrategy(true), existing, modifyThing,
+                ThingModified.class, modifyThingResponse(existing, thing, modifyThing.getDittoHeaders(), false));
+    }
+
+}
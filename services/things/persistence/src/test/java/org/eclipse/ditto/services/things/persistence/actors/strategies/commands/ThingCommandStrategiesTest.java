@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors.strategies.commands;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.ditto.services.things.common.config.ThingConfig;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ThingCommandStrategies}.
+ */
+public final class ThingCommandStrategiesTest {
+
+    @Test
+    public void getInstanceReturnsSameInstanceForSameMergedEventSetting() {
+        final ThingCommandStrategies first = ThingCommandStrategies.getInstance(thingConfig(true));
+        final ThingCommandStrategies second = ThingCommandStrategies.getInstance(thingConfig(true));
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void getInstanceHonoursMergedEventSettingOfEachConfig() {
+        final ThingCommandStrategies withoutMergedEvent = ThingCommandStrategies.getInstance(thingConfig(false));
+        final ThingCommandStrategies withMergedEvent = ThingCommandStrategies.getInstance(thingConfig(true));
+
+        assertThat(withMergedEvent).isNotSameAs(withoutMergedEvent);
+    }
+
+    private static ThingConfig thingConfig(final boolean emitMergedEventOnModify) {
+        final ThingConfig thingConfig = mock(ThingConfig.class);
+        when(thingConfig.isEmitMergedEventOnModify()).thenReturn(emitMergedEventOnModify);
+        return thingConfig;
+    }
+
+}
@@ -14,12 +14,15 @@ package org.eclipse.ditto.services.things.persistence.serializer;
 
 import static org.eclipse.ditto.model.base.assertions.DittoBaseAssertions.assertThat;
 
+import org.bson.BsonDocument;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.things.TestConstants;
+import org.eclipse.ditto.services.utils.persistence.mongo.BinaryStorage;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
 import org.eclipse.ditto.signals.events.things.AclEntryCreated;
 import org.eclipse.ditto.signals.events.things.AclEntryDeleted;
@@ -42,19 +45,74 @@ import org.eclipse.ditto.signals.events.things.FeaturesCreated;
 import org.eclipse.ditto.signals.events.things.FeaturesModified;
 import org.eclipse.ditto.signals.events.things.ThingCreated;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
+import org.junit.After;
 import org.junit.Test;
 
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.persistence.journal.Tagged;
+import akka.testkit.javadsl.TestKit;
+
 /**
  * Tests for {@link ThingMongoEventAdapter}.
  */
 public final class ThingMongoEventAdapterTest {
 
     private final ThingMongoEventAdapter underTest;
+    private ActorSystem system;
 
     public ThingMongoEventAdapterTest() {
         underTest = new ThingMongoEventAdapter(null);
     }
 
+    @After
+    public void cleanUp() {
+        if (system != null) {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void toJournalFromJournalRoundtripWithBinaryStorage() {
+        final ThingMongoEventAdapter binaryUnderTest = createAdapterWithBinaryStorage();
+        final AttributeModified attributeModified = AttributeModified.of(TestConstants.Thing.THING_ID,
+                JsonPointer.of("test1"), JsonValue.of(1234), 3L, DittoHeaders.empty());
+
+        final Object journalEntry = binaryUnderTest.toJournal(attributeModified);
+
+        assertThat(journalEntry).isInstanceOf(Tagged.class);
+        final Object payload = ((Tagged) journalEntry).payload();
+        assertThat(BinaryStorage.isBinary((BsonDocument) payload)).isTrue();
+        assertThat(((BsonDocument) payload).getString("type").getValue()).isEqualTo(AttributeModified.TYPE);
+        assertThat(((BsonDocument) payload).containsKey("thingId")).isFalse();
+
+        final Object actual = binaryUnderTest.fromJournal(payload, null).events().head();
+
+        assertThat(actual).isInstanceOf(AttributeModified.class);
+        final AttributeModified restored = (AttributeModified) actual;
+        assertThat((CharSequence) restored.getThingEntityId()).isEqualTo(TestConstants.Thing.THING_ID);
+        assertThat(restored.getAttributePointer()).isEqualTo(JsonPointer.of("test1"));
+        assertThat(restored.getAttributeValue()).isEqualTo(JsonValue.of(1234));
+    }
+
+    @Test
+    public void plainEventIsReadableWithBinaryStorage() {
+        final ThingMongoEventAdapter binaryUnderTest = createAdapterWithBinaryStorage();
+        final AttributeModified attributeModified = AttributeModified.of(TestConstants.Thing.THING_ID,
+                JsonPointer.of("test1"), JsonValue.of(1234), 3L, DittoHeaders.empty());
+        final Object plainPayload = ((Tagged) underTest.toJournal(attributeModified)).payload();
+        assertThat(BinaryStorage.isBinary((BsonDocument) plainPayload)).isFalse();
+
+        final Object actual = binaryUnderTest.fromJournal(plainPayload, null).events().head();
+
+        assertThat(actual).isInstanceOf(AttributeModified.class);
+        final AttributeModified restored = (AttributeModified) actual;
+        assertThat(restored.getAttributePointer()).isEqualTo(JsonPointer.of("test1"));
+        assertThat(restored.getAttributeValue()).isEqualTo(JsonValue.of(1234));
+    }
+
     @Test
     public void deserializeThingCreatedV1() {
         final JsonObject eventJson = JsonFactory.newObjectBuilder()
@@ -617,6 +675,12 @@ public final class ThingMongoEventAdapterTest {
                 .isEqualTo(TestConstants.Feature.FLUX_CAPACITOR_PROPERTIES.toJsonString());
     }
 
+    private ThingMongoEventAdapter createAdapterWithBinaryStorage() {
+        system = ActorSystem.create(getClass().getSimpleName(),
+                ConfigFactory.parseString("ditto.persistence.binary-storage.enabled = true"));
+        return new ThingMongoEventAdapter((ExtendedActorSystem) system);
+    }
+
     private static Object toDbObject(final JsonObject jsonObject) {
         final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
         return dittoBsonJson.parse(jsonObject);
@@ -14,16 +14,24 @@ package org.eclipse.ditto.services.things.persistence.serializer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Optional;
+
 import org.bson.BsonDocument;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.things.TestConstants;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.services.models.things.DittoThingSnapshotTaken;
 import org.eclipse.ditto.services.models.things.ThingSnapshotTaken;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.persistence.mongo.BinaryStorage;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultBinaryStorageConfig;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.actor.ActorSystem;
 import akka.persistence.SnapshotMetadata;
 import akka.persistence.SnapshotOffer;
@@ -41,12 +49,15 @@ public final class ThingMongoSnapshotAdapterTest {
     private ActorSystem system;
     private TestProbe pubSubProbe;
     private ThingMongoSnapshotAdapter underTest = null;
+    private ThingMongoSnapshotAdapter binaryUnderTest = null;
 
     @Before
     public void setUp() {
         system = ActorSystem.create();
         pubSubProbe = TestProbe.apply(system);
         underTest = new ThingMongoSnapshotAdapter(pubSubProbe.ref());
+        binaryUnderTest = new ThingMongoSnapshotAdapter(pubSubProbe.ref(), DefaultBinaryStorageConfig.of(
+                ConfigFactory.parseString("persistence.binary-storage.enabled = true")));
     }
 
     @After
@@ -68,6 +79,88 @@ public final class ThingMongoSnapshotAdapterTest {
         expectSnapshotPublished();
     }
 
+    @Test
+    public void toDeltaSnapshotStoreFromDeltaSnapshotStoreRoundtripReturnsExpected() {
+        final Thing base = TestConstants.Thing.THING_V2;
+        final Thing thing = base.toBuilder()
+                .setAttribute(JsonFactory.newPointer("/delta"), JsonValue.of(true))
+                .removeAllFeatures()
+                .setRevision(1234L)
+                .build();
+
+        final Optional<Object> rawDeltaSnapshot = underTest.toDeltaSnapshotStore(base, 42L, 2, thing);
+        assertThat(rawDeltaSnapshot).containsInstanceOf(BsonDocument.class);
+        final BsonDocument deltaSnapshot = (BsonDocument) rawDeltaSnapshot.get();
+        assertThat(deltaSnapshot.getNumber("_revision").longValue()).isEqualTo(1234L);
+        assertThat(deltaSnapshot.containsKey("attributes")).isFalse();
+        assertThat(underTest.getDeltaBaseSequenceNumber(deltaSnapshot)).hasValue(42L);
+        assertThat(underTest.getDeltaOrdinal(deltaSnapshot)).isEqualTo(2);
+        assertThat(underTest.fromDeltaSnapshotStore(base, deltaSnapshot)).isEqualTo(thing);
+        expectSnapshotPublished();
+    }
+
+    @Test
+    public void fullSnapshotHasNoDeltaBase() {
+        final Object rawSnapshotEntity = underTest.toSnapshotStore(TestConstants.Thing.THING_V2);
+        assertThat(underTest.getDeltaBaseSequenceNumber(rawSnapshotEntity)).isEmpty();
+        assertThat(underTest.getDeltaOrdinal(rawSnapshotEntity)).isZero();
+    }
+
+    @Test
+    public void toSnapshotStoreFromSnapshotStoreRoundtripWithBinaryStorageReturnsExpected() {
+        final Thing thing = TestConstants.Thing.THING_V2;
+
+        final Object rawSnapshotEntity = binaryUnderTest.toSnapshotStore(thing);
+
+        assertThat(rawSnapshotEntity).isInstanceOf(BsonDocument.class);
+        final BsonDocument document = (BsonDocument) rawSnapshotEntity;
+        assertThat(BinaryStorage.isBinary(document)).isTrue();
+        assertThat(document.getNumber("_revision").longValue()).isEqualTo(thing.getRevision().orElseThrow().toLong());
+        assertThat(document.containsKey("attributes")).isFalse();
+        assertThat(binaryUnderTest.getDeltaBaseSequenceNumber(document)).isEmpty();
+        assertThat(binaryUnderTest.fromSnapshotStore(new SnapshotOffer(SNAPSHOT_METADATA, document)))
+                .isEqualTo(thing);
+        expectSnapshotPublished();
+    }
+
+    @Test
+    public void toDeltaSnapshotStoreFromDeltaSnapshotStoreRoundtripWithBinaryStorageReturnsExpected() {
+        final Thing base = TestConstants.Thing.THING_V2;
+        final Thing thing = base.toBuilder()
+                .setAttribute(JsonFactory.newPointer("/delta"), JsonValue.of(true))
+                .removeAllFeatures()
+                .setRevision(1234L)
+                .build();
+
+        final Optional<Object> rawDeltaSnapshot = binaryUnderTest.toDeltaSnapshotStore(base, 42L, 2, thing);
+
+        assertThat(rawDeltaSnapshot).containsInstanceOf(BsonDocument.class);
+        final BsonDocument deltaSnapshot = (BsonDocument) rawDeltaSnapshot.get();
+        assertThat(deltaSnapshot.getNumber("_revision").longValue()).isEqualTo(1234L);
+        assertThat(BinaryStorage.isBinary(deltaSnapshot.get("__delta"))).isTrue();
+        assertThat(binaryUnderTest.getDeltaBaseSequenceNumber(deltaSnapshot)).hasValue(42L);
+        assertThat(binaryUnderTest.getDeltaOrdinal(deltaSnapshot)).isEqualTo(2);
+        assertThat(binaryUnderTest.fromDeltaSnapshotStore(base, deltaSnapshot)).isEqualTo(thing);
+        expectSnapshotPublished();
+    }
+
+    @Test
+    public void plainSnapshotsAreReadableWithBinaryStorage() {
+        final Thing base = TestConstants.Thing.THING_V2;
+        final Thing thing = base.toBuilder()
+                .setAttribute(JsonFactory.newPointer("/delta"), JsonValue.of(true))
+                .setRevision(1234L)
+                .build();
+        final Object plainSnapshot = underTest.toSnapshotStore(base);
+        final Object plainDeltaSnapshot = underTest.toDeltaSnapshotStore(base, 42L, 1, thing).orElseThrow();
+        assertThat(BinaryStorage.isBinary((BsonDocument) plainSnapshot)).isFalse();
+        assertThat(BinaryStorage.isBinary(((BsonDocument) plainDeltaSnapshot).get("__delta"))).isFalse();
+
+        assertThat(binaryUnderTest.fromSnapshotStore(new SnapshotOffer(SNAPSHOT_METADATA, plainSnapshot)))
+                .isEqualTo(base);
+        assertThat(binaryUnderTest.fromDeltaSnapshotStore(base, plainDeltaSnapshot)).isEqualTo(thing);
+    }
+
     private void expectSnapshotPublished() {
         pubSubProbe.expectMsg(DistPubSubAccess.publishViaGroup(
                 ThingSnapshotTaken.PUBSUB_TOPIC,
@@ -31,6 +31,7 @@ import com.typesafe.config.ConfigFactory;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.pattern.PatternsCS;
+import akka.persistence.DeleteSnapshotsSuccess;
 import akka.persistence.Persistence;
 import akka.persistence.SelectedSnapshot;
 import akka.persistence.SnapshotProtocol;
@@ -111,6 +112,27 @@ public final class ThingsSnapshotTestHelper<S> {
                 .orElse(Collections.emptyList());
     }
 
+    /**
+     * Deletes the snapshot with the given sequence number.
+     *
+     * @param domainId the domain ID of the snapshot
+     * @param sequenceNumber the sequence number of the snapshot
+     */
+    public void deleteSnapshot(final ThingId domainId, final long sequenceNumber) {
+        requireNonNull(domainId);
+
+        final String persistenceId = domainIdToPersistenceId.apply(domainId);
+        final SnapshotSelectionCriteria criteria =
+                SnapshotSelectionCriteria.create(sequenceNumber, Long.MAX_VALUE, sequenceNumber, 0L);
+        final Object result = waitForFuture(
+                PatternsCS.ask(snapshotPlugin, new SnapshotProtocol.DeleteSnapshots(persistenceId, criteria),
+                        Timeout.apply(WAIT_TIMEOUT, TimeUnit.SECONDS))
+                        .toCompletableFuture());
+        if (!(result instanceof DeleteSnapshotsSuccess)) {
+            throw new IllegalStateException("Failed to delete snapshot: " + result);
+        }
+    }
+
     private S convertSnapshotDataToDomainObject(final SelectedSnapshot snapshotData) {
         final BsonDocument dbObject = (BsonDocument) snapshotData.snapshot();
         return snapshotToDomainObject.apply(dbObject, snapshotData.metadata().sequenceNr());
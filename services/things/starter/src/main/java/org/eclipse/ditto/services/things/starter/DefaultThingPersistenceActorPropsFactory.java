@@ -19,6 +19,8 @@ import javax.annotation.concurrent.Immutable;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceActor;
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceActorPropsFactory;
+import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoSnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.BinaryStorageConfig;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
@@ -32,25 +34,33 @@ import akka.actor.Props;
 final class DefaultThingPersistenceActorPropsFactory implements ThingPersistenceActorPropsFactory {
 
     private final ActorRef pubSubMediator;
+    private final BinaryStorageConfig binaryStorageConfig;
+
+    private DefaultThingPersistenceActorPropsFactory(final ActorRef pubSubMediator,
+            final BinaryStorageConfig binaryStorageConfig) {
 
-    private DefaultThingPersistenceActorPropsFactory(final ActorRef pubSubMediator) {
         this.pubSubMediator = pubSubMediator;
+        this.binaryStorageConfig = binaryStorageConfig;
     }
 
     /**
      * Returns an instance of {@code ThingPersistenceActorPropsFactory}.
      *
      * @param pubSubMediator the Akka pub-sub mediator with which to
+     * @param binaryStorageConfig the config of the binary storage format of thing snapshots.
      * @return the instance.
      * @throws NullPointerException if any argument is {@code null}.
      */
-    static DefaultThingPersistenceActorPropsFactory of(final ActorRef pubSubMediator) {
-        return new DefaultThingPersistenceActorPropsFactory(pubSubMediator);
+    static DefaultThingPersistenceActorPropsFactory of(final ActorRef pubSubMediator,
+            final BinaryStorageConfig binaryStorageConfig) {
+
+        return new DefaultThingPersistenceActorPropsFactory(pubSubMediator, binaryStorageConfig);
     }
 
     @Override
     public Props props(final ThingId thingId, final DistributedPub<ThingEvent<?>> distributedPub) {
         argumentNotEmpty(thingId);
-        return ThingPersistenceActor.props(thingId, distributedPub, pubSubMediator);
+        return ThingPersistenceActor.props(thingId, distributedPub,
+                new ThingMongoSnapshotAdapter(pubSubMediator, binaryStorageConfig));
     }
 }
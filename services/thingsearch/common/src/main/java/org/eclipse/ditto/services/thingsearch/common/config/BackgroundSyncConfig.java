@@ -105,6 +105,15 @@ public interface BackgroundSyncConfig extends BackgroundStreamingConfig {
      */
     Duration getRecovery();
 
+    /**
+     * Get into how many ranges of thing IDs to split the background sync. The ranges are synchronized in parallel,
+     * each with its own bookmark and throttle.
+     *
+     * @return the number of ranges.
+     * @since 2.0.0
+     */
+    int getRanges();
+
     /**
      * Enumeration of known config keys and default values for {@code PersistenceCleanupConfig}
      */
@@ -169,7 +178,12 @@ public interface BackgroundSyncConfig extends BackgroundStreamingConfig {
         /**
          * Assume upstream healthy if no error happened for this long.
          */
-        RECOVERY("recovery", Duration.ofMinutes(4L));
+        RECOVERY("recovery", Duration.ofMinutes(4L)),
+
+        /**
+         * Number of thing ID ranges to synchronize in parallel.
+         */
+        RANGES("ranges", 1);
 
         private final String path;
         private final Object defaultValue;
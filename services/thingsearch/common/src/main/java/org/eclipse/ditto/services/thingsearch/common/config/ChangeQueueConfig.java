@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings of the queue of changes of the search updater.
+ * <p>
+ * Changes are queued in priority classes. Each dump of the queue takes at most the configured limit of changes of
+ * each class, so that a flood of low-priority changes cannot delay changes of higher priority. A limit of 0 means
+ * unlimited.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public interface ChangeQueueConfig {
+
+    /**
+     * Returns the maximum number of queued changes. Changes requested by the background sync are dropped if the queue
+     * is full; they are requested again by the next round of the background sync.
+     *
+     * @return the maximum size.
+     */
+    int getMaxSize();
+
+    /**
+     * Returns how many changes requesting the acknowledgement {@code "search-persisted"} to dump at most per write
+     * interval.
+     *
+     * @return the limit or 0 for unlimited.
+     */
+    int getAcknowledgeLimit();
+
+    /**
+     * Returns how many changes caused by thing events to dump at most per write interval.
+     *
+     * @return the limit or 0 for unlimited.
+     */
+    int getLiveLimit();
+
+    /**
+     * Returns how many changes caused by policy updates to dump at most per write interval.
+     *
+     * @return the limit or 0 for unlimited.
+     */
+    int getPolicyLimit();
+
+    /**
+     * Returns how many changes requested by the background sync to dump at most per write interval.
+     *
+     * @return the limit or 0 for unlimited.
+     */
+    int getBackgroundSyncLimit();
+
+    /**
+     * An enumeration of known config path expressions and their associated default values for
+     * {@code ChangeQueueConfig}.
+     */
+    enum ChangeQueueConfigValue implements KnownConfigValue {
+
+        /**
+         * The maximum number of queued changes.
+         */
+        MAX_SIZE("max-size", 100_000),
+
+        /**
+         * How many changes requesting acknowledgements to dump at most per write interval.
+         */
+        ACKNOWLEDGE_LIMIT("acknowledge-limit", 0),
+
+        /**
+         * How many changes caused by thing events to dump at most per write interval.
+         */
+        LIVE_LIMIT("live-limit", 0),
+
+        /**
+         * How many changes caused by policy updates to dump at most per write interval.
+         */
+        POLICY_LIMIT("policy-limit", 1000),
+
+        /**
+         * How many changes requested by the background sync to dump at most per write interval.
+         */
+        BACKGROUND_SYNC_LIMIT("background-sync-limit", 250);
+
+        private final String configPath;
+        private final Object defaultValue;
+
+        private ChangeQueueConfigValue(final String configPath, final Object defaultValue) {
+            this.configPath = configPath;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return configPath;
+        }
+
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings of the cache of count results of the Search service.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public interface CountCacheConfig {
+
+    /**
+     * Returns whether count results are cached. Only writes of the search updater of the same instance invalidate
+     * cached counts, so a cluster with several search updaters may see counts as old as the time to live.
+     *
+     * @return whether the count cache is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of cached count results.
+     *
+     * @return the maximum size.
+     */
+    long getMaximumSize();
+
+    /**
+     * Returns how long a cached count result answers count queries.
+     *
+     * @return the time to live.
+     */
+    Duration getTimeToLive();
+
+    /**
+     * Returns the number of search index writes after which a cached count result no longer answers count queries.
+     * Only writes of the search updater of the same instance are counted. Each write changes a count by at most one,
+     * so this is also the maximum error of a cached count result caused by writes of that instance.
+     *
+     * @return the maximum number of writes.
+     */
+    long getMaxWrites();
+
+    /**
+     * Returns how long a cached count result answers count queries which accept approximate results.
+     *
+     * @return the time to live for approximate counts.
+     */
+    Duration getApproximateTimeToLive();
+
+    /**
+     * Returns the number of search index writes after which a cached count result no longer answers count queries
+     * which accept approximate results.
+     *
+     * @return the maximum number of writes for approximate counts.
+     */
+    long getApproximateMaxWrites();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code CountCacheConfig}.
+     */
+    enum CountCacheConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether count results are cached.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of cached count results.
+         */
+        MAXIMUM_SIZE("maximum-size", 10_000L),
+
+        /**
+         * How long a cached count result answers count queries.
+         */
+        TTL("ttl", Duration.ofSeconds(10L)),
+
+        /**
+         * The number of search index writes after which a cached count result no longer answers count queries.
+         */
+        MAX_WRITES("max-writes", 1_000L),
+
+        /**
+         * How long a cached count result answers count queries which accept approximate results.
+         */
+        APPROXIMATE_TTL("approximate-ttl", Duration.ofMinutes(5L)),
+
+        /**
+         * The number of search index writes after which a cached count result no longer answers count queries which
+         * accept approximate results.
+         */
+        APPROXIMATE_MAX_WRITES("approximate-max-writes", 100_000L);
+
+        private final String configPath;
+        private final Object defaultValue;
+
+        private CountCacheConfigValue(final String configPath, final Object defaultValue) {
+            this.configPath = configPath;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return configPath;
+        }
+
+    }
+
+}
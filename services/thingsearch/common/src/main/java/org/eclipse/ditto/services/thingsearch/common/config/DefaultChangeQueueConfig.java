@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link ChangeQueueConfig}.
+ */
+@Immutable
+public final class DefaultChangeQueueConfig implements ChangeQueueConfig {
+
+    /**
+     * Path where the change queue config values are expected.
+     */
+    static final String CONFIG_PATH = "change-queue";
+
+    private final int maxSize;
+    private final int acknowledgeLimit;
+    private final int liveLimit;
+    private final int policyLimit;
+    private final int backgroundSyncLimit;
+
+    private DefaultChangeQueueConfig(final ConfigWithFallback config) {
+        maxSize = config.getInt(ChangeQueueConfigValue.MAX_SIZE.getConfigPath());
+        acknowledgeLimit = config.getInt(ChangeQueueConfigValue.ACKNOWLEDGE_LIMIT.getConfigPath());
+        liveLimit = config.getInt(ChangeQueueConfigValue.LIVE_LIMIT.getConfigPath());
+        policyLimit = config.getInt(ChangeQueueConfigValue.POLICY_LIMIT.getConfigPath());
+        backgroundSyncLimit = config.getInt(ChangeQueueConfigValue.BACKGROUND_SYNC_LIMIT.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of DefaultChangeQueueConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the change queue config at {@value CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultChangeQueueConfig of(final Config config) {
+        return new DefaultChangeQueueConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ChangeQueueConfigValue.values()));
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public int getAcknowledgeLimit() {
+        return acknowledgeLimit;
+    }
+
+    @Override
+    public int getLiveLimit() {
+        return liveLimit;
+    }
+
+    @Override
+    public int getPolicyLimit() {
+        return policyLimit;
+    }
+
+    @Override
+    public int getBackgroundSyncLimit() {
+        return backgroundSyncLimit;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultChangeQueueConfig that = (DefaultChangeQueueConfig) o;
+        return maxSize == that.maxSize &&
+                acknowledgeLimit == that.acknowledgeLimit &&
+                liveLimit == that.liveLimit &&
+                policyLimit == that.policyLimit &&
+                backgroundSyncLimit == that.backgroundSyncLimit;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxSize, acknowledgeLimit, liveLimit, policyLimit, backgroundSyncLimit);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "maxSize=" + maxSize +
+                ", acknowledgeLimit=" + acknowledgeLimit +
+                ", liveLimit=" + liveLimit +
+                ", policyLimit=" + policyLimit +
+                ", backgroundSyncLimit=" + backgroundSyncLimit +
+                "]";
+    }
+
+}
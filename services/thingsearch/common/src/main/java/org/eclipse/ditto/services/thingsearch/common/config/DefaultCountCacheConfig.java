@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link CountCacheConfig}.
+ */
+@Immutable
+public final class DefaultCountCacheConfig implements CountCacheConfig {
+
+    private static final String CONFIG_PATH = "count-cache";
+
+    private final boolean enabled;
+    private final long maximumSize;
+    private final Duration timeToLive;
+    private final long maxWrites;
+    private final Duration approximateTimeToLive;
+    private final long approximateMaxWrites;
+
+    private DefaultCountCacheConfig(final ConfigWithFallback config) {
+        enabled = config.getBoolean(CountCacheConfigValue.ENABLED.getConfigPath());
+        maximumSize = config.getLong(CountCacheConfigValue.MAXIMUM_SIZE.getConfigPath());
+        timeToLive = config.getDuration(CountCacheConfigValue.TTL.getConfigPath());
+        maxWrites = config.getLong(CountCacheConfigValue.MAX_WRITES.getConfigPath());
+        approximateTimeToLive = config.getDuration(CountCacheConfigValue.APPROXIMATE_TTL.getConfigPath());
+        approximateMaxWrites = config.getLong(CountCacheConfigValue.APPROXIMATE_MAX_WRITES.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of DefaultCountCacheConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the count cache config at {@value CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultCountCacheConfig of(final Config config) {
+        return new DefaultCountCacheConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, CountCacheConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    @Override
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    @Override
+    public long getMaxWrites() {
+        return maxWrites;
+    }
+
+    @Override
+    public Duration getApproximateTimeToLive() {
+        return approximateTimeToLive;
+    }
+
+    @Override
+    public long getApproximateMaxWrites() {
+        return approximateMaxWrites;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultCountCacheConfig that = (DefaultCountCacheConfig) o;
+        return enabled == that.enabled &&
+                maximumSize == that.maximumSize &&
+                maxWrites == that.maxWrites &&
+                approximateMaxWrites == that.approximateMaxWrites &&
+                Objects.equals(timeToLive, that.timeToLive) &&
+                Objects.equals(approximateTimeToLive, that.approximateTimeToLive);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maximumSize, timeToLive, maxWrites, approximateTimeToLive,
+                approximateMaxWrites);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maximumSize=" + maximumSize +
+                ", timeToLive=" + timeToLive +
+                ", maxWrites=" + maxWrites +
+                ", approximateTimeToLive=" + approximateTimeToLive +
+                ", approximateMaxWrites=" + approximateMaxWrites +
+                "]";
+    }
+
+}
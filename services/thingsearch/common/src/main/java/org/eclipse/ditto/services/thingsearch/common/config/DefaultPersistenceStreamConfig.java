@@ -38,6 +38,8 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
     private final int maxBulkSize;
     private final Duration ackDelay;
     private final WriteConcern withAcknowledgementsWriteConcern;
+    private final int patchCacheSize;
+    private final double maxPatchRatio;
     private final DefaultStreamStageConfig defaultStreamStageConfig;
 
     private DefaultPersistenceStreamConfig(final ConfigWithFallback persistenceStreamScopedConfig,
@@ -54,6 +56,10 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
                                     writeConcernString);
                     return new DittoConfigError(msg);
                 });
+        patchCacheSize =
+                persistenceStreamScopedConfig.getInt(PersistenceStreamConfigValue.PATCH_CACHE_SIZE.getConfigPath());
+        maxPatchRatio =
+                persistenceStreamScopedConfig.getDouble(PersistenceStreamConfigValue.MAX_PATCH_RATIO.getConfigPath());
         this.defaultStreamStageConfig = defaultStreamStageConfig;
     }
 
@@ -85,6 +91,16 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         return withAcknowledgementsWriteConcern;
     }
 
+    @Override
+    public int getPatchCacheSize() {
+        return patchCacheSize;
+    }
+
+    @Override
+    public double getMaxPatchRatio() {
+        return maxPatchRatio;
+    }
+
     @Override
     public int getParallelism() {
         return defaultStreamStageConfig.getParallelism();
@@ -106,13 +122,16 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         final DefaultPersistenceStreamConfig that = (DefaultPersistenceStreamConfig) o;
         return maxBulkSize == that.maxBulkSize &&
                 Objects.equals(ackDelay, that.ackDelay) &&
+                patchCacheSize == that.patchCacheSize &&
+                Double.compare(that.maxPatchRatio, maxPatchRatio) == 0 &&
                 Objects.equals(withAcknowledgementsWriteConcern, that.withAcknowledgementsWriteConcern) &&
                 Objects.equals(defaultStreamStageConfig, that.defaultStreamStageConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(maxBulkSize, ackDelay, withAcknowledgementsWriteConcern, defaultStreamStageConfig);
+        return Objects.hash(maxBulkSize, ackDelay, withAcknowledgementsWriteConcern, patchCacheSize, maxPatchRatio,
+                defaultStreamStageConfig);
     }
 
     @Override
@@ -121,6 +140,8 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
                 "maxBulkSize=" + maxBulkSize +
                 ", ackDelay=" + ackDelay +
                 ", withAcknowledgementsWriteConcern=" + withAcknowledgementsWriteConcern +
+                ", patchCacheSize=" + patchCacheSize +
+                ", maxPatchRatio=" + maxPatchRatio +
                 ", defaultStreamStageConfig=" + defaultStreamStageConfig +
                 "]";
     }
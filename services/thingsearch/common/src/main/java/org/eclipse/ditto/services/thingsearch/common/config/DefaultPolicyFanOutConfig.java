@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link PolicyFanOutConfig}.
+ */
+@Immutable
+public final class DefaultPolicyFanOutConfig implements PolicyFanOutConfig {
+
+    /**
+     * Path where the policy fan-out config values are expected.
+     */
+    static final String CONFIG_PATH = "policy-fan-out";
+
+    private final int parallelism;
+    private final int throttleThroughput;
+    private final Duration throttlePeriod;
+    private final int progressInterval;
+
+    private DefaultPolicyFanOutConfig(final ConfigWithFallback config) {
+        parallelism = Math.max(1, config.getInt(PolicyFanOutConfigValue.PARALLELISM.getConfigPath()));
+        throttleThroughput = config.getInt(PolicyFanOutConfigValue.THROTTLE_THROUGHPUT.getConfigPath());
+        throttlePeriod = config.getDuration(PolicyFanOutConfigValue.THROTTLE_PERIOD.getConfigPath());
+        progressInterval = config.getInt(PolicyFanOutConfigValue.PROGRESS_INTERVAL.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of DefaultPolicyFanOutConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the policy fan-out config at {@value CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultPolicyFanOutConfig of(final Config config) {
+        return new DefaultPolicyFanOutConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, PolicyFanOutConfigValue.values()));
+    }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public int getThrottleThroughput() {
+        return throttleThroughput;
+    }
+
+    @Override
+    public Duration getThrottlePeriod() {
+        return throttlePeriod;
+    }
+
+    @Override
+    public int getProgressInterval() {
+        return progressInterval;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultPolicyFanOutConfig that = (DefaultPolicyFanOutConfig) o;
+        return parallelism == that.parallelism &&
+                throttleThroughput == that.throttleThroughput &&
+                progressInterval == that.progressInterval &&
+                throttlePeriod.equals(that.throttlePeriod);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(parallelism, throttleThroughput, throttlePeriod, progressInterval);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "parallelism=" + parallelism +
+                ", throttleThroughput=" + throttleThroughput +
+                ", throttlePeriod=" + throttlePeriod +
+                ", progressInterval=" + progressInterval +
+                "]";
+    }
+
+}
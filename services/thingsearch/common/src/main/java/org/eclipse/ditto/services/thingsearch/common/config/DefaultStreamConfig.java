@@ -33,17 +33,23 @@ public final class DefaultStreamConfig implements StreamConfig {
     private final int maxArraySize;
     private final Duration writeInterval;
     private final Duration askTimeout;
+    private final int retrieveBatchSize;
+    private final Duration retrieveBatchDelay;
     private final DefaultStreamStageConfig retrievalConfig;
     private final DefaultPersistenceStreamConfig persistenceStreamConfig;
     private final DefaultStreamCacheConfig streamCacheConfig;
+    private final DefaultChangeQueueConfig changeQueueConfig;
 
     private DefaultStreamConfig(final ConfigWithFallback streamScopedConfig) {
         maxArraySize = streamScopedConfig.getInt(StreamConfigValue.MAX_ARRAY_SIZE.getConfigPath());
         writeInterval = streamScopedConfig.getDuration(StreamConfigValue.WRITE_INTERVAL.getConfigPath());
         askTimeout = streamScopedConfig.getDuration(StreamConfigValue.ASK_TIMEOUT.getConfigPath());
+        retrieveBatchSize = streamScopedConfig.getInt(StreamConfigValue.RETRIEVE_BATCH_SIZE.getConfigPath());
+        retrieveBatchDelay = streamScopedConfig.getDuration(StreamConfigValue.RETRIEVE_BATCH_DELAY.getConfigPath());
         retrievalConfig = DefaultStreamStageConfig.getInstance(streamScopedConfig, RETRIEVAL_CONFIG_PATH);
         persistenceStreamConfig = DefaultPersistenceStreamConfig.of(streamScopedConfig);
         streamCacheConfig = DefaultStreamCacheConfig.of(streamScopedConfig);
+        changeQueueConfig = DefaultChangeQueueConfig.of(streamScopedConfig);
     }
 
     /**
@@ -72,6 +78,16 @@ public final class DefaultStreamConfig implements StreamConfig {
         return askTimeout;
     }
 
+    @Override
+    public int getRetrieveBatchSize() {
+        return retrieveBatchSize;
+    }
+
+    @Override
+    public Duration getRetrieveBatchDelay() {
+        return retrieveBatchDelay;
+    }
+
     @Override
     public StreamStageConfig getRetrievalConfig() {
         return retrievalConfig;
@@ -87,6 +103,11 @@ public final class DefaultStreamConfig implements StreamConfig {
         return streamCacheConfig;
     }
 
+    @Override
+    public ChangeQueueConfig getChangeQueueConfig() {
+        return changeQueueConfig;
+    }
+
     @Override
     public boolean equals(@Nullable final Object o) {
         if (this == o) {
@@ -99,15 +120,18 @@ public final class DefaultStreamConfig implements StreamConfig {
         return maxArraySize == that.maxArraySize &&
                 writeInterval.equals(that.writeInterval) &&
                 askTimeout.equals(that.askTimeout) &&
+                retrieveBatchSize == that.retrieveBatchSize &&
+                retrieveBatchDelay.equals(that.retrieveBatchDelay) &&
                 retrievalConfig.equals(that.retrievalConfig) &&
                 persistenceStreamConfig.equals(that.persistenceStreamConfig) &&
-                streamCacheConfig.equals(that.streamCacheConfig);
+                streamCacheConfig.equals(that.streamCacheConfig) &&
+                changeQueueConfig.equals(that.changeQueueConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(maxArraySize, writeInterval, askTimeout, retrievalConfig, persistenceStreamConfig,
-                streamCacheConfig);
+        return Objects.hash(maxArraySize, writeInterval, askTimeout, retrieveBatchSize, retrieveBatchDelay,
+                retrievalConfig, persistenceStreamConfig, streamCacheConfig, changeQueueConfig);
     }
 
     @Override
@@ -116,9 +140,12 @@ public final class DefaultStreamConfig implements StreamConfig {
                 "maxArraySize=" + maxArraySize +
                 ", writeInterval=" + writeInterval +
                 ", askTimeout=" + askTimeout +
+                ", retrieveBatchSize=" + retrieveBatchSize +
+                ", retrieveBatchDelay=" + retrieveBatchDelay +
                 ", retrievalConfig=" + retrievalConfig +
                 ", persistenceStreamConfig=" + persistenceStreamConfig +
                 ", streamCacheConfig=" + streamCacheConfig +
+                ", changeQueueConfig=" + changeQueueConfig +
                 "]";
     }
 
@@ -36,7 +36,10 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
     private final int maxBulkSize;
     private final Duration shardingStatePollInterval;
     private final boolean eventProcessingActive;
+    private final boolean applyEventsLocally;
+    private final int maxLocalThingSize;
     private final BackgroundSyncConfig backgroundSyncConfig;
+    private final PolicyFanOutConfig policyFanOutConfig;
     private final StreamConfig streamConfig;
 
     private DefaultUpdaterConfig(final ConfigWithFallback updaterScopedConfig) {
@@ -46,7 +49,10 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 updaterScopedConfig.getDuration(UpdaterConfigValue.SHARDING_STATE_POLL_INTERVAL.getConfigPath());
         eventProcessingActive =
                 updaterScopedConfig.getBoolean(UpdaterConfigValue.EVENT_PROCESSING_ACTIVE.getConfigPath());
+        applyEventsLocally = updaterScopedConfig.getBoolean(UpdaterConfigValue.APPLY_EVENTS_LOCALLY.getConfigPath());
+        maxLocalThingSize = updaterScopedConfig.getInt(UpdaterConfigValue.MAX_LOCAL_THING_SIZE.getConfigPath());
         backgroundSyncConfig = DefaultBackgroundSyncConfig.fromUpdaterConfig(updaterScopedConfig);
+        policyFanOutConfig = DefaultPolicyFanOutConfig.of(updaterScopedConfig);
         streamConfig = DefaultStreamConfig.of(updaterScopedConfig);
     }
 
@@ -82,11 +88,26 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
         return eventProcessingActive;
     }
 
+    @Override
+    public boolean isApplyEventsLocally() {
+        return applyEventsLocally;
+    }
+
+    @Override
+    public int getMaxLocalThingSize() {
+        return maxLocalThingSize;
+    }
+
     @Override
     public BackgroundSyncConfig getBackgroundSyncConfig() {
         return backgroundSyncConfig;
     }
 
+    @Override
+    public PolicyFanOutConfig getPolicyFanOutConfig() {
+        return policyFanOutConfig;
+    }
+
     @Override
     public StreamConfig getStreamConfig() {
         return streamConfig;
@@ -103,16 +124,19 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
         final DefaultUpdaterConfig that = (DefaultUpdaterConfig) o;
         return maxBulkSize == that.maxBulkSize &&
                 eventProcessingActive == that.eventProcessingActive &&
+                applyEventsLocally == that.applyEventsLocally &&
+                maxLocalThingSize == that.maxLocalThingSize &&
                 Objects.equals(maxIdleTime, that.maxIdleTime) &&
                 Objects.equals(shardingStatePollInterval, that.shardingStatePollInterval) &&
                 Objects.equals(backgroundSyncConfig, that.backgroundSyncConfig) &&
+                Objects.equals(policyFanOutConfig, that.policyFanOutConfig) &&
                 Objects.equals(streamConfig, that.streamConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(maxIdleTime, maxBulkSize, shardingStatePollInterval, eventProcessingActive,
-                backgroundSyncConfig, streamConfig);
+                applyEventsLocally, maxLocalThingSize, backgroundSyncConfig, policyFanOutConfig, streamConfig);
     }
 
     @Override
@@ -122,7 +146,10 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 ", maxBulkSize=" + maxBulkSize +
                 ", shardingStatePollInterval=" + shardingStatePollInterval +
                 ", eventProcessingActive=" + eventProcessingActive +
+                ", applyEventsLocally=" + applyEventsLocally +
+                ", maxLocalThingSize=" + maxLocalThingSize +
                 ", backgroundSyncConfig=" + backgroundSyncConfig +
+                ", policyFanOutConfig=" + policyFanOutConfig +
                 ", streamConfig=" + streamConfig +
                 "]";
     }
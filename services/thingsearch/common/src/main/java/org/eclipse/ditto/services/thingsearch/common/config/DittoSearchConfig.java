@@ -47,6 +47,7 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
     @Nullable private final String mongoHintsByNamespace;
     private final String queryCriteriaValidator;
     private final UpdaterConfig updaterConfig;
+    private final CountCacheConfig countCacheConfig;
     private final HealthCheckConfig healthCheckConfig;
     private final IndexInitializationConfig indexInitializationConfig;
     private final PersistenceOperationsConfig persistenceOperationsConfig;
@@ -63,6 +64,7 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
         mongoHintsByNamespace = configWithFallback.getStringOrNull(SearchConfigValue.MONGO_HINTS_BY_NAMESPACE);
         queryCriteriaValidator = configWithFallback.getStringOrNull(SearchConfigValue.QUERY_CRITERIA_VALIDATOR);
         updaterConfig = DefaultUpdaterConfig.of(configWithFallback);
+        countCacheConfig = DefaultCountCacheConfig.of(configWithFallback);
         indexInitializationConfig = DefaultIndexInitializationConfig.of(configWithFallback);
     }
 
@@ -93,6 +95,11 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
         return updaterConfig;
     }
 
+    @Override
+    public CountCacheConfig getCountCacheConfig() {
+        return countCacheConfig;
+    }
+
     @Override
     public ClusterConfig getClusterConfig() {
         return dittoServiceConfig.getClusterConfig();
@@ -146,6 +153,7 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
         return Objects.equals(mongoHintsByNamespace, that.mongoHintsByNamespace) &&
                 Objects.equals(queryCriteriaValidator, that.queryCriteriaValidator) &&
                 Objects.equals(updaterConfig, that.updaterConfig) &&
+                Objects.equals(countCacheConfig, that.countCacheConfig) &&
                 Objects.equals(dittoServiceConfig, that.dittoServiceConfig) &&
                 Objects.equals(healthCheckConfig, that.healthCheckConfig) &&
                 Objects.equals(indexInitializationConfig, that.indexInitializationConfig) &&
@@ -155,7 +163,7 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
 
     @Override
     public int hashCode() {
-        return Objects.hash(mongoHintsByNamespace, queryCriteriaValidator, updaterConfig,
+        return Objects.hash(mongoHintsByNamespace, queryCriteriaValidator, updaterConfig, countCacheConfig,
                 dittoServiceConfig, healthCheckConfig, indexInitializationConfig, persistenceOperationsConfig,
                 mongoDbConfig);
     }
@@ -166,6 +174,7 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
                 "mongoHintsByNamespace=" + mongoHintsByNamespace +
                 ", queryCriteriaValidator=" + queryCriteriaValidator +
                 ", updaterConfig=" + updaterConfig +
+                ", countCacheConfig=" + countCacheConfig +
                 ", dittoServiceConfig=" + dittoServiceConfig +
                 ", healthCheckConfig=" + healthCheckConfig +
                 ", indexInitializationConfig=" + indexInitializationConfig +
@@ -48,6 +48,22 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
      */
     WriteConcern getWithAcknowledgementsWriteConcern();
 
+    /**
+     * Returns how many previously written search index documents to remember in order to write partial updates
+     * instead of replacing whole documents. A value of 0 disables partial updates.
+     *
+     * @return the maximum number of remembered documents.
+     */
+    int getPatchCacheSize();
+
+    /**
+     * Returns the maximum ratio of changed entries to total entries of a search index document for which a partial
+     * update is written. Documents with more changes are replaced entirely.
+     *
+     * @return the maximum patch ratio.
+     */
+    double getMaxPatchRatio();
+
     /**
      * An enumeration of known config path expressions and their associated default values for
      * {@code PersistenceStreamConfig}.
@@ -69,7 +85,17 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
          * The write concern used for search index updates requiring acknowledgements.
          * See {@link com.mongodb.WriteConcern} for available options.
          */
-        WITH_ACKS_WRITE_CONCERN("with-acks-writeConcern", "journaled");
+        WITH_ACKS_WRITE_CONCERN("with-acks-writeConcern", "journaled"),
+
+        /**
+         * How many previously written search index documents to remember for partial updates.
+         */
+        PATCH_CACHE_SIZE("patch-cache-size", 0),
+
+        /**
+         * Maximum ratio of changed entries above which a search index document is replaced entirely.
+         */
+        MAX_PATCH_RATIO("max-patch-ratio", 0.5);
 
         private final String configPath;
         private final Object defaultValue;
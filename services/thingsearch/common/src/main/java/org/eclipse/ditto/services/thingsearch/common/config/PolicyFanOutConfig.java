@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for updating the things of changed policies in the search index.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public interface PolicyFanOutConfig {
+
+    /**
+     * Returns how many policies to update the things of concurrently.
+     *
+     * @return the parallelism.
+     */
+    int getParallelism();
+
+    /**
+     * Returns how many things of changed policies to update per throttle period in total.
+     *
+     * @return the number of things per throttle period.
+     */
+    int getThrottleThroughput();
+
+    /**
+     * Returns the throttle period.
+     *
+     * @return the throttle period.
+     */
+    Duration getThrottlePeriod();
+
+    /**
+     * Returns after how many updated things of a policy to log its progress.
+     *
+     * @return the number of things between progress reports.
+     */
+    int getProgressInterval();
+
+    /**
+     * An enumeration of known config path expressions and their associated default values for
+     * {@code PolicyFanOutConfig}.
+     */
+    enum PolicyFanOutConfigValue implements KnownConfigValue {
+
+        /**
+         * How many policies to update the things of concurrently.
+         */
+        PARALLELISM("parallelism", 4),
+
+        /**
+         * How many things of changed policies to update per throttle period in total.
+         */
+        THROTTLE_THROUGHPUT("throttle.throughput", 1000),
+
+        /**
+         * The throttle period.
+         */
+        THROTTLE_PERIOD("throttle.period", Duration.ofSeconds(1L)),
+
+        /**
+         * After how many updated things of a policy to log its progress.
+         */
+        PROGRESS_INTERVAL("progress-interval", 10_000);
+
+        private final String configPath;
+        private final Object defaultValue;
+
+        private PolicyFanOutConfigValue(final String configPath, final Object defaultValue) {
+            this.configPath = configPath;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return configPath;
+        }
+
+    }
+
+}
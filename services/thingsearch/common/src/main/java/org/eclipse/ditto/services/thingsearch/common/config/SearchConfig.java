@@ -48,6 +48,14 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
      */
     UpdaterConfig getUpdaterConfig();
 
+    /**
+     * Returns the configuration settings of the cache of count results.
+     *
+     * @return the config.
+     * @since 2.0.0
+     */
+    CountCacheConfig getCountCacheConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for SearchConfig.
      */
@@ -45,6 +45,24 @@ public interface StreamConfig {
      */
     Duration getAskTimeout();
 
+    /**
+     * Returns how many things to retrieve with one {@code SudoRetrieveThings} command. A value of 1 or less retrieves
+     * each thing with its own {@code SudoRetrieveThing} command.
+     * Batches are sent to the things aggregator of the concierge, which retrieves each thing of a batch with its own
+     * {@code SudoRetrieveThing} command from the things shard region. Batching therefore does not reduce the number
+     * of messages to the things service.
+     *
+     * @return the maximum batch size.
+     */
+    int getRetrieveBatchSize();
+
+    /**
+     * Returns how long to wait for more things to retrieve before sending an incomplete batch.
+     *
+     * @return the maximum batch delay.
+     */
+    Duration getRetrieveBatchDelay();
+
     /**
      * Returns the configuration settings for the retrieval of things and policy-enforcers.
      *
@@ -66,6 +84,14 @@ public interface StreamConfig {
      */
     StreamCacheConfig getCacheConfig();
 
+    /**
+     * Returns the configuration settings of the queue of changes.
+     *
+     * @return the config.
+     * @since 2.0.0
+     */
+    ChangeQueueConfig getChangeQueueConfig();
+
     /**
      * An enumeration of known config path expressions and their associated default values for {@code StreamConfig}.
      */
@@ -84,7 +110,17 @@ public interface StreamConfig {
         /**
          * The timeout for messages to Things shard.
          */
-        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(30L));
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(30L)),
+
+        /**
+         * How many things to retrieve with one SudoRetrieveThings command.
+         */
+        RETRIEVE_BATCH_SIZE("retrieve-batch-size", 1),
+
+        /**
+         * How long to wait for more things to retrieve before sending an incomplete batch.
+         */
+        RETRIEVE_BATCH_DELAY("retrieve-batch-delay", Duration.ofMillis(100L));
 
         private final String configPath;
         private final Object defaultValue;
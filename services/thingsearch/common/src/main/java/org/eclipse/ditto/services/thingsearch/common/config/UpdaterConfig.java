@@ -53,6 +53,22 @@ public interface UpdaterConfig {
      */
     boolean isEventProcessingActive();
 
+    /**
+     * Indicates whether thing updaters should keep the last indexed state of their thing and apply thing events to
+     * it locally instead of having the whole thing retrieved for each change.
+     *
+     * @return {@code true} if thing events should be applied locally, {@code false} else.
+     */
+    boolean isApplyEventsLocally();
+
+    /**
+     * Returns the maximum size in bytes of the serialized thing a thing updater keeps in memory to apply thing events
+     * to. Bigger things are retrieved for each change.
+     *
+     * @return the maximum size of a locally kept thing.
+     */
+    int getMaxLocalThingSize();
+
     /**
      * Returns configuration for the background sync actor.
      *
@@ -60,6 +76,14 @@ public interface UpdaterConfig {
      */
     BackgroundSyncConfig getBackgroundSyncConfig();
 
+    /**
+     * Returns configuration for updating the things of changed policies.
+     *
+     * @return the config.
+     * @since 2.0.0
+     */
+    PolicyFanOutConfig getPolicyFanOutConfig();
+
     /**
      * Returns the configuration settings
      *
@@ -92,7 +116,17 @@ public interface UpdaterConfig {
         /**
          * Determines whether event processing should be active.
          */
-        EVENT_PROCESSING_ACTIVE("event-processing-active", true);
+        EVENT_PROCESSING_ACTIVE("event-processing-active", true),
+
+        /**
+         * Determines whether thing events should be applied to the last indexed state of the thing.
+         */
+        APPLY_EVENTS_LOCALLY("apply-events-locally", false),
+
+        /**
+         * The maximum size in bytes of a thing kept in memory by a thing updater to apply thing events to.
+         */
+        MAX_LOCAL_THING_SIZE("max-local-thing-size", 16 * 1024);
 
         private final String path;
         private final Object defaultValue;
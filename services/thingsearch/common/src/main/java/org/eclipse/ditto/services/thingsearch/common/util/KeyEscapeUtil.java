@@ -41,4 +41,41 @@ public final class KeyEscapeUtil {
                 .replace("$", FAKE_DOLLAR)
                 .replace(".", FAKE_DOT);
     }
+
+    /**
+     * Reverts the escaping of a MongoDB key.
+     *
+     * @param str the escaped String
+     * @return the unescaped String
+     */
+    public static String unescape(final String str) {
+        requireNonNull(str);
+        final int firstTilda = str.indexOf('~');
+        if (firstTilda < 0) {
+            return str;
+        }
+        final StringBuilder builder = new StringBuilder(str.length()).append(str, 0, firstTilda);
+        for (int i = firstTilda; i < str.length(); ++i) {
+            final char c = str.charAt(i);
+            if (c == '~' && i + 1 < str.length()) {
+                builder.append(unescapeChar(str.charAt(++i)));
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static char unescapeChar(final char escapeCode) {
+        switch (escapeCode) {
+            case '0':
+                return '~';
+            case '1':
+                return '$';
+            case '2':
+                return '.';
+            default:
+                throw new IllegalArgumentException("Unknown escape code: ~" + escapeCode);
+        }
+    }
 }
@@ -95,5 +95,8 @@ public final class DefaultBackgroundSyncConfigTest {
         softly.assertThat(underTest.getPolicyAskTimeout())
                 .as(BackgroundSyncConfig.ConfigValue.POLICY_ASK_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofHours(11L));
+        softly.assertThat(underTest.getRanges())
+                .as(BackgroundSyncConfig.ConfigValue.RANGES.getConfigPath())
+                .isEqualTo(12);
     }
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import static org.eclipse.ditto.services.thingsearch.common.config.ChangeQueueConfig.ChangeQueueConfigValue;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit tests for {@link DefaultChangeQueueConfig}.
+ */
+public final class DefaultChangeQueueConfigTest {
+
+    private static Config config;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        config = ConfigFactory.load("change-queue-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultChangeQueueConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultChangeQueueConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final ChangeQueueConfig underTest = DefaultChangeQueueConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.getMaxSize())
+                .as(ChangeQueueConfigValue.MAX_SIZE.getConfigPath())
+                .isEqualTo(ChangeQueueConfigValue.MAX_SIZE.getDefaultValue());
+
+        softly.assertThat(underTest.getAcknowledgeLimit())
+                .as(ChangeQueueConfigValue.ACKNOWLEDGE_LIMIT.getConfigPath())
+                .isEqualTo(ChangeQueueConfigValue.ACKNOWLEDGE_LIMIT.getDefaultValue());
+
+        softly.assertThat(underTest.getLiveLimit())
+                .as(ChangeQueueConfigValue.LIVE_LIMIT.getConfigPath())
+                .isEqualTo(ChangeQueueConfigValue.LIVE_LIMIT.getDefaultValue());
+
+        softly.assertThat(underTest.getPolicyLimit())
+                .as(ChangeQueueConfigValue.POLICY_LIMIT.getConfigPath())
+                .isEqualTo(ChangeQueueConfigValue.POLICY_LIMIT.getDefaultValue());
+
+        softly.assertThat(underTest.getBackgroundSyncLimit())
+                .as(ChangeQueueConfigValue.BACKGROUND_SYNC_LIMIT.getConfigPath())
+                .isEqualTo(ChangeQueueConfigValue.BACKGROUND_SYNC_LIMIT.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final ChangeQueueConfig underTest = DefaultChangeQueueConfig.of(config);
+
+        softly.assertThat(underTest.getMaxSize())
+                .as(ChangeQueueConfigValue.MAX_SIZE.getConfigPath())
+                .isEqualTo(71);
+
+        softly.assertThat(underTest.getAcknowledgeLimit())
+                .as(ChangeQueueConfigValue.ACKNOWLEDGE_LIMIT.getConfigPath())
+                .isEqualTo(72);
+
+        softly.assertThat(underTest.getLiveLimit())
+                .as(ChangeQueueConfigValue.LIVE_LIMIT.getConfigPath())
+                .isEqualTo(73);
+
+        softly.assertThat(underTest.getPolicyLimit())
+                .as(ChangeQueueConfigValue.POLICY_LIMIT.getConfigPath())
+                .isEqualTo(74);
+
+        softly.assertThat(underTest.getBackgroundSyncLimit())
+                .as(ChangeQueueConfigValue.BACKGROUND_SYNC_LIMIT.getConfigPath())
+                .isEqualTo(75);
+    }
+
+}
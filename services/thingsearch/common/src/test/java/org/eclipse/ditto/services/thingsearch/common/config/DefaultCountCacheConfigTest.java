@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link org.eclipse.ditto.services.thingsearch.common.config.DefaultCountCacheConfig}.
+ */
+public final class DefaultCountCacheConfigTest {
+
+    private static Config countCacheTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        countCacheTestConfig = ConfigFactory.load("count-cache-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultCountCacheConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultCountCacheConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final CountCacheConfig underTest = DefaultCountCacheConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(CountCacheConfig.CountCacheConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(CountCacheConfig.CountCacheConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getMaximumSize())
+                .as(CountCacheConfig.CountCacheConfigValue.MAXIMUM_SIZE.getConfigPath())
+                .isEqualTo(CountCacheConfig.CountCacheConfigValue.MAXIMUM_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getTimeToLive())
+                .as(CountCacheConfig.CountCacheConfigValue.TTL.getConfigPath())
+                .isEqualTo(CountCacheConfig.CountCacheConfigValue.TTL.getDefaultValue());
+        softly.assertThat(underTest.getMaxWrites())
+                .as(CountCacheConfig.CountCacheConfigValue.MAX_WRITES.getConfigPath())
+                .isEqualTo(CountCacheConfig.CountCacheConfigValue.MAX_WRITES.getDefaultValue());
+        softly.assertThat(underTest.getApproximateTimeToLive())
+                .as(CountCacheConfig.CountCacheConfigValue.APPROXIMATE_TTL.getConfigPath())
+                .isEqualTo(CountCacheConfig.CountCacheConfigValue.APPROXIMATE_TTL.getDefaultValue());
+        softly.assertThat(underTest.getApproximateMaxWrites())
+                .as(CountCacheConfig.CountCacheConfigValue.APPROXIMATE_MAX_WRITES.getConfigPath())
+                .isEqualTo(CountCacheConfig.CountCacheConfigValue.APPROXIMATE_MAX_WRITES.getDefaultValue());
+    }
+
+    @Test
+    public void gettersReturnConfiguredValues() {
+        final CountCacheConfig underTest = DefaultCountCacheConfig.of(countCacheTestConfig);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(CountCacheConfig.CountCacheConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getMaximumSize())
+                .as(CountCacheConfig.CountCacheConfigValue.MAXIMUM_SIZE.getConfigPath())
+                .isEqualTo(1L);
+        softly.assertThat(underTest.getTimeToLive())
+                .as(CountCacheConfig.CountCacheConfigValue.TTL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(2L));
+        softly.assertThat(underTest.getMaxWrites())
+                .as(CountCacheConfig.CountCacheConfigValue.MAX_WRITES.getConfigPath())
+                .isEqualTo(3L);
+        softly.assertThat(underTest.getApproximateTimeToLive())
+                .as(CountCacheConfig.CountCacheConfigValue.APPROXIMATE_TTL.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(4L));
+        softly.assertThat(underTest.getApproximateMaxWrites())
+                .as(CountCacheConfig.CountCacheConfigValue.APPROXIMATE_MAX_WRITES.getConfigPath())
+                .isEqualTo(5L);
+    }
+
+}
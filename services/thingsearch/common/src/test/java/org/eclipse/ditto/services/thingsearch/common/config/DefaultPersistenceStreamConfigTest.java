@@ -85,6 +85,14 @@ public final class DefaultPersistenceStreamConfigTest {
                 .as(PersistenceStreamConfigValue.WITH_ACKS_WRITE_CONCERN.getConfigPath())
                 .isEqualTo(WriteConcern.valueOf(
                         (String) PersistenceStreamConfigValue.WITH_ACKS_WRITE_CONCERN.getDefaultValue()));
+
+        softly.assertThat(underTest.getPatchCacheSize())
+                .as(PersistenceStreamConfigValue.PATCH_CACHE_SIZE.getConfigPath())
+                .isEqualTo(PersistenceStreamConfigValue.PATCH_CACHE_SIZE.getDefaultValue());
+
+        softly.assertThat(underTest.getMaxPatchRatio())
+                .as(PersistenceStreamConfigValue.MAX_PATCH_RATIO.getConfigPath())
+                .isEqualTo(PersistenceStreamConfigValue.MAX_PATCH_RATIO.getDefaultValue());
     }
 
     @Test
@@ -111,6 +119,14 @@ public final class DefaultPersistenceStreamConfigTest {
         softly.assertThat(underTest.getWithAcknowledgementsWriteConcern())
                 .as(PersistenceStreamConfigValue.WITH_ACKS_WRITE_CONCERN.getConfigPath())
                 .isEqualTo(WriteConcern.MAJORITY);
+
+        softly.assertThat(underTest.getPatchCacheSize())
+                .as(PersistenceStreamConfigValue.PATCH_CACHE_SIZE.getConfigPath())
+                .isEqualTo(70);
+
+        softly.assertThat(underTest.getMaxPatchRatio())
+                .as(PersistenceStreamConfigValue.MAX_PATCH_RATIO.getConfigPath())
+                .isEqualTo(0.71);
     }
 
 }
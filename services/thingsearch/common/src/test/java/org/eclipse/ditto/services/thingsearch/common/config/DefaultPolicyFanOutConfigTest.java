@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import static org.eclipse.ditto.services.thingsearch.common.config.PolicyFanOutConfig.PolicyFanOutConfigValue;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit tests for {@link DefaultPolicyFanOutConfig}.
+ */
+public final class DefaultPolicyFanOutConfigTest {
+
+    private static Config config;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        config = ConfigFactory.load("policy-fan-out-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultPolicyFanOutConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultPolicyFanOutConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final PolicyFanOutConfig underTest = DefaultPolicyFanOutConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.getParallelism())
+                .as(PolicyFanOutConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(PolicyFanOutConfigValue.PARALLELISM.getDefaultValue());
+
+        softly.assertThat(underTest.getThrottleThroughput())
+                .as(PolicyFanOutConfigValue.THROTTLE_THROUGHPUT.getConfigPath())
+                .isEqualTo(PolicyFanOutConfigValue.THROTTLE_THROUGHPUT.getDefaultValue());
+
+        softly.assertThat(underTest.getThrottlePeriod())
+                .as(PolicyFanOutConfigValue.THROTTLE_PERIOD.getConfigPath())
+                .isEqualTo(PolicyFanOutConfigValue.THROTTLE_PERIOD.getDefaultValue());
+
+        softly.assertThat(underTest.getProgressInterval())
+                .as(PolicyFanOutConfigValue.PROGRESS_INTERVAL.getConfigPath())
+                .isEqualTo(PolicyFanOutConfigValue.PROGRESS_INTERVAL.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final PolicyFanOutConfig underTest = DefaultPolicyFanOutConfig.of(config);
+
+        softly.assertThat(underTest.getParallelism())
+                .as(PolicyFanOutConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(81);
+
+        softly.assertThat(underTest.getThrottleThroughput())
+                .as(PolicyFanOutConfigValue.THROTTLE_THROUGHPUT.getConfigPath())
+                .isEqualTo(82);
+
+        softly.assertThat(underTest.getThrottlePeriod())
+                .as(PolicyFanOutConfigValue.THROTTLE_PERIOD.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(83L));
+
+        softly.assertThat(underTest.getProgressInterval())
+                .as(PolicyFanOutConfigValue.PROGRESS_INTERVAL.getConfigPath())
+                .isEqualTo(84);
+    }
+
+}
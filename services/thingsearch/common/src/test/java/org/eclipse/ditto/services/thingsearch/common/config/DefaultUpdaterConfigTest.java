@@ -45,7 +45,8 @@ public final class DefaultUpdaterConfigTest {
     @Test
     public void assertImmutability() {
         assertInstancesOf(DefaultUpdaterConfig.class, areImmutable(),
-                provided(BackgroundSyncConfig.class, DefaultStreamConfig.class).isAlsoImmutable());
+                provided(BackgroundSyncConfig.class, PolicyFanOutConfig.class, DefaultStreamConfig.class)
+                        .isAlsoImmutable());
     }
 
     @Test
@@ -65,6 +66,12 @@ public final class DefaultUpdaterConfigTest {
         softly.assertThat(underTest.isEventProcessingActive())
                 .as(UpdaterConfigValue.EVENT_PROCESSING_ACTIVE.getConfigPath())
                 .isEqualTo(UpdaterConfigValue.EVENT_PROCESSING_ACTIVE.getDefaultValue());
+        softly.assertThat(underTest.isApplyEventsLocally())
+                .as(UpdaterConfigValue.APPLY_EVENTS_LOCALLY.getConfigPath())
+                .isEqualTo(UpdaterConfigValue.APPLY_EVENTS_LOCALLY.getDefaultValue());
+        softly.assertThat(underTest.getMaxLocalThingSize())
+                .as(UpdaterConfigValue.MAX_LOCAL_THING_SIZE.getConfigPath())
+                .isEqualTo(UpdaterConfigValue.MAX_LOCAL_THING_SIZE.getDefaultValue());
         softly.assertThat(underTest.getMaxIdleTime())
                 .as(UpdaterConfigValue.MAX_IDLE_TIME.getConfigPath())
                 .isEqualTo(UpdaterConfigValue.MAX_IDLE_TIME.getDefaultValue());
@@ -82,6 +89,12 @@ public final class DefaultUpdaterConfigTest {
                 .as(UpdaterConfigValue.EVENT_PROCESSING_ACTIVE.getConfigPath())
                 .isEqualTo(
                         updaterScopedRawConfig.getBoolean(UpdaterConfigValue.EVENT_PROCESSING_ACTIVE.getConfigPath()));
+        softly.assertThat(underTest.isApplyEventsLocally())
+                .as(UpdaterConfigValue.APPLY_EVENTS_LOCALLY.getConfigPath())
+                .isEqualTo(updaterScopedRawConfig.getBoolean(UpdaterConfigValue.APPLY_EVENTS_LOCALLY.getConfigPath()));
+        softly.assertThat(underTest.getMaxLocalThingSize())
+                .as(UpdaterConfigValue.MAX_LOCAL_THING_SIZE.getConfigPath())
+                .isEqualTo(updaterScopedRawConfig.getInt(UpdaterConfigValue.MAX_LOCAL_THING_SIZE.getConfigPath()));
         softly.assertThat(underTest.getMaxIdleTime())
                 .as(UpdaterConfigValue.MAX_IDLE_TIME.getConfigPath())
                 .isEqualTo(updaterScopedRawConfig.getDuration(UpdaterConfigValue.MAX_IDLE_TIME.getConfigPath()));
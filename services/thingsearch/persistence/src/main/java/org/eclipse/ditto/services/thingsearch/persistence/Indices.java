@@ -46,9 +46,11 @@ public final class Indices {
 
     /**
      * Index for queries without effective filters to be executed as scans over all visible things.
+     * The thing ID is part of the index so that cursor pages sorted by thing ID are bounded by the
+     * keyset of the previous page and read in index order instead of being sorted in memory.
      */
-    private static final Index GLOBAL_READ = IndexFactory.newInstance("global-read",
-            Collections.singletonList(FIELD_GLOBAL_READ), false);
+    private static final Index GLOBAL_READ = IndexFactory.newInstance("global-read-id",
+            Arrays.asList(FIELD_GLOBAL_READ, FIELD_ID), false);
 
     /**
      * Index for dispatching policy events.
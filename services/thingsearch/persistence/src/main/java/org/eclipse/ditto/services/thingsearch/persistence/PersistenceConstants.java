@@ -171,6 +171,11 @@ public final class PersistenceConstants {
      */
     public static final String FIELD_REVOKED = "r";
 
+    /**
+     * Full path of the revoked field.
+     */
+    public static final String FIELD_REVOKED_PATH = FIELD_INTERNAL + DOT + FIELD_REVOKED;
+
     /**
      * Mark a document for deletion.
      */
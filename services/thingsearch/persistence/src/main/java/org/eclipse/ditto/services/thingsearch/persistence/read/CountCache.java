@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.services.thingsearch.common.config.CountCacheConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.DittoSearchConfig;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import akka.NotUsed;
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+import akka.stream.javadsl.Source;
+
+/**
+ * Cache of count results shared by the search persistence and the search updater of one instance.
+ * <p>
+ * A cached count answers count queries with the same key until it is older than the configured time to live or
+ * until the search updater of this instance wrote more than the configured number of documents since the count
+ * started. Since each write changes a count by at most one, the number of writes bounds the error of a cached count
+ * with respect to writes of this instance. Count queries accepting approximate results use the larger approximate
+ * limits.
+ * </p>
+ * <p>
+ * The staleness bound is per instance: writes of the search updaters of other instances are not recorded, so with
+ * several instances a cached count is only bounded by the time to live. The cache is therefore disabled by default.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@ThreadSafe
+public final class CountCache implements Extension {
+
+    private static final ExtensionId EXTENSION_ID = new ExtensionId();
+
+    private static final String COUNT_CACHE_REQUESTS = "things_search_count_cache_requests";
+    private static final String RESULT_TAG = "result";
+    private static final String APPROXIMATE_TAG = "approximate";
+
+    private static final Counter HITS = requestCounter(true, false);
+    private static final Counter MISSES = requestCounter(false, false);
+    private static final Counter APPROXIMATE_HITS = requestCounter(true, true);
+    private static final Counter APPROXIMATE_MISSES = requestCounter(false, true);
+
+    private final CountCacheConfig config;
+    private final LongSupplier nanoTime;
+    private final AtomicLong writes;
+    @Nullable private final Cache<BsonDocument, Entry> cache;
+
+    CountCache(final CountCacheConfig config, final LongSupplier nanoTime) {
+        this.config = config;
+        this.nanoTime = nanoTime;
+        writes = new AtomicLong();
+        if (config.isEnabled()) {
+            final Duration maxTimeToLive = max(config.getTimeToLive(), config.getApproximateTimeToLive());
+            cache = Caffeine.newBuilder()
+                    .maximumSize(config.getMaximumSize())
+                    .expireAfterWrite(maxTimeToLive)
+                    .build();
+        } else {
+            cache = null;
+        }
+    }
+
+    /**
+     * Get the count cache of an actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the count cache.
+     */
+    public static CountCache get(final ActorSystem actorSystem) {
+        return EXTENSION_ID.get(actorSystem);
+    }
+
+    /**
+     * Record writes of the search updater of this instance against the search index.
+     *
+     * @param numberOfWrites the number of written documents.
+     */
+    public void recordWrites(final int numberOfWrites) {
+        writes.addAndGet(numberOfWrites);
+    }
+
+    /**
+     * Return the cached count of a key if it is recent enough, or start the count and cache its result.
+     *
+     * @param key the key identifying the count query including its authorization subjects.
+     * @param approximate whether approximate results are accepted.
+     * @param countSupplier supplier of the count from the search index.
+     * @return source of the cached or computed count.
+     */
+    Source<Long, NotUsed> getOrCount(final BsonDocument key, final boolean approximate,
+            final Supplier<Source<Long, NotUsed>> countSupplier) {
+
+        if (cache == null) {
+            return countSupplier.get();
+        }
+        final Optional<Long> cachedCount = lookup(key, approximate);
+        countRequest(cachedCount.isPresent(), approximate);
+        if (cachedCount.isPresent()) {
+            return Source.single(cachedCount.get());
+        }
+        // take the time and the write count before the count starts so that they bound the age of the result
+        final long startNanos = nanoTime.getAsLong();
+        final long startWrites = writes.get();
+        return countSupplier.get()
+                .map(count -> {
+                    cache.put(key, new Entry(count, startNanos, startWrites));
+                    return count;
+                });
+    }
+
+    private Optional<Long> lookup(final BsonDocument key, final boolean approximate) {
+        final Entry entry = cache == null ? null : cache.getIfPresent(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        final Duration timeToLive = approximate ? config.getApproximateTimeToLive() : config.getTimeToLive();
+        final long maxWrites = approximate ? config.getApproximateMaxWrites() : config.getMaxWrites();
+        final long ageNanos = nanoTime.getAsLong() - entry.startNanos;
+        final long writesSinceStart = writes.get() - entry.startWrites;
+        if (ageNanos <= timeToLive.toNanos() && writesSinceStart <= maxWrites) {
+            return Optional.of(entry.count);
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private static void countRequest(final boolean hit, final boolean approximate) {
+        if (approximate) {
+            (hit ? APPROXIMATE_HITS : APPROXIMATE_MISSES).increment();
+        } else {
+            (hit ? HITS : MISSES).increment();
+        }
+    }
+
+    private static Counter requestCounter(final boolean hit, final boolean approximate) {
+        return DittoMetrics.counter(COUNT_CACHE_REQUESTS)
+                .tag(RESULT_TAG, hit ? "hit" : "miss")
+                .tag(APPROXIMATE_TAG, Boolean.toString(approximate));
+    }
+
+    private static Duration max(final Duration d1, final Duration d2) {
+        return d1.compareTo(d2) >= 0 ? d1 : d2;
+    }
+
+    private static final class Entry {
+
+        private final long count;
+        private final long startNanos;
+        private final long startWrites;
+
+        private Entry(final long count, final long startNanos, final long startWrites) {
+            this.count = count;
+            this.startNanos = startNanos;
+            this.startWrites = startWrites;
+        }
+    }
+
+    /**
+     * ID of the actor system extension of the count cache.
+     */
+    private static final class ExtensionId extends AbstractExtensionId<CountCache> {
+
+        @Override
+        public CountCache createExtension(final ExtendedActorSystem system) {
+            final CountCacheConfig config =
+                    DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(system.settings().config()))
+                            .getCountCacheConfig();
+            return new CountCache(config, System::nanoTime);
+        }
+    }
+
+}
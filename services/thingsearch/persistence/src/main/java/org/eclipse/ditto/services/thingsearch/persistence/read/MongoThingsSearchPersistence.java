@@ -31,14 +31,19 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
 import org.bson.BsonDocument;
+import org.bson.BsonInt32;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.query.Query;
@@ -61,6 +66,7 @@ import org.eclipse.ditto.signals.commands.base.exceptions.GatewayQueryTimeExceed
 import org.reactivestreams.Publisher;
 
 import com.mongodb.MongoExecutionTimeoutException;
+import com.mongodb.client.model.Aggregates;
 import com.mongodb.client.model.CountOptions;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Projections;
@@ -78,18 +84,26 @@ import akka.japi.pf.PFBuilder;
 import akka.stream.SystemMaterializer;
 import akka.stream.javadsl.Source;
 import scala.PartialFunction;
+import scala.util.Either;
+import scala.util.Left;
+import scala.util.Right;
 
 /**
  * Persistence Service Implementation for asynchronous MongoDB search.
  */
 public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
+    private static final String FILTER = "filter";
+    private static final String SKIP = "skip";
+    private static final String LIMIT = "limit";
+
     private final MongoCollection<Document> collection;
     private final LoggingAdapter log;
 
     private final IndexInitializer indexInitializer;
     private final Duration maxQueryTime;
     private final MongoHints hints;
+    @Nullable private final CountCache countCache;
 
     /**
      * Initializes the things search persistence with a passed in {@code persistence}.
@@ -105,6 +119,7 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         indexInitializer = IndexInitializer.of(database, SystemMaterializer.get(actorSystem).materializer());
         maxQueryTime = mongoClient.getDittoSettings().getMaxQueryTime();
         hints = MongoHints.empty();
+        countCache = null;
     }
 
     private MongoThingsSearchPersistence(
@@ -112,13 +127,15 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
             final LoggingAdapter log,
             final IndexInitializer indexInitializer,
             final Duration maxQueryTime,
-            final MongoHints hints) {
+            final MongoHints hints,
+            @Nullable final CountCache countCache) {
 
         this.collection = collection;
         this.log = log;
         this.indexInitializer = indexInitializer;
         this.maxQueryTime = maxQueryTime;
         this.hints = hints;
+        this.countCache = countCache;
     }
 
     /**
@@ -129,7 +146,19 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
      */
     public MongoThingsSearchPersistence withHintsByNamespace(final String jsonString) {
         final MongoHints hints = MongoHints.byNamespace(jsonString);
-        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints);
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints, countCache);
+    }
+
+    /**
+     * Create a copy of this object which caches the results of count queries.
+     *
+     * @param countCache the cache of count results.
+     * @return copy of this object with the count cache.
+     * @since 2.0.0
+     */
+    public MongoThingsSearchPersistence withCountCache(final CountCache countCache) {
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints,
+                checkNotNull(countCache, "countCache"));
     }
 
     @Override
@@ -171,9 +200,25 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
     public Source<Long, NotUsed> count(final Query query,
             @Nullable final List<String> authorizationSubjectIds) {
 
+        return count(query, authorizationSubjectIds, false);
+    }
+
+    @Override
+    public Source<Long, NotUsed> approximateCount(final Query query, final List<String> authorizationSubjectIds) {
+        return count(query, authorizationSubjectIds, true);
+    }
+
+    private Source<Long, NotUsed> count(final Query query,
+            @Nullable final List<String> authorizationSubjectIds,
+            final boolean approximate) {
+
         checkNotNull(query, "query");
 
-        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
+        // sort the subjects so that the filter is the same for each order of the authorization subjects
+        final List<String> subjectIds = authorizationSubjectIds == null
+                ? null
+                : authorizationSubjectIds.stream().sorted().distinct().collect(Collectors.toList());
+        final BsonDocument queryFilter = getMongoFilter(query, subjectIds);
         log.debug("count with query filter <{}>.", queryFilter);
 
         final CountOptions countOptions = new CountOptions()
@@ -181,9 +226,20 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
                 .limit(query.getLimit())
                 .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
 
-        return Source.fromPublisher(collection.countDocuments(queryFilter, countOptions))
-                .mapError(handleMongoExecutionTimeExceededException())
-                .log("count");
+        final Supplier<Source<Long, NotUsed>> countSupplier = () ->
+                Source.fromPublisher(collection.countDocuments(queryFilter, countOptions))
+                        .mapError(handleMongoExecutionTimeExceededException())
+                        .log("count");
+
+        if (countCache == null || subjectIds == null) {
+            return countSupplier.get();
+        } else {
+            final BsonDocument cacheKey = new BsonDocument()
+                    .append(FILTER, queryFilter)
+                    .append(SKIP, new BsonInt32(query.getSkip()))
+                    .append(LIMIT, new BsonInt32(query.getLimit()));
+            return countCache.getOrCount(cacheKey, approximate, countSupplier);
+        }
     }
 
     @Override
@@ -200,20 +256,53 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         final int limit = query.getLimit();
         final int limitPlusOne = limit + 1;
 
-        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime)
+        final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime, projection)
                 .grouped(limitPlusOne)
                 .orElse(Source.single(Collections.emptyList()))
-                .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions()))
+                .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions(),
+                        MongoThingsSearchPersistence::toIds))
                 .mapError(handleMongoExecutionTimeExceededException())
                 .log("findAll");
     }
 
+    @Override
+    public Source<Either<ResultList<ThingId>, ResultList<JsonObject>>, NotUsed> findAllProjected(final Query query,
+            final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces,
+            final JsonFieldSelector fieldSelector) {
+
+        final Optional<SearchIndexProjection> searchIndexProjection = SearchIndexProjection.of(fieldSelector);
+        if (searchIndexProjection.isEmpty()) {
+            return findAll(query, authorizationSubjectIds, namespaces).map(Left::new);
+        }
+        final SearchIndexProjection projection = searchIndexProjection.get();
+        final int skip = query.getSkip();
+        final int limit = query.getLimit();
+        final int limitPlusOne = limit + 1;
+
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime,
+                projection.toMongoProjection(query.getSortOptions()))
+                .grouped(limitPlusOne)
+                .orElse(Source.single(Collections.emptyList()))
+                .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions(),
+                        Function.identity()))
+                .map(documents -> projection.projectAll(documents, authorizationSubjectIds)
+                        // reuse the IDs of the found documents if any of them cannot be projected
+                        .<Either<ResultList<ThingId>, ResultList<JsonObject>>>map(Right::new)
+                        .orElseGet(() -> new Left<>(new ResultListImpl<>(toIds(documents), documents.nextPageOffset(),
+                                documents.lastResultSortValues().orElse(null)))))
+                .mapError(handleMongoExecutionTimeExceededException())
+                .log("findAllProjected");
+    }
+
     @Override
     public Source<ThingId, NotUsed> findAllUnlimited(final Query query, final List<String> authorizationSubjectIds,
             @Nullable final Set<String> namespaces) {
 
         final Integer limit = query.getLimit() == Integer.MAX_VALUE ? null : query.getLimit();
-        return findAllInternal(query, authorizationSubjectIds, namespaces, limit, null)
+        final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limit, null, projection)
                 .map(MongoThingsSearchPersistence::toId)
                 .idleTimeout(maxQueryTime);
     }
@@ -221,7 +310,8 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
     private Source<Document, NotUsed> findAllInternal(final Query query, final List<String> authorizationSubjectIds,
             @Nullable final Set<String> namespaces,
             @Nullable final Integer limit,
-            @Nullable final Duration maxQueryTime) {
+            @Nullable final Duration maxQueryTime,
+            final Bson projection) {
 
         checkNotNull(query, "query");
 
@@ -233,7 +323,6 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         final Bson sortOptions = getMongoSort(query);
 
         final int skip = query.getSkip();
-        final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
         final FindPublisher<Document> findPublisher =
                 collection.find(queryFilter, Document.class)
                         .hint(hints.getHint(namespaces).orElse(null))
@@ -266,22 +355,31 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         return Source.fromPublisher(publisher).map(MongoThingsSearchPersistence::readAsMetadata);
     }
 
-    private ResultList<ThingId> toResultList(final List<Document> resultsPlus0ne, final int skip, final int limit,
-            final List<SortOption> sortOptions) {
+    @Override
+    public Source<ThingId, NotUsed> sudoSampleThingIds(final int sampleSize) {
+        // $sample as first stage selects random documents without scanning the collection
+        final List<Bson> pipeline = List.of(Aggregates.sample(sampleSize),
+                Aggregates.project(Projections.include(FIELD_ID)));
+        return Source.fromPublisher(collection.aggregate(pipeline))
+                .map(document -> ThingId.of(document.getString(FIELD_ID)));
+    }
+
+    private <T> ResultList<T> toResultList(final List<Document> resultsPlus0ne, final int skip, final int limit,
+            final List<SortOption> sortOptions, final Function<List<Document>, List<T>> toItems) {
 
         log.debug("Creating paged ResultList from parameters: resultsPlusOne=<{}>,skip={},limit={}",
                 resultsPlus0ne, skip, limit);
 
-        final ResultList<ThingId> pagedResultList;
+        final ResultList<T> pagedResultList;
         if (resultsPlus0ne.size() <= limit || limit <= 0) {
-            pagedResultList = new ResultListImpl<>(toIds(resultsPlus0ne), ResultList.NO_NEXT_PAGE);
+            pagedResultList = new ResultListImpl<>(toItems.apply(resultsPlus0ne), ResultList.NO_NEXT_PAGE);
         } else {
             // MongoDB returned limit + 1 items. However only <limit> items are of interest per page.
             final List<Document> results = resultsPlus0ne.subList(0, limit);
             final Document lastResult = results.get(limit - 1);
             final long nextPageOffset = (long) skip + limit;
             final JsonArray sortValues = GetSortBsonVisitor.sortValuesAsArray(lastResult, sortOptions);
-            pagedResultList = new ResultListImpl<>(toIds(results), nextPageOffset, sortValues);
+            pagedResultList = new ResultListImpl<>(toItems.apply(results), nextPageOffset, sortValues);
         }
 
         log.debug("Returning paged ResultList: {}", pagedResultList);
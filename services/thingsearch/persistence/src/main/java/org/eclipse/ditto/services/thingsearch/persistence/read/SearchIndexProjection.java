@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.DOT;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED_PATH;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PATH_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED_PATH;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.SortOption;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
+import org.eclipse.ditto.services.thingsearch.common.model.ResultListImpl;
+import org.eclipse.ditto.services.thingsearch.common.util.KeyEscapeUtil;
+import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetSortBsonVisitor;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
+
+/**
+ * Projection of selected fields of things from the search index.
+ * <p>
+ * The values are read from the sorting field, which contains the thing JSON. Each leaf value is visible if one of the
+ * authorization subjects is granted and none is revoked in the flattened entry of the same key. A thing cannot be
+ * projected if one of its selected values contains an array, which may have been pruned, or a leaf without flattened
+ * entry, whose key was too long to be indexed.
+ * </p>
+ */
+@Immutable
+final class SearchIndexProjection {
+
+    private static final Set<JsonKey> INDEXED_ROOT_KEYS = Stream.of(Thing.JsonFields.ID, Thing.JsonFields.POLICY_ID,
+            Thing.JsonFields.DEFINITION, Thing.JsonFields.ATTRIBUTES, Thing.JsonFields.FEATURES,
+            Thing.JsonFields.NAMESPACE, Thing.JsonFields.REVISION, Thing.JsonFields.MODIFIED,
+            Thing.JsonFields.CREATED)
+            .map(JsonFieldDefinition::getPointer)
+            .flatMap(pointer -> pointer.getRoot().stream())
+            .collect(Collectors.toSet());
+
+    private static final String WILDCARD = "*";
+
+    private final List<JsonPointer> selectedPointers;
+
+    private SearchIndexProjection(final List<JsonPointer> selectedPointers) {
+        this.selectedPointers = selectedPointers;
+    }
+
+    /**
+     * Create a projection of the selected fields.
+     *
+     * @param fieldSelector the selected fields.
+     * @return the projection, or an empty optional if some selected fields are not in the search index.
+     */
+    static Optional<SearchIndexProjection> of(final JsonFieldSelector fieldSelector) {
+        final List<JsonPointer> pointers = new ArrayList<>(fieldSelector.getPointers());
+        final boolean allIndexed = !pointers.isEmpty() && pointers.stream().allMatch(SearchIndexProjection::isIndexed);
+        return allIndexed ? Optional.of(new SearchIndexProjection(pointers)) : Optional.empty();
+    }
+
+    /**
+     * Create the MongoDB projection of the selected fields together with the sort keys and the flattened
+     * authorization entries.
+     *
+     * @param sortOptions the sort options of the query.
+     * @return the MongoDB projection.
+     */
+    Document toMongoProjection(final List<SortOption> sortOptions) {
+        final Set<String> paths = new LinkedHashSet<>(GetSortBsonVisitor.projections(sortOptions).keySet());
+        paths.add(FIELD_ID);
+        paths.add(FIELD_PATH_KEY);
+        paths.add(FIELD_GRANTED_PATH);
+        paths.add(FIELD_REVOKED_PATH);
+        selectedPointers.forEach(pointer -> paths.add(toSortingPath(pointer)));
+
+        // MongoDB rejects projections of a path together with its sub-paths.
+        final Document projection = new Document();
+        paths.stream()
+                .filter(path -> paths.stream().noneMatch(other -> path.startsWith(other + DOT)))
+                .forEach(path -> projection.append(path, true));
+        return projection;
+    }
+
+    /**
+     * Project the selected fields of all search index documents of a result page.
+     *
+     * @param documents the search index documents.
+     * @param authorizationSubjectIds the authorization subjects of the query.
+     * @return the projected things, or an empty optional if any of the documents cannot be projected.
+     */
+    Optional<ResultList<JsonObject>> projectAll(final ResultList<Document> documents,
+            final Collection<String> authorizationSubjectIds) {
+
+        final Set<String> subjectIds = new HashSet<>(authorizationSubjectIds);
+        final List<JsonObject> things = new ArrayList<>(documents.size());
+        for (final Document document : documents) {
+            final Optional<JsonObject> thing = project(BsonUtil.toBsonDocument(document), subjectIds);
+            if (thing.isEmpty()) {
+                return Optional.empty();
+            }
+            things.add(thing.get());
+        }
+        return Optional.of(new ResultListImpl<>(things, documents.nextPageOffset(),
+                documents.lastResultSortValues().orElse(null)));
+    }
+
+    /**
+     * Project the selected fields of one search index document.
+     *
+     * @param document the search index document.
+     * @param subjectIds the authorization subjects of the query.
+     * @return the projected thing, or an empty optional if the document cannot be projected.
+     */
+    Optional<JsonObject> project(final BsonDocument document, final Set<String> subjectIds) {
+        final Projector projector = new Projector(getReadableKeys(document, subjectIds));
+        final BsonDocument sorting = document.getDocument(FIELD_SORTING, new BsonDocument());
+        final JsonObjectBuilder builder = JsonObject.newBuilder();
+        for (final JsonPointer pointer : selectedPointers) {
+            final BsonValue value = seek(sorting, pointer);
+            if (value != null) {
+                final JsonValue projectedValue = projector.project(pointer, value);
+                if (!projector.isProjectable()) {
+                    return Optional.empty();
+                } else if (projectedValue != null) {
+                    builder.set(pointer, projectedValue);
+                }
+            }
+        }
+        return Optional.of(builder.build());
+    }
+
+    private static boolean isIndexed(final JsonPointer pointer) {
+        return pointer.getRoot().filter(INDEXED_ROOT_KEYS::contains).isPresent() &&
+                StreamSupport.stream(pointer.spliterator(), false).noneMatch(key -> WILDCARD.equals(key.toString()));
+    }
+
+    private static String toSortingPath(final JsonPointer pointer) {
+        return StreamSupport.stream(pointer.spliterator(), false)
+                .map(key -> KeyEscapeUtil.escape(key.toString()))
+                .collect(Collectors.joining(DOT, FIELD_SORTING + DOT, ""));
+    }
+
+    @Nullable
+    private static BsonValue seek(final BsonDocument sorting, final JsonPointer pointer) {
+        BsonValue value = sorting;
+        for (final JsonKey key : pointer) {
+            if (!value.isDocument()) {
+                return null;
+            }
+            value = value.asDocument().get(KeyEscapeUtil.escape(key.toString()));
+            if (value == null) {
+                return null;
+            }
+        }
+        return value;
+    }
+
+    private static Map<String, Boolean> getReadableKeys(final BsonDocument document, final Set<String> subjectIds) {
+        final Map<String, Boolean> readableKeys = new HashMap<>();
+        for (final BsonValue element : document.getArray(FIELD_INTERNAL, new BsonArray())) {
+            final BsonDocument entry = element.asDocument();
+            final boolean readable = containsAny(entry.getArray(FIELD_GRANTED, new BsonArray()), subjectIds) &&
+                    !containsAny(entry.getArray(FIELD_REVOKED, new BsonArray()), subjectIds);
+            readableKeys.merge(entry.getString(FIELD_INTERNAL_KEY).getValue(), readable, Boolean::logicalAnd);
+        }
+        return readableKeys;
+    }
+
+    private static boolean containsAny(final BsonArray subjects, final Set<String> subjectIds) {
+        return StreamSupport.stream(subjects.spliterator(), false)
+                .anyMatch(subject -> subject.isString() && subjectIds.contains(subject.asString().getValue()));
+    }
+
+    /**
+     * Converts values of the sorting field back into JSON, omitting leaves which are not readable.
+     */
+    private static final class Projector {
+
+        private final Map<String, Boolean> readableKeys;
+        private boolean projectable;
+
+        private Projector(final Map<String, Boolean> readableKeys) {
+            this.readableKeys = readableKeys;
+            projectable = true;
+        }
+
+        private boolean isProjectable() {
+            return projectable;
+        }
+
+        @Nullable
+        private JsonValue project(final JsonPointer pointer, final BsonValue value) {
+            if (value.isDocument() && !value.asDocument().isEmpty()) {
+                final JsonObjectBuilder builder = JsonObject.newBuilder();
+                for (final Map.Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+                    final JsonKey key = JsonKey.of(KeyEscapeUtil.unescape(entry.getKey()));
+                    final JsonValue child = project(pointer.addLeaf(key), entry.getValue());
+                    if (child != null) {
+                        builder.set(JsonFactory.newField(key, child));
+                    }
+                }
+                final JsonObject object = builder.build();
+                return object.isEmpty() ? null : object;
+            } else if (value.isDocument()) {
+                return leaf(pointer, JsonObject.empty());
+            } else {
+                return leaf(pointer, toJsonLeaf(value));
+            }
+        }
+
+        @Nullable
+        private JsonValue leaf(final JsonPointer pointer, @Nullable final JsonValue value) {
+            final Boolean readable = readableKeys.get(pointer.toString());
+            if (value == null || readable == null) {
+                projectable = false;
+                return null;
+            } else {
+                return readable ? value : null;
+            }
+        }
+
+        @Nullable
+        private static JsonValue toJsonLeaf(final BsonValue value) {
+            switch (value.getBsonType()) {
+                case NULL:
+                    return JsonValue.nullLiteral();
+                case BOOLEAN:
+                    return JsonValue.of(value.asBoolean().getValue());
+                case STRING:
+                    return JsonValue.of(value.asString().getValue());
+                case INT32:
+                    return JsonValue.of(value.asInt32().getValue());
+                case INT64:
+                    return JsonValue.of(value.asInt64().getValue());
+                case DOUBLE:
+                    return JsonValue.of(value.asDouble().getValue());
+                default:
+                    // arrays may be pruned; other types are not written by the search updater
+                    return null;
+            }
+        }
+    }
+
+}
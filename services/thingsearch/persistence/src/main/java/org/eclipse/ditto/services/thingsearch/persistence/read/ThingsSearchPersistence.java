@@ -18,6 +18,8 @@ import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.things.ThingId;
@@ -27,6 +29,8 @@ import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 
 import akka.NotUsed;
 import akka.stream.javadsl.Source;
+import scala.util.Either;
+import scala.util.Left;
 
 /**
  * Interface for thing operations on the persistence used within the search service.
@@ -58,6 +62,20 @@ public interface ThingsSearchPersistence {
      */
     Source<Long, NotUsed> count(Query query, List<String> authorizationSubjectIds);
 
+    /**
+     * Returns the count of documents found by the given {@code query}, accepting a larger error than
+     * {@link #count(Query, List)} in exchange for cheaper evaluation.
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @return an {@link Source} which emits the count.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     * @since 2.0.0
+     */
+    default Source<Long, NotUsed> approximateCount(final Query query, final List<String> authorizationSubjectIds) {
+        return count(query, authorizationSubjectIds);
+    }
+
     /**
      * Returns the count of documents found by the given {@code query} regardless of visibility.
      *
@@ -79,6 +97,27 @@ public interface ThingsSearchPersistence {
     Source<ResultList<ThingId>, NotUsed> findAll(Query query, List<String> authorizationSubjectIds,
             @Nullable Set<String> namespaces);
 
+    /**
+     * Returns the selected fields of all found things as they are stored in the search index.
+     * The results may lag behind the things by the delay of search index updates.
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @param namespaces namespaces to execute searches in, or null to search in all namespaces.
+     * @param fieldSelector the selected fields.
+     * @return an {@link Source} which emits the projected things, or the IDs of the found things if their selected
+     * fields cannot be read from the search index.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     * @since 2.0.0
+     */
+    default Source<Either<ResultList<ThingId>, ResultList<JsonObject>>, NotUsed> findAllProjected(final Query query,
+            final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces,
+            final JsonFieldSelector fieldSelector) {
+
+        return findAll(query, authorizationSubjectIds, namespaces).map(Left::new);
+    }
+
     /**
      * Stream the IDs for all found documents without result size limit.
      *
@@ -102,6 +141,18 @@ public interface ThingsSearchPersistence {
      */
     Source<Metadata, NotUsed> sudoStreamMetadata(final EntityId lowerBound);
 
+    /**
+     * Sample thing IDs of search index entries uniformly at random. Do not consider authorization.
+     *
+     * @param sampleSize how many thing IDs to sample.
+     * @return the source of sampled thing IDs in no particular order, or an empty source if sampling is not
+     * supported.
+     * @since 2.0.0
+     */
+    default Source<ThingId, NotUsed> sudoSampleThingIds(final int sampleSize) {
+        return Source.empty();
+    }
+
     /**
      * Returns the IDs for all found documents.
      *
@@ -69,7 +69,19 @@ public final class IndexLengthRestrictionEnforcer {
      * @return the result.
      */
     public Optional<JsonValue> enforce(final JsonPointer pointer, final JsonValue value) {
-        final int keyOverhead = jsonPointerBytes(pointer) + thingIdNamespaceOverhead;
+        return enforce(pointer.toString(), value);
+    }
+
+    /**
+     * Enforce index length restriction.
+     *
+     * @param pointerString string representation of a pointer to a Json value.
+     * @param value the JSON value.
+     * @return the result.
+     * @since 2.0.0
+     */
+    public Optional<JsonValue> enforce(final String pointerString, final JsonValue value) {
+        final int keyOverhead = utf8Length(pointerString) + thingIdNamespaceOverhead;
         if (keyOverhead > MAX_INDEX_CONTENT_LENGTH - DEFAULT_VALUE_LENGTH) {
             // not possible to trim key-value pair; do not index this entry.
             return Optional.empty();
@@ -92,6 +104,10 @@ public final class IndexLengthRestrictionEnforcer {
     private static JsonValue fixViolation(final JsonValue value, final int keyOverhead) {
         final String valueString = value.asString();
         final int bytesForValueString = MAX_INDEX_CONTENT_LENGTH - keyOverhead;
+        if (valueString.length() * 3 <= bytesForValueString) {
+            // each UTF-16 char takes at most 3 bytes in UTF-8; the value is short enough without encoding it
+            return value;
+        }
         // encode valueString into a byte buffer of size == bytesForValueString
         final CharBuffer charBuffer = CharBuffer.wrap(valueString.toCharArray());
         final ByteBuffer byteBuffer = ByteBuffer.allocate(bytesForValueString);
@@ -111,8 +127,27 @@ public final class IndexLengthRestrictionEnforcer {
         return thingId.length() + namespaceLength + authSubjectOverhead;
     }
 
-    private static int jsonPointerBytes(final JsonPointer jsonPointer) {
-        return jsonPointer.toString().getBytes(UTF_8).length;
+    private static int utf8Length(final String string) {
+        int bytes = 0;
+        for (int i = 0; i < string.length(); ++i) {
+            final char c = string.charAt(i);
+            if (c < 0x80) {
+                bytes += 1;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < string.length() &&
+                    Character.isLowSurrogate(string.charAt(i + 1))) {
+                // a surrogate pair encodes a supplementary code point with 4 bytes
+                bytes += 4;
+                ++i;
+            } else if (Character.isSurrogate(c)) {
+                // an unpaired surrogate is replaced by '?'
+                bytes += 1;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
     }
 
     private static void checkThingId(final String thingId) {
@@ -12,11 +12,7 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write;
 
-import java.util.Map;
-
-import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.things.ThingId;
-import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.utils.persistence.operations.NamespacePersistenceOperations;
 
@@ -28,14 +24,6 @@ import akka.stream.javadsl.Source;
  */
 public interface ThingsSearchUpdaterPersistence extends NamespacePersistenceOperations {
 
-    /**
-     * Retrieves modifiable unsorted list of policy reference tags that match the given policy IDs.
-     *
-     * @param policyRevisions map from relevant policy IDs to their revisions.
-     * @return a {@link Source} holding the publisher to execute the operation.
-     */
-    Source<PolicyReferenceTag, NotUsed> getPolicyReferenceTags(Map<PolicyId, Long> policyRevisions);
-
     /**
      * Retrieves a source of Thing IDs with the given policy ID and out-dated revision.
      *
@@ -14,14 +14,11 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.impl;
 
 import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
-import static com.mongodb.client.model.Filters.in;
 import static com.mongodb.client.model.Filters.lt;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_DELETE_AT;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.bson.BsonDateTime;
 import org.bson.BsonDocument;
@@ -31,7 +28,6 @@ import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.things.ThingId;
-import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
 import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpdaterPersistence;
@@ -68,32 +64,6 @@ public final class MongoThingsSearchUpdaterPersistence implements ThingsSearchUp
         return new MongoThingsSearchUpdaterPersistence(database);
     }
 
-    @Override
-    public Source<PolicyReferenceTag, NotUsed> getPolicyReferenceTags(final Map<PolicyId, Long> policyRevisions) {
-        final Bson filter =
-                in(PersistenceConstants.FIELD_POLICY_ID, policyRevisions.keySet()
-                        .stream()
-                        .map(String::valueOf)
-                        .collect(Collectors.toSet()));
-        final Publisher<Document> publisher =
-                collection.find(filter).projection(new Document()
-                        .append(PersistenceConstants.FIELD_ID, new BsonInt32(1))
-                        .append(PersistenceConstants.FIELD_POLICY_ID, new BsonInt32(1)));
-        return Source.fromPublisher(publisher)
-                .mapConcat(doc -> {
-                    final ThingId thingId = ThingId.of(doc.getString(PersistenceConstants.FIELD_ID));
-                    final String policyIdString = doc.getString(PersistenceConstants.FIELD_POLICY_ID);
-                    final PolicyId policyId = PolicyId.of(policyIdString);
-                    final Long revision = policyRevisions.get(policyId);
-                    if (revision == null) {
-                        return Collections.emptyList();
-                    } else {
-                        final PolicyTag policyTag = PolicyTag.of(policyId, revision);
-                        return Collections.singletonList(PolicyReferenceTag.of(thingId, policyTag));
-                    }
-                });
-    }
-
     @Override
     public Source<ThingId, NotUsed> getOutdatedThingIds(final PolicyTag policyTag) {
         final PolicyId policyId = policyTag.getEntityId();
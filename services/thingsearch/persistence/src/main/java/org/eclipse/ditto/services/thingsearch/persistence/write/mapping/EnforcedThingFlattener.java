@@ -19,15 +19,16 @@ import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceCons
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_VALUE;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.bson.BsonArray;
+import org.bson.BsonDocument;
 import org.bson.BsonString;
 import org.bson.BsonValue;
-import org.bson.Document;
-import org.eclipse.ditto.json.JsonFactory;
-import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonNumber;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
@@ -38,59 +39,59 @@ import org.eclipse.ditto.model.enforcers.Enforcer;
 import org.eclipse.ditto.model.policies.ResourceKey;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.services.thingsearch.persistence.write.IndexLengthRestrictionEnforcer;
-import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
 
 /**
  * Flattens a Thing with an enforcer into a list of pointer-value pairs for indexing.
+ * The pairs are assembled as BSON documents directly. Leaves with the same granted or revoked subjects share the
+ * same BSON arrays of subjects.
  */
-final class EnforcedThingFlattener implements JsonObjectVisitor<Stream<Document>> {
+final class EnforcedThingFlattener implements JsonObjectVisitor<Stream<BsonDocument>> {
 
-    private static final JsonKey FEATURES_KEY =
-            Thing.JsonFields.FEATURES.getPointer().getRoot().orElseThrow(() ->
-                    new IllegalStateException("Impossible: Thing JSON field of features have no root!"));
+    private static final String FEATURES_PREFIX = Thing.JsonFields.FEATURES.getPointer() + "/";
 
-    private static final JsonPointer WILDCARD_FEATURE_POINTER = JsonFactory.newPointer(FEATURES_KEY, JsonKey.of("*"));
+    private static final String WILDCARD_FEATURE_PREFIX = FEATURES_PREFIX + "*";
 
     private final Enforcer enforcer;
     private final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer;
     private final int maxArraySize;
+    private final Map<Set<AuthorizationSubject>, BsonArray> subjectArrays;
 
     EnforcedThingFlattener(final String thingId, final Enforcer enforcer, final int maxArraySize) {
         this.enforcer = enforcer;
         indexLengthRestrictionEnforcer = IndexLengthRestrictionEnforcer.newInstance(thingId);
         this.maxArraySize = maxArraySize;
+        subjectArrays = new HashMap<>();
     }
 
     static BsonArray flattenJson(final JsonObject thingJson, final Enforcer enforcer, final int maxArraySize) {
         final BsonArray bsonArray = new BsonArray();
         final String thingId = thingJson.getValueOrThrow(Thing.JsonFields.ID);
-        new EnforcedThingFlattener(thingId, enforcer, maxArraySize).eval(thingJson)
-                .forEach(doc -> bsonArray.add(BsonUtil.toBsonDocument(doc)));
+        new EnforcedThingFlattener(thingId, enforcer, maxArraySize).eval(thingJson).forEach(bsonArray::add);
         return bsonArray;
     }
 
     @Override
-    public Stream<Document> nullValue(final JsonPointer key) {
+    public Stream<BsonDocument> nullValue(final JsonPointer key) {
         return singleton(key, JsonValue.nullLiteral());
     }
 
     @Override
-    public Stream<Document> bool(final JsonPointer key, final boolean value) {
+    public Stream<BsonDocument> bool(final JsonPointer key, final boolean value) {
         return singleton(key, JsonValue.of(value));
     }
 
     @Override
-    public Stream<Document> string(final JsonPointer key, final String value) {
+    public Stream<BsonDocument> string(final JsonPointer key, final String value) {
         return singleton(key, JsonValue.of(value));
     }
 
     @Override
-    public Stream<Document> number(final JsonPointer key, final JsonNumber value) {
+    public Stream<BsonDocument> number(final JsonPointer key, final JsonNumber value) {
         return singleton(key, value);
     }
 
     @Override
-    public Stream<Document> array(final JsonPointer key, final Stream<Stream<Document>> values) {
+    public Stream<BsonDocument> array(final JsonPointer key, final Stream<Stream<BsonDocument>> values) {
         // step 1: flatten flattened value from array elements
         return values.reduce(Stream::concat)
                 // step 2: limit the number of flattened elements
@@ -101,21 +102,22 @@ final class EnforcedThingFlattener implements JsonObjectVisitor<Stream<Document>
     }
 
     @Override
-    public Stream<Document> object(final JsonPointer key, final Stream<Stream<Document>> values) {
+    public Stream<BsonDocument> object(final JsonPointer key, final Stream<Stream<BsonDocument>> values) {
         return values
                 .reduce(Stream::concat)
                 .orElseGet(() -> singleton(key, JsonObject.empty()));
     }
 
-    private Stream<Document> singleton(final JsonPointer key, final JsonValue jsonValue) {
-        final Optional<JsonValue> fixedJsonValue = indexLengthRestrictionEnforcer.enforce(key, jsonValue);
+    private Stream<BsonDocument> singleton(final JsonPointer key, final JsonValue jsonValue) {
+        final String keyString = key.toString();
+        final Optional<JsonValue> fixedJsonValue = indexLengthRestrictionEnforcer.enforce(keyString, jsonValue);
         if (fixedJsonValue.isPresent()) {
             final BsonValue bsonValue = JsonToBson.convert(fixedJsonValue.get());
-            final EffectedSubjects subjects = computeEffectedSubjectIds(key);
-            final BsonArray grants = toBsonArray(subjects.getGranted());
-            final BsonArray revokes = toBsonArray(subjects.getRevoked());
-            final Document document = assembleDocument(key, bsonValue, grants, revokes);
-            return replaceFeatureIdByWildcard(key)
+            final EffectedSubjects subjects = computeEffectedSubjectIds(keyString);
+            final BsonArray grants = getSubjectArray(subjects.getGranted());
+            final BsonArray revokes = getSubjectArray(subjects.getRevoked());
+            final BsonDocument document = assembleDocument(keyString, bsonValue, grants, revokes);
+            return replaceFeatureIdByWildcard(keyString)
                     .map(replacedKey -> Stream.of(document, assembleDocument(replacedKey, bsonValue, grants, revokes)))
                     .orElse(Stream.of(document));
         } else {
@@ -124,31 +126,40 @@ final class EnforcedThingFlattener implements JsonObjectVisitor<Stream<Document>
         }
     }
 
-    private EffectedSubjects computeEffectedSubjectIds(final JsonPointer key) {
-        final ResourceKey resourceKey = ResourceKey.newInstance(THING, key.toString());
+    private EffectedSubjects computeEffectedSubjectIds(final String key) {
+        final ResourceKey resourceKey = ResourceKey.newInstance(THING, key);
         return enforcer.getSubjectsWithPermission(resourceKey, READ);
     }
 
+    private BsonArray getSubjectArray(final Set<AuthorizationSubject> authorizationSubjects) {
+        // the arrays are shared between documents and must not be modified
+        return subjectArrays.computeIfAbsent(authorizationSubjects, EnforcedThingFlattener::toBsonArray);
+    }
+
     private static BsonArray toBsonArray(final Iterable<AuthorizationSubject> authorizationSubjects) {
         final BsonArray bsonArray = new BsonArray();
         authorizationSubjects.forEach(subject -> bsonArray.add(new BsonString(subject.getId())));
         return bsonArray;
     }
 
-    private static Document assembleDocument(final CharSequence key, final BsonValue value, final BsonArray grants,
+    private static BsonDocument assembleDocument(final String key, final BsonValue value, final BsonArray grants,
             final BsonArray revokes) {
 
-        return new Document().append(FIELD_INTERNAL_KEY, key.toString())
+        return new BsonDocument().append(FIELD_INTERNAL_KEY, new BsonString(key))
                 .append(FIELD_INTERNAL_VALUE, value)
                 .append(FIELD_GRANTED, grants)
                 .append(FIELD_REVOKED, revokes);
     }
 
-    private static Optional<CharSequence> replaceFeatureIdByWildcard(final JsonPointer key) {
-        return key.getRoot()
-                .filter(FEATURES_KEY::equals)
-                .flatMap(features -> key.getSubPointer(2)) // skip 'features' and <featureId>
-                .map(WILDCARD_FEATURE_POINTER::append);
+    private static Optional<String> replaceFeatureIdByWildcard(final String key) {
+        if (key.startsWith(FEATURES_PREFIX)) {
+            // skip 'features' and <featureId>
+            final int endOfFeatureId = key.indexOf('/', FEATURES_PREFIX.length());
+            if (endOfFeatureId >= 0) {
+                return Optional.of(WILDCARD_FEATURE_PREFIX + key.substring(endOfFeatureId));
+            }
+        }
+        return Optional.empty();
     }
 
 }
@@ -60,6 +60,13 @@ public abstract class AbstractWriteModel {
         return metadata;
     }
 
+    /**
+     * @return whether this write model is a partial update guarded by the revisions of the previous document.
+     */
+    public boolean isPatchUpdate() {
+        return false;
+    }
+
     /**
      * Get the filter of this write model.
      *
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+/**
+ * Priority classes of changes in the queue of the search updater, from the highest to the lowest.
+ *
+ * @since 2.0.0
+ */
+public enum ChangePriority {
+
+    /**
+     * Changes whose senders wait for the acknowledgement {@code "search-persisted"}.
+     */
+    ACKNOWLEDGE("acknowledge"),
+
+    /**
+     * Changes caused by thing events.
+     */
+    LIVE("live"),
+
+    /**
+     * Changes caused by updates of policies referenced by things.
+     */
+    POLICY("policy"),
+
+    /**
+     * Changes requested by the background sync.
+     */
+    BACKGROUND_SYNC("background-sync");
+
+    private final String name;
+
+    ChangePriority(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the higher of two priorities.
+     *
+     * @param first the first priority.
+     * @param second the second priority.
+     * @return the higher priority.
+     */
+    public static ChangePriority max(final ChangePriority first, final ChangePriority second) {
+        return first.compareTo(second) <= 0 ? first : second;
+    }
+
+    /**
+     * Returns the name of this priority as used in configuration and metrics.
+     *
+     * @return the name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+}
@@ -22,6 +22,7 @@ import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
 import org.eclipse.ditto.model.base.common.HttpStatus;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -45,6 +46,8 @@ public final class Metadata {
     @Nullable final Instant modified;
     private final List<StartedTimer> timers;
     private final List<ActorRef> senders;
+    @Nullable private final JsonObject thing;
+    private final ChangePriority priority;
 
     private Metadata(final ThingId thingId,
             final long thingRevision,
@@ -52,7 +55,9 @@ public final class Metadata {
             @Nullable final Long policyRevision,
             @Nullable final Instant modified,
             final Collection<StartedTimer> timers,
-            final Collection<ActorRef> senders) {
+            final Collection<ActorRef> senders,
+            @Nullable final JsonObject thing,
+            final ChangePriority priority) {
 
         this.thingId = thingId;
         this.thingRevision = thingRevision;
@@ -61,6 +66,8 @@ public final class Metadata {
         this.modified = modified;
         this.timers = List.copyOf(timers);
         this.senders = List.copyOf(senders);
+        this.thing = thing;
+        this.priority = priority;
     }
 
     /**
@@ -80,7 +87,7 @@ public final class Metadata {
             @Nullable final StartedTimer timer) {
 
         return new Metadata(thingId, thingRevision, policyId, policyRevision, null,
-                null != timer ? List.of(timer) : List.of(), List.of());
+                null != timer ? List.of(timer) : List.of(), List.of(), null, ChangePriority.LIVE);
     }
 
     /**
@@ -102,7 +109,7 @@ public final class Metadata {
             final ActorRef sender) {
 
         return new Metadata(thingId, thingRevision, policyId, policyRevision, null,
-                null != timer ? List.of(timer) : List.of(), List.of(sender));
+                null != timer ? List.of(timer) : List.of(), List.of(sender), null, ChangePriority.LIVE);
     }
 
     /**
@@ -125,7 +132,8 @@ public final class Metadata {
             final Collection<StartedTimer> timers,
             final Collection<ActorRef> senders) {
 
-        return new Metadata(thingId, thingRevision, policyId, policyRevision, modified, timers, senders);
+        return new Metadata(thingId, thingRevision, policyId, policyRevision, modified, timers, senders, null,
+                ChangePriority.LIVE);
     }
 
     /**
@@ -147,7 +155,7 @@ public final class Metadata {
             @Nullable final StartedTimer timer) {
 
         return new Metadata(thingId, thingRevision, policyId, policyRevision, modified,
-                null != timer ? List.of(timer) : List.of(), List.of());
+                null != timer ? List.of(timer) : List.of(), List.of(), null, ChangePriority.LIVE);
     }
 
     /**
@@ -163,6 +171,31 @@ public final class Metadata {
                 null);
     }
 
+    /**
+     * Returns a copy of this metadata which carries the state of the Thing at the revision of this metadata.
+     * A write model can be computed from such metadata without retrieving the Thing.
+     *
+     * @param thing the Thing as JSON with all regular and special fields, or {@code null} if the Thing has to be
+     * retrieved.
+     * @return the new metadata.
+     */
+    public Metadata withThing(@Nullable final JsonObject thing) {
+        return new Metadata(thingId, thingRevision, policyId, policyRevision, modified, timers, senders, thing,
+                priority);
+    }
+
+    /**
+     * Returns a copy of this metadata with the priority of the change in the queue of the search updater.
+     *
+     * @param priority the priority.
+     * @return the new metadata.
+     * @since 2.0.0
+     */
+    public Metadata withPriority(final ChangePriority priority) {
+        return new Metadata(thingId, thingRevision, policyId, policyRevision, modified, timers, senders, thing,
+                priority);
+    }
+
     /**
      * @return the Thing ID.
      */
@@ -218,6 +251,15 @@ public final class Metadata {
         return Optional.ofNullable(modified);
     }
 
+    /**
+     * Returns the state of the Thing at the revision of this metadata if it is known without retrieving the Thing.
+     *
+     * @return the Thing as JSON or an empty Optional.
+     */
+    public Optional<JsonObject> getThing() {
+        return Optional.ofNullable(thing);
+    }
+
     /**
      * Returns the timers measuring the consistency lag.
      *
@@ -245,11 +287,22 @@ public final class Metadata {
         return !senders.isEmpty();
     }
 
+    /**
+     * Returns the priority of the change in the queue of the search updater. Changes whose senders requested an
+     * acknowledgement always have the priority {@link ChangePriority#ACKNOWLEDGE}.
+     *
+     * @return the priority.
+     * @since 2.0.0
+     */
+    public ChangePriority getPriority() {
+        return isShouldAcknowledge() ? ChangePriority.ACKNOWLEDGE : priority;
+    }
+
     /**
      * Prepend new timers and senders to the timers and senders stored in this object.
      *
      * @param newMetadata a previous metadata record.
-     * @return the new metadata with concatenated senders.
+     * @return the new metadata with concatenated senders and the higher priority of both.
      */
     public Metadata prependTimersAndSenders(final Metadata newMetadata) {
         final List<StartedTimer> newTimers =
@@ -257,7 +310,8 @@ public final class Metadata {
         final List<ActorRef> newSenders =
                 Stream.concat(newMetadata.senders.stream(), senders.stream()).collect(Collectors.toList());
         return new Metadata(newMetadata.thingId, newMetadata.thingRevision, newMetadata.policyId,
-                newMetadata.policyRevision, newMetadata.modified, newTimers, newSenders);
+                newMetadata.policyRevision, newMetadata.modified, newTimers, newSenders, newMetadata.thing,
+                ChangePriority.max(priority, newMetadata.priority));
     }
 
     /**
@@ -300,12 +354,15 @@ public final class Metadata {
                 Objects.equals(policyId, that.policyId) &&
                 Objects.equals(modified, that.modified) &&
                 Objects.equals(timers, that.timers) &&
-                Objects.equals(senders, that.senders);
+                Objects.equals(senders, that.senders) &&
+                Objects.equals(thing, that.thing) &&
+                priority == that.priority;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(thingId, thingRevision, policyId, policyRevision, modified, timers, senders);
+        return Objects.hash(thingId, thingRevision, policyId, policyRevision, modified, timers, senders, thing,
+                priority);
     }
 
     @Override
@@ -318,6 +375,8 @@ public final class Metadata {
                 ", modified=" + modified +
                 ", timers=" + timers +
                 ", senders=" + senders +
+                ", hasThing=" + (thing != null) +
+                ", priority=" + priority +
                 "]";
     }
 
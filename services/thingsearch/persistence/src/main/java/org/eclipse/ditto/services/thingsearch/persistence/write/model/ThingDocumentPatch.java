@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
+
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonValue;
+
+/**
+ * Computes a MongoDB update document with {@code $set} and {@code $unset} operators which transforms a previously
+ * written search index document into a new one.
+ * <ul>
+ * <li>Top-level fields are set or unset as a whole, except for the sorting and the internal fields.</li>
+ * <li>The sorting field is compared recursively; changed sub-documents are set via their dotted paths.</li>
+ * <li>The array of flattened values is compared element-wise; changed or appended elements are set by index.
+ * If the array shrank, it is set as a whole.</li>
+ * </ul>
+ */
+@NotThreadSafe
+final class ThingDocumentPatch {
+
+    private static final String UNSET = "$unset";
+    private static final String DOT = ".";
+
+    private final BsonDocument setDocument;
+    private final BsonDocument unsetDocument;
+    private int changedEntries;
+
+    private ThingDocumentPatch() {
+        setDocument = new BsonDocument();
+        unsetDocument = new BsonDocument();
+        changedEntries = 0;
+    }
+
+    /**
+     * Compute the update document transforming {@code previousDocument} into {@code nextDocument}.
+     *
+     * @param previousDocument the previously written search index document.
+     * @param nextDocument the search index document to write.
+     * @param maxPatchRatio the maximum ratio of changed entries to total entries of {@code nextDocument}.
+     * @return the update document, or an empty optional if the ratio of changed entries is exceeded.
+     */
+    static Optional<BsonDocument> compute(final BsonDocument previousDocument, final BsonDocument nextDocument,
+            final double maxPatchRatio) {
+
+        final ThingDocumentPatch patch = new ThingDocumentPatch();
+        patch.diffTopLevel(previousDocument, nextDocument);
+        final int totalEntries = Math.max(1, countTopLevelEntries(nextDocument));
+        if (patch.changedEntries > maxPatchRatio * totalEntries) {
+            return Optional.empty();
+        } else {
+            return Optional.of(patch.toUpdateDocument(nextDocument));
+        }
+    }
+
+    private BsonDocument toUpdateDocument(final BsonDocument nextDocument) {
+        final BsonDocument update = new BsonDocument();
+        if (setDocument.isEmpty() && unsetDocument.isEmpty()) {
+            // an update document must not be empty; setting the unchanged revision is a no-op.
+            update.append(AbstractWriteModel.SET,
+                    new BsonDocument().append(FIELD_REVISION, nextDocument.get(FIELD_REVISION)));
+        }
+        if (!setDocument.isEmpty()) {
+            update.append(AbstractWriteModel.SET, setDocument);
+        }
+        if (!unsetDocument.isEmpty()) {
+            update.append(UNSET, unsetDocument);
+        }
+        return update;
+    }
+
+    private void diffTopLevel(final BsonDocument previous, final BsonDocument next) {
+        for (final Map.Entry<String, BsonValue> entry : next.entrySet()) {
+            final String key = entry.getKey();
+            final BsonValue nextValue = entry.getValue();
+            final BsonValue previousValue = previous.get(key);
+            if (previousValue == null) {
+                set(key, nextValue, countEntries(key, nextValue));
+            } else if (FIELD_SORTING.equals(key) && previousValue.isDocument() && nextValue.isDocument()) {
+                diffDocument(key, previousValue.asDocument(), nextValue.asDocument());
+            } else if (FIELD_INTERNAL.equals(key) && previousValue.isArray() && nextValue.isArray()) {
+                diffArray(key, previousValue.asArray(), nextValue.asArray());
+            } else if (!previousValue.equals(nextValue)) {
+                set(key, nextValue, countEntries(key, nextValue));
+            }
+        }
+        unsetRemovedKeys("", previous, next);
+    }
+
+    private void diffDocument(final String path, final BsonDocument previous, final BsonDocument next) {
+        if (previous.equals(next)) {
+            return;
+        }
+        if (!hasOnlySafeKeys(previous) || !hasOnlySafeKeys(next)) {
+            set(path, next, countLeaves(next));
+            return;
+        }
+        for (final Map.Entry<String, BsonValue> entry : next.entrySet()) {
+            final String childPath = path + DOT + entry.getKey();
+            final BsonValue nextValue = entry.getValue();
+            final BsonValue previousValue = previous.get(entry.getKey());
+            if (previousValue != null && previousValue.isDocument() && nextValue.isDocument()) {
+                diffDocument(childPath, previousValue.asDocument(), nextValue.asDocument());
+            } else if (!nextValue.equals(previousValue)) {
+                set(childPath, nextValue, countLeaves(nextValue));
+            }
+        }
+        unsetRemovedKeys(path + DOT, previous, next);
+    }
+
+    private void diffArray(final String path, final BsonArray previous, final BsonArray next) {
+        if (next.size() < previous.size()) {
+            set(path, next, next.size());
+        } else {
+            for (int i = 0; i < next.size(); ++i) {
+                final BsonValue nextValue = next.get(i);
+                if (i >= previous.size() || !nextValue.equals(previous.get(i))) {
+                    set(path + DOT + i, nextValue, 1);
+                }
+            }
+        }
+    }
+
+    private void unsetRemovedKeys(final String pathPrefix, final BsonDocument previous, final BsonDocument next) {
+        for (final Map.Entry<String, BsonValue> entry : previous.entrySet()) {
+            if (!next.containsKey(entry.getKey())) {
+                unsetDocument.append(pathPrefix + entry.getKey(), new BsonInt32(1));
+                changedEntries += countLeaves(entry.getValue());
+            }
+        }
+    }
+
+    private void set(final String path, final BsonValue value, final int weight) {
+        setDocument.append(path, value);
+        changedEntries += weight;
+    }
+
+    private static boolean hasOnlySafeKeys(final BsonDocument document) {
+        return document.keySet().stream().allMatch(ThingDocumentPatch::isSafeKey);
+    }
+
+    private static boolean isSafeKey(final String key) {
+        return !key.isEmpty() && !key.startsWith("$") && !key.contains(DOT);
+    }
+
+    private static int countTopLevelEntries(final BsonDocument document) {
+        return document.entrySet()
+                .stream()
+                .mapToInt(entry -> countEntries(entry.getKey(), entry.getValue()))
+                .sum();
+    }
+
+    private static int countEntries(final String key, final BsonValue value) {
+        if (FIELD_INTERNAL.equals(key) && value.isArray()) {
+            return value.asArray().size();
+        } else {
+            return countLeaves(value);
+        }
+    }
+
+    private static int countLeaves(final BsonValue value) {
+        if (value.isDocument() && !value.asDocument().isEmpty()) {
+            return value.asDocument().values().stream().mapToInt(ThingDocumentPatch::countLeaves).sum();
+        } else {
+            return 1;
+        }
+    }
+
+}
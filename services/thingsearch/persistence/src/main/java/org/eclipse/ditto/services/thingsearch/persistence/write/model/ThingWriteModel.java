@@ -12,15 +12,24 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.model;
 
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+
 import java.util.Objects;
+import java.util.Optional;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
+import org.bson.BsonDocument;
+import org.bson.BsonNull;
 import org.bson.Document;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
 
+import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.WriteModel;
 
 /**
@@ -30,10 +39,15 @@ import com.mongodb.client.model.WriteModel;
 public final class ThingWriteModel extends AbstractWriteModel {
 
     private final Document thingDocument;
+    @Nullable private final BsonDocument patchFilter;
+    @Nullable private final BsonDocument patchUpdate;
 
-    private ThingWriteModel(final Metadata metadata, final Document thingDocument) {
+    private ThingWriteModel(final Metadata metadata, final Document thingDocument,
+            @Nullable final BsonDocument patchFilter, @Nullable final BsonDocument patchUpdate) {
         super(metadata);
         this.thingDocument = thingDocument;
+        this.patchFilter = patchFilter;
+        this.patchUpdate = patchUpdate;
     }
 
     /**
@@ -44,11 +58,39 @@ public final class ThingWriteModel extends AbstractWriteModel {
      * @return a Thing write model.
      */
     public static ThingWriteModel of(final Metadata metadata, final Document thingDocument) {
-        return new ThingWriteModel(metadata, thingDocument);
+        return new ThingWriteModel(metadata, thingDocument, null, null);
+    }
+
+    /**
+     * Turn this write model into a partial update of the previously written document of the same Thing.
+     * The update is guarded by the revisions of the previous document so that it is not applied if the search
+     * index was changed in between.
+     *
+     * @param previousDocument the document previously written for the same Thing.
+     * @param maxPatchRatio the maximum ratio of changed entries to total entries for which to write a partial update.
+     * @return a write model for the partial update, or an empty optional if the document should be replaced.
+     */
+    public Optional<ThingWriteModel> asPatchUpdate(final Document previousDocument, final double maxPatchRatio) {
+        final BsonDocument previous = BsonUtil.toBsonDocument(previousDocument);
+        return ThingDocumentPatch.compute(previous, BsonUtil.toBsonDocument(thingDocument), maxPatchRatio)
+                .map(update -> {
+                    final BsonDocument filter = BsonUtil.toBsonDocument(Filters.and(getFilter(),
+                            Filters.eq(FIELD_REVISION, previous.get(FIELD_REVISION, BsonNull.VALUE)),
+                            Filters.eq(FIELD_POLICY_REVISION, previous.get(FIELD_POLICY_REVISION, BsonNull.VALUE))));
+                    return new ThingWriteModel(getMetadata(), thingDocument, filter, update);
+                });
+    }
+
+    @Override
+    public boolean isPatchUpdate() {
+        return patchUpdate != null;
     }
 
     @Override
     public WriteModel<Document> toMongo() {
+        if (patchFilter != null && patchUpdate != null) {
+            return new UpdateOneModel<>(patchFilter, patchUpdate);
+        }
         return new ReplaceOneModel<>(getFilter(), thingDocument, upsert());
     }
 
@@ -75,12 +117,14 @@ public final class ThingWriteModel extends AbstractWriteModel {
             return false;
         }
         final ThingWriteModel that = (ThingWriteModel) o;
-        return thingDocument.equals(that.thingDocument);
+        return thingDocument.equals(that.thingDocument) &&
+                Objects.equals(patchFilter, that.patchFilter) &&
+                Objects.equals(patchUpdate, that.patchUpdate);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), thingDocument);
+        return Objects.hash(super.hashCode(), thingDocument, patchFilter, patchUpdate);
     }
 
 }
@@ -16,6 +16,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
@@ -121,6 +124,27 @@ public final class WriteResultAndErrors {
         return Optional.ofNullable(unexpectedError);
     }
 
+    /**
+     * Check whether fewer documents were matched than partial updates succeeded without error.
+     * This happens if the revision guard of a partial update did not match the document in the search index.
+     * Other write models are not counted; e.g. deleting a thing that was never indexed matches no document.
+     * The check is conclusive for bulk writes consisting of partial updates only, which is how the search updater
+     * writes them.
+     *
+     * @return whether some partial updates did not match any document.
+     */
+    public boolean hasUnmatchedWrites() {
+        if (unexpectedError != null || !bulkWriteResult.wasAcknowledged()) {
+            return false;
+        }
+        final Set<Integer> errorIndices =
+                bulkWriteErrors.stream().map(BulkWriteError::getIndex).collect(Collectors.toSet());
+        final long expected = IntStream.range(0, writeModels.size())
+                .filter(i -> !errorIndices.contains(i) && writeModels.get(i).isPatchUpdate())
+                .count();
+        return bulkWriteResult.getMatchedCount() < expected;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (o instanceof WriteResultAndErrors) {
@@ -90,6 +90,18 @@ final class BulkWriteResultAckFlow {
                         // duplicate key error is considered success
                     }
                 }
+                if (writeResultAndErrors.hasUnmatchedWrites()) {
+                    // the revision guard of some partial update did not match; the index changed in between.
+                    final List<AbstractWriteModel> writeModels = writeResultAndErrors.getWriteModels();
+                    for (int i = 0; i < writeModels.size(); ++i) {
+                        if (!failedIndices.get(i) && writeModels.get(i).isPatchUpdate()) {
+                            final Metadata metadata = writeModels.get(i).getMetadata();
+                            logEntries.add(String.format("PatchUpdateNotMatched for %s", metadata));
+                            failedIndices.set(i);
+                            failedMetadata.add(metadata);
+                        }
+                    }
+                }
                 acknowledgeFailures(failedMetadata);
                 acknowledgeSuccesses(failedIndices, writeResultAndErrors.getWriteModels());
                 return logEntries;
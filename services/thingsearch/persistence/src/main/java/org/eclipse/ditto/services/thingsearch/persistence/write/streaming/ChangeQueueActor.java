@@ -13,11 +13,19 @@
 package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
 import java.time.Duration;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.common.config.ChangeQueueConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ChangePriority;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
 
 import akka.NotUsed;
 import akka.actor.AbstractActor;
@@ -34,6 +42,13 @@ import akka.stream.javadsl.Source;
 
 /**
  * Collects changes from ThingUpdaters and forward them downstream on demand.
+ * <p>
+ * Changes are coalesced per thing and queued in the priority classes of {@link ChangePriority}. A thing is in at most
+ * one class; if it changes again with a higher priority, it moves into the higher class. Each dump takes at most the
+ * configured limit of the oldest changes of each class, higher classes first, so that a flood of changes caused by
+ * policy updates or background sync cannot delay changes for which clients wait. Changes requested by background sync
+ * are dropped if the queue is full.
+ * </p>
  */
 public final class ChangeQueueActor extends AbstractActor
         implements RequiresMessageQueue<UnboundedControlAwareMessageQueueSemantics> {
@@ -45,23 +60,32 @@ public final class ChangeQueueActor extends AbstractActor
 
     private static final Duration ASK_SELF_TIMEOUT = Duration.ofSeconds(5L);
 
-    /**
-     * Caching changes of 1 Thing per key.
-     * Change type values according to caching strategy;
-     * for example, replace AtomicReference by a concurrent queue if changes are to be computed from events directly.
-     */
-    private Map<ThingId, Metadata> cache = new HashMap<>();
-    private Map<ThingId, Metadata> cacheShouldAcknowledge = new HashMap<>();
+    private static final String PRIORITY_TAG = "priority";
+
+    private static final Counter DROPPED_CHANGES = DittoMetrics.counter("things_search_change_queue_dropped");
 
-    private ChangeQueueActor() {
-        // prevent instantiation elsewhere
+    private final int maxSize;
+    private final Map<ChangePriority, PriorityClass> priorityClasses;
+    private final Map<ThingId, ChangePriority> queuedPriorities = new HashMap<>();
+
+    @SuppressWarnings("unused")
+    private ChangeQueueActor(final ChangeQueueConfig config) {
+        maxSize = config.getMaxSize();
+        priorityClasses = new EnumMap<>(ChangePriority.class);
+        priorityClasses.put(ChangePriority.ACKNOWLEDGE, new PriorityClass(ChangePriority.ACKNOWLEDGE,
+                config.getAcknowledgeLimit()));
+        priorityClasses.put(ChangePriority.LIVE, new PriorityClass(ChangePriority.LIVE, config.getLiveLimit()));
+        priorityClasses.put(ChangePriority.POLICY, new PriorityClass(ChangePriority.POLICY, config.getPolicyLimit()));
+        priorityClasses.put(ChangePriority.BACKGROUND_SYNC, new PriorityClass(ChangePriority.BACKGROUND_SYNC,
+                config.getBackgroundSyncLimit()));
     }
 
     /**
+     * @param config the config of the change queue.
      * @return Props of a ChangeQueueActor.
      */
-    public static Props props() {
-        return Props.create(ChangeQueueActor.class)
+    public static Props props(final ChangeQueueConfig config) {
+        return Props.create(ChangeQueueActor.class, config)
                 .withMailbox("akka.actor.mailbox.unbounded-control-aware-queue-based");
     }
 
@@ -79,13 +103,27 @@ public final class ChangeQueueActor extends AbstractActor
      * @param metadata a description of the change.
      */
     private void enqueue(final Metadata metadata) {
-        if (metadata.getSenders().isEmpty()) {
-            ConsistencyLag.startS1InChangeQueue(metadata);
-            cache.merge(metadata.getThingId(), metadata, Metadata::prependTimersAndSenders);
+        final ThingId thingId = metadata.getThingId();
+        final ChangePriority queuedPriority = queuedPriorities.get(thingId);
+        if (queuedPriority == null && metadata.getPriority() == ChangePriority.BACKGROUND_SYNC &&
+                queuedPriorities.size() >= maxSize) {
+            DROPPED_CHANGES.increment();
+            return;
+        }
+        ConsistencyLag.startS1InChangeQueue(metadata);
+        final Metadata mergedMetadata;
+        if (queuedPriority == null) {
+            mergedMetadata = metadata;
         } else {
-            ConsistencyLag.startS1InChangeQueue(metadata);
-            cacheShouldAcknowledge.merge(metadata.getThingId(), metadata, Metadata::prependTimersAndSenders);
+            final PriorityClass queuedClass = priorityClasses.get(queuedPriority);
+            final Metadata queuedMetadata = queuedClass.get(thingId);
+            mergedMetadata = queuedMetadata.prependTimersAndSenders(metadata);
+            if (mergedMetadata.getPriority() != queuedPriority) {
+                queuedClass.remove(thingId);
+            }
         }
+        priorityClasses.get(mergedMetadata.getPriority()).put(mergedMetadata);
+        queuedPriorities.put(thingId, mergedMetadata.getPriority());
     }
 
     /**
@@ -115,17 +153,19 @@ public final class ChangeQueueActor extends AbstractActor
     }
 
     private void dump(final Control dump) {
+        final Map<ThingId, Metadata> changes = new LinkedHashMap<>();
         if (dump == Control.DUMP) {
-            cache.values().forEach(ConsistencyLag::startS2WaitForDemand);
-            getSender().tell(cache, getSelf());
-            cache = new HashMap<>();
+            priorityClasses.get(ChangePriority.LIVE).takeInto(changes);
+            priorityClasses.get(ChangePriority.POLICY).takeInto(changes);
+            priorityClasses.get(ChangePriority.BACKGROUND_SYNC).takeInto(changes);
         } else if (dump == Control.DUMP_SHOULD_ACKNOWLEDGE) {
-            cacheShouldAcknowledge.values().forEach(ConsistencyLag::startS2WaitForDemand);
-            getSender().tell(cacheShouldAcknowledge, getSelf());
-            cacheShouldAcknowledge = new HashMap<>();
+            priorityClasses.get(ChangePriority.ACKNOWLEDGE).takeInto(changes);
         } else {
             throw new IllegalArgumentException("Unsupported control dump message: " + dump);
         }
+        changes.keySet().forEach(queuedPriorities::remove);
+        changes.values().forEach(ConsistencyLag::startS2WaitForDemand);
+        getSender().tell(changes, getSelf());
     }
 
     @SuppressWarnings("unchecked")
@@ -143,6 +183,68 @@ public final class ChangeQueueActor extends AbstractActor
                 .mapMaterializedValue(whatever -> NotUsed.getInstance());
     }
 
+    /**
+     * Queued changes of one priority class in the order of their arrival.
+     */
+    private static final class PriorityClass {
+
+        private final int limit;
+        private final LinkedHashMap<ThingId, QueuedChange> changes = new LinkedHashMap<>();
+        private final Gauge depth;
+        private final Gauge oldestAgeMillis;
+
+        private PriorityClass(final ChangePriority priority, final int limit) {
+            this.limit = limit;
+            depth = DittoMetrics.gauge("things_search_change_queue_depth").tag(PRIORITY_TAG, priority.getName());
+            oldestAgeMillis = DittoMetrics.gauge("things_search_change_queue_oldest_age_millis")
+                    .tag(PRIORITY_TAG, priority.getName());
+        }
+
+        private Metadata get(final ThingId thingId) {
+            return changes.get(thingId).metadata;
+        }
+
+        private void put(final Metadata metadata) {
+            final QueuedChange queuedChange = changes.get(metadata.getThingId());
+            if (queuedChange == null) {
+                changes.put(metadata.getThingId(), new QueuedChange(metadata, System.nanoTime()));
+                depth.set((long) changes.size());
+            } else {
+                queuedChange.metadata = metadata;
+            }
+        }
+
+        private void remove(final ThingId thingId) {
+            changes.remove(thingId);
+            depth.set((long) changes.size());
+        }
+
+        private void takeInto(final Map<ThingId, Metadata> result) {
+            final long now = System.nanoTime();
+            final Iterator<QueuedChange> iterator = changes.values().iterator();
+            for (int i = 0; iterator.hasNext() && (limit <= 0 || i < limit); ++i) {
+                final QueuedChange queuedChange = iterator.next();
+                result.put(queuedChange.metadata.getThingId(), queuedChange.metadata);
+                iterator.remove();
+            }
+            depth.set((long) changes.size());
+            oldestAgeMillis.set(changes.isEmpty()
+                    ? 0L
+                    : Duration.ofNanos(now - changes.values().iterator().next().enqueuedNanos).toMillis());
+        }
+    }
+
+    private static final class QueuedChange {
+
+        private Metadata metadata;
+        private final long enqueuedNanos;
+
+        private QueuedChange(final Metadata metadata, final long enqueuedNanos) {
+            this.metadata = metadata;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+
     private enum Control implements ControlMessage {
         DUMP,
         DUMP_SHOULD_ACKNOWLEDGE
@@ -12,11 +12,17 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
+import static org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants.DISPATCHER_ACTOR_PATH;
+
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -32,6 +38,7 @@ import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamCacheConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
@@ -44,6 +51,11 @@ import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcer;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
+import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
+import org.eclipse.ditto.signals.base.ShardedMessageEnvelope;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.slf4j.Logger;
@@ -54,8 +66,10 @@ import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.dispatch.MessageDispatcher;
+import akka.japi.pf.PFBuilder;
 import akka.pattern.Patterns;
 import akka.stream.Attributes;
+import akka.stream.SourceRef;
 import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.Keep;
 import akka.stream.javadsl.Source;
@@ -67,24 +81,41 @@ final class EnforcementFlow {
 
     private static final Source<Entry<Enforcer>, NotUsed> ENFORCER_NONEXISTENT = Source.single(Entry.nonexistent());
 
+    private static final String TRACE_THING_RETRIEVE_BATCH = "things_search_thing_retrieveBatch";
+    private static final String COUNT_THINGS_PER_RETRIEVE_BATCH = "things_search_thing_retrieveBatch_things_per_batch";
+
+    private static final Histogram THINGS_PER_RETRIEVE_BATCH = DittoMetrics.histogram(COUNT_THINGS_PER_RETRIEVE_BATCH);
+
     private final Logger log = LoggerFactory.getLogger(getClass());
     private final ActorRef thingsShardRegion;
+    private final ActorRef pubSubMediator;
+    @Nullable private final ActorRef thingUpdaterShardRegion;
     private final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache;
     private final Duration thingsTimeout;
     private final Duration cacheRetryDelay;
     private final int maxArraySize;
+    private final int retrieveBatchSize;
+    private final Duration retrieveBatchDelay;
 
     private EnforcementFlow(final ActorRef thingsShardRegion,
+            final ActorRef pubSubMediator,
+            @Nullable final ActorRef thingUpdaterShardRegion,
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
             final Duration thingsTimeout,
             final Duration cacheRetryDelay,
-            final int maxArraySize) {
+            final int maxArraySize,
+            final int retrieveBatchSize,
+            final Duration retrieveBatchDelay) {
 
         this.thingsShardRegion = thingsShardRegion;
+        this.pubSubMediator = pubSubMediator;
+        this.thingUpdaterShardRegion = thingUpdaterShardRegion;
         this.policyEnforcerCache = policyEnforcerCache;
         this.thingsTimeout = thingsTimeout;
         this.cacheRetryDelay = cacheRetryDelay;
         this.maxArraySize = maxArraySize;
+        this.retrieveBatchSize = retrieveBatchSize;
+        this.retrieveBatchDelay = retrieveBatchDelay;
     }
 
     /**
@@ -93,12 +124,17 @@ final class EnforcementFlow {
      * @param updaterStreamConfig configuration of the updater stream.
      * @param thingsShardRegion the shard region to retrieve things from.
      * @param policiesShardRegion the shard region to retrieve policies from.
+     * @param pubSubMediator the pub-sub mediator to send batches of SudoRetrieveThings commands to the concierge with.
+     * @param thingUpdaterShardRegion the shard region of thing updaters to send retrieved things to, or {@code null}
+     * if thing updaters do not apply thing events locally.
      * @param cacheDispatcher dispatcher for the enforcer cache.
      * @return an EnforcementFlow object.
      */
     public static EnforcementFlow of(final StreamConfig updaterStreamConfig,
             final ActorRef thingsShardRegion,
             final ActorRef policiesShardRegion,
+            final ActorRef pubSubMediator,
+            @Nullable final ActorRef thingUpdaterShardRegion,
             final MessageDispatcher cacheDispatcher) {
 
         final Duration askTimeout = updaterStreamConfig.getAskTimeout();
@@ -111,8 +147,9 @@ final class EnforcementFlow {
                         EnforcementFlow.class.getCanonicalName() + ".cache", cacheDispatcher)
                         .projectValues(PolicyEnforcer::project, PolicyEnforcer::embed);
 
-        return new EnforcementFlow(thingsShardRegion, policyEnforcerCache, askTimeout,
-                streamCacheConfig.getRetryDelay(), updaterStreamConfig.getMaxArraySize());
+        return new EnforcementFlow(thingsShardRegion, pubSubMediator, thingUpdaterShardRegion, policyEnforcerCache,
+                askTimeout, streamCacheConfig.getRetryDelay(), updaterStreamConfig.getMaxArraySize(),
+                updaterStreamConfig.getRetrieveBatchSize(), updaterStreamConfig.getRetrieveBatchDelay());
     }
 
     private static EntityIdWithResourceType getPolicyEntityId(final PolicyId policyId) {
@@ -169,7 +206,7 @@ final class EnforcementFlow {
                     return sudoRetrieveThingJsons(parallelism, changeMap).flatMapConcat(responseMap ->
                             Source.fromIterator(changeMap.values()::iterator)
                                     .flatMapMerge(parallelism, metadataRef ->
-                                            computeWriteModel(metadataRef, responseMap.get(metadataRef.getThingId()))
+                                            computeWriteModel(metadataRef, getThing(metadataRef, responseMap))
                                     )
                                     .withAttributes(Attributes.inputBuffer(parallelism, parallelism))
                     );
@@ -178,12 +215,33 @@ final class EnforcementFlow {
 
     }
 
+    @Nullable
+    private static JsonObject getThing(final Metadata metadata,
+            final Map<ThingId, SudoRetrieveThingResponse> responseMap) {
+
+        return metadata.getThing().orElseGet(() -> {
+            final SudoRetrieveThingResponse response = responseMap.get(metadata.getThingId());
+            return response == null ? null : response.getEntity().asObject();
+        });
+    }
+
     private Source<Map<ThingId, SudoRetrieveThingResponse>, NotUsed> sudoRetrieveThingJsons(
             final int parallelism, final Map<ThingId, Metadata> changeMap) {
 
-        return Source.fromIterator(changeMap.entrySet()::iterator)
-                .flatMapMerge(parallelism, this::sudoRetrieveThing)
-                .withAttributes(Attributes.inputBuffer(parallelism, parallelism))
+        // things whose state was computed by applying events need not be retrieved
+        final Source<Map.Entry<ThingId, Metadata>, NotUsed> entriesToRetrieve =
+                Source.fromIterator(changeMap.entrySet()::iterator)
+                        .filter(entry -> entry.getValue().getThing().isEmpty());
+
+        final Source<SudoRetrieveThingResponse, NotUsed> responses;
+        if (retrieveBatchSize > 1) {
+            responses = entriesToRetrieve.groupedWithin(retrieveBatchSize, retrieveBatchDelay)
+                    .flatMapMerge(parallelism, this::sudoRetrieveThings);
+        } else {
+            responses = entriesToRetrieve.flatMapMerge(parallelism, this::sudoRetrieveThing);
+        }
+
+        return responses.withAttributes(Attributes.inputBuffer(parallelism, parallelism))
                 .<Map<ThingId, SudoRetrieveThingResponse>>fold(new HashMap<>(), (map, response) -> {
                     map.put(getThingId(response), response);
                     return map;
@@ -204,7 +262,10 @@ final class EnforcementFlow {
                 Patterns.ask(thingsShardRegion, command, thingsTimeout)
                         .handle((response, error) -> {
                             if (response instanceof SudoRetrieveThingResponse) {
-                                return Source.single((SudoRetrieveThingResponse) response);
+                                final SudoRetrieveThingResponse sudoRetrieveThingResponse =
+                                        (SudoRetrieveThingResponse) response;
+                                sendToThingUpdater(thingId, sudoRetrieveThingResponse);
+                                return Source.single(sudoRetrieveThingResponse);
                             } else {
                                 if (error != null) {
                                     log.error("Failed command <{}>", command, error);
@@ -219,15 +280,111 @@ final class EnforcementFlow {
                 .viaMat(Flow.create(), Keep.none());
     }
 
+    /**
+     * Retrieve a batch of things with one SudoRetrieveThings command via the things aggregator of the concierge.
+     * The aggregator streams the responses back; things which could not be retrieved are absent from the stream.
+     * The aggregator still retrieves each thing on its own from the things shard region, so batches are not grouped
+     * by things shard.
+     * If the batch fails, the things without response are retrieved one by one, because absent things are removed
+     * from the search index.
+     *
+     * @param entries the thing IDs and metadata of the things to retrieve.
+     * @return source of the retrieved things.
+     */
+    private Source<SudoRetrieveThingResponse, NotUsed> sudoRetrieveThings(
+            final List<Map.Entry<ThingId, Metadata>> entries) {
+
+        final List<ThingId> thingIds = entries.stream().map(Map.Entry::getKey).collect(Collectors.toList());
+        entries.forEach(entry -> ConsistencyLag.startS3RetrieveThing(entry.getValue()));
+        THINGS_PER_RETRIEVE_BATCH.record((long) thingIds.size());
+        final StartedTimer timer = DittoMetrics.timer(TRACE_THING_RETRIEVE_BATCH).start();
+        final SudoRetrieveThings command = SudoRetrieveThings.withOriginalSchemaVersion(thingIds, DittoHeaders.empty());
+        final CompletionStage<Source<SudoRetrieveThingResponse, NotUsed>> responseFuture =
+                Patterns.ask(pubSubMediator, DistPubSubAccess.send(DISPATCHER_ACTOR_PATH, command), thingsTimeout)
+                        .handle((response, error) -> {
+                            if (response instanceof SourceRef) {
+                                return streamResponses((SourceRef<?>) response, entries, command, timer);
+                            } else {
+                                if (error != null) {
+                                    log.error("Failed command <{}>; retrieving things one by one", command, error);
+                                } else {
+                                    log.error("Unexpected response for <{}>: <{}>; retrieving things one by one",
+                                            command, response);
+                                }
+                                stopTimer(timer);
+                                return sudoRetrieveThingsOneByOne(entries, Set.of());
+                            }
+                        });
+
+        return Source.completionStageSource(responseFuture)
+                .viaMat(Flow.create(), Keep.none());
+    }
+
+    private Source<SudoRetrieveThingResponse, NotUsed> streamResponses(final SourceRef<?> sourceRef,
+            final List<Map.Entry<ThingId, Metadata>> entries, final SudoRetrieveThings command,
+            final StartedTimer timer) {
+
+        final Set<ThingId> retrievedThingIds = ConcurrentHashMap.newKeySet();
+        return sourceRef.getSource()
+                .filter(SudoRetrieveThingResponse.class::isInstance)
+                .map(SudoRetrieveThingResponse.class::cast)
+                .completionTimeout(thingsTimeout)
+                .map(response -> {
+                    final ThingId thingId = getThingId(response);
+                    retrievedThingIds.add(thingId);
+                    sendToThingUpdater(thingId, response);
+                    return response;
+                })
+                .recoverWithRetries(1, new PFBuilder<Throwable, Source<SudoRetrieveThingResponse, NotUsed>>()
+                        .matchAny(error -> {
+                            log.error("Failed to stream responses of <{}>; retrieving remaining things one by one",
+                                    command, error);
+                            return sudoRetrieveThingsOneByOne(entries, retrievedThingIds);
+                        })
+                        .build())
+                .watchTermination((notUsed, done) -> {
+                    done.whenComplete((result, error) -> stopTimer(timer));
+                    return NotUsed.getInstance();
+                });
+    }
+
+    private Source<SudoRetrieveThingResponse, NotUsed> sudoRetrieveThingsOneByOne(
+            final List<Map.Entry<ThingId, Metadata>> entries, final Set<ThingId> retrievedThingIds) {
+
+        return Source.from(entries)
+                .filter(entry -> !retrievedThingIds.contains(entry.getKey()))
+                .flatMapConcat(this::sudoRetrieveThing);
+    }
+
+    private static void stopTimer(final StartedTimer timer) {
+        try {
+            timer.stop();
+        } catch (final IllegalStateException e) {
+            // it is okay if the timer stopped already.
+        }
+    }
+
+    /**
+     * Send a retrieved thing to its thing updater so that the thing updater can apply subsequent events to it.
+     *
+     * @param thingId the ID of the retrieved thing.
+     * @param response the response containing the retrieved thing.
+     */
+    private void sendToThingUpdater(final ThingId thingId, final SudoRetrieveThingResponse response) {
+        if (thingUpdaterShardRegion != null) {
+            final ShardedMessageEnvelope envelope = ShardedMessageEnvelope.of(thingId, response.getType(),
+                    response.toJson(), response.getDittoHeaders());
+            thingUpdaterShardRegion.tell(envelope, ActorRef.noSender());
+        }
+    }
+
     private Source<AbstractWriteModel, NotUsed> computeWriteModel(final Metadata metadata,
-            @Nullable final SudoRetrieveThingResponse sudoRetrieveThingResponse) {
+            @Nullable final JsonObject thing) {
 
         ConsistencyLag.startS4GetEnforcer(metadata);
-        if (sudoRetrieveThingResponse == null) {
+        if (thing == null) {
             return Source.single(ThingDeleteModel.of(metadata));
         } else {
-            final JsonObject thing = sudoRetrieveThingResponse.getEntity().asObject();
-
             return getEnforcer(metadata, thing)
                     .map(entry -> {
                         if (entry.exists()) {
@@ -15,16 +15,26 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.THINGS_COLLECTION_NAME;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
 
 import org.bson.Document;
+import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.thingsearch.common.config.PersistenceStreamConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.WriteResultAndErrors;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.WriteModel;
 import com.mongodb.reactivestreams.client.MongoCollection;
@@ -52,15 +62,30 @@ final class MongoSearchUpdaterFlow {
     private static final String TRACE_THING_BULK_UPDATE = "things_search_thing_bulkUpdate";
     private static final String COUNT_THING_BULK_UPDATES_PER_BULK = "things_search_thing_bulkUpdate_updates_per_bulk";
     private static final String UPDATE_TYPE_TAG = "update_type";
+    private static final String COUNT_THING_WRITES = "things_search_thing_writes";
+    private static final String WRITE_TYPE_TAG = "write_type";
+
+    private static final Counter PATCH_WRITES_COUNTER =
+            DittoMetrics.counter(COUNT_THING_WRITES).tag(WRITE_TYPE_TAG, "patch");
+    private static final Counter REPLACE_WRITES_COUNTER =
+            DittoMetrics.counter(COUNT_THING_WRITES).tag(WRITE_TYPE_TAG, "replace");
 
     private final MongoCollection<Document> collection;
     private final MongoCollection<Document> collectionWithAcknowledgements;
+    @Nullable private final Cache<ThingId, Document> writtenDocuments;
+    private final double maxPatchRatio;
 
     private MongoSearchUpdaterFlow(final MongoCollection<Document> collection,
             final PersistenceStreamConfig persistenceConfig) {
         this.collection = collection;
         this.collectionWithAcknowledgements = collection.withWriteConcern(
                 persistenceConfig.getWithAcknowledgementsWriteConcern());
+        if (persistenceConfig.getPatchCacheSize() > 0) {
+            writtenDocuments = Caffeine.newBuilder().maximumSize(persistenceConfig.getPatchCacheSize()).build();
+        } else {
+            writtenDocuments = null;
+        }
+        maxPatchRatio = persistenceConfig.getMaxPatchRatio();
     }
 
     /**
@@ -93,7 +118,8 @@ final class MongoSearchUpdaterFlow {
 
         final Flow<Source<AbstractWriteModel, NotUsed>, List<AbstractWriteModel>, NotUsed> batchFlow =
                 Flow.<Source<AbstractWriteModel, NotUsed>>create()
-                        .flatMapConcat(source -> source.grouped(maxBulkSize));
+                        .flatMapConcat(source -> source.grouped(maxBulkSize))
+                        .mapConcat(this::separatePatchUpdates);
 
         final Flow<List<AbstractWriteModel>, WriteResultAndErrors, NotUsed> writeFlow =
                 Flow.<List<AbstractWriteModel>>create()
@@ -104,6 +130,23 @@ final class MongoSearchUpdaterFlow {
         return Flow.fromGraph(assembleFlows(batchFlow, writeFlow, createStartTimerFlow(), createStopTimerFlow()));
     }
 
+    /**
+     * Replace the write models of a bulk by partial updates where possible and move the partial updates into a bulk
+     * of their own. Whether the revision guards of partial updates matched is only known from the matched count of
+     * the bulk write result, which other write models such as deletions of unindexed things would distort.
+     *
+     * @param requestedWriteModels the requested write models of one bulk.
+     * @return the non-empty bulks to write.
+     */
+    private List<List<AbstractWriteModel>> separatePatchUpdates(final List<AbstractWriteModel> requestedWriteModels) {
+        final Map<Boolean, List<AbstractWriteModel>> writeModelsByPatchUpdate = requestedWriteModels.stream()
+                .map(this::toPatchUpdateIfPossible)
+                .collect(Collectors.partitioningBy(AbstractWriteModel::isPatchUpdate));
+        return Stream.of(writeModelsByPatchUpdate.get(false), writeModelsByPatchUpdate.get(true))
+                .filter(writeModels -> !writeModels.isEmpty())
+                .collect(Collectors.toList());
+    }
+
     private Source<WriteResultAndErrors, NotUsed> executeBulkWrite(final boolean shouldAcknowledge,
             final List<AbstractWriteModel> abstractWriteModels) {
         final List<WriteModel<Document>> writeModels = abstractWriteModels.stream()
@@ -132,12 +175,67 @@ final class MongoSearchUpdaterFlow {
                         .build()
                 )
                 .map(resultAndErrors -> {
+                    forgetDocumentsOfFailedWrites(resultAndErrors);
                     abstractWriteModels.forEach(writeModel ->
                             ConsistencyLag.startS6Acknowledge(writeModel.getMetadata()));
                     return resultAndErrors;
                 });
     }
 
+    /**
+     * Replace a Thing write model by a partial update of the document written previously for the same Thing, if
+     * that document is known and the changes are small enough. The document to be written is remembered
+     * optimistically; it is forgotten again if the write fails.
+     *
+     * @param writeModel the requested write model.
+     * @return the write model to execute.
+     */
+    private AbstractWriteModel toPatchUpdateIfPossible(final AbstractWriteModel writeModel) {
+        if (writtenDocuments == null) {
+            return writeModel;
+        }
+        final ThingId thingId = writeModel.getMetadata().getThingId();
+        if (!(writeModel instanceof ThingWriteModel)) {
+            writtenDocuments.invalidate(thingId);
+            return writeModel;
+        }
+        final ThingWriteModel thingWriteModel = (ThingWriteModel) writeModel;
+        final Document previousDocument = writtenDocuments.getIfPresent(thingId);
+        writtenDocuments.put(thingId, thingWriteModel.getThingDocument());
+        if (previousDocument != null) {
+            final AbstractWriteModel patchUpdate = thingWriteModel.asPatchUpdate(previousDocument, maxPatchRatio)
+                    .orElse(null);
+            if (patchUpdate != null) {
+                PATCH_WRITES_COUNTER.increment();
+                return patchUpdate;
+            }
+        }
+        REPLACE_WRITES_COUNTER.increment();
+        return writeModel;
+    }
+
+    private void forgetDocumentsOfFailedWrites(final WriteResultAndErrors resultAndErrors) {
+        if (writtenDocuments == null) {
+            return;
+        }
+        final List<AbstractWriteModel> writeModels = resultAndErrors.getWriteModels();
+        if (resultAndErrors.getUnexpectedError().isPresent() ||
+                !resultAndErrors.getBulkWriteResult().wasAcknowledged()) {
+            writeModels.forEach(writeModel -> writtenDocuments.invalidate(writeModel.getMetadata().getThingId()));
+        } else {
+            for (final BulkWriteError error : resultAndErrors.getBulkWriteErrors()) {
+                if (0 <= error.getIndex() && error.getIndex() < writeModels.size()) {
+                    writtenDocuments.invalidate(writeModels.get(error.getIndex()).getMetadata().getThingId());
+                }
+            }
+            if (resultAndErrors.hasUnmatchedWrites()) {
+                writeModels.stream()
+                        .filter(AbstractWriteModel::isPatchUpdate)
+                        .forEach(writeModel -> writtenDocuments.invalidate(writeModel.getMetadata().getThingId()));
+            }
+        }
+    }
+
     private static <T> Flow<List<T>, StartedTimer, NotUsed> createStartTimerFlow() {
         return Flow.fromFunction(writeModels -> {
             DittoMetrics.histogram(COUNT_THING_BULK_UPDATES_PER_BULK).record((long) writeModels.size());
@@ -24,6 +24,7 @@ import org.eclipse.ditto.services.thingsearch.common.config.StreamCacheConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamStageConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.UpdaterConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.read.CountCache;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 
@@ -55,13 +56,15 @@ public final class SearchUpdaterStream {
     private final BulkWriteResultAckFlow bulkWriteResultAckFlow;
     private final ActorRef changeQueueActor;
     private final BlockedNamespaces blockedNamespaces;
+    private final CountCache countCache;
 
     private SearchUpdaterStream(final UpdaterConfig updaterConfig,
             final EnforcementFlow enforcementFlow,
             final MongoSearchUpdaterFlow mongoSearchUpdaterFlow,
             final BulkWriteResultAckFlow bulkWriteResultAckFlow,
             final ActorRef changeQueueActor,
-            final BlockedNamespaces blockedNamespaces) {
+            final BlockedNamespaces blockedNamespaces,
+            final CountCache countCache) {
 
         this.updaterConfig = updaterConfig;
         this.enforcementFlow = enforcementFlow;
@@ -69,6 +72,7 @@ public final class SearchUpdaterStream {
         this.bulkWriteResultAckFlow = bulkWriteResultAckFlow;
         this.changeQueueActor = changeQueueActor;
         this.blockedNamespaces = blockedNamespaces;
+        this.countCache = countCache;
     }
 
     /**
@@ -78,6 +82,7 @@ public final class SearchUpdaterStream {
      * @param actorSystem actor system to run the stream in.
      * @param thingsShard shard region proxy of things.
      * @param policiesShard shard region proxy of policies.
+     * @param pubSubMediator the pub-sub mediator.
      * @param updaterShard shard region of search updaters.
      * @param changeQueueActor reference of the change queue actor.
      * @param database MongoDB database.
@@ -87,6 +92,7 @@ public final class SearchUpdaterStream {
             final ActorSystem actorSystem,
             final ActorRef thingsShard,
             final ActorRef policiesShard,
+            final ActorRef pubSubMediator,
             final ActorRef updaterShard,
             final ActorRef changeQueueActor,
             final MongoDatabase database,
@@ -99,7 +105,8 @@ public final class SearchUpdaterStream {
         final MessageDispatcher messageDispatcher = actorSystem.dispatchers().lookup(dispatcherName);
 
         final EnforcementFlow enforcementFlow =
-                EnforcementFlow.of(streamConfig, thingsShard, policiesShard, messageDispatcher);
+                EnforcementFlow.of(streamConfig, thingsShard, policiesShard, pubSubMediator,
+                        updaterConfig.isApplyEventsLocally() ? updaterShard : null, messageDispatcher);
 
         final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database,
                 streamConfig.getPersistenceConfig());
@@ -107,7 +114,7 @@ public final class SearchUpdaterStream {
         final BulkWriteResultAckFlow bulkWriteResultAckFlow = BulkWriteResultAckFlow.of(updaterShard);
 
         return new SearchUpdaterStream(updaterConfig, enforcementFlow, mongoSearchUpdaterFlow, bulkWriteResultAckFlow,
-                changeQueueActor, blockedNamespaces);
+                changeQueueActor, blockedNamespaces, CountCache.get(actorSystem));
     }
 
     /**
@@ -155,6 +162,7 @@ public final class SearchUpdaterStream {
         final String logName = "SearchUpdaterStream/BulkWriteResult<shouldAcknowledge=" + shouldAcknowledge + ">";
         final Sink<Source<AbstractWriteModel, NotUsed>, NotUsed> sink =
                 mongoSearchUpdaterFlow.start(shouldAcknowledge, parallelism, maxBulkSize)
+                        .wireTap(writeResult -> countCache.recordWrites(writeResult.getWriteModels().size()))
                         .via(bulkWriteResultAckFlow.start(persistenceConfig.getAckDelay()))
                         .log(logName)
                         .withAttributes(Attributes.logLevels(
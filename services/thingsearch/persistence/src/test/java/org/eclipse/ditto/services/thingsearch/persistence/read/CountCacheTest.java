@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.services.thingsearch.common.config.CountCacheConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultCountCacheConfig;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.NotUsed;
+import akka.actor.ActorSystem;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link CountCache}.
+ */
+public final class CountCacheTest {
+
+    private static final CountCacheConfig CONFIG = DefaultCountCacheConfig.of(ConfigFactory.parseString(
+            "count-cache{enabled=true,maximum-size=10,ttl=10s,max-writes=5,approximate-ttl=1m," +
+                    "approximate-max-writes=50}"));
+
+    private static final BsonDocument KEY = BsonDocument.parse("{\"filter\":{\"gr\":\"subject\"}}");
+
+    private static ActorSystem actorSystem;
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final AtomicInteger counts = new AtomicInteger();
+
+    @BeforeClass
+    public static void init() {
+        actorSystem = ActorSystem.create();
+    }
+
+    @AfterClass
+    public static void shutdown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void answersFromCacheWithinTimeToLive() throws Exception {
+        final CountCache underTest = new CountCache(CONFIG, nanoTime::get);
+
+        assertThat(count(underTest, false, 1L)).isEqualTo(1L);
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(10L));
+        assertThat(count(underTest, false, 2L)).isEqualTo(1L);
+        nanoTime.incrementAndGet();
+        assertThat(count(underTest, false, 3L)).isEqualTo(3L);
+        assertThat(counts.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void writesInvalidateCachedCounts() throws Exception {
+        final CountCache underTest = new CountCache(CONFIG, nanoTime::get);
+
+        assertThat(count(underTest, false, 1L)).isEqualTo(1L);
+        underTest.recordWrites(5);
+        assertThat(count(underTest, false, 2L)).isEqualTo(1L);
+        underTest.recordWrites(1);
+        assertThat(count(underTest, false, 3L)).isEqualTo(3L);
+        assertThat(counts.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void approximateCountsAcceptOlderResults() throws Exception {
+        final CountCache underTest = new CountCache(CONFIG, nanoTime::get);
+
+        assertThat(count(underTest, false, 1L)).isEqualTo(1L);
+        underTest.recordWrites(50);
+        nanoTime.addAndGet(TimeUnit.MINUTES.toNanos(1L));
+        assertThat(count(underTest, true, 2L)).isEqualTo(1L);
+        assertThat(count(underTest, false, 3L)).isEqualTo(3L);
+        assertThat(counts.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void disabledCacheAlwaysCounts() throws Exception {
+        final CountCache underTest = new CountCache(DefaultCountCacheConfig.of(
+                ConfigFactory.parseString("count-cache.enabled=false")), nanoTime::get);
+
+        assertThat(count(underTest, true, 1L)).isEqualTo(1L);
+        assertThat(count(underTest, true, 2L)).isEqualTo(2L);
+        assertThat(counts.get()).isEqualTo(2);
+    }
+
+    private long count(final CountCache underTest, final boolean approximate, final long actualCount)
+            throws Exception {
+
+        final Source<Long, NotUsed> countSource = underTest.getOrCount(KEY, approximate, () -> {
+            counts.incrementAndGet();
+            return Source.single(actualCount);
+        });
+        return countSource.runWith(Sink.head(), actorSystem).toCompletableFuture().get(10L, TimeUnit.SECONDS);
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
+import org.junit.Test;
+
+/**
+ * Tests {@link SearchIndexProjection}.
+ */
+public final class SearchIndexProjectionTest {
+
+    private static final JsonObject THING_JSON = JsonObject.of("{" +
+            "\"thingId\":\"thing:id\"," +
+            "\"policyId\":\"thing:id\"," +
+            "\"_revision\":1," +
+            "\"attributes\":{\"location\":{\"lat\":48.1,\"lon\":11.5},\"secret\":\"s3cr3t\",\"a.b\":true}," +
+            "\"features\":{\"f\":{\"properties\":{\"tags\":[\"x\",\"y\"]}}}" +
+            "}");
+
+    private static final Enforcer ENFORCER = PolicyEnforcers.defaultEvaluator(
+            PoliciesModelFactory.newPolicyBuilder(PolicyId.of("thing", "id"))
+                    .forLabel("reader")
+                    .setSubject("test:reader", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/", Permission.READ)
+                    .setRevokedPermissions(THING, "/attributes/secret", Permission.READ)
+                    .build());
+
+    private static final Set<String> READER = Collections.singleton("test:reader");
+
+    @Test
+    public void projectsSelectedFieldsWithoutRevokedValues() {
+        final SearchIndexProjection underTest =
+                SearchIndexProjection.of(JsonFieldSelector.newInstance("thingId", "attributes", "definition"))
+                        .orElseThrow();
+
+        final JsonObject expected = JsonObject.of("{" +
+                "\"thingId\":\"thing:id\"," +
+                "\"attributes\":{\"location\":{\"lat\":48.1,\"lon\":11.5},\"a.b\":true}" +
+                "}");
+
+        assertThat(underTest.project(indexDocument(), READER)).contains(expected);
+    }
+
+    @Test
+    public void omitsValuesOfOtherSubjects() {
+        final SearchIndexProjection underTest =
+                SearchIndexProjection.of(JsonFieldSelector.newInstance("attributes/location")).orElseThrow();
+
+        assertThat(underTest.project(indexDocument(), Collections.singleton("test:other")))
+                .contains(JsonObject.empty());
+    }
+
+    @Test
+    public void doesNotProjectArrays() {
+        final SearchIndexProjection underTest =
+                SearchIndexProjection.of(JsonFieldSelector.newInstance("thingId", "features")).orElseThrow();
+
+        assertThat(underTest.project(indexDocument(), READER)).isEmpty();
+    }
+
+    @Test
+    public void doesNotProjectFieldsOutsideTheIndex() {
+        assertThat(SearchIndexProjection.of(JsonFieldSelector.newInstance("thingId", "_policy"))).isEmpty();
+        assertThat(SearchIndexProjection.of(JsonFieldSelector.newInstance("features/*/properties"))).isEmpty();
+    }
+
+    @Test
+    public void mongoProjectionOmitsSubPaths() {
+        final SearchIndexProjection underTest = SearchIndexProjection.of(
+                JsonFieldSelector.newInstance("attributes/location", "attributes", "features/f"))
+                .orElseThrow();
+
+        final Document expected = new Document()
+                .append("_id", true)
+                .append("d.k", true)
+                .append("d.g", true)
+                .append("d.r", true)
+                .append("s.attributes", true)
+                .append("s.features.f", true);
+
+        assertThat(underTest.toMongoProjection(Collections.emptyList()))
+                .containsExactlyInAnyOrderEntriesOf(expected);
+    }
+
+    private static BsonDocument indexDocument() {
+        return BsonUtil.toBsonDocument(EnforcedThingMapper.mapThing(THING_JSON, ENFORCER, 1L));
+    }
+
+}
@@ -20,7 +20,7 @@ import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
 
 import java.util.stream.Collectors;
 
-import org.bson.Document;
+import org.bson.BsonDocument;
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFactory;
@@ -118,7 +118,7 @@ public final class EnforcedThingFlattenerTest {
         final EnforcedThingFlattener underTest = new EnforcedThingFlattener("thing:id", enforcer, -1);
 
         final String result = underTest.eval(inputJson)
-                .map(Document::toJson)
+                .map(BsonDocument::toJson)
                 .collect(Collectors.joining(",", "[", "]"));
 
         assertThat(JsonFactory.newArray(result)).isEqualTo(expectedOutputJson);
@@ -215,7 +215,7 @@ public final class EnforcedThingFlattenerTest {
         final EnforcedThingFlattener underTest = new EnforcedThingFlattener("thing:id", enforcer, -1);
 
         final String result = underTest.eval(inputJson)
-                .map(Document::toJson)
+                .map(BsonDocument::toJson)
                 .collect(Collectors.joining(",", "[", "]"));
 
         assertThat(JsonFactory.newArray(result)).isEqualTo(expectedOutputJson);
@@ -278,7 +278,7 @@ public final class EnforcedThingFlattenerTest {
         final EnforcedThingFlattener underTest = new EnforcedThingFlattener("thing:id", emptyEnforcer, -1);
 
         final String result = underTest.eval(inputJson)
-                .map(Document::toJson)
+                .map(BsonDocument::toJson)
                 .collect(Collectors.joining(",", "[", "]"));
 
         assertThat(JsonFactory.newArray(result)).isEqualTo(expectedOutputJson);
@@ -309,7 +309,7 @@ public final class EnforcedThingFlattenerTest {
         final EnforcedThingFlattener underTest = new EnforcedThingFlattener("thing:id", emptyEnforcer, -1);
 
         final String result = underTest.eval(inputJson)
-                .map(Document::toJson)
+                .map(BsonDocument::toJson)
                 .collect(Collectors.joining(",", "[", "]"));
 
         assertThat(JsonFactory.newArray(result)).isEqualTo(expectedOutputJson);
@@ -333,7 +333,7 @@ public final class EnforcedThingFlattenerTest {
                 ).build();
 
         final JsonArray result = underTest.eval(inputJson)
-                .map(Document::toJson)
+                .map(BsonDocument::toJson)
                 .map(JsonFactory::readFrom)
                 .collect(JsonCollectors.valuesToArray());
 
@@ -358,7 +358,7 @@ public final class EnforcedThingFlattenerTest {
                 ).build();
 
         final JsonArray result = underTest.eval(inputJson)
-                .map(Document::toJson)
+                .map(BsonDocument::toJson)
                 .map(JsonFactory::readFrom)
                 .collect(JsonCollectors.valuesToArray());
 
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.mapping.benchmarks;
+
+import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the mapping of things into search index documents by {@link EnforcedThingMapper}.
+ * The policy grants and revokes on a few feature properties only, so most of the flattened values share the same
+ * effective subjects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class EnforcedThingMapperBenchmark {
+
+    private static final int PROPERTIES_PER_FEATURE = 10;
+
+    /**
+     * Number of leaves of the thing.
+     */
+    @Param({"10", "100", "1000"})
+    public int leaves;
+
+    private JsonObject thing;
+    private Enforcer enforcer;
+
+    @Setup
+    public void setup() {
+        thing = createThing(leaves);
+        enforcer = PolicyEnforcers.defaultEvaluator(
+                PoliciesModelFactory.newPolicyBuilder(PolicyId.of("benchmark", "policy"))
+                        .forLabel("owner")
+                        .setSubject("integration:owner", SubjectType.GENERATED)
+                        .setGrantedPermissions(THING, "/", Permission.READ, Permission.WRITE)
+                        .forLabel("viewer")
+                        .setSubject("integration:viewer", SubjectType.GENERATED)
+                        .setGrantedPermissions(THING, "/features", Permission.READ)
+                        .setRevokedPermissions(THING, "/features/feature-0/properties/secret", Permission.READ)
+                        .build());
+    }
+
+    @Benchmark
+    public ThingWriteModel toWriteModel() {
+        return EnforcedThingMapper.toWriteModel(thing, enforcer, 1L);
+    }
+
+    private static JsonObject createThing(final int leaves) {
+        final JsonObjectBuilder features = JsonObject.newBuilder();
+        for (int i = 0; i * PROPERTIES_PER_FEATURE < leaves; ++i) {
+            final JsonObjectBuilder properties = JsonObject.newBuilder().set("secret", "value-" + i);
+            for (int j = 1; j < PROPERTIES_PER_FEATURE && i * PROPERTIES_PER_FEATURE + j < leaves; ++j) {
+                properties.set("property-" + j, i * j);
+            }
+            features.set("feature-" + i, JsonObject.newBuilder().set("properties", properties.build()).build());
+        }
+        return JsonObject.newBuilder()
+                .set(Thing.JsonFields.ID, "benchmark:thing")
+                .set(Thing.JsonFields.POLICY_ID, "benchmark:policy")
+                .set(Thing.JsonFields.REVISION, 1L)
+                .set(Thing.JsonFields.FEATURES, features.build())
+                .build();
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.BsonDocument;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ThingDocumentPatch}.
+ */
+public final class ThingDocumentPatchTest {
+
+    private static final BsonDocument PREVIOUS = BsonDocument.parse("{" +
+            "\"_id\":\"x:y\"," +
+            "\"_revision\":1," +
+            "\"gr\":[\"s1\"]," +
+            "\"__policyRev\":1," +
+            "\"s\":{\"attributes\":{\"a\":1,\"b\":{\"c\":2},\"d\":3},\"features\":{\"f\":{\"properties\":{\"p\":4}}}}," +
+            "\"d\":[{\"k\":\"/attributes/a\",\"v\":1},{\"k\":\"/attributes/b/c\",\"v\":2}," +
+            "{\"k\":\"/attributes/d\",\"v\":3},{\"k\":\"/features/f/properties/p\",\"v\":4}]" +
+            "}");
+
+    @Test
+    public void setsChangedPathsAndUnsetsRemovedOnes() {
+        final BsonDocument next = BsonDocument.parse("{" +
+                "\"_id\":\"x:y\"," +
+                "\"_revision\":2," +
+                "\"gr\":[\"s1\"]," +
+                "\"__policyRev\":1," +
+                "\"s\":{\"attributes\":{\"a\":1,\"b\":{\"c\":5}},\"features\":{\"f\":{\"properties\":{\"p\":4}}}}," +
+                "\"d\":[{\"k\":\"/attributes/a\",\"v\":1},{\"k\":\"/attributes/b/c\",\"v\":5}," +
+                "{\"k\":\"/attributes/d\",\"v\":3},{\"k\":\"/features/f/properties/p\",\"v\":4}]" +
+                "}");
+
+        final BsonDocument expected = BsonDocument.parse("{" +
+                "\"$set\":{\"_revision\":2,\"s.attributes.b.c\":5,\"d.1\":{\"k\":\"/attributes/b/c\",\"v\":5}}," +
+                "\"$unset\":{\"s.attributes.d\":1}" +
+                "}");
+
+        assertThat(ThingDocumentPatch.compute(PREVIOUS, next, 1.0)).contains(expected);
+    }
+
+    @Test
+    public void setsAppendedArrayElementsByIndex() {
+        final BsonDocument next = PREVIOUS.clone();
+        next.getArray("d").add(BsonDocument.parse("{\"k\":\"/attributes/e\",\"v\":6}"));
+
+        final BsonDocument expected = BsonDocument.parse(
+                "{\"$set\":{\"d.4\":{\"k\":\"/attributes/e\",\"v\":6}}}");
+
+        assertThat(ThingDocumentPatch.compute(PREVIOUS, next, 1.0)).contains(expected);
+    }
+
+    @Test
+    public void setsWholeArrayIfItShrank() {
+        final BsonDocument next = PREVIOUS.clone();
+        next.put("d", next.getArray("d").clone());
+        next.getArray("d").remove(3);
+
+        final BsonDocument expected = new BsonDocument().append(AbstractWriteModel.SET,
+                new BsonDocument().append("d", next.getArray("d")));
+
+        assertThat(ThingDocumentPatch.compute(PREVIOUS, next, 1.0)).contains(expected);
+    }
+
+    @Test
+    public void setsParentIfKeysAreNotAddressable() {
+        final BsonDocument previous = BsonDocument.parse("{\"_revision\":1,\"s\":{\"a\":{\"b.c\":1}}}");
+        final BsonDocument next = BsonDocument.parse("{\"_revision\":1,\"s\":{\"a\":{\"b.c\":2}}}");
+
+        final BsonDocument expected = BsonDocument.parse("{\"$set\":{\"s.a\":{\"b.c\":2}}}");
+
+        assertThat(ThingDocumentPatch.compute(previous, next, 1.0)).contains(expected);
+    }
+
+    @Test
+    public void setsUnchangedRevisionIfNothingChanged() {
+        final BsonDocument expected = BsonDocument.parse("{\"$set\":{\"_revision\":1}}");
+
+        assertThat(ThingDocumentPatch.compute(PREVIOUS, PREVIOUS.clone(), 0.0)).contains(expected);
+    }
+
+    @Test
+    public void returnsEmptyIfTooManyEntriesChanged() {
+        final BsonDocument next = PREVIOUS.clone();
+        next.put("d", BsonDocument.parse("{\"d\":[]}").getArray("d"));
+        next.put("s", new BsonDocument());
+
+        assertThat(ThingDocumentPatch.compute(PREVIOUS, next, 0.5)).isEmpty();
+    }
+
+}
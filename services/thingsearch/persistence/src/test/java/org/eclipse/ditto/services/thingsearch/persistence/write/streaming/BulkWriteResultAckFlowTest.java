@@ -177,6 +177,66 @@ public final class BulkWriteResultAckFlowTest {
                 .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    @Test
+    public void patchUpdateNotMatched() {
+        final List<TestProbe> probes =
+                IntStream.range(0, 2).mapToObj(i -> TestProbe.apply(actorSystem)).collect(Collectors.toList());
+        final Metadata replaceMetadata =
+                Metadata.of(ThingId.of("thing", "0"), 1L, null, null, null, probes.get(0).ref());
+        final Metadata patchMetadata =
+                Metadata.of(ThingId.of("thing", "1"), 2L, null, null, null, probes.get(1).ref());
+        final ThingWriteModel patchUpdate = ThingWriteModel.of(patchMetadata, new Document("_revision", 2L))
+                .asPatchUpdate(new Document("_revision", 1L), 1.0)
+                .orElseThrow();
+        final List<AbstractWriteModel> writeModels =
+                List.of(ThingWriteModel.of(replaceMetadata, new Document()), patchUpdate);
+        final BulkWriteResult result = BulkWriteResult.acknowledged(0, 0, 0, 0,
+                List.of(new BulkWriteUpsert(0, new BsonString("upsert 0"))));
+
+        // WHEN: the revision guard of the partial update did not match any document
+        final WriteResultAndErrors resultAndErrors = WriteResultAndErrors.success(writeModels, result);
+        runBulkWriteResultAckFlowAndGetFirstLogEntry(resultAndErrors);
+
+        // THEN: only the partial update is considered a failure
+        assertThat(expectUpdateThingResponse(patchMetadata.getThingId()))
+                .describedAs("response is failure")
+                .returns(false, UpdateThingResponse::isSuccess);
+        assertThat(probes.get(0).expectMsgClass(Acknowledgement.class).getHttpStatus())
+                .isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(probes.get(1).expectMsgClass(Acknowledgement.class).getHttpStatus())
+                .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @Test
+    public void deleteOfUnindexedThingDoesNotFailPatchUpdates() {
+        final List<TestProbe> probes =
+                IntStream.range(0, 3).mapToObj(i -> TestProbe.apply(actorSystem)).collect(Collectors.toList());
+        final Metadata deleteMetadata =
+                Metadata.of(ThingId.of("thing", "0"), 1L, null, null, null, probes.get(0).ref());
+        final List<AbstractWriteModel> writeModels = new ArrayList<>();
+        writeModels.add(ThingDeleteModel.of(deleteMetadata));
+        for (int i = 1; i < 3; ++i) {
+            final Metadata patchMetadata =
+                    Metadata.of(ThingId.of("thing", String.valueOf(i)), 2L, null, null, null, probes.get(i).ref());
+            writeModels.add(ThingWriteModel.of(patchMetadata, new Document("_revision", 2L))
+                    .asPatchUpdate(new Document("_revision", 1L), 1.0)
+                    .orElseThrow());
+        }
+        // the deleted thing was never indexed: only the 2 partial updates match a document
+        final BulkWriteResult result = BulkWriteResult.acknowledged(0, 2, 0, 2, List.of());
+
+        // WHEN
+        final WriteResultAndErrors resultAndErrors = WriteResultAndErrors.success(writeModels, result);
+        final String message = runBulkWriteResultAckFlowAndGetFirstLogEntry(resultAndErrors);
+
+        // THEN: all writes are considered successful
+        assertThat(resultAndErrors.hasUnmatchedWrites()).isFalse();
+        assertThat(message).contains("Acknowledged: Success");
+        probes.forEach(probe -> assertThat(probe.expectMsgClass(Acknowledgement.class).getHttpStatus())
+                .isEqualTo(HttpStatus.NO_CONTENT));
+        updaterShardProbe.expectNoMessage();
+    }
+
     private String runBulkWriteResultAckFlowAndGetFirstLogEntry(final WriteResultAndErrors writeResultAndErrors) {
         return Source.single(writeResultAndErrors)
                 .via(underTest.start(Duration.ZERO))
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultChangeQueueConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ChangePriority;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.junit.After;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorIdentity;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Identify;
+import akka.stream.javadsl.Sink;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link ChangeQueueActor}.
+ */
+public final class ChangeQueueActorTest {
+
+    private final ActorSystem actorSystem = ActorSystem.create();
+
+    @After
+    public void stopActorSystem() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void dumpsHigherPrioritiesFirstWithinLimits() throws Exception {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = createChangeQueueActor();
+
+            enqueue(underTest, this, "x:1", ChangePriority.BACKGROUND_SYNC);
+            enqueue(underTest, this, "x:2", ChangePriority.BACKGROUND_SYNC);
+            enqueue(underTest, this, "x:3", ChangePriority.POLICY);
+            enqueue(underTest, this, "x:4", ChangePriority.POLICY);
+            enqueue(underTest, this, "x:5", ChangePriority.POLICY);
+            enqueue(underTest, this, "x:6", ChangePriority.LIVE);
+            // dropped because the queue is full
+            enqueue(underTest, this, "x:7", ChangePriority.BACKGROUND_SYNC);
+            awaitEnqueued(underTest, this);
+
+            assertThat(dump(underTest, false).keySet())
+                    .containsExactly(ThingId.of("x:6"), ThingId.of("x:3"), ThingId.of("x:4"), ThingId.of("x:1"));
+            assertThat(dump(underTest, false).keySet())
+                    .containsExactly(ThingId.of("x:5"), ThingId.of("x:2"));
+        }};
+    }
+
+    @Test
+    public void coalescesChangesIntoTheHigherPriority() throws Exception {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = createChangeQueueActor();
+
+            enqueue(underTest, this, "x:1", ChangePriority.BACKGROUND_SYNC);
+            enqueue(underTest, this, "x:2", ChangePriority.POLICY);
+            enqueue(underTest, this, "x:1", ChangePriority.LIVE);
+            underTest.tell(Metadata.of(ThingId.of("x:2"), 2L, null, null, null, getRef()), getRef());
+            awaitEnqueued(underTest, this);
+
+            final Map<ThingId, Metadata> acknowledged = dump(underTest, true);
+            assertThat(acknowledged.keySet()).containsExactly(ThingId.of("x:2"));
+            assertThat(acknowledged.get(ThingId.of("x:2")).getSenders()).containsExactly(getRef());
+
+            final Map<ThingId, Metadata> unacknowledged = dump(underTest, false);
+            assertThat(unacknowledged.keySet()).containsExactly(ThingId.of("x:1"));
+            assertThat(unacknowledged.get(ThingId.of("x:1")).getPriority()).isEqualTo(ChangePriority.LIVE);
+        }};
+    }
+
+    private ActorRef createChangeQueueActor() {
+        return actorSystem.actorOf(ChangeQueueActor.props(DefaultChangeQueueConfig.of(ConfigFactory.parseString(
+                "change-queue { max-size = 5, live-limit = 0, policy-limit = 2, background-sync-limit = 1 }"))));
+    }
+
+    private static void enqueue(final ActorRef underTest, final TestKit kit, final String thingId,
+            final ChangePriority priority) {
+
+        underTest.tell(Metadata.of(ThingId.of(thingId), 1L, null, null, null).withPriority(priority), kit.getRef());
+    }
+
+    private static void awaitEnqueued(final ActorRef underTest, final TestKit kit) {
+        // dumps are control messages overtaking the changes; identify the actor to wait for the changes.
+        underTest.tell(new Identify(1), kit.getRef());
+        kit.expectMsgClass(ActorIdentity.class);
+    }
+
+    private Map<ThingId, Metadata> dump(final ActorRef underTest, final boolean shouldAcknowledge)
+            throws Exception {
+
+        return ChangeQueueActor.createSource(underTest, shouldAcknowledge, Duration.ZERO)
+                .runWith(Sink.head(), actorSystem)
+                .toCompletableFuture()
+                .get(10L, TimeUnit.SECONDS);
+    }
+
+}
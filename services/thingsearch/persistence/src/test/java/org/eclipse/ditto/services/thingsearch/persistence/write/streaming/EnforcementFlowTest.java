@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultStreamConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingDeleteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
+import org.junit.After;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.pattern.Patterns;
+import akka.stream.SourceRef;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.stream.javadsl.StreamRefs;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link EnforcementFlow}.
+ */
+public final class EnforcementFlowTest {
+
+    private final ActorSystem actorSystem = ActorSystem.create();
+
+    @After
+    public void shutdownActorSystem() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void retrievesThingsOneByOneIfBatchFailsMidStream() throws Exception {
+        new TestKit(actorSystem) {{
+            final TestKit thingsShardRegion = new TestKit(actorSystem);
+            final TestKit pubSubMediator = new TestKit(actorSystem);
+            final TestKit policiesShardRegion = new TestKit(actorSystem);
+            final StreamConfig streamConfig = DefaultStreamConfig.of(ConfigFactory.parseString(
+                    "stream{retrieve-batch-size=2,retrieve-batch-delay=100ms,ask-timeout=5s}"));
+            final EnforcementFlow underTest = EnforcementFlow.of(streamConfig, thingsShardRegion.getRef(),
+                    policiesShardRegion.getRef(), pubSubMediator.getRef(), null,
+                    actorSystem.dispatchers().defaultGlobalDispatcher());
+            final ThingId thingId1 = ThingId.of("thing:1");
+            final ThingId thingId2 = ThingId.of("thing:2");
+            final Map<ThingId, Metadata> changeMap = Map.of(
+                    thingId1, Metadata.of(thingId1, 1L, null, null, null),
+                    thingId2, Metadata.of(thingId2, 1L, null, null, null));
+
+            // GIVEN: the things are retrieved in one batch
+            final CompletionStage<List<AbstractWriteModel>> writeModels = Source.single(changeMap)
+                    .via(underTest.create(false, 1))
+                    .flatMapConcat(source -> source)
+                    .runWith(Sink.seq(), actorSystem);
+            final DistributedPubSubMediator.Send send =
+                    pubSubMediator.expectMsgClass(DistributedPubSubMediator.Send.class);
+            assertThat(send.msg()).isInstanceOf(SudoRetrieveThings.class);
+
+            // WHEN: the aggregator fails after streaming the first thing
+            final CompletionStage<Object> delayedFailure = Patterns.after(Duration.ofSeconds(1L),
+                    actorSystem.scheduler(), actorSystem.dispatcher(),
+                    () -> CompletableFuture.failedFuture(new IllegalStateException("aggregator failure")));
+            final SourceRef<Object> sourceRef = Source.<Object>single(retrieveThingResponse(thingId1))
+                    .concat(Source.completionStage(delayedFailure))
+                    .runWith(StreamRefs.sourceRef(), actorSystem);
+            pubSubMediator.reply(sourceRef);
+
+            // THEN: the thing without response is retrieved on its own
+            final SudoRetrieveThing sudoRetrieveThing = thingsShardRegion.expectMsgClass(SudoRetrieveThing.class);
+            assertThat((CharSequence) sudoRetrieveThing.getEntityId()).isEqualTo(thingId2);
+            thingsShardRegion.reply(retrieveThingResponse(thingId2));
+
+            // THEN: no thing is deleted from the search index
+            final List<AbstractWriteModel> result =
+                    writeModels.toCompletableFuture().get(10, TimeUnit.SECONDS);
+            assertThat(result).hasSize(2)
+                    .hasOnlyElementsOfType(ThingWriteModel.class)
+                    .doesNotHaveAnyElementsOfTypes(ThingDeleteModel.class);
+        }};
+    }
+
+    private static SudoRetrieveThingResponse retrieveThingResponse(final ThingId thingId) {
+        return SudoRetrieveThingResponse.of(JsonObject.newBuilder()
+                .set("thingId", thingId.toString())
+                .set("_revision", 1L)
+                .set("acl", JsonObject.newBuilder()
+                        .set("user", JsonObject.of("{\"READ\":true,\"WRITE\":true,\"ADMINISTRATE\":true}"))
+                        .build())
+                .build(), DittoHeaders.empty());
+    }
+
+}
@@ -21,9 +21,11 @@ import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
@@ -32,6 +34,7 @@ import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
 import org.eclipse.ditto.model.thingsearch.SearchResult;
+import org.eclipse.ditto.model.thingsearch.ThingSearchConstants;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoCountThings;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveNamespaceReport;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
@@ -67,6 +70,7 @@ import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
 import akka.stream.javadsl.StreamRefs;
+import scala.util.Either;
 
 /**
  * Actor handling all supported {@link ThingSearchCommand}s. Currently those are {@link CountThings} and {@link
@@ -178,10 +182,16 @@ public final class SearchActor extends AbstractActor {
                     final StartedTimer databaseAccessTimer =
                             countTimer.startNewSegment(DATABASE_ACCESS_SEGMENT_NAME);
 
-                    final Source<Long, NotUsed> countResultSource = isSudo
-                            ? searchPersistence.sudoCount(query)
-                            : searchPersistence.count(query,
-                            countCommand.getDittoHeaders().getAuthorizationContext().getAuthorizationSubjectIds());
+                    final List<String> subjectIds =
+                            countCommand.getDittoHeaders().getAuthorizationContext().getAuthorizationSubjectIds();
+                    final Source<Long, NotUsed> countResultSource;
+                    if (isSudo) {
+                        countResultSource = searchPersistence.sudoCount(query);
+                    } else if (acceptsEventualConsistency(dittoHeaders)) {
+                        countResultSource = searchPersistence.approximateCount(query, subjectIds);
+                    } else {
+                        countResultSource = searchPersistence.count(query, subjectIds);
+                    }
 
                     return processSearchPersistenceResult(countResultSource, dittoHeaders)
                             .via(Flow.fromFunction(result -> {
@@ -258,14 +268,17 @@ public final class SearchActor extends AbstractActor {
 
                         final List<String> subjectIds = command.getDittoHeaders().getAuthorizationContext()
                                 .getAuthorizationSubjectIds();
-                        final Source<ResultList<ThingId>, NotUsed> findAllResult =
-                                searchPersistence.findAll(query, subjectIds, namespaces);
-                        return processSearchPersistenceResult(findAllResult, dittoHeaders)
-                                .via(Flow.fromFunction(result -> {
-                                    stopTimer(databaseAccessTimer);
-                                    return result;
-                                }))
-                                .map(ids -> toQueryThingsResponse(command, cursor.orElse(null), ids));
+                        final Source<QueryThingsResponse, NotUsed> responseSource =
+                                command.getFields()
+                                        .filter(fields -> acceptsEventualConsistency(dittoHeaders))
+                                        .map(fields -> findAllProjected(command, cursor.orElse(null), query,
+                                                subjectIds, namespaces, fields))
+                                        .orElseGet(() -> findAll(command, cursor.orElse(null), query, subjectIds,
+                                                namespaces));
+                        return responseSource.via(Flow.fromFunction(result -> {
+                            stopTimer(databaseAccessTimer);
+                            return result;
+                        }));
                     });
         });
 
@@ -276,6 +289,43 @@ public final class SearchActor extends AbstractActor {
                 .to(sender);
     }
 
+    private Source<QueryThingsResponse, NotUsed> findAll(final QueryThings command,
+            @Nullable final ThingsSearchCursor cursor,
+            final Query query,
+            final List<String> subjectIds,
+            @Nullable final Set<String> namespaces) {
+
+        final Source<ResultList<ThingId>, NotUsed> findAllResult =
+                searchPersistence.findAll(query, subjectIds, namespaces);
+        return processSearchPersistenceResult(findAllResult, command.getDittoHeaders())
+                .map(ids -> toQueryThingsResponse(command, cursor, ids));
+    }
+
+    private Source<QueryThingsResponse, NotUsed> findAllProjected(final QueryThings command,
+            @Nullable final ThingsSearchCursor cursor,
+            final Query query,
+            final List<String> subjectIds,
+            @Nullable final Set<String> namespaces,
+            final JsonFieldSelector fields) {
+
+        final Source<Either<ResultList<ThingId>, ResultList<JsonObject>>, NotUsed> findAllProjectedResult =
+                searchPersistence.findAllProjected(query, subjectIds, namespaces, fields);
+        return processSearchPersistenceResult(findAllProjectedResult, command.getDittoHeaders())
+                .map(result -> {
+                    if (result.isRight()) {
+                        return toProjectedQueryThingsResponse(command, cursor, result.right().get());
+                    }
+                    log.withCorrelationId(command)
+                            .debug("Search index cannot provide <{}>, retrieving things instead.", fields);
+                    return toQueryThingsResponse(command, cursor, result.left().get());
+                });
+    }
+
+    private static boolean acceptsEventualConsistency(final DittoHeaders dittoHeaders) {
+        return ThingSearchConstants.SEARCH_CONSISTENCY_EVENTUAL.equals(
+                dittoHeaders.get(DittoHeaderDefinition.SEARCH_CONSISTENCY.getKey()));
+    }
+
     private ActorSystem getSystem() {
         return getContext().getSystem();
     }
@@ -326,7 +376,8 @@ public final class SearchActor extends AbstractActor {
             @Nullable ThingsSearchCursor cursor,
             final ResultList<ThingId> thingIds) {
 
-        final DittoHeaders dittoHeaders = queryThings.getDittoHeaders();
+        final DittoHeaders dittoHeaders = withSearchConsistency(queryThings.getDittoHeaders(),
+                ThingSearchConstants.SEARCH_CONSISTENCY_STRONG);
         if (thingIds.isEmpty()) {
             return QueryThingsResponse.of(SearchModelFactory.emptySearchResult(), dittoHeaders);
         } else {
@@ -346,6 +397,29 @@ public final class SearchActor extends AbstractActor {
         }
     }
 
+    private static QueryThingsResponse toProjectedQueryThingsResponse(final QueryThings queryThings,
+            @Nullable final ThingsSearchCursor cursor,
+            final ResultList<JsonObject> things) {
+
+        // respond with the things read from the search index, the lookup of the things in gateway is skipped
+        final DittoHeaders dittoHeaders = withSearchConsistency(queryThings.getDittoHeaders(),
+                ThingSearchConstants.SEARCH_CONSISTENCY_EVENTUAL);
+        final SearchResult searchResults = SearchModelFactory.newSearchResult(
+                things.stream().collect(JsonCollectors.valuesToArray()), things.nextPageOffset());
+        final SearchResult processedResults =
+                ThingsSearchCursor.processSearchResult(queryThings, cursor, searchResults, things);
+
+        return QueryThingsResponse.of(processedResults, dittoHeaders);
+    }
+
+    private static DittoHeaders withSearchConsistency(final DittoHeaders dittoHeaders, final String consistency) {
+        // only answer with the consistency if the query asked for it
+        return dittoHeaders.containsKey(DittoHeaderDefinition.SEARCH_CONSISTENCY.getKey())
+                ? dittoHeaders.toBuilder().putHeader(DittoHeaderDefinition.SEARCH_CONSISTENCY.getKey(), consistency)
+                .build()
+                : dittoHeaders;
+    }
+
     private static StartedTimer startNewTimer(final JsonSchemaVersion version, final String queryType) {
         return DittoMetrics.timer(TRACING_THINGS_SEARCH)
                 .tag(QUERY_TYPE_TAG, queryType)
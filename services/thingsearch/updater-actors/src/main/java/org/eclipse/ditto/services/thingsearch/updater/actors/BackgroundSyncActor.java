@@ -13,9 +13,14 @@
 package org.eclipse.ditto.services.thingsearch.updater.actors;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.ThingId;
@@ -29,6 +34,8 @@ import org.eclipse.ditto.services.utils.akka.controlflow.ResumeSource;
 import org.eclipse.ditto.services.utils.akka.streaming.TimestampPersistence;
 import org.eclipse.ditto.services.utils.health.AbstractBackgroundStreamingActorWithConfigWithStatusReport;
 import org.eclipse.ditto.services.utils.health.StatusDetailMessage;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 
 import com.typesafe.config.Config;
 
@@ -42,6 +49,10 @@ import akka.stream.javadsl.Source;
 
 /**
  * Cluster-singleton responsible for background synchronization.
+ * <p>
+ * The thing IDs are split into ranges according to a sample of the search index. The ranges are synchronized in
+ * parallel, each with its own throttle, and the bookmark records the remaining part of each unfinished range.
+ * </p>
  */
 public final class BackgroundSyncActor
         extends AbstractBackgroundStreamingActorWithConfigWithStatusReport<BackgroundSyncConfig> {
@@ -51,14 +62,19 @@ public final class BackgroundSyncActor
      */
     public static final String ACTOR_NAME = "backgroundSync";
 
+    private static final String STREAMED_THINGS = "things_search_background_sync_streamed_things";
+    private static final String RANGE_TAG = "range";
+
+    // number of thing IDs to sample per range to find range boundaries
+    private static final int SAMPLES_PER_RANGE = 100;
+
     private final ThingsMetadataSource thingsMetadataSource;
     private final ThingsSearchPersistence thingsSearchPersistence;
     private final TimestampPersistence backgroundSyncPersistence;
     private final BackgroundSyncStream backgroundSyncStream;
     private final ActorRef thingsUpdater;
 
-    private ThingId progressPersisted = ThingId.dummy();
-    private ThingId progressIndexed = ThingId.dummy();
+    private List<RangeProgress> rangeProgresses = List.of();
 
     private BackgroundSyncActor(final BackgroundSyncConfig backgroundSyncConfig,
             final ThingsMetadataSource thingsMetadataSource,
@@ -111,22 +127,31 @@ public final class BackgroundSyncActor
                     // ignore scheduled bookmark messages when sleeping
                     log.debug("Ignoring: <{}>", trigger)
                 )
-                .match(ThingId.class, thingId ->
+                .match(ProgressReport.class, progress ->
                     // got outdated progress update message after actor resumes sleeping; ignore it.
-                    log.debug("Ignoring: <{}>", thingId)
-                );
+                    log.debug("Ignoring: <{}>", progress)
+                )
+                .match(RangesStarted.class, rangesStarted -> log.debug("Ignoring: <{}>", rangesStarted))
+                .match(RangeCompleted.class, rangeCompleted -> log.debug("Ignoring: <{}>", rangeCompleted));
     }
 
     @Override
     protected void preEnhanceStreamingBehavior(final ReceiveBuilder streamingReceiveBuilder) {
         streamingReceiveBuilder.match(ProgressReport.class, this::setProgress)
+                .match(RangesStarted.class, this::startRanges)
+                .match(RangeCompleted.class, this::completeRange)
                 .matchEquals(Control.BOOKMARK_THING_ID, this::bookmarkThingId);
     }
 
     @Override
     protected void postEnhanceStatusReport(final JsonObjectBuilder statusReportBuilder) {
-        statusReportBuilder.set("progressPersisted", progressPersisted.toString());
-        statusReportBuilder.set("progressIndexed", progressIndexed.toString());
+        if (rangeProgresses.size() == 1) {
+            statusReportBuilder.set("progressPersisted", rangeProgresses.get(0).progressPersisted.toString());
+            statusReportBuilder.set("progressIndexed", rangeProgresses.get(0).progressIndexed.toString());
+        }
+        statusReportBuilder.set("ranges", rangeProgresses.stream()
+                .map(RangeProgress::toJson)
+                .collect(JsonCollectors.valuesToArray()));
     }
 
     @Override
@@ -138,40 +163,66 @@ public final class BackgroundSyncActor
     protected void streamTerminated(final Event streamTerminated) {
         super.streamTerminated(streamTerminated);
         // reset progress for the next round
-        progressPersisted = ThingId.dummy();
-        progressIndexed = ThingId.dummy();
+        rangeProgresses = List.of();
         doBookmarkThingId("");
     }
 
     @Override
     protected Source<?, ?> getSource() {
-        return getLowerBoundSource()
-                .flatMapConcat(this::streamMetadataFromLowerBound)
+        return getRangesSource()
+                .flatMapConcat(ranges -> {
+                    getSelf().tell(new RangesStarted(ranges), ActorRef.noSender());
+                    return Source.range(0, ranges.size() - 1)
+                            .flatMapMerge(ranges.size(), index -> streamRange(index, ranges.get(index)));
+                })
                 .wireTap(this::handleInconsistency);
     }
 
-    private Source<Metadata, NotUsed> streamMetadataFromLowerBound(final ThingId lowerBound) {
+    private Source<Metadata, NotUsed> streamRange(final int index, final BackgroundSyncRange range) {
+        final Counter streamedThings = DittoMetrics.counter(STREAMED_THINGS).tag(RANGE_TAG, String.valueOf(index));
         final Source<Metadata, NotUsed> persistedMetadata =
-                getPersistedMetadataSourceWithProgressReporting(lowerBound);
-        final Source<Metadata, NotUsed> indexedMetadata = getIndexedMetadataSource(lowerBound);
-        return backgroundSyncStream.filterForInconsistencies(persistedMetadata, indexedMetadata);
+                getPersistedMetadataSourceWithProgressReporting(index, range)
+                        .wireTap(persisted -> streamedThings.increment());
+        final Source<Metadata, NotUsed> indexedMetadata = getIndexedMetadataSource(index, range);
+        final ActorRef self = getSelf();
+        return backgroundSyncStream.filterForInconsistencies(persistedMetadata, indexedMetadata)
+                .watchTermination((notUsed, done) -> {
+                    done.thenAccept(d -> self.tell(new RangeCompleted(index), ActorRef.noSender()));
+                    return notUsed;
+                });
     }
 
-    private void setProgress(ProgressReport progress) {
-        if (progress.persisted) {
-            progressPersisted = progress.thingId;
-        } else {
-            progressIndexed = progress.thingId;
+    private void startRanges(final RangesStarted rangesStarted) {
+        rangeProgresses = rangesStarted.ranges.stream().map(RangeProgress::new).collect(Collectors.toList());
+        log.info("Synchronizing <{}> ranges: <{}>", rangeProgresses.size(), rangesStarted.ranges);
+    }
+
+    private void setProgress(final ProgressReport progress) {
+        if (progress.rangeIndex < rangeProgresses.size()) {
+            final RangeProgress rangeProgress = rangeProgresses.get(progress.rangeIndex);
+            if (progress.persisted) {
+                rangeProgress.progressPersisted = progress.thingId;
+            } else {
+                rangeProgress.progressIndexed = progress.thingId;
+            }
+        }
+    }
+
+    private void completeRange(final RangeCompleted rangeCompleted) {
+        if (rangeCompleted.rangeIndex < rangeProgresses.size()) {
+            rangeProgresses.get(rangeCompleted.rangeIndex).completed = true;
+            log.info("Completed range <{}>", rangeCompleted.rangeIndex);
         }
     }
 
     private void bookmarkThingId(final Control bookmarkRequest) {
-        // bookmark the smaller ID between progressed and indexed according to background sync stream processing order
-        final ThingId thingIdToBookmark = BackgroundSyncStream.compareThingIds(progressIndexed, progressPersisted) <= 0
-                ? progressIndexed
-                : progressPersisted;
-        if (!thingIdToBookmark.isDummy()) {
-            doBookmarkThingId(thingIdToBookmark.toString());
+        final boolean progressed = rangeProgresses.stream().anyMatch(RangeProgress::hasProgressed);
+        final List<BackgroundSyncRange> remainingRanges = rangeProgresses.stream()
+                .filter(rangeProgress -> !rangeProgress.completed)
+                .map(RangeProgress::getRemainingRange)
+                .collect(Collectors.toList());
+        if (progressed && !remainingRanges.isEmpty()) {
+            doBookmarkThingId(BackgroundSyncRange.toBookmark(remainingRanges));
         }
     }
 
@@ -198,28 +249,49 @@ public final class BackgroundSyncActor
                 .anyMatch(event -> metadata.getThingId().equals(event.thingId) && metadata.getThingRevision() == event.thingRevision);
     }
 
-    private Source<ThingId, NotUsed> getLowerBoundSource() {
+    private Source<List<BackgroundSyncRange>, NotUsed> getRangesSource() {
         return backgroundSyncPersistence.getTaggedTimestamp()
-                .map(optional -> {
-                    if (optional.isPresent()) {
-                        final String bookmarkedThingId = optional.get().second();
-                        if (bookmarkedThingId != null && !bookmarkedThingId.isEmpty())
-                            return ThingId.of(bookmarkedThingId);
+                .map(optional -> optional.map(Pair::second).filter(bookmark -> !bookmark.isEmpty()))
+                .flatMapConcat(optionalBookmark -> {
+                    final Optional<List<BackgroundSyncRange>> bookmarkedRanges =
+                            optionalBookmark.flatMap(BackgroundSyncRange::fromBookmark);
+                    if (bookmarkedRanges.isPresent()) {
+                        return Source.single(bookmarkedRanges.get());
+                    } else {
+                        final ThingId lowerBound = optionalBookmark.map(ThingId::of).orElseGet(ThingId::dummy);
+                        return splitIntoRanges(lowerBound);
                     }
-                    return ThingId.dummy();
                 });
     }
 
-    private Source<Metadata, NotUsed> getPersistedMetadataSourceWithProgressReporting(final ThingId lowerBound) {
-        return wrapAsResumeSource(lowerBound, thingsMetadataSource::createSource)
-                .wireTap(persisted ->
-                        getSelf().tell(new ProgressReport(persisted.getThingId(), true), ActorRef.noSender()));
+    private Source<List<BackgroundSyncRange>, NotUsed> splitIntoRanges(final ThingId lowerBound) {
+        final int numberOfRanges = config.getRanges();
+        if (numberOfRanges <= 1) {
+            return Source.single(List.of(BackgroundSyncRange.of(lowerBound, null)));
+        } else {
+            return thingsSearchPersistence.sudoSampleThingIds(numberOfRanges * SAMPLES_PER_RANGE)
+                    .<List<ThingId>>fold(new ArrayList<>(), (sample, thingId) -> {
+                        sample.add(thingId);
+                        return sample;
+                    })
+                    .map(sample -> BackgroundSyncRange.split(lowerBound, sample, numberOfRanges));
+        }
+    }
+
+    private Source<Metadata, NotUsed> getPersistedMetadataSourceWithProgressReporting(final int index,
+            final BackgroundSyncRange range) {
+
+        return wrapAsResumeSource(range.getLowerBound(), thingsMetadataSource::createSource)
+                .takeWhile(persisted -> range.isNotAboveUpperBound(persisted.getThingId()))
+                .wireTap(persisted -> getSelf().tell(new ProgressReport(index, persisted.getThingId(), true),
+                        ActorRef.noSender()));
     }
 
-    private Source<Metadata, NotUsed> getIndexedMetadataSource(final ThingId lowerBound) {
-        return wrapAsResumeSource(lowerBound, thingsSearchPersistence::sudoStreamMetadata)
-                .wireTap(indexed ->
-                        getSelf().tell(new ProgressReport(indexed.getThingId(), false), ActorRef.noSender()));
+    private Source<Metadata, NotUsed> getIndexedMetadataSource(final int index, final BackgroundSyncRange range) {
+        return wrapAsResumeSource(range.getLowerBound(), thingsSearchPersistence::sudoStreamMetadata)
+                .takeWhile(indexed -> range.isNotAboveUpperBound(indexed.getThingId()))
+                .wireTap(indexed -> getSelf().tell(new ProgressReport(index, indexed.getThingId(), false),
+                        ActorRef.noSender()));
     }
 
     private Source<Metadata, NotUsed> wrapAsResumeSource(final ThingId lowerBound,
@@ -285,13 +357,84 @@ public final class BackgroundSyncActor
 
     private static final class ProgressReport {
 
+        private final int rangeIndex;
         private final ThingId thingId;
         private final boolean persisted;
 
-        private ProgressReport(final ThingId thingId, final boolean persisted) {
+        private ProgressReport(final int rangeIndex, final ThingId thingId, final boolean persisted) {
+            this.rangeIndex = rangeIndex;
             this.thingId = thingId;
             this.persisted = persisted;
         }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "[rangeIndex=" + rangeIndex + ", thingId=" + thingId +
+                    ", persisted=" + persisted + "]";
+        }
+    }
+
+    private static final class RangesStarted {
+
+        private final List<BackgroundSyncRange> ranges;
+
+        private RangesStarted(final List<BackgroundSyncRange> ranges) {
+            this.ranges = ranges;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "[ranges=" + ranges + "]";
+        }
+    }
+
+    private static final class RangeCompleted {
+
+        private final int rangeIndex;
+
+        private RangeCompleted(final int rangeIndex) {
+            this.rangeIndex = rangeIndex;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "[rangeIndex=" + rangeIndex + "]";
+        }
+    }
+
+    /**
+     * Progress of the stream of one range, mutable only by the actor.
+     */
+    private static final class RangeProgress {
+
+        private final BackgroundSyncRange range;
+        private ThingId progressPersisted = ThingId.dummy();
+        private ThingId progressIndexed = ThingId.dummy();
+        private boolean completed = false;
+
+        private RangeProgress(final BackgroundSyncRange range) {
+            this.range = range;
+        }
+
+        private boolean hasProgressed() {
+            return completed || !progressPersisted.isDummy() || !progressIndexed.isDummy();
+        }
+
+        private BackgroundSyncRange getRemainingRange() {
+            // resume from the smaller ID between persisted and indexed according to background sync stream order
+            final ThingId progress = BackgroundSyncStream.compareThingIds(progressIndexed, progressPersisted) <= 0
+                    ? progressIndexed
+                    : progressPersisted;
+            return progress.isDummy() ? range : range.withLowerBound(progress);
+        }
+
+        private JsonObject toJson() {
+            return range.toJson().toBuilder()
+                    .set("progressPersisted", progressPersisted.toString())
+                    .set("progressIndexed", progressIndexed.toString())
+                    .set("completed", completed)
+                    .build();
+        }
     }
 
     private enum Control {
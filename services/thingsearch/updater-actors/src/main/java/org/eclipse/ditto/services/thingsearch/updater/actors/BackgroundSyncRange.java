@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.BackgroundSyncStream;
+
+/**
+ * A range of thing IDs synchronized by one background sync stream. The lower bound is exclusive and the upper bound
+ * is inclusive. A dummy lower bound and an absent upper bound mean that the range is unbounded in that direction.
+ */
+@Immutable
+final class BackgroundSyncRange {
+
+    private static final JsonFieldDefinition<String> LOWER_BOUND =
+            JsonFactory.newStringFieldDefinition("lowerBound");
+    private static final JsonFieldDefinition<String> UPPER_BOUND =
+            JsonFactory.newStringFieldDefinition("upperBound");
+
+    private static final String ARRAY_START = "[";
+
+    private final ThingId lowerBound;
+    @Nullable private final ThingId upperBound;
+
+    private BackgroundSyncRange(final ThingId lowerBound, @Nullable final ThingId upperBound) {
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    /**
+     * Create a range of thing IDs.
+     *
+     * @param lowerBound the exclusive lower bound, or a dummy thing ID to start from the smallest thing ID.
+     * @param upperBound the inclusive upper bound, or null to end at the largest thing ID.
+     * @return the range.
+     */
+    static BackgroundSyncRange of(final ThingId lowerBound, @Nullable final ThingId upperBound) {
+        return new BackgroundSyncRange(lowerBound, upperBound);
+    }
+
+    /**
+     * Split the thing IDs above a lower bound into ranges of similar size according to a sample of thing IDs.
+     *
+     * @param lowerBound the exclusive lower bound of the first range.
+     * @param sample thing IDs sampled uniformly from all thing IDs.
+     * @param numberOfRanges the desired number of ranges.
+     * @return at most {@code numberOfRanges} consecutive ranges covering all thing IDs above the lower bound.
+     */
+    static List<BackgroundSyncRange> split(final ThingId lowerBound, final Collection<ThingId> sample,
+            final int numberOfRanges) {
+
+        final List<ThingId> sortedSample = sample.stream()
+                .filter(thingId -> !thingId.isDummy())
+                .filter(thingId -> lowerBound.isDummy() || thingId.compareTo(lowerBound) > 0)
+                .sorted()
+                .distinct()
+                .collect(Collectors.toList());
+        final List<BackgroundSyncRange> ranges = new ArrayList<>(numberOfRanges);
+        ThingId rangeLowerBound = lowerBound;
+        for (int i = 1; i < numberOfRanges && !sortedSample.isEmpty(); ++i) {
+            final ThingId boundary = sortedSample.get(i * sortedSample.size() / numberOfRanges);
+            if (rangeLowerBound.isDummy() || boundary.compareTo(rangeLowerBound) > 0) {
+                ranges.add(of(rangeLowerBound, boundary));
+                rangeLowerBound = boundary;
+            }
+        }
+        ranges.add(of(rangeLowerBound, null));
+        return ranges;
+    }
+
+    /**
+     * Serialize ranges into a bookmark. A single unbounded range is serialized as its lower bound, which is the
+     * bookmark format of unpartitioned background sync.
+     *
+     * @param ranges the ranges.
+     * @return the bookmark.
+     */
+    static String toBookmark(final List<BackgroundSyncRange> ranges) {
+        if (ranges.size() == 1 && ranges.get(0).upperBound == null) {
+            final ThingId singleLowerBound = ranges.get(0).lowerBound;
+            return singleLowerBound.isDummy() ? "" : singleLowerBound.toString();
+        } else {
+            return ranges.stream().map(BackgroundSyncRange::toJson).collect(JsonCollectors.valuesToArray()).toString();
+        }
+    }
+
+    /**
+     * Deserialize ranges from a bookmark written by {@link #toBookmark(List)}.
+     *
+     * @param bookmark the bookmark.
+     * @return the ranges if the bookmark contains several ranges, or an empty optional if it contains the lower
+     * bound of a single range.
+     */
+    static Optional<List<BackgroundSyncRange>> fromBookmark(final String bookmark) {
+        if (bookmark.startsWith(ARRAY_START)) {
+            final List<BackgroundSyncRange> ranges = JsonArray.of(bookmark)
+                    .stream()
+                    .filter(JsonValue::isObject)
+                    .map(JsonValue::asObject)
+                    .map(BackgroundSyncRange::fromJson)
+                    .collect(Collectors.toList());
+            return ranges.isEmpty() ? Optional.empty() : Optional.of(ranges);
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return the exclusive lower bound, or a dummy thing ID if the range has no lower bound.
+     */
+    ThingId getLowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * @return the inclusive upper bound, or an empty optional if the range has no upper bound.
+     */
+    Optional<ThingId> getUpperBound() {
+        return Optional.ofNullable(upperBound);
+    }
+
+    /**
+     * Test whether a thing ID is not above the upper bound of this range.
+     *
+     * @param thingId the thing ID.
+     * @return whether the thing ID is at most the upper bound.
+     */
+    boolean isNotAboveUpperBound(final ThingId thingId) {
+        return upperBound == null || BackgroundSyncStream.compareThingIds(thingId, upperBound) <= 0;
+    }
+
+    /**
+     * Create a copy of this range with another lower bound.
+     *
+     * @param newLowerBound the new lower bound.
+     * @return the copy.
+     */
+    BackgroundSyncRange withLowerBound(final ThingId newLowerBound) {
+        return new BackgroundSyncRange(newLowerBound, upperBound);
+    }
+
+    /**
+     * @return JSON representation of this range.
+     */
+    JsonObject toJson() {
+        final JsonObjectBuilder builder = JsonObject.newBuilder();
+        if (!lowerBound.isDummy()) {
+            builder.set(LOWER_BOUND, lowerBound.toString());
+        }
+        if (upperBound != null) {
+            builder.set(UPPER_BOUND, upperBound.toString());
+        }
+        return builder.build();
+    }
+
+    private static BackgroundSyncRange fromJson(final JsonObject jsonObject) {
+        final ThingId lowerBound = jsonObject.getValue(LOWER_BOUND).map(ThingId::of).orElseGet(ThingId::dummy);
+        final ThingId upperBound = jsonObject.getValue(UPPER_BOUND).map(ThingId::of).orElse(null);
+        return new BackgroundSyncRange(lowerBound, upperBound);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BackgroundSyncRange that = (BackgroundSyncRange) o;
+        return Objects.equals(lowerBound, that.lowerBound) && Objects.equals(upperBound, that.upperBound);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lowerBound, upperBound);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "lowerBound=" + lowerBound +
+                ", upperBound=" + upperBound +
+                "]";
+    }
+
+}
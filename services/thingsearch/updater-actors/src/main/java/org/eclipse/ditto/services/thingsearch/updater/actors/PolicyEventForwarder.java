@@ -15,7 +15,11 @@ package org.eclipse.ditto.services.thingsearch.updater.actors;
 import static akka.cluster.pubsub.DistributedPubSubMediator.SubscribeAck;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -25,10 +29,15 @@ import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.thingsearch.common.config.DittoSearchConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.PolicyFanOutConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.UpdaterConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpdaterPersistence;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
 import org.eclipse.ditto.services.utils.namespaces.BlockNamespaceBehavior;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.signals.events.policies.PolicyEvent;
@@ -43,12 +52,21 @@ import akka.japi.pf.ReceiveBuilder;
 import akka.pattern.Patterns;
 import akka.stream.KillSwitch;
 import akka.stream.KillSwitches;
+import akka.stream.SharedKillSwitch;
 import akka.stream.javadsl.Keep;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
 
 /**
  * Cluster singleton that forwards policy events to updater shard region with buffering.
+ * <p>
+ * Changed policies are collected and fanned out to the things referencing them: for each policy, the IDs of the
+ * things whose indexed policy revision is outdated are streamed from the search index by cursor. A limited number of
+ * policies is fanned out concurrently, and the policy reference tags of all fan-outs together are throttled, so that
+ * a change of a policy referenced by many things does not flood the search updater. Revisions of the same policy
+ * arriving before its fan-out started are collapsed; a newer revision arriving during the fan-out supersedes it,
+ * i.e. the fan-out is aborted and restarted with the newer revision.
+ * </p>
  */
 final class PolicyEventForwarder extends AbstractActor {
 
@@ -56,14 +74,20 @@ final class PolicyEventForwarder extends AbstractActor {
 
     static final String ACTOR_NAME = "thingsSearchPolicyEventForwarder";
 
+    private static final Counter FANNED_OUT_THINGS = DittoMetrics.counter("things_search_policy_fan_out_things");
+    private static final Gauge PENDING_POLICIES = DittoMetrics.gauge("things_search_policy_fan_out_pending");
+    private static final Gauge RUNNING_POLICIES = DittoMetrics.gauge("things_search_policy_fan_out_running");
+
     private final DiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
 
     private final ActorRef thingsUpdater;
     private final ThingsSearchUpdaterPersistence persistence;
     private final BlockNamespaceBehavior blockNamespaceBehavior;
     private final Duration interval;
+    private final PolicyFanOutConfig fanOutConfig;
 
-    private Map<PolicyId, Long> policyRevisions = new HashMap<>();
+    private final Map<PolicyId, Long> pendingPolicyRevisions = new HashMap<>();
+    private final Map<PolicyId, FanOut> runningFanOuts = new HashMap<>();
     @Nullable private KillSwitch killSwitch;
 
     @SuppressWarnings("unused")
@@ -75,8 +99,11 @@ final class PolicyEventForwarder extends AbstractActor {
         this.thingsUpdater = thingsUpdater;
         this.persistence = persistence;
         blockNamespaceBehavior = BlockNamespaceBehavior.of(blockedNamespaces);
-        interval = DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
-                .getUpdaterConfig().getStreamConfig().getWriteInterval();
+        final UpdaterConfig updaterConfig =
+                DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
+                        .getUpdaterConfig();
+        interval = updaterConfig.getStreamConfig().getWriteInterval();
+        fanOutConfig = updaterConfig.getPolicyFanOutConfig();
 
         pubSubMediator.tell(DistPubSubAccess.subscribeViaGroup(PolicyEvent.TYPE_PREFIX, ACTOR_NAME, getSelf()),
                 getSelf());
@@ -112,6 +139,7 @@ final class PolicyEventForwarder extends AbstractActor {
                 .match(PolicyEvent.class, this::policyEvent)
                 .match(PolicyTag.class, this::updatePolicyRevision)
                 .match(PolicyReferenceTag.class, this::forwardToThingsUpdater)
+                .match(FanOutTerminated.class, this::fanOutTerminated)
                 .matchEquals(Control.DUMP_POLICY_REVISIONS, this::dumpPolicyRevisions)
                 .matchEquals(Control.STREAM_COMPLETED, this::streamTerminated)
                 .match(Status.Failure.class, this::streamTerminated)
@@ -137,7 +165,19 @@ final class PolicyEventForwarder extends AbstractActor {
     private void updatePolicyRevision(final PolicyTag policyTag) {
         final PolicyId policyId = policyTag.getEntityId();
         final long revision = policyTag.getRevision();
-        policyRevisions.merge(policyId, revision, Long::max);
+        final FanOut runningFanOut = runningFanOuts.get(policyId);
+        if (runningFanOut != null && runningFanOut.policyTag.getRevision() >= revision) {
+            log.debug("Dropping <{}> because the fan-out of <{}> is running", policyTag, runningFanOut.policyTag);
+            return;
+        }
+        if (runningFanOut != null && !runningFanOut.superseded) {
+            log.info("Aborting fan-out of <{}> after <{}> things: superseded by revision <{}>",
+                    runningFanOut.policyTag, runningFanOut.things, revision);
+            runningFanOut.superseded = true;
+            runningFanOut.killSwitch.shutdown();
+        }
+        pendingPolicyRevisions.merge(policyId, revision, Long::max);
+        PENDING_POLICIES.set((long) pendingPolicyRevisions.size());
     }
 
     /**
@@ -148,12 +188,57 @@ final class PolicyEventForwarder extends AbstractActor {
      */
     private void forwardToThingsUpdater(final PolicyReferenceTag policyReferenceTag) {
         thingsUpdater.tell(policyReferenceTag, ActorRef.noSender());
+        FANNED_OUT_THINGS.increment();
+        final PolicyTag policyTag = policyReferenceTag.getPolicyTag();
+        final FanOut fanOut = runningFanOuts.get(policyTag.getEntityId());
+        if (fanOut != null && fanOut.policyTag.equals(policyTag)) {
+            ++fanOut.things;
+            if (fanOut.things % fanOutConfig.getProgressInterval() == 0) {
+                log.info("Fan-out of <{}> updated <{}> things since <{}>", policyTag, fanOut.things, fanOut.start);
+            }
+        }
+    }
+
+    private void fanOutTerminated(final FanOutTerminated terminated) {
+        final FanOut fanOut = terminated.fanOut;
+        final PolicyTag policyTag = fanOut.policyTag;
+        if (runningFanOuts.get(policyTag.getEntityId()) == fanOut) {
+            runningFanOuts.remove(policyTag.getEntityId());
+            RUNNING_POLICIES.set((long) runningFanOuts.size());
+            final Duration duration = Duration.between(fanOut.start, Instant.now());
+            if (terminated.error != null) {
+                log.error(terminated.error, "Fan-out of <{}> failed after <{}> things in <{}>; retrying",
+                        policyTag, fanOut.things, duration);
+                pendingPolicyRevisions.merge(policyTag.getEntityId(), policyTag.getRevision(), Long::max);
+                PENDING_POLICIES.set((long) pendingPolicyRevisions.size());
+            } else if (!fanOut.superseded) {
+                log.info("Fan-out of <{}> completed with <{}> things in <{}>", policyTag, fanOut.things, duration);
+            }
+        }
     }
 
+    /**
+     * Start the fan-outs of as many pending policies as there are free slots.
+     *
+     * @param trigger the dump trigger.
+     */
     @SuppressWarnings("unused")
     private void dumpPolicyRevisions(final Control trigger) {
-        final Map<PolicyId, Long> dump = policyRevisions;
-        policyRevisions = new HashMap<>();
+        final List<FanOut> dump = new ArrayList<>();
+        final Iterator<Map.Entry<PolicyId, Long>> iterator = pendingPolicyRevisions.entrySet().iterator();
+        while (iterator.hasNext() && runningFanOuts.size() < fanOutConfig.getParallelism()) {
+            final Map.Entry<PolicyId, Long> entry = iterator.next();
+            if (!runningFanOuts.containsKey(entry.getKey())) {
+                iterator.remove();
+                final PolicyTag policyTag = PolicyTag.of(entry.getKey(), entry.getValue());
+                final FanOut fanOut = new FanOut(policyTag, KillSwitches.shared(policyTag.toString()));
+                runningFanOuts.put(entry.getKey(), fanOut);
+                dump.add(fanOut);
+                log.info("Starting fan-out of <{}>", policyTag);
+            }
+        }
+        PENDING_POLICIES.set((long) pendingPolicyRevisions.size());
+        RUNNING_POLICIES.set((long) runningFanOuts.size());
         getSender().tell(dump, getSelf());
     }
 
@@ -174,6 +259,15 @@ final class PolicyEventForwarder extends AbstractActor {
 
     private void restartPolicyReferenceTagStream() {
         terminateStream();
+        // fan-outs interrupted by the restart start over
+        runningFanOuts.values().forEach(fanOut -> {
+            fanOut.killSwitch.shutdown();
+            if (!fanOut.superseded) {
+                pendingPolicyRevisions.merge(fanOut.policyTag.getEntityId(), fanOut.policyTag.getRevision(),
+                        Long::max);
+            }
+        });
+        runningFanOuts.clear();
         final ActorRef self = getSelf();
 
         final Source<Control, NotUsed> repeat;
@@ -187,7 +281,9 @@ final class PolicyEventForwarder extends AbstractActor {
                 .viaMat(KillSwitches.single(), Keep.right())
                 .mapAsync(1, message ->
                         Patterns.ask(self, message, ASK_SELF_TIMEOUT).exceptionally(Function.identity()))
-                .flatMapConcat(this::mapDumpResult)
+                .mapConcat(this::mapDumpResult)
+                .flatMapMerge(fanOutConfig.getParallelism(), fanOut -> fanOut(fanOut, self))
+                .throttle(fanOutConfig.getThrottleThroughput(), fanOutConfig.getThrottlePeriod())
                 .to(Sink.actorRef(self, Control.STREAM_COMPLETED))
                 .run(getContext().getSystem());
     }
@@ -199,22 +295,27 @@ final class PolicyEventForwarder extends AbstractActor {
         }
     }
 
+    private Source<PolicyReferenceTag, NotUsed> fanOut(final FanOut fanOut, final ActorRef self) {
+        final PolicyTag policyTag = fanOut.policyTag;
+        return persistence.getOutdatedThingIds(policyTag)
+                .via(fanOut.killSwitch.flow())
+                .map(thingId -> PolicyReferenceTag.of(thingId, policyTag))
+                .watchTermination((notUsed, done) -> done.whenComplete((result, error) ->
+                        self.tell(new FanOutTerminated(fanOut, error), ActorRef.noSender())))
+                .mapMaterializedValue(done -> NotUsed.getInstance());
+    }
+
     @SuppressWarnings("unchecked")
-    private Source<PolicyReferenceTag, NotUsed> mapDumpResult(final Object dumpResult) {
-        if (dumpResult instanceof Map) {
-            final Map<PolicyId, Long> map = (Map<PolicyId, Long>) dumpResult;
-            if (map.isEmpty()) {
-                return Source.empty();
-            } else {
-                return persistence.getPolicyReferenceTags(map);
-            }
+    private List<FanOut> mapDumpResult(final Object dumpResult) {
+        if (dumpResult instanceof List) {
+            return (List<FanOut>) dumpResult;
         } else {
             if (dumpResult instanceof Throwable) {
                 log.error((Throwable) dumpResult, "dump failed");
             } else {
                 log.warning("Unexpected dump result: <{}>", dumpResult);
             }
-            return Source.empty();
+            return List.of();
         }
     }
 
@@ -223,4 +324,35 @@ final class PolicyEventForwarder extends AbstractActor {
         STREAM_COMPLETED
     }
 
+    /**
+     * State of the fan-out of one policy revision. The mutable fields are only accessed by the actor.
+     */
+    private static final class FanOut {
+
+        private final PolicyTag policyTag;
+        private final SharedKillSwitch killSwitch;
+        private final Instant start;
+        private long things;
+        private boolean superseded;
+
+        private FanOut(final PolicyTag policyTag, final SharedKillSwitch killSwitch) {
+            this.policyTag = policyTag;
+            this.killSwitch = killSwitch;
+            start = Instant.now();
+            things = 0L;
+            superseded = false;
+        }
+    }
+
+    private static final class FanOutTerminated {
+
+        private final FanOut fanOut;
+        @Nullable private final Throwable error;
+
+        private FanOutTerminated(final FanOut fanOut, @Nullable final Throwable error) {
+            this.fanOut = fanOut;
+            this.error = error;
+        }
+    }
+
 }
@@ -102,11 +102,12 @@ public final class SearchUpdaterRootActor extends AbstractActor {
 
         final ShardRegionFactory shardRegionFactory = ShardRegionFactory.getInstance(actorSystem);
         final BlockedNamespaces blockedNamespaces = BlockedNamespaces.of(actorSystem);
-        final ActorRef changeQueueActor = startChildActor(ChangeQueueActor.ACTOR_NAME, ChangeQueueActor.props());
+        final UpdaterConfig updaterConfig = searchConfig.getUpdaterConfig();
+        final ActorRef changeQueueActor = startChildActor(ChangeQueueActor.ACTOR_NAME,
+                ChangeQueueActor.props(updaterConfig.getStreamConfig().getChangeQueueConfig()));
 
         final Props thingUpdaterProps = ThingUpdater.props(pubSubMediator, changeQueueActor);
 
-        final UpdaterConfig updaterConfig = searchConfig.getUpdaterConfig();
         if (!updaterConfig.isEventProcessingActive()) {
             log.warning("Event processing is disabled!");
         }
@@ -117,8 +118,8 @@ public final class SearchUpdaterRootActor extends AbstractActor {
                 shardRegionFactory.getSearchUpdaterShardRegion(numberOfShards, thingUpdaterProps, CLUSTER_ROLE);
 
         final SearchUpdaterStream searchUpdaterStream =
-                SearchUpdaterStream.of(updaterConfig, actorSystem, thingsShard, policiesShard, updaterShard,
-                        changeQueueActor, dittoMongoClient.getDefaultDatabase(), blockedNamespaces);
+                SearchUpdaterStream.of(updaterConfig, actorSystem, thingsShard, policiesShard, pubSubMediator,
+                        updaterShard, changeQueueActor, dittoMongoClient.getDefaultDatabase(), blockedNamespaces);
         updaterStreamKillSwitch = searchUpdaterStream.start(getContext(), false);
         updaterStreamWithAcknowledgementsKillSwitch = searchUpdaterStream.start(getContext(), true);
 
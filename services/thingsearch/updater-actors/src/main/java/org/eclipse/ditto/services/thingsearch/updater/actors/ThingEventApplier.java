@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+import org.eclipse.ditto.signals.events.things.ThingMerged;
+
+/**
+ * Applies thing events to the JSON representation of a thing as it is retrieved for the search index, i. e. with all
+ * regular and special fields.
+ * Only events changing attributes, features or the definition of a thing are applied; all other events require the
+ * thing to be retrieved again.
+ */
+@Immutable
+final class ThingEventApplier {
+
+    private static final Set<JsonKey> APPLICABLE_ROOT_KEYS = Set.of(
+            Thing.JsonFields.ATTRIBUTES.getPointer().getRoot().orElseThrow(),
+            Thing.JsonFields.FEATURES.getPointer().getRoot().orElseThrow(),
+            Thing.JsonFields.DEFINITION.getPointer().getRoot().orElseThrow()
+    );
+
+    private ThingEventApplier() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Applies a thing event to a thing.
+     * The caller is responsible for checking that the event has the revision following the revision of the thing.
+     *
+     * @param thing the thing as JSON with all regular and special fields.
+     * @param thingEvent the event to apply.
+     * @return the thing with the event applied or an empty Optional if the event cannot be applied locally.
+     */
+    static Optional<JsonObject> applyEvent(final JsonObject thing, final ThingEvent<?> thingEvent) {
+        if (thing.contains(Thing.JsonFields.ACL.getPointer()) || thingEvent.getMetadata().isPresent()) {
+            return Optional.empty();
+        }
+        final JsonPointer resourcePath = thingEvent.getResourcePath();
+        final Optional<JsonObject> updatedThing;
+        if (thingEvent instanceof ThingMerged) {
+            updatedThing = applyMerge(thing, resourcePath, ((ThingMerged) thingEvent).getValue());
+        } else if (isApplicable(resourcePath)) {
+            updatedThing = Optional.of(thingEvent.getEntity(JsonSchemaVersion.V_2)
+                    .map(entity -> thing.setValue(resourcePath, entity))
+                    .orElseGet(() -> thing.remove(resourcePath)));
+        } else {
+            updatedThing = Optional.empty();
+        }
+        return updatedThing.map(result -> {
+            final JsonObject withRevision = result.set(Thing.JsonFields.REVISION, thingEvent.getRevision());
+            return thingEvent.getTimestamp()
+                    .map(timestamp -> withRevision.set(Thing.JsonFields.MODIFIED, timestamp.toString()))
+                    .orElseGet(() -> withRevision.remove(Thing.JsonFields.MODIFIED.getPointer()));
+        });
+    }
+
+    private static Optional<JsonObject> applyMerge(final JsonObject thing, final JsonPointer resourcePath,
+            final JsonValue value) {
+
+        final JsonObject mergePatch;
+        if (resourcePath.isEmpty()) {
+            if (!value.isObject() || !APPLICABLE_ROOT_KEYS.containsAll(value.asObject().getKeys())) {
+                return Optional.empty();
+            }
+            mergePatch = value.asObject();
+        } else if (isApplicable(resourcePath)) {
+            mergePatch = JsonFactory.newObject(resourcePath, value);
+        } else {
+            return Optional.empty();
+        }
+        return Optional.of(JsonFactory.mergeJsonValues(mergePatch, thing).asObject());
+    }
+
+    private static boolean isApplicable(final JsonPointer resourcePath) {
+        return resourcePath.getRoot().filter(APPLICABLE_ROOT_KEYS::contains).isPresent();
+    }
+
+}
@@ -21,18 +21,22 @@ import java.util.Objects;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.acks.AcknowledgementRequest;
 import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
 import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.base.actors.ShutdownBehaviour;
 import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.models.streaming.IdentifiableStreamingMessage;
 import org.eclipse.ditto.services.models.things.ThingTag;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.UpdateThing;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.UpdateThingResponse;
 import org.eclipse.ditto.services.thingsearch.common.config.DittoSearchConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ChangePriority;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.ConsistencyLag;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
@@ -40,6 +44,7 @@ import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.akka.streaming.StreamAck;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
@@ -58,16 +63,27 @@ final class ThingUpdater extends AbstractActor {
     private static final AcknowledgementRequest SEARCH_PERSISTED_REQUEST =
             AcknowledgementRequest.of(DittoAcknowledgementLabel.SEARCH_PERSISTED);
 
+    private static final Counter EVENTS_APPLIED_LOCALLY =
+            DittoMetrics.counter("search_updater_thing_events").tag("applied_locally", "true");
+    private static final Counter EVENTS_REQUIRING_RETRIEVAL =
+            DittoMetrics.counter("search_updater_thing_events").tag("applied_locally", "false");
+
     private final DittoDiagnosticLoggingAdapter log;
     private final ThingId thingId;
     private final ShutdownBehaviour shutdownBehaviour;
     private final ActorRef changeQueueActor;
+    private final boolean applyEventsLocally;
+    private final int maxLocalThingSize;
 
     // state of Thing and Policy
     private long thingRevision = -1L;
     @Nullable private PolicyId policyId = null;
     private long policyRevision = -1L;
 
+    // last known state of the Thing at thingRevision; null if the Thing has to be retrieved for the next update
+    // or is too big to be kept in memory
+    @Nullable private JsonObject thing = null;
+
     @SuppressWarnings("unused") //It is used via reflection. See props method.
     private ThingUpdater(final ActorRef pubSubMediator, final ActorRef changeQueueActor) {
         log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
@@ -77,6 +93,8 @@ final class ThingUpdater extends AbstractActor {
         thingId = tryToGetThingId();
         shutdownBehaviour = ShutdownBehaviour.fromId(thingId, pubSubMediator, getSelf());
         this.changeQueueActor = changeQueueActor;
+        applyEventsLocally = dittoSearchConfig.getUpdaterConfig().isApplyEventsLocally();
+        maxLocalThingSize = dittoSearchConfig.getUpdaterConfig().getMaxLocalThingSize();
 
         getContext().setReceiveTimeout(dittoSearchConfig.getUpdaterConfig().getMaxIdleTime());
     }
@@ -101,6 +119,7 @@ final class ThingUpdater extends AbstractActor {
                 .match(PolicyReferenceTag.class, this::processPolicyReferenceTag)
                 .match(UpdateThing.class, this::updateThing)
                 .match(UpdateThingResponse.class, this::processUpdateThingResponse)
+                .match(SudoRetrieveThingResponse.class, this::processSudoRetrieveThingResponse)
                 .match(ReceiveTimeout.class, this::stopThisActor)
                 .matchAny(m -> {
                     log.warning("Unknown message in 'eventProcessing' behavior: {}", m);
@@ -120,13 +139,14 @@ final class ThingUpdater extends AbstractActor {
      * @param timer an optional timer measuring the search updater's consistency lag.
      */
     private Metadata exportMetadata(@Nullable final StartedTimer timer) {
-        return Metadata.of(thingId, thingRevision, policyId, policyRevision, timer);
+        return Metadata.of(thingId, thingRevision, policyId, policyRevision, timer).withThing(thing);
     }
 
     private Metadata exportMetadataWithSender(final boolean shouldAcknowledge, final ActorRef sender,
             final StartedTimer consistencyLagTimer) {
         if (shouldAcknowledge) {
-            return Metadata.of(thingId, thingRevision, policyId, policyRevision, consistencyLagTimer, sender);
+            return Metadata.of(thingId, thingRevision, policyId, policyRevision, consistencyLagTimer, sender)
+                    .withThing(thing);
         } else {
             return exportMetadata(consistencyLagTimer);
         }
@@ -134,9 +154,11 @@ final class ThingUpdater extends AbstractActor {
 
     /**
      * Push metadata of this updater to the queue of thing-changes to be streamed into the persistence.
+     *
+     * @param priority the priority of the change in the queue.
      */
-    private void enqueueMetadata() {
-        enqueueMetadata(exportMetadata(null));
+    private void enqueueMetadata(final ChangePriority priority) {
+        enqueueMetadata(exportMetadata(null).withPriority(priority));
     }
 
     private void enqueueMetadata(final Metadata metadata) {
@@ -151,7 +173,8 @@ final class ThingUpdater extends AbstractActor {
             log.debug("The Thing Tag for the thing <{}> has the revision {} which is greater than the current actor's"
                     + " sequence number <{}>.", thingId, thingTag.getRevision(), thingRevision);
             thingRevision = thingTag.getRevision();
-            enqueueMetadata();
+            thing = null;
+            enqueueMetadata(ChangePriority.BACKGROUND_SYNC);
         } else {
             log.debug("Dropping <{}> because my thingRevision=<{}>", thingTag, thingRevision);
         }
@@ -161,11 +184,13 @@ final class ThingUpdater extends AbstractActor {
     private void updateThing(final UpdateThing updateThing) {
         log.withCorrelationId(updateThing)
                 .info("Requested to update search index <{}> by <{}>", updateThing, getSender());
-        enqueueMetadata();
+        thing = null;
+        enqueueMetadata(ChangePriority.BACKGROUND_SYNC);
     }
 
     private void processUpdateThingResponse(final UpdateThingResponse response) {
         if (!response.isSuccess()) {
+            thing = null;
             final Metadata metadata = exportMetadata(null);
             log.warning("Got negative acknowledgement for <{}>; updating to <{}>.",
                     Metadata.fromResponse(response),
@@ -174,6 +199,19 @@ final class ThingUpdater extends AbstractActor {
         }
     }
 
+    private void processSudoRetrieveThingResponse(final SudoRetrieveThingResponse response) {
+        final JsonObject retrievedThing = response.getEntity().asObject();
+        final long retrievedRevision = retrievedThing.getValue(Thing.JsonFields.REVISION).orElse(-1L);
+        if (applyEventsLocally && retrievedRevision >= thingRevision) {
+            log.debug("Keeping retrieved thing <{}> with revision <{}>.", thingId, retrievedRevision);
+            thingRevision = retrievedRevision;
+            thing = keepIfSmallEnough(retrievedThing);
+        } else {
+            log.debug("Dropping retrieved thing <{}> with revision <{}> because my thingRevision=<{}>",
+                    thingId, retrievedRevision, thingRevision);
+        }
+    }
+
     private void processPolicyReferenceTag(final PolicyReferenceTag policyReferenceTag) {
         if (log.isDebugEnabled()) {
             log.debug("Received new Policy-Reference-Tag for thing <{}> with revision <{}>,  policy-id <{}> and " +
@@ -186,7 +224,8 @@ final class ThingUpdater extends AbstractActor {
         if (!Objects.equals(policyId, policyIdOfTag) || policyRevision < policyTag.getRevision()) {
             this.policyId = policyIdOfTag;
             policyRevision = policyTag.getRevision();
-            enqueueMetadata();
+            thing = null;
+            enqueueMetadata(ChangePriority.POLICY);
         } else {
             log.debug("Dropping <{}> because my policyId=<{}> and policyRevision=<{}>",
                     policyReferenceTag, policyId, policyRevision);
@@ -207,6 +246,7 @@ final class ThingUpdater extends AbstractActor {
                     thingEvent.getRevision(), thingRevision);
         } else {
             l.debug("Applying thing event <{}>.", thingEvent);
+            applyThingEvent(thingEvent);
             thingRevision = thingEvent.getRevision();
             final StartedTimer timer = DittoMetrics.timer(ConsistencyLag.TIMER_NAME)
                     .tag(ConsistencyLag.TAG_SHOULD_ACK, Boolean.toString(shouldAcknowledge))
@@ -219,6 +259,35 @@ final class ThingUpdater extends AbstractActor {
         }
     }
 
+    /**
+     * Apply a thing event to the last known state of the thing if the event directly follows it.
+     * The last known state is discarded on revision gaps and for events which cannot be applied locally,
+     * e. g. changes of the policy ID; the thing is retrieved for the next update in that case.
+     *
+     * @param thingEvent the thing event.
+     */
+    private void applyThingEvent(final ThingEvent<?> thingEvent) {
+        if (thing != null && thingEvent.getRevision() == thingRevision + 1) {
+            thing = ThingEventApplier.applyEvent(thing, thingEvent).map(this::keepIfSmallEnough).orElse(null);
+        } else {
+            thing = null;
+        }
+        if (thing != null) {
+            EVENTS_APPLIED_LOCALLY.increment();
+        } else {
+            EVENTS_REQUIRING_RETRIEVAL.increment();
+        }
+    }
+
+    @Nullable
+    private JsonObject keepIfSmallEnough(final JsonObject thingJson) {
+        if (thingJson.getUpperBoundForStringSize() > maxLocalThingSize) {
+            log.debug("Not keeping thing <{}> because it may be bigger than <{}> bytes.", thingId, maxLocalThingSize);
+            return null;
+        }
+        return thingJson;
+    }
+
     private ThingId tryToGetThingId() {
         final Charset utf8 = StandardCharsets.UTF_8;
         try {
@@ -232,6 +232,39 @@ public final class BackgroundSyncActorTest {
         }};
     }
 
+    @Test
+    public void synchronizesRangesInParallel() {
+        backgroundSyncConfig = DefaultBackgroundSyncConfig.parse(ConfigFactory.parseString("ranges = 2")
+                .withFallback(ConfigFactory.load("background-sync-test.conf")));
+
+        searchPersistence.filterByLowerBound = true;
+
+        new TestKit(actorSystem) {{
+            whenSearchPersistenceHasIndexedThings();
+            whenTimestampPersistenceProvidesTaggedTimestamp(TAGGED_TIMESTAMP, "");
+
+            final ActorRef underTest = thenCreateBackgroundSyncActor(this);
+
+            // one stream of persisted things for each range
+            for (int i = 0; i < 2; ++i) {
+                final DistributedPubSubMediator.Send startStream =
+                        pubSub.expectMsgClass(DEFAULT_TIMEOUT, DistributedPubSubMediator.Send.class);
+                final SudoStreamSnapshots command = (SudoStreamSnapshots) startStream.msg();
+                thenRespondWithPersistedThingsStream(pubSub, THINGS_PERSISTED.stream()
+                        .filter(snapshot -> !command.hasNonEmptyLowerBound() ||
+                                snapshot.getEntityId().compareTo(command.getLowerBound()) > 0)
+                        .collect(Collectors.toList()));
+            }
+
+            thingsUpdater.expectMsgAllOf(KNOWN_IDs.stream()
+                    .map(id -> UpdateThing.of(ThingId.of(id), DittoHeaders.empty()))
+                    .toArray());
+            thingsUpdater.expectNoMessage();
+
+            expectSyncActorToBeUpAndHealthy(underTest, this);
+        }};
+    }
+
     private ActorRef thenCreateBackgroundSyncActor(final TestKit system) {
         return system.childActorOf(BackgroundSyncActor.props(
                 backgroundSyncConfig,
@@ -340,6 +373,7 @@ public final class BackgroundSyncActorTest {
     private static class MockThingsSearchPersistence implements ThingsSearchPersistence {
 
         private List<Metadata> metadata;
+        private boolean filterByLowerBound = false;
 
         private void provideMetadata(final List<Metadata> toProvide) {
             this.metadata = toProvide;
@@ -382,7 +416,16 @@ public final class BackgroundSyncActorTest {
         public Source<Metadata, NotUsed> sudoStreamMetadata(final EntityId lowerBound) {
             checkNotNull(this.metadata,
                     "Metadata may not be null when #sudoStreamMetadata is called. Use #provideMetadata beforehand.");
-            return Source.from(this.metadata);
+            return Source.from(this.metadata)
+                    .filter(metadata -> !filterByLowerBound || lowerBound.isDummy() ||
+                            metadata.getThingId().compareTo(lowerBound) > 0);
+        }
+
+        @Override
+        public Source<ThingId, NotUsed> sudoSampleThingIds(final int sampleSize) {
+            checkNotNull(this.metadata,
+                    "Metadata may not be null when #sudoSampleThingIds is called. Use #provideMetadata beforehand.");
+            return Source.from(this.metadata).map(Metadata::getThingId).take(sampleSize);
         }
 
     }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.junit.Test;
+
+/**
+ * Tests {@link BackgroundSyncRange}.
+ */
+public final class BackgroundSyncRangeTest {
+
+    private static final List<ThingId> SAMPLE = List.of(ThingId.of("x:6"), ThingId.of("x:2"), ThingId.of("x:4"),
+            ThingId.of("x:8"), ThingId.of("x:4"), ThingId.of("x:1"));
+
+    @Test
+    public void splitsAccordingToSample() {
+        assertThat(BackgroundSyncRange.split(ThingId.dummy(), SAMPLE, 3)).containsExactly(
+                BackgroundSyncRange.of(ThingId.dummy(), ThingId.of("x:2")),
+                BackgroundSyncRange.of(ThingId.of("x:2"), ThingId.of("x:6")),
+                BackgroundSyncRange.of(ThingId.of("x:6"), null));
+    }
+
+    @Test
+    public void splitsAboveLowerBound() {
+        assertThat(BackgroundSyncRange.split(ThingId.of("x:5"), SAMPLE, 4)).containsExactly(
+                BackgroundSyncRange.of(ThingId.of("x:5"), ThingId.of("x:6")),
+                BackgroundSyncRange.of(ThingId.of("x:6"), ThingId.of("x:8")),
+                BackgroundSyncRange.of(ThingId.of("x:8"), null));
+    }
+
+    @Test
+    public void doesNotSplitWithoutSample() {
+        assertThat(BackgroundSyncRange.split(ThingId.dummy(), List.of(), 4))
+                .containsExactly(BackgroundSyncRange.of(ThingId.dummy(), null));
+    }
+
+    @Test
+    public void bookmarkOfSingleRangeIsItsLowerBound() {
+        assertThat(BackgroundSyncRange.toBookmark(List.of(BackgroundSyncRange.of(ThingId.of("x:5"), null))))
+                .isEqualTo("x:5");
+        assertThat(BackgroundSyncRange.toBookmark(List.of(BackgroundSyncRange.of(ThingId.dummy(), null))))
+                .isEmpty();
+        assertThat(BackgroundSyncRange.fromBookmark("x:5")).isEmpty();
+    }
+
+    @Test
+    public void bookmarkOfSeveralRangesRoundTrips() {
+        final List<BackgroundSyncRange> ranges = List.of(
+                BackgroundSyncRange.of(ThingId.dummy(), ThingId.of("x:2")),
+                BackgroundSyncRange.of(ThingId.of("x:5"), null));
+
+        assertThat(BackgroundSyncRange.fromBookmark(BackgroundSyncRange.toBookmark(ranges))).contains(ranges);
+    }
+
+    @Test
+    public void upperBoundIsInclusive() {
+        final BackgroundSyncRange underTest = BackgroundSyncRange.of(ThingId.of("x:2"), ThingId.of("x:6"));
+
+        assertThat(underTest.isNotAboveUpperBound(ThingId.of("x:6"))).isTrue();
+        assertThat(underTest.isNotAboveUpperBound(ThingId.of("x:7"))).isFalse();
+        assertThat(BackgroundSyncRange.of(ThingId.dummy(), null).isNotAboveUpperBound(ThingId.of("x:7"))).isTrue();
+    }
+
+}
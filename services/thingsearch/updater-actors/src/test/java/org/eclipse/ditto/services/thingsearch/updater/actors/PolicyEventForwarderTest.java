@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
+import org.eclipse.ditto.services.models.policies.PolicyTag;
+import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpdaterPersistence;
+import org.eclipse.ditto.services.utils.ddata.DistributedData;
+import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.NotUsed;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.stream.javadsl.Source;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link PolicyEventForwarder}.
+ */
+public final class PolicyEventForwarderTest {
+
+    private static final PolicyId POLICY_ID = PolicyId.of("namespace", "policy");
+
+    private ActorSystem actorSystem;
+    private TestProbe pubSubMediator;
+    private TestProbe thingsUpdater;
+    private ThingsSearchUpdaterPersistence persistence;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test"));
+        pubSubMediator = TestProbe.apply(actorSystem);
+        thingsUpdater = TestProbe.apply(actorSystem);
+        persistence = Mockito.mock(ThingsSearchUpdaterPersistence.class);
+    }
+
+    @After
+    public void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void fansOutToThingsWithOutdatedPolicyRevision() {
+        final Map<Long, Source<ThingId, ?>> outdatedThingIds =
+                Map.of(3L, Source.from(List.of(ThingId.of("x:1"), ThingId.of("x:2"))));
+        whenPersistenceHasOutdatedThings(outdatedThingIds);
+
+        final ActorRef underTest = createPolicyEventForwarder();
+        underTest.tell(PolicyTag.of(POLICY_ID, 3L), ActorRef.noSender());
+
+        thingsUpdater.expectMsg(PolicyReferenceTag.of(ThingId.of("x:1"), PolicyTag.of(POLICY_ID, 3L)));
+        thingsUpdater.expectMsg(PolicyReferenceTag.of(ThingId.of("x:2"), PolicyTag.of(POLICY_ID, 3L)));
+        thingsUpdater.expectNoMessage();
+    }
+
+    @Test
+    public void newerRevisionSupersedesRunningFanOut() {
+        final Map<Long, Source<ThingId, ?>> outdatedThingIds = Map.of(
+                1L, Source.single(ThingId.of("x:1")).concat(Source.never()),
+                2L, Source.single(ThingId.of("x:2")));
+        whenPersistenceHasOutdatedThings(outdatedThingIds);
+
+        final ActorRef underTest = createPolicyEventForwarder();
+        underTest.tell(PolicyTag.of(POLICY_ID, 1L), ActorRef.noSender());
+        thingsUpdater.expectMsg(PolicyReferenceTag.of(ThingId.of("x:1"), PolicyTag.of(POLICY_ID, 1L)));
+
+        underTest.tell(PolicyTag.of(POLICY_ID, 2L), ActorRef.noSender());
+        thingsUpdater.expectMsg(PolicyReferenceTag.of(ThingId.of("x:2"), PolicyTag.of(POLICY_ID, 2L)));
+        thingsUpdater.expectNoMessage();
+    }
+
+    @Test
+    public void ignoresRevisionsCoveredByRunningFanOut() {
+        final Map<Long, Source<ThingId, ?>> outdatedThingIds =
+                Map.of(2L, Source.single(ThingId.of("x:1")).concat(Source.never()));
+        whenPersistenceHasOutdatedThings(outdatedThingIds);
+
+        final ActorRef underTest = createPolicyEventForwarder();
+        underTest.tell(PolicyTag.of(POLICY_ID, 2L), ActorRef.noSender());
+        thingsUpdater.expectMsg(PolicyReferenceTag.of(ThingId.of("x:1"), PolicyTag.of(POLICY_ID, 2L)));
+
+        underTest.tell(PolicyTag.of(POLICY_ID, 1L), ActorRef.noSender());
+        underTest.tell(PolicyTag.of(POLICY_ID, 2L), ActorRef.noSender());
+        thingsUpdater.expectNoMessage();
+        Mockito.verify(persistence, Mockito.times(1)).getOutdatedThingIds(any());
+    }
+
+    private void whenPersistenceHasOutdatedThings(final Map<Long, Source<ThingId, ?>> outdatedThingIds) {
+        when(persistence.getOutdatedThingIds(any())).thenAnswer(invocation -> {
+            final PolicyTag policyTag = invocation.getArgument(0);
+            return outdatedThingIds.getOrDefault(policyTag.getRevision(), Source.empty())
+                    .mapMaterializedValue(whatever -> NotUsed.getInstance());
+        });
+    }
+
+    private ActorRef createPolicyEventForwarder() {
+        final BlockedNamespaces blockedNamespaces =
+                BlockedNamespaces.create(DistributedData.createConfig(actorSystem, "replicator", ""), actorSystem);
+        return actorSystem.actorOf(PolicyEventForwarder.props(pubSubMediator.ref(), thingsUpdater.ref(),
+                blockedNamespaces, persistence));
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.signals.events.things.AttributeDeleted;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
+import org.eclipse.ditto.signals.events.things.FeaturePropertyModified;
+import org.eclipse.ditto.signals.events.things.PolicyIdModified;
+import org.eclipse.ditto.signals.events.things.ThingMerged;
+import org.junit.Test;
+
+/**
+ * Tests {@link ThingEventApplier}.
+ */
+public final class ThingEventApplierTest {
+
+    private static final ThingId THING_ID = ThingId.of("thing", "id");
+    private static final Instant TIMESTAMP = Instant.parse("2021-03-04T05:06:07Z");
+
+    private static final Thing THING = ThingsModelFactory.newThingBuilder()
+            .setId(THING_ID)
+            .setPolicyId(PolicyId.of(THING_ID))
+            .setAttribute(JsonPointer.of("location"), JsonValue.of("kitchen"))
+            .setAttribute(JsonPointer.of("maker"), JsonValue.of("ACME"))
+            .setFeatureProperty("lamp", JsonPointer.of("on"), JsonValue.of(false))
+            .setRevision(5L)
+            .setCreated(Instant.parse("2021-01-01T00:00:00Z"))
+            .setModified(Instant.parse("2021-02-01T00:00:00Z"))
+            .build();
+
+    @Test
+    public void applyAttributeModified() {
+        final Optional<JsonObject> result = ThingEventApplier.applyEvent(toJson(THING),
+                AttributeModified.of(THING_ID, JsonPointer.of("location"), JsonValue.of("garage"), 6L, TIMESTAMP,
+                        DittoHeaders.empty(), null));
+
+        assertThat(result.map(ThingsModelFactory::newThing)).contains(THING.toBuilder()
+                .setAttribute(JsonPointer.of("location"), JsonValue.of("garage"))
+                .setRevision(6L)
+                .setModified(TIMESTAMP)
+                .build());
+    }
+
+    @Test
+    public void applyAttributeDeleted() {
+        final Optional<JsonObject> result = ThingEventApplier.applyEvent(toJson(THING),
+                AttributeDeleted.of(THING_ID, JsonPointer.of("maker"), 6L, TIMESTAMP, DittoHeaders.empty(), null));
+
+        assertThat(result.map(ThingsModelFactory::newThing)).contains(THING.toBuilder()
+                .removeAttribute(JsonPointer.of("maker"))
+                .setRevision(6L)
+                .setModified(TIMESTAMP)
+                .build());
+    }
+
+    @Test
+    public void applyFeaturePropertyModified() {
+        final Optional<JsonObject> result = ThingEventApplier.applyEvent(toJson(THING),
+                FeaturePropertyModified.of(THING_ID, "lamp", JsonPointer.of("on"), JsonValue.of(true), 6L,
+                        TIMESTAMP, DittoHeaders.empty(), null));
+
+        assertThat(result.map(ThingsModelFactory::newThing)).contains(THING.toBuilder()
+                .setFeatureProperty("lamp", JsonPointer.of("on"), JsonValue.of(true))
+                .setRevision(6L)
+                .setModified(TIMESTAMP)
+                .build());
+    }
+
+    @Test
+    public void applyThingMergedOnAttributesAndFeatures() {
+        final JsonObject patch = JsonFactory.newObjectBuilder()
+                .set(JsonPointer.of("attributes/maker"), JsonValue.nullLiteral())
+                .set(JsonPointer.of("features/lamp/properties/brightness"), 80)
+                .build();
+        final Optional<JsonObject> result = ThingEventApplier.applyEvent(toJson(THING),
+                ThingMerged.of(THING_ID, JsonPointer.empty(), patch, 6L, TIMESTAMP, DittoHeaders.empty(), null));
+
+        assertThat(result.map(ThingsModelFactory::newThing)).contains(THING.toBuilder()
+                .removeAttribute(JsonPointer.of("maker"))
+                .setFeatureProperty("lamp", JsonPointer.of("brightness"), JsonValue.of(80))
+                .setRevision(6L)
+                .setModified(TIMESTAMP)
+                .build());
+    }
+
+    @Test
+    public void doNotApplyThingMergedChangingPolicyId() {
+        final JsonObject patch = JsonFactory.newObjectBuilder()
+                .set(Thing.JsonFields.POLICY_ID, "thing:other")
+                .build();
+
+        assertThat(ThingEventApplier.applyEvent(toJson(THING),
+                ThingMerged.of(THING_ID, JsonPointer.empty(), patch, 6L, TIMESTAMP, DittoHeaders.empty(), null)))
+                .isEmpty();
+    }
+
+    @Test
+    public void doNotApplyPolicyIdModified() {
+        assertThat(ThingEventApplier.applyEvent(toJson(THING),
+                PolicyIdModified.of(THING_ID, PolicyId.of("thing:other"), 6L, DittoHeaders.empty())))
+                .isEmpty();
+    }
+
+    private static JsonObject toJson(final Thing thing) {
+        return thing.toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial());
+    }
+
+}
@@ -13,8 +13,13 @@
 package org.eclipse.ditto.services.thingsearch.updater.actors;
 
 import org.assertj.core.api.Assertions;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.things.AccessControlList;
 import org.eclipse.ditto.model.things.AccessControlListModelFactory;
@@ -26,11 +31,14 @@ import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.models.things.ThingTag;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ChangePriority;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 import org.eclipse.ditto.services.utils.akka.streaming.StreamAck;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.signals.commands.common.Shutdown;
 import org.eclipse.ditto.signals.commands.common.ShutdownReasonFactory;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
 import org.eclipse.ditto.signals.events.things.ThingCreated;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 import org.eclipse.ditto.signals.events.things.ThingModified;
@@ -192,7 +200,8 @@ public final class ThingUpdaterTest {
                 final PolicyId policyId = PolicyId.of(THING_ID);
                 underTest.tell(PolicyReferenceTag.of(THING_ID, PolicyTag.of(policyId, newPolicyRevision)),
                         ActorRef.noSender());
-                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, -1L, policyId, newPolicyRevision, null));
+                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, -1L, policyId, newPolicyRevision, null)
+                        .withPriority(ChangePriority.POLICY));
 
                 underTest.tell(PolicyReferenceTag.of(THING_ID, PolicyTag.of(policyId, REVISION)),
                         ActorRef.noSender());
@@ -213,11 +222,13 @@ public final class ThingUpdaterTest {
                 // establish policy ID
                 underTest.tell(PolicyReferenceTag.of(THING_ID, PolicyTag.of(policyId1, 99L)),
                         ActorRef.noSender());
-                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, -1L, policyId1, 99L, null));
+                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, -1L, policyId1, 99L, null)
+                        .withPriority(ChangePriority.POLICY));
 
                 underTest.tell(PolicyReferenceTag.of(THING_ID, PolicyTag.of(policyId2, 9L)),
                         ActorRef.noSender());
-                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, -1L, policyId2, 9L, null));
+                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, -1L, policyId2, 9L, null)
+                        .withPriority(ChangePriority.POLICY));
             }
         };
     }
@@ -272,6 +283,83 @@ public final class ThingUpdaterTest {
         };
     }
 
+    @Test
+    public void appliesEventsToRetrievedThing() {
+        startActorSystem(ConfigFactory.parseString("ditto.things-search.updater.apply-events-locally = true")
+                .withFallback(ConfigFactory.load("test")));
+        final Thing retrievedThing = ThingsModelFactory.newThingBuilder()
+                .setId(THING_ID)
+                .setPolicyId(PolicyId.of(THING_ID))
+                .setAttribute(JsonPointer.of("x"), JsonValue.of(1))
+                .setRevision(3L)
+                .build();
+        final JsonObject retrievedThingJson = retrievedThing.toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial());
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createThingUpdaterActor();
+
+                underTest.tell(SudoRetrieveThingResponse.of(retrievedThingJson, DittoHeaders.empty()),
+                        ActorRef.noSender());
+
+                // WHEN: the next event arrives
+                underTest.tell(AttributeModified.of(THING_ID, JsonPointer.of("x"), JsonValue.of(2), 4L,
+                        DittoHeaders.empty()), ActorRef.noSender());
+
+                // THEN: the metadata carries the thing with the event applied
+                final Metadata metadata = changeQueueTestProbe.expectMsgClass(Metadata.class);
+                Assertions.assertThat(metadata.getThingRevision()).isEqualTo(4L);
+                Assertions.assertThat(metadata.getThing().map(ThingsModelFactory::newThing))
+                        .contains(retrievedThing.toBuilder()
+                                .setAttribute(JsonPointer.of("x"), JsonValue.of(2))
+                                .setRevision(4L)
+                                .build());
+
+                // WHEN: an event is missed
+                underTest.tell(AttributeModified.of(THING_ID, JsonPointer.of("x"), JsonValue.of(4), 6L,
+                        DittoHeaders.empty()), ActorRef.noSender());
+
+                // THEN: the thing has to be retrieved
+                final Metadata metadataAfterGap = changeQueueTestProbe.expectMsgClass(Metadata.class);
+                Assertions.assertThat(metadataAfterGap.getThingRevision()).isEqualTo(6L);
+                Assertions.assertThat(metadataAfterGap.getThing()).isEmpty();
+            }
+        };
+    }
+
+    @Test
+    public void doesNotKeepThingBiggerThanMaxLocalThingSize() {
+        startActorSystem(ConfigFactory.parseString("ditto.things-search.updater {\n" +
+                "  apply-events-locally = true\n" +
+                "  max-local-thing-size = 64\n" +
+                "}").withFallback(ConfigFactory.load("test")));
+        final Thing retrievedThing = ThingsModelFactory.newThingBuilder()
+                .setId(THING_ID)
+                .setPolicyId(PolicyId.of(THING_ID))
+                .setAttribute(JsonPointer.of("x"), JsonValue.of(1))
+                .setRevision(3L)
+                .build();
+        final JsonObject retrievedThingJson = retrievedThing.toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial());
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createThingUpdaterActor();
+
+                underTest.tell(SudoRetrieveThingResponse.of(retrievedThingJson, DittoHeaders.empty()),
+                        ActorRef.noSender());
+
+                // WHEN: the next event arrives
+                underTest.tell(AttributeModified.of(THING_ID, JsonPointer.of("x"), JsonValue.of(2), 4L,
+                        DittoHeaders.empty()), ActorRef.noSender());
+
+                // THEN: the thing was too big to be kept and has to be retrieved
+                final Metadata metadata = changeQueueTestProbe.expectMsgClass(Metadata.class);
+                Assertions.assertThat(metadata.getThingRevision()).isEqualTo(4L);
+                Assertions.assertThat(metadata.getThing()).isEmpty();
+            }
+        };
+    }
+
     @Test
     public void shutdownOnCommand() {
         new TestKit(actorSystem) {
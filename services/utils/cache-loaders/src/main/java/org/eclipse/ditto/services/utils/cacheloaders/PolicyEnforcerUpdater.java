@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyBuilder;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.signals.events.policies.PolicyEntriesModified;
+import org.eclipse.ditto.signals.events.policies.PolicyEntryCreated;
+import org.eclipse.ditto.signals.events.policies.PolicyEntryDeleted;
+import org.eclipse.ditto.signals.events.policies.PolicyEntryModified;
+import org.eclipse.ditto.signals.events.policies.PolicyEvent;
+import org.eclipse.ditto.signals.events.policies.PolicyModified;
+import org.eclipse.ditto.signals.events.policies.ResourceCreated;
+import org.eclipse.ditto.signals.events.policies.ResourceDeleted;
+import org.eclipse.ditto.signals.events.policies.ResourceModified;
+import org.eclipse.ditto.signals.events.policies.ResourcesModified;
+import org.eclipse.ditto.signals.events.policies.SubjectCreated;
+import org.eclipse.ditto.signals.events.policies.SubjectDeleted;
+import org.eclipse.ditto.signals.events.policies.SubjectModified;
+import org.eclipse.ditto.signals.events.policies.SubjectsDeletedPartially;
+import org.eclipse.ditto.signals.events.policies.SubjectsModified;
+import org.eclipse.ditto.signals.events.policies.SubjectsModifiedPartially;
+
+/**
+ * Applies policy events to cached policy enforcers so that a modified policy does not have to be loaded again.
+ * The events are applied the same way the policies persistence applies them; the updated policy keeps all policy
+ * entries which were not touched by the event.
+ * The appliers mirror the {@code PolicyEventStrategies} of the policies service, which the cache loaders cannot depend
+ * on; they have to be kept in sync. Policy enforcers are therefore only updated from events if configured,
+ * otherwise they are invalidated and loaded again.
+ */
+@Immutable
+public final class PolicyEnforcerUpdater {
+
+    private static final Map<Class<?>, BiFunction<PolicyEvent<?>, Policy, PolicyBuilder>> EVENT_APPLIERS =
+            initEventAppliers();
+
+    private PolicyEnforcerUpdater() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Indicates whether the given policy event can be applied to a cached policy enforcer.
+     * Events creating or deleting the whole policy cannot be applied.
+     *
+     * @param policyEvent the policy event.
+     * @return {@code true} if the event can be applied, {@code false} else.
+     */
+    public static boolean isApplicable(final PolicyEvent<?> policyEvent) {
+        return EVENT_APPLIERS.containsKey(checkNotNull(policyEvent, "policyEvent").getClass());
+    }
+
+    /**
+     * Applies a policy event to a cached policy enforcer entry.
+     * The event is only applied if the entry exists, contains its policy and the event has exactly the revision
+     * following the revision of the entry.
+     *
+     * @param policyEnforcerEntry the cached policy enforcer entry.
+     * @param policyEvent the policy event to apply.
+     * @return the updated entry or an empty Optional if the event could not be applied; the entry has to be loaded
+     * again in that case.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static Optional<Entry<PolicyEnforcer>> applyEvent(final Entry<PolicyEnforcer> policyEnforcerEntry,
+            final PolicyEvent<?> policyEvent) {
+
+        checkNotNull(policyEnforcerEntry, "policyEnforcerEntry");
+        checkNotNull(policyEvent, "policyEvent");
+
+        final BiFunction<PolicyEvent<?>, Policy, PolicyBuilder> eventApplier =
+                EVENT_APPLIERS.get(policyEvent.getClass());
+        if (null == eventApplier || !policyEnforcerEntry.exists() ||
+                policyEnforcerEntry.getRevision() + 1 != policyEvent.getRevision()) {
+            return Optional.empty();
+        }
+        return policyEnforcerEntry.getValueOrThrow()
+                .getPolicy()
+                .map(policy -> {
+                    final Policy updatedPolicy = eventApplier.apply(policyEvent, policy)
+                            .setRevision(policyEvent.getRevision())
+                            .setModified(policyEvent.getTimestamp().orElse(null))
+                            .build();
+                    return Entry.of(policyEvent.getRevision(),
+                            PolicyEnforcer.of(updatedPolicy, PolicyEnforcers.defaultEvaluator(updatedPolicy)));
+                });
+    }
+
+    private static Map<Class<?>, BiFunction<PolicyEvent<?>, Policy, PolicyBuilder>> initEventAppliers() {
+        final Map<Class<?>, BiFunction<PolicyEvent<?>, Policy, PolicyBuilder>> appliers = new HashMap<>();
+        addApplier(appliers, PolicyModified.class, (pm, policy) -> policy.toBuilder()
+                .removeAll(policy.getEntriesSet())
+                .setAll(pm.getPolicy().getEntriesSet()));
+        addApplier(appliers, PolicyEntriesModified.class, (pem, policy) -> policy.toBuilder()
+                .removeAll(policy.getEntriesSet())
+                .setAll(pem.getPolicyEntries()));
+        addApplier(appliers, PolicyEntryCreated.class,
+                (pec, policy) -> policy.toBuilder().set(pec.getPolicyEntry()));
+        addApplier(appliers, PolicyEntryModified.class,
+                (pem, policy) -> policy.toBuilder().set(pem.getPolicyEntry()));
+        addApplier(appliers, PolicyEntryDeleted.class,
+                (ped, policy) -> policy.toBuilder().remove(ped.getLabel()));
+        addApplier(appliers, SubjectsModified.class, (sm, policy) -> policy.getEntryFor(sm.getLabel())
+                .map(policyEntry -> policy.toBuilder().set(PoliciesModelFactory.newPolicyEntry(sm.getLabel(),
+                        sm.getSubjects(), policyEntry.getResources())))
+                .orElseGet(() -> policy.toBuilder().setSubjectsFor(sm.getLabel(), sm.getSubjects())));
+        addApplier(appliers, SubjectsModifiedPartially.class, (smp, policy) -> {
+            final Instant now = Instant.now();
+            final PolicyBuilder policyBuilder = policy.toBuilder();
+            smp.getModifiedSubjects().forEach((label, subjects) -> subjects.stream()
+                    .filter(subject -> subject.getExpiry()
+                            .map(expiry -> expiry.getTimestamp().isAfter(now))
+                            .orElse(false))
+                    .forEach(subject -> policyBuilder.setSubjectFor(label, subject)));
+            return policyBuilder;
+        });
+        addApplier(appliers, SubjectsDeletedPartially.class, (sdp, policy) -> {
+            final PolicyBuilder policyBuilder = policy.toBuilder();
+            sdp.getDeletedSubjectIds().forEach((label, subjectIds) ->
+                    subjectIds.forEach(subjectId -> policyBuilder.removeSubjectFor(label, subjectId)));
+            return policyBuilder;
+        });
+        addApplier(appliers, SubjectCreated.class,
+                (sc, policy) -> policy.toBuilder().setSubjectFor(sc.getLabel(), sc.getSubject()));
+        addApplier(appliers, SubjectModified.class,
+                (sm, policy) -> policy.toBuilder().setSubjectFor(sm.getLabel(), sm.getSubject()));
+        addApplier(appliers, SubjectDeleted.class,
+                (sd, policy) -> policy.toBuilder().removeSubjectFor(sd.getLabel(), sd.getSubjectId()));
+        addApplier(appliers, ResourcesModified.class, (rm, policy) -> policy.getEntryFor(rm.getLabel())
+                .map(policyEntry -> policy.toBuilder().set(PoliciesModelFactory.newPolicyEntry(rm.getLabel(),
+                        policyEntry.getSubjects(), rm.getResources())))
+                .orElseGet(() -> policy.toBuilder().setResourcesFor(rm.getLabel(), rm.getResources())));
+        addApplier(appliers, ResourceCreated.class,
+                (rc, policy) -> policy.toBuilder().setResourceFor(rc.getLabel(), rc.getResource()));
+        addApplier(appliers, ResourceModified.class,
+                (rm, policy) -> policy.toBuilder().setResourceFor(rm.getLabel(), rm.getResource()));
+        addApplier(appliers, ResourceDeleted.class,
+                (rd, policy) -> policy.toBuilder().removeResourceFor(rd.getLabel(), rd.getResourceKey()));
+        return appliers;
+    }
+
+    private static <T extends PolicyEvent<T>> void addApplier(
+            final Map<Class<?>, BiFunction<PolicyEvent<?>, Policy, PolicyBuilder>> appliers,
+            final Class<T> eventClass,
+            final BiFunction<T, Policy, PolicyBuilder> applier) {
+
+        appliers.put(eventClass, (event, policy) -> applier.apply(eventClass.cast(event), policy));
+    }
+
+}
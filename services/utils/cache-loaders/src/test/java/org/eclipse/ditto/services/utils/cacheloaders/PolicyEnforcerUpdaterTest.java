@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.Label;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.Subject;
+import org.eclipse.ditto.model.policies.SubjectIssuer;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.signals.events.policies.PolicyDeleted;
+import org.eclipse.ditto.signals.events.policies.ResourceDeleted;
+import org.eclipse.ditto.signals.events.policies.SubjectCreated;
+import org.junit.Test;
+
+/**
+ * Tests {@link PolicyEnforcerUpdater}.
+ */
+public final class PolicyEnforcerUpdaterTest {
+
+    private static final PolicyId POLICY_ID = PolicyId.of("org.eclipse.ditto", "policy");
+    private static final Label LABEL = Label.of("owner");
+    private static final ResourceKey THING_ROOT = ResourceKey.newInstance("thing", "/");
+    private static final Subject NEW_SUBJECT = Subject.newInstance(SubjectIssuer.GOOGLE, "bob");
+    private static final AuthorizationContext NEW_SUBJECT_CONTEXT =
+            AuthorizationModelFactory.newAuthContext(DittoAuthorizationContextType.UNSPECIFIED,
+                    AuthorizationSubject.newInstance(NEW_SUBJECT.getId()));
+
+    private static final Policy POLICY = PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+            .forLabel(LABEL)
+            .setSubject(SubjectIssuer.GOOGLE, "alice")
+            .setGrantedPermissions(THING_ROOT, "READ", "WRITE")
+            .forLabel("other")
+            .setSubject(SubjectIssuer.GOOGLE, "carol")
+            .setGrantedPermissions(THING_ROOT, "READ")
+            .setRevision(1L)
+            .build();
+
+    private static final Entry<PolicyEnforcer> ENTRY =
+            Entry.of(1L, PolicyEnforcer.of(POLICY, PolicyEnforcers.defaultEvaluator(POLICY)));
+
+    @Test
+    public void applySubjectCreatedWithNextRevision() {
+        assertThat(ENTRY.getValueOrThrow().getEnforcer()
+                .hasUnrestrictedPermissions(THING_ROOT, NEW_SUBJECT_CONTEXT, "READ")).isFalse();
+
+        final Optional<Entry<PolicyEnforcer>> result = PolicyEnforcerUpdater.applyEvent(ENTRY,
+                SubjectCreated.of(POLICY_ID, LABEL, NEW_SUBJECT, 2L, DittoHeaders.empty()));
+
+        assertThat(result).hasValueSatisfying(entry -> {
+            assertThat(entry.getRevision()).isEqualTo(2L);
+            assertThat(entry.getValueOrThrow().getEnforcer()
+                    .hasUnrestrictedPermissions(THING_ROOT, NEW_SUBJECT_CONTEXT, "READ", "WRITE")).isTrue();
+            final Policy updatedPolicy = entry.getValueOrThrow().getPolicy().orElseThrow(AssertionError::new);
+            assertThat(updatedPolicy.getRevision()).contains(PoliciesModelFactory.newPolicyRevision(2L));
+            assertThat(updatedPolicy.getEntryFor("other")).isEqualTo(POLICY.getEntryFor("other"));
+        });
+    }
+
+    @Test
+    public void applyResourceDeletedWithNextRevision() {
+        final Optional<Entry<PolicyEnforcer>> result = PolicyEnforcerUpdater.applyEvent(ENTRY,
+                ResourceDeleted.of(POLICY_ID, LABEL, THING_ROOT, 2L, DittoHeaders.empty()));
+
+        assertThat(result).hasValueSatisfying(entry -> assertThat(entry.getValueOrThrow()
+                .getPolicy()
+                .flatMap(policy -> policy.getEntryFor(LABEL))
+                .map(policyEntry -> policyEntry.getResources().isEmpty())).contains(true));
+    }
+
+    @Test
+    public void doNotApplyEventWithRevisionGap() {
+        assertThat(PolicyEnforcerUpdater.applyEvent(ENTRY,
+                SubjectCreated.of(POLICY_ID, LABEL, NEW_SUBJECT, 3L, DittoHeaders.empty()))).isEmpty();
+    }
+
+    @Test
+    public void doNotApplyEventWithStaleRevision() {
+        assertThat(PolicyEnforcerUpdater.applyEvent(ENTRY,
+                SubjectCreated.of(POLICY_ID, LABEL, NEW_SUBJECT, 1L, DittoHeaders.empty()))).isEmpty();
+    }
+
+    @Test
+    public void doNotApplyPolicyDeleted() {
+        final PolicyDeleted policyDeleted = PolicyDeleted.of(POLICY_ID, 2L, DittoHeaders.empty());
+
+        assertThat(PolicyEnforcerUpdater.isApplicable(policyDeleted)).isFalse();
+        assertThat(PolicyEnforcerUpdater.applyEvent(ENTRY, policyDeleted)).isEmpty();
+    }
+
+    @Test
+    public void doNotApplyEventToNonexistentEntry() {
+        assertThat(PolicyEnforcerUpdater.applyEvent(Entry.nonexistent(),
+                SubjectCreated.of(POLICY_ID, LABEL, NEW_SUBJECT, 2L, DittoHeaders.empty()))).isEmpty();
+    }
+
+    @Test
+    public void doNotApplyEventToEntryWithoutPolicy() {
+        final Entry<PolicyEnforcer> entryWithoutPolicy =
+                Entry.of(1L, PolicyEnforcer.of(PolicyEnforcers.defaultEvaluator(POLICY)));
+
+        assertThat(PolicyEnforcerUpdater.applyEvent(entryWithoutPolicy,
+                SubjectCreated.of(POLICY_ID, LABEL, NEW_SUBJECT, 2L, DittoHeaders.empty()))).isEmpty();
+    }
+
+}
@@ -95,6 +95,8 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     private final Long defaultBufferSize;
     private final Counter inCounter;
     private final Counter outCounter;
+    private final AllocatedBytesRecorder inAllocatedBytes;
+    private final AllocatedBytesRecorder outAllocatedBytes;
     private final String serializerName;
 
     /**
@@ -125,6 +127,8 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
                 .tag(METRIC_DIRECTION, "in");
         outCounter = DittoMetrics.counter(serializerName.toLowerCase() + METRIC_NAME_SUFFIX)
                 .tag(METRIC_DIRECTION, "out");
+        inAllocatedBytes = AllocatedBytesRecorder.newInstance(serializerName, "in");
+        outAllocatedBytes = AllocatedBytesRecorder.newInstance(serializerName, "out");
     }
 
     @Override
@@ -140,6 +144,7 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     @Override
     public void toBinary(final Object object, final ByteBuffer buf) {
         if (object instanceof Jsonifiable) {
+            final long allocatedBytesToken = outAllocatedBytes.start();
             final JsonObjectBuilder jsonObjectBuilder = JsonObject.newBuilder();
             final DittoHeaders dittoHeaders = getDittoHeadersOrEmpty(object);
             jsonObjectBuilder.set(JSON_DITTO_HEADERS, dittoHeaders.toJson());
@@ -161,6 +166,7 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
                 serializeIntoByteBuffer(jsonObject, buf);
                 LOG.trace("toBinary jsonStr about to send 'out': {}", jsonObject);
                 outCounter.increment();
+                outAllocatedBytes.stop(allocatedBytesToken);
             } catch (final BufferOverflowException e) {
                 final String errorMessage = MessageFormat.format(
                         "Could not put bytes of JSON string <{0}> into ByteBuffer due to BufferOverflow", jsonObject);
@@ -226,12 +232,14 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     @Override
     public Object fromBinary(final ByteBuffer buf, final String manifest) {
         try {
+            final long allocatedBytesToken = inAllocatedBytes.start();
             final Jsonifiable<?> jsonifiable = tryToCreateKnownJsonifiableFrom(manifest, buf);
             if (LOG.isTraceEnabled()) {
                 LOG.trace("fromBinary {} which got 'in': {}", serializerName,
                         BinaryToHexConverter.createDebugMessageByTryingToConvertToHexString(buf));
             }
             inCounter.increment();
+            inAllocatedBytes.stop(allocatedBytesToken);
             return jsonifiable;
         } catch (final NotSerializableException e) {
             return e;
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+
+/**
+ * Records the bytes the current thread allocates while (de-)serializing a message in a histogram named
+ * {@code <serializer-name>_serializer_allocated_bytes}.
+ * Only every {@value #SAMPLING_RATE}th message is sampled on average as determining the allocated bytes of a thread
+ * is not free.
+ * Nothing is recorded if the JVM does not support measuring thread allocation.
+ */
+@ThreadSafe
+final class AllocatedBytesRecorder {
+
+    /**
+     * One out of this many messages is sampled.
+     */
+    static final int SAMPLING_RATE = 16;
+
+    private static final long NOT_SAMPLED = -1L;
+
+    @Nullable private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = getThreadMxBeanOrNull();
+
+    private final Histogram allocatedBytes;
+
+    private AllocatedBytesRecorder(final Histogram allocatedBytes) {
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * Returns a new instance of {@code AllocatedBytesRecorder}.
+     *
+     * @param serializerName the name of the serializer which is used as prefix of the histogram name.
+     * @param direction the value of the {@code direction} tag, i. e. {@code in} or {@code out}.
+     * @return the instance.
+     */
+    static AllocatedBytesRecorder newInstance(final String serializerName, final String direction) {
+        return new AllocatedBytesRecorder(
+                DittoMetrics.histogram(serializerName.toLowerCase() + "_serializer_allocated_bytes")
+                        .tag("direction", direction));
+    }
+
+    @Nullable
+    private static com.sun.management.ThreadMXBean getThreadMxBeanOrNull() {
+        final java.lang.management.ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+        if (threadMxBean instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean result = (com.sun.management.ThreadMXBean) threadMxBean;
+            if (result.isThreadAllocatedMemorySupported() && result.isThreadAllocatedMemoryEnabled()) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Starts measuring the allocation of the current thread if the current message is sampled.
+     *
+     * @return the token to pass to {@link #stop(long)} after the message was (de-)serialized.
+     */
+    long start() {
+        if (null != THREAD_MX_BEAN && ThreadLocalRandom.current().nextInt(SAMPLING_RATE) == 0) {
+            return THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return NOT_SAMPLED;
+    }
+
+    /**
+     * Records the bytes the current thread allocated since {@link #start()} returned the given token.
+     *
+     * @param startToken the token returned by {@code start()} on the same thread.
+     */
+    void stop(final long startToken) {
+        if (null != THREAD_MX_BEAN && startToken > NOT_SAMPLED) {
+            final long allocated = THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+            if (allocated >= startToken) {
+                allocatedBytes.record(allocated - startToken);
+            }
+        }
+    }
+
+}
@@ -123,8 +123,10 @@ public final class CborJsonValueSerializer extends SerializerWithStringManifest
         checkIfSerializable(o);
         final var jsonValue = (JsonValue) o;
         LOGGER.trace("Serializing <{}>.", jsonValue);
+        final var allocatedBytesToken = counters.outAllocatedBytes.start();
         tryToWriteJsonValueAsCborBinary(jsonValue, buf);
         counters.out.increment();
+        counters.outAllocatedBytes.stop(allocatedBytesToken);
     }
 
     @SuppressWarnings("java:S3457")
@@ -158,8 +160,10 @@ public final class CborJsonValueSerializer extends SerializerWithStringManifest
             LOGGER.trace("Deserializing <{}>.",
                     BinaryToHexConverter.createDebugMessageByTryingToConvertToHexString(buf));
         }
+        final var allocatedBytesToken = counters.inAllocatedBytes.start();
         final var result = tryToReadJsonValueFromCborBinary(buf, manifest);
         counters.in.increment();
+        counters.inAllocatedBytes.stop(allocatedBytesToken);
         return result;
     }
 
@@ -228,10 +232,14 @@ public final class CborJsonValueSerializer extends SerializerWithStringManifest
 
         private final Counter in;
         private final Counter out;
+        private final AllocatedBytesRecorder inAllocatedBytes;
+        private final AllocatedBytesRecorder outAllocatedBytes;
 
         private Counters(final Counter in, final Counter out) {
             this.in = in;
             this.out = out;
+            inAllocatedBytes = AllocatedBytesRecorder.newInstance(SERIALIZER_NAME, "in");
+            outAllocatedBytes = AllocatedBytesRecorder.newInstance(SERIALIZER_NAME, "out");
         }
 
         static Counters newInstance() {
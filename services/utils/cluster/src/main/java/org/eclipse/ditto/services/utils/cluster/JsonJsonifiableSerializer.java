@@ -41,8 +41,7 @@ public final class JsonJsonifiableSerializer extends AbstractJsonifiableWithDitt
 
     @Override
     protected void serializeIntoByteBuffer(final JsonObject jsonObject, final ByteBuffer byteBuffer) {
-        final String jsonStr = jsonObject.toString();
-        byteBuffer.put(CHARSET.encode(jsonStr));
+        jsonObject.writeTo(byteBuffer);
     }
 
     @Override
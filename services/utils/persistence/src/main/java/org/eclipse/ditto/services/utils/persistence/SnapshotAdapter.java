@@ -12,6 +12,9 @@
  */
 package org.eclipse.ditto.services.utils.persistence;
 
+import java.util.Optional;
+import java.util.OptionalLong;
+
 import javax.annotation.Nullable;
 
 import akka.persistence.SelectedSnapshot;
@@ -54,4 +57,63 @@ public interface SnapshotAdapter<T> {
     @Nullable
     T fromSnapshotStore(SelectedSnapshot selectedSnapshot);
 
+    /**
+     * Converts a "domain model snapshot" type to a delta snapshot which only contains the difference to the snapshot
+     * of a base entity. Adapters which do not support delta snapshots return an empty Optional.
+     *
+     * @param base the domain model type of the base snapshot.
+     * @param baseSequenceNumber the sequence number of the base snapshot.
+     * @param deltaOrdinal how many delta snapshots against the base snapshot were taken including this one.
+     * @param snapshot the domain model type to do a Snapshot for.
+     * @return the delta snapshot which should be persisted into the Snapshot-Store or an empty Optional if the
+     * difference cannot be expressed as delta snapshot.
+     * @since 2.0.0
+     */
+    default Optional<Object> toDeltaSnapshotStore(final T base, final long baseSequenceNumber, final int deltaOrdinal,
+            final T snapshot) {
+
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the sequence number of the base snapshot if the "database snapshot" is a delta snapshot.
+     *
+     * @param rawSnapshot the snapshot as loaded from the database.
+     * @return the sequence number of the base snapshot or an empty OptionalLong if {@code rawSnapshot} is a full
+     * snapshot.
+     * @since 2.0.0
+     */
+    default OptionalLong getDeltaBaseSequenceNumber(final Object rawSnapshot) {
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Returns how many delta snapshots against the same base snapshot were taken up to and including the given
+     * "database snapshot".
+     *
+     * @param rawSnapshot the snapshot as loaded from the database.
+     * @return the delta ordinal or 0 if {@code rawSnapshot} is a full snapshot.
+     * @since 2.0.0
+     */
+    default int getDeltaOrdinal(final Object rawSnapshot) {
+        return 0;
+    }
+
+    /**
+     * Converts a delta snapshot (directly loaded from the database) to a domain model snapshot type by applying it to
+     * the domain model type of its base snapshot.
+     * Adapters which detect delta snapshots in {@link #getDeltaBaseSequenceNumber(Object)} must override this method.
+     *
+     * @param base the domain model type of the base snapshot.
+     * @param rawDeltaSnapshot the delta snapshot as loaded from the database.
+     * @return the domain model type of the delta snapshot or {@code null}.
+     * @throws IllegalStateException if the adapter detects delta snapshots but does not override this method.
+     * @since 2.0.0
+     */
+    @Nullable
+    default T fromDeltaSnapshotStore(final T base, final Object rawDeltaSnapshot) {
+        throw new IllegalStateException(getClass().getName() + " reported a delta snapshot via " +
+                "getDeltaBaseSequenceNumber but does not implement fromDeltaSnapshotStore to apply it.");
+    }
+
 }
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.utils.persistence.mongo;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -27,11 +29,18 @@ import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.BinaryStorageConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultBinaryStorageConfig;
 import org.eclipse.ditto.signals.events.base.Event;
 import org.eclipse.ditto.signals.events.base.EventRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
 import akka.actor.ExtendedActorSystem;
 import akka.persistence.journal.EventAdapter;
 import akka.persistence.journal.EventSeq;
@@ -48,13 +57,28 @@ public abstract class AbstractMongoEventAdapter<T extends Event<?>> implements E
             .filter(Event.JsonFields.REVISION::equals)
             .isPresent();
 
+    /**
+     * Top-level fields of events which are kept as plain BSON by the binary storage format.
+     */
+    private static final List<String> PLAIN_FIELD_NAMES =
+            Collections.singletonList(Event.JsonFields.TYPE.getPointer().getRoot().orElseThrow().toString());
+
     @Nullable protected final ExtendedActorSystem system;
     protected final EventRegistry<T> eventRegistry;
+    private final BinaryStorage binaryStorage;
 
     protected AbstractMongoEventAdapter(@Nullable final ExtendedActorSystem system,
             final EventRegistry<T> eventRegistry) {
         this.system = system;
         this.eventRegistry = eventRegistry;
+        binaryStorage = BinaryStorage.of(getBinaryStorageConfig(system));
+    }
+
+    private static BinaryStorageConfig getBinaryStorageConfig(@Nullable final ExtendedActorSystem system) {
+        final Config config = null != system ? system.settings().config() : ConfigFactory.empty();
+        return DefaultBinaryStorageConfig.of(config.hasPath(ScopedConfig.DITTO_SCOPE)
+                ? DefaultScopedConfig.dittoScoped(config)
+                : ConfigFactory.empty());
     }
 
     @Override
@@ -75,7 +99,9 @@ public abstract class AbstractMongoEventAdapter<T extends Event<?>> implements E
             final JsonObject jsonObject = performToJournalMigration(
                     theEvent.toJson(schemaVersion, IS_REVISION.negate().and(FieldType.regularOrSpecial()))
             );
-            final BsonDocument bson = DittoBsonJson.getInstance().parse(jsonObject);
+            final BsonDocument bson = binaryStorage.isEnabled()
+                    ? binaryStorage.toBson(jsonObject, PLAIN_FIELD_NAMES)
+                    : DittoBsonJson.getInstance().parse(jsonObject);
             final Set<String> tags = theEvent.getDittoHeaders().getJournalTags();
             return new Tagged(bson, tags);
         } else {
@@ -86,7 +112,16 @@ public abstract class AbstractMongoEventAdapter<T extends Event<?>> implements E
     @Override
     public EventSeq fromJournal(final Object event, final String manifest) {
         if (event instanceof BsonValue) {
-            final JsonValue jsonValue = DittoBsonJson.getInstance().serialize((BsonValue) event);
+            final BsonValue bsonValue = (BsonValue) event;
+            final JsonValue jsonValue;
+            try {
+                jsonValue = BinaryStorage.isBinary(bsonValue)
+                        ? BinaryStorage.toJson(bsonValue.asDocument())
+                        : DittoBsonJson.getInstance().serialize(bsonValue);
+            } catch (final JsonParseException e) {
+                logDeserializationError(e, bsonValue);
+                return EventSeq.empty();
+            }
             try {
                 final JsonObject jsonObject = jsonValue.asObject()
                         .setValue(Event.JsonFields.REVISION.getPointer(), Event.DEFAULT_REVISION);
@@ -94,11 +129,7 @@ public abstract class AbstractMongoEventAdapter<T extends Event<?>> implements E
                         eventRegistry.parse(performFromJournalMigration(jsonObject), DittoHeaders.empty());
                 return EventSeq.single(result);
             } catch (final JsonParseException | DittoRuntimeException e) {
-                if (system != null) {
-                    system.log().error(e, "Could not deserialize Event JSON: '{}'", jsonValue);
-                } else {
-                    LOGGER.error("Could not deserialize Event JSON: '{}': {}", jsonValue, e.getMessage());
-                }
+                logDeserializationError(e, jsonValue);
                 return EventSeq.empty();
             }
         } else {
@@ -107,6 +138,14 @@ public abstract class AbstractMongoEventAdapter<T extends Event<?>> implements E
         }
     }
 
+    private void logDeserializationError(final RuntimeException error, final Object event) {
+        if (system != null) {
+            system.log().error(error, "Could not deserialize Event JSON: '{}'", event);
+        } else {
+            LOGGER.error("Could not deserialize Event JSON: '{}': {}", event, error.getMessage());
+        }
+    }
+
     /**
      * Performs an optional migration of the passed in {@code jsonObject} (which is the JSON representation of the
      * {@link Event} to persist) just before it is transformed to Mongo BSON and inserted into the "journal" collection.
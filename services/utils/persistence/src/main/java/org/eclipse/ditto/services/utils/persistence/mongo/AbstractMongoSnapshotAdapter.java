@@ -15,21 +15,38 @@ package org.eclipse.ditto.services.utils.persistence.mongo;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
 import org.bson.BsonValue;
+import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.BinaryStorageConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultBinaryStorageConfig;
 import org.slf4j.Logger;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.persistence.SelectedSnapshot;
 import akka.persistence.SnapshotOffer;
 
@@ -42,10 +59,52 @@ import akka.persistence.SnapshotOffer;
 public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFieldSelectorAndPredicate<JsonField>>
         implements SnapshotAdapter<T> {
 
+    /**
+     * Top-level fields of snapshots which are kept as plain BSON by the binary storage format.
+     */
+    private static final List<String> PLAIN_FIELD_NAMES =
+            Collections.unmodifiableList(Arrays.asList("__lifecycle", "_revision", "_modified"));
+
+    /**
+     * Field of delta snapshots containing the sequence number of their base snapshot.
+     */
+    private static final String FIELD_DELTA_BASE = "__deltaBase";
+
+    /**
+     * Field of delta snapshots containing how many delta snapshots against their base snapshot were taken up to and
+     * including them.
+     */
+    private static final String FIELD_DELTA_ORDINAL = "__deltaOrdinal";
+
+    /**
+     * Field of delta snapshots containing the JSON merge patch against their base snapshot.
+     */
+    private static final String FIELD_DELTA = "__delta";
+
+    /**
+     * Size of the binary field of snapshots; only recorded if the binary storage format is enabled.
+     */
+    private static final String SNAPSHOT_BYTES = "persistence_snapshot_bytes";
+    private static final Histogram FULL_SNAPSHOT_BYTES = DittoMetrics.histogram(SNAPSHOT_BYTES).tag("type", "full");
+    private static final Histogram DELTA_SNAPSHOT_BYTES = DittoMetrics.histogram(SNAPSHOT_BYTES).tag("type", "delta");
+
     private final Logger logger;
+    private final BinaryStorage binaryStorage;
 
     protected AbstractMongoSnapshotAdapter(final Logger logger) {
+        this(logger, DefaultBinaryStorageConfig.of(ConfigFactory.empty()));
+    }
+
+    /**
+     * Constructs a snapshot adapter which writes snapshots in the binary storage format if it is enabled.
+     *
+     * @param logger the logger.
+     * @param binaryStorageConfig the config of the binary storage format.
+     * @since 2.0.0
+     */
+    protected AbstractMongoSnapshotAdapter(final Logger logger, final BinaryStorageConfig binaryStorageConfig) {
         this.logger = logger;
+        binaryStorage = BinaryStorage.of(binaryStorageConfig);
     }
 
     @Override
@@ -54,8 +113,89 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
 
         onSnapshotStoreConversion(snapshotEntity, json);
 
+        final BsonDocument document;
+        if (binaryStorage.isEnabled()) {
+            document = binaryStorage.toBson(json, getPlainFieldNames());
+            FULL_SNAPSHOT_BYTES.record((long) BinaryStorage.getBinarySize(document));
+        } else {
+            document = DittoBsonJson.getInstance().parse(json);
+        }
+        return document;
+    }
+
+    /**
+     * Converts the snapshot entity to a delta snapshot containing the JSON merge patch against the base entity.
+     * The fields of {@link #getPlainFieldNames()} are kept next to the patch with their current values.
+     */
+    @Override
+    public Optional<Object> toDeltaSnapshotStore(final T base, final long baseSequenceNumber,
+            final int deltaOrdinal, final T snapshotEntity) {
+
+        final JsonObject json = convertToJson(checkNotNull(snapshotEntity, "snapshot entity"));
+        final Optional<JsonObject> patch = JsonFactory.diff(convertToJson(checkNotNull(base, "base")), json);
+        if (!patch.isPresent()) {
+            return Optional.empty();
+        }
+
+        onSnapshotStoreConversion(snapshotEntity, json);
+
         final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-        return dittoBsonJson.parse(json);
+        final JsonObjectBuilder plainFields = JsonFactory.newObjectBuilder();
+        getPlainFieldNames().forEach(fieldName -> json.getValue(fieldName)
+                .ifPresent(value -> plainFields.set(fieldName, value)));
+        final BsonDocument document = dittoBsonJson.parse(plainFields.build());
+        document.put(FIELD_DELTA_BASE, new BsonInt64(baseSequenceNumber));
+        document.put(FIELD_DELTA_ORDINAL, new BsonInt32(deltaOrdinal));
+        if (binaryStorage.isEnabled()) {
+            final BsonDocument binaryPatch = binaryStorage.toBson(patch.get(), Collections.emptyList());
+            DELTA_SNAPSHOT_BYTES.record((long) BinaryStorage.getBinarySize(binaryPatch));
+            document.put(FIELD_DELTA, binaryPatch);
+        } else {
+            document.put(FIELD_DELTA, dittoBsonJson.parse(patch.get()));
+        }
+        return Optional.of(document);
+    }
+
+    @Override
+    public OptionalLong getDeltaBaseSequenceNumber(final Object rawSnapshot) {
+        if (rawSnapshot instanceof BsonDocument && ((BsonDocument) rawSnapshot).isNumber(FIELD_DELTA_BASE)) {
+            return OptionalLong.of(((BsonDocument) rawSnapshot).getNumber(FIELD_DELTA_BASE).longValue());
+        }
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public int getDeltaOrdinal(final Object rawSnapshot) {
+        if (!getDeltaBaseSequenceNumber(rawSnapshot).isPresent()) {
+            return 0;
+        }
+        return ((BsonDocument) rawSnapshot).getNumber(FIELD_DELTA_ORDINAL).intValue();
+    }
+
+    @Override
+    @Nullable
+    public T fromDeltaSnapshotStore(final T base, final Object rawDeltaSnapshot) {
+        checkNotNull(rawDeltaSnapshot, "raw delta snapshot");
+        if (!getDeltaBaseSequenceNumber(rawDeltaSnapshot).isPresent()) {
+            final String pattern = "Unable to apply <{0}> as delta snapshot! Expected was a BsonDocument instance " +
+                    "with the field <{1}>.";
+            throw new IllegalArgumentException(MessageFormat.format(pattern, rawDeltaSnapshot, FIELD_DELTA_BASE));
+        }
+        final JsonObject patch = convertToJson(((BsonDocument) rawDeltaSnapshot).get(FIELD_DELTA));
+        final JsonObject baseJson = convertToJson(checkNotNull(base, "base"));
+        return tryToCreateJsonifiableFrom(JsonFactory.mergeJsonValues(patch, baseJson).asObject());
+    }
+
+    /**
+     * Returns the names of the top-level fields to keep as plain BSON next to the binary field if snapshots are
+     * written in the binary storage format. These are the fields read by queries on the snapshot collection.
+     * Subclasses may override it to keep additional fields.
+     *
+     * @return the names of the fields.
+     * @since 2.0.0
+     */
+    protected Collection<String> getPlainFieldNames() {
+        return PLAIN_FIELD_NAMES;
     }
 
     /**
@@ -124,6 +264,9 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
      */
     private static JsonObject convertToJson(final BsonValue bsonValue) {
         checkNotNull(bsonValue, "BsonValue to be converted");
+        if (BinaryStorage.isBinary(bsonValue)) {
+            return DittoJsonException.wrapJsonRuntimeException(() -> BinaryStorage.toJson((BsonDocument) bsonValue));
+        }
         final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
         final JsonObject jsonObject = dittoBsonJson.serialize(bsonValue).asObject();
         return DittoJsonException.wrapJsonRuntimeException(() -> jsonObject);
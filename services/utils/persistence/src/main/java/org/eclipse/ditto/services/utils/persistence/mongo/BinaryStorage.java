@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.text.MessageFormat;
+import java.util.Collection;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.cbor.JacksonCborFactory;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.BinaryStorageConfig;
+
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+
+/**
+ * Stores JSON objects as compressed CBOR in a BSON binary field. Selected top-level fields are copied next to the
+ * binary field as plain BSON so that they remain available to queries and indices.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class BinaryStorage {
+
+    /**
+     * Field of the compressed CBOR bytes.
+     */
+    static final String FIELD_DATA = "__binary";
+
+    /**
+     * Field of the name of the compression.
+     */
+    static final String FIELD_COMPRESSION = "__compression";
+
+    /**
+     * Field of the length of the uncompressed CBOR bytes.
+     */
+    static final String FIELD_SIZE = "__size";
+
+    private static final CborFactory CBOR_FACTORY = new JacksonCborFactory();
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final boolean enabled;
+    private final BinaryStorageConfig.Compression compression;
+
+    private BinaryStorage(final boolean enabled, final BinaryStorageConfig.Compression compression) {
+        this.enabled = enabled;
+        this.compression = compression;
+    }
+
+    /**
+     * Returns a binary storage writing the format configured by the given config.
+     *
+     * @param config the binary storage config.
+     * @return the binary storage.
+     */
+    public static BinaryStorage of(final BinaryStorageConfig config) {
+        checkNotNull(config, "config");
+        return new BinaryStorage(config.isEnabled(), config.getCompression());
+    }
+
+    /**
+     * Indicates whether new documents should be written in the binary format.
+     *
+     * @return whether the binary format is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Converts a JSON object into a BSON document of the binary format.
+     *
+     * @param jsonObject the JSON object.
+     * @param plainFieldNames names of top-level fields to copy next to the binary field.
+     * @return the BSON document.
+     */
+    public BsonDocument toBson(final JsonObject jsonObject, final Collection<String> plainFieldNames) {
+        final JsonObjectBuilder plainFields = JsonFactory.newObjectBuilder();
+        plainFieldNames.forEach(fieldName -> jsonObject.getValue(fieldName)
+                .ifPresent(value -> plainFields.set(fieldName, value)));
+
+        final byte[] cbor = toCbor(jsonObject);
+        final BsonDocument document = DittoBsonJson.getInstance().parse(plainFields.build());
+        document.put(FIELD_COMPRESSION, new BsonString(compression.getName()));
+        document.put(FIELD_SIZE, new BsonInt32(cbor.length));
+        document.put(FIELD_DATA, new BsonBinary(compress(cbor)));
+        return document;
+    }
+
+    /**
+     * Returns the number of bytes of the binary field of a document of the binary format.
+     *
+     * @param document the BSON document.
+     * @return the size of the possibly compressed binary field.
+     */
+    public static int getBinarySize(final BsonDocument document) {
+        return document.getBinary(FIELD_DATA).getData().length;
+    }
+
+    /**
+     * Checks whether a BSON value is a document of the binary format.
+     *
+     * @param bsonValue the BSON value.
+     * @return whether it was written in the binary format.
+     */
+    public static boolean isBinary(final BsonValue bsonValue) {
+        return bsonValue.isDocument() && bsonValue.asDocument().isBinary(FIELD_DATA);
+    }
+
+    /**
+     * Converts a BSON document of the binary format back into the JSON object it was created from.
+     *
+     * @param document the BSON document.
+     * @return the JSON object.
+     * @throws JsonParseException if the document cannot be decoded.
+     */
+    public static JsonObject toJson(final BsonDocument document) {
+        final String compressionName = document.getString(FIELD_COMPRESSION, new BsonString("")).getValue();
+        final BinaryStorageConfig.Compression compression = BinaryStorageConfig.Compression.forName(compressionName)
+                .orElseThrow(() -> JsonParseException.newBuilder()
+                        .message(MessageFormat.format("Unknown binary storage compression <{0}>.", compressionName))
+                        .build());
+        final byte[] data = document.getBinary(FIELD_DATA).getData();
+        final int size = document.getInt32(FIELD_SIZE, new BsonInt32(data.length)).getValue();
+        final JsonValue jsonValue = CBOR_FACTORY.readFrom(decompress(compression, data, size));
+        if (!jsonValue.isObject()) {
+            throw JsonParseException.newBuilder()
+                    .message("The binary storage field does not contain a JSON object.")
+                    .build();
+        }
+        return jsonValue.asObject();
+    }
+
+    private byte[] compress(final byte[] cbor) {
+        switch (compression) {
+            case LZ4:
+                return LZ4.fastCompressor().compress(cbor);
+            case NONE:
+            default:
+                return cbor;
+        }
+    }
+
+    private static byte[] decompress(final BinaryStorageConfig.Compression compression, final byte[] data,
+            final int size) {
+
+        switch (compression) {
+            case LZ4:
+                try {
+                    return LZ4.fastDecompressor().decompress(data, size);
+                } catch (final LZ4Exception e) {
+                    throw JsonParseException.newBuilder()
+                            .message("Failed to decompress the binary storage field.")
+                            .cause(e)
+                            .build();
+                }
+            case NONE:
+            default:
+                return data;
+        }
+    }
+
+    private static byte[] toCbor(final JsonObject jsonObject) {
+        try {
+            return CBOR_FACTORY.toByteArray(jsonObject);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", compression=" + compression +
+                "]";
+    }
+
+}
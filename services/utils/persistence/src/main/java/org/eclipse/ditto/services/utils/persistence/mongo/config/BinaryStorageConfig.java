@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for storing snapshots and events as compressed CBOR in a BSON binary field.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public interface BinaryStorageConfig {
+
+    /**
+     * Indicates whether new snapshots and events should be written in the binary format.
+     * Snapshots and events of both formats are read regardless of this setting.
+     *
+     * @return {@code true} if the binary format should be written.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the compression of the CBOR bytes.
+     *
+     * @return the compression.
+     */
+    Compression getCompression();
+
+    /**
+     * Compression algorithms of the binary format.
+     */
+    enum Compression {
+
+        /**
+         * Store the CBOR bytes as they are.
+         */
+        NONE("none"),
+
+        /**
+         * Compress the CBOR bytes with LZ4.
+         */
+        LZ4("lz4");
+
+        private final String name;
+
+        Compression(final String name) {
+            this.name = name;
+        }
+
+        /**
+         * @return the name of the compression in configuration and in stored documents.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Find a compression by its name.
+         *
+         * @param name the name.
+         * @return the compression with the name, if any.
+         */
+        public static Optional<Compression> forName(final CharSequence name) {
+            return Arrays.stream(values())
+                    .filter(compression -> compression.name.contentEquals(name))
+                    .findAny();
+        }
+    }
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code BinaryStorageConfig}.
+     */
+    enum BinaryStorageConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether to write the binary format.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The compression of the CBOR bytes.
+         */
+        COMPRESSION("compression", Compression.LZ4.getName());
+
+        private final String path;
+        private final Object defaultValue;
+
+        BinaryStorageConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link BinaryStorageConfig}.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class DefaultBinaryStorageConfig implements BinaryStorageConfig {
+
+    private static final String CONFIG_PATH = "persistence.binary-storage";
+
+    private final boolean enabled;
+    private final Compression compression;
+
+    private DefaultBinaryStorageConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(BinaryStorageConfigValue.ENABLED.getConfigPath());
+        compression = getCompression(config);
+    }
+
+    private static Compression getCompression(final ScopedConfig config) {
+        final String name = config.getString(BinaryStorageConfigValue.COMPRESSION.getConfigPath());
+        return Compression.forName(name).orElseThrow(() -> {
+            final String msgPattern = "The binary storage compression <{0}> is unknown!";
+            return new DittoConfigError(MessageFormat.format(msgPattern, name));
+        });
+    }
+
+    /**
+     * Returns an instance of {@code DefaultBinaryStorageConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the binary storage config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultBinaryStorageConfig of(final Config config) {
+        return new DefaultBinaryStorageConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, BinaryStorageConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Compression getCompression() {
+        return compression;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultBinaryStorageConfig that = (DefaultBinaryStorageConfig) o;
+        return enabled == that.enabled && compression == that.compression;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, compression);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", compression=" + compression +
+                "]";
+    }
+
+}
@@ -34,10 +34,12 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
 
     private final Duration interval;
     private final long threshold;
+    private final int baseSnapshotInterval;
 
     private DefaultSnapshotConfig(final ScopedConfig config) {
         interval = config.getDuration(SnapshotConfigValue.INTERVAL.getConfigPath());
         threshold = getThreshold(config);
+        baseSnapshotInterval = getBaseSnapshotInterval(config);
     }
 
     private static long getThreshold(final ScopedConfig config) {
@@ -49,6 +51,15 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return result;
     }
 
+    private static int getBaseSnapshotInterval(final ScopedConfig config) {
+        final int result = config.getInt(SnapshotConfigValue.BASE_SNAPSHOT_INTERVAL.getConfigPath());
+        if (1 > result) {
+            final String msgPattern = "The base snapshot interval must be positive but it was <{0}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern, result));
+        }
+        return result;
+    }
+
     /**
      * Returns an instance of the default snapshot config based on the settings of the specified Config.
      *
@@ -71,6 +82,11 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return threshold;
     }
 
+    @Override
+    public int getBaseSnapshotInterval() {
+        return baseSnapshotInterval;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -80,12 +96,14 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
             return false;
         }
         final DefaultSnapshotConfig that = (DefaultSnapshotConfig) o;
-        return threshold == that.threshold && Objects.equals(interval, that.interval);
+        return threshold == that.threshold &&
+                baseSnapshotInterval == that.baseSnapshotInterval &&
+                Objects.equals(interval, that.interval);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(interval, threshold);
+        return Objects.hash(interval, threshold, baseSnapshotInterval);
     }
 
     @Override
@@ -93,6 +111,7 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return getClass().getSimpleName() + " [" +
                 "interval=" + interval +
                 ", threshold=" + threshold +
+                ", baseSnapshotInterval=" + baseSnapshotInterval +
                 "]";
     }
 
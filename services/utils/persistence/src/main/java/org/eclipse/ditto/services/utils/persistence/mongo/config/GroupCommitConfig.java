@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for writing the events of several commands to the event journal at once.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public interface GroupCommitConfig {
+
+    /**
+     * Indicates whether events of commands arriving in short succession should be persisted together.
+     *
+     * @return {@code true} if group commit is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of events to persist together.
+     *
+     * @return the maximum number of events of a group commit.
+     */
+    int getMaxEvents();
+
+    /**
+     * Returns how long to wait for further events after the first event of a group commit.
+     *
+     * @return the window of a group commit.
+     */
+    Duration getWindow();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code GroupCommitConfig}.
+     */
+    enum GroupCommitConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether group commit is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of events to persist together.
+         */
+        MAX_EVENTS("max-events", 20),
+
+        /**
+         * How long to wait for further events after the first event of a group commit.
+         */
+        WINDOW("window", Duration.ofMillis(10L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        GroupCommitConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -38,6 +38,15 @@ public interface SnapshotConfig {
      */
     long getThreshold();
 
+    /**
+     * Returns after how many snapshots of an entity to do a full base snapshot. The snapshots in between only contain
+     * the JSON merge patch against the last base snapshot. A value of 1 disables delta snapshots.
+     *
+     * @return the base snapshot interval.
+     * @since 2.0.0
+     */
+    int getBaseSnapshotInterval();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code SnapshotConfig}.
@@ -52,7 +61,12 @@ public interface SnapshotConfig {
         /**
          * The threshold after how many changes to an entity to do a snapshot.
          */
-        THRESHOLD("threshold", 500L);
+        THRESHOLD("threshold", 500L),
+
+        /**
+         * After how many snapshots of an entity to do a full base snapshot.
+         */
+        BASE_SNAPSHOT_INTERVAL("base-snapshot-interval", 1);
 
         private final String path;
         private final Object defaultValue;
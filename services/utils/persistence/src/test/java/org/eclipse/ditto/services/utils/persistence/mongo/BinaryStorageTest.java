@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Arrays;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.BinaryStorageConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultBinaryStorageConfig;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link BinaryStorage}.
+ */
+public final class BinaryStorageTest {
+
+    private static final JsonObject JSON = JsonFactory.newObjectBuilder()
+            .set("thingId", "org.eclipse.ditto:binary")
+            .set("_revision", 42L)
+            .set("__lifecycle", "ACTIVE")
+            .set("attributes", JsonFactory.newObjectBuilder()
+                    .set("description", "lorem ipsum dolor sit amet lorem ipsum dolor sit amet")
+                    .set("counter", 3)
+                    .build())
+            .build();
+
+    @Test
+    public void roundTripWithLz4() {
+        final BinaryStorage underTest = BinaryStorage.of(config(BinaryStorageConfig.Compression.LZ4));
+
+        final BsonDocument document = underTest.toBson(JSON, Arrays.asList("_revision", "__lifecycle", "policyId"));
+
+        assertThat(BinaryStorage.isBinary(document)).isTrue();
+        assertThat(document.getString(BinaryStorage.FIELD_COMPRESSION).getValue()).isEqualTo("lz4");
+        assertThat(document.getNumber("_revision").longValue()).isEqualTo(42L);
+        assertThat(document.getString("__lifecycle").getValue()).isEqualTo("ACTIVE");
+        assertThat(document.containsKey("policyId")).isFalse();
+        assertThat(document.containsKey("attributes")).isFalse();
+        assertThat(BinaryStorage.toJson(document)).isEqualTo(JSON);
+    }
+
+    @Test
+    public void roundTripWithoutCompression() {
+        final BinaryStorage underTest = BinaryStorage.of(config(BinaryStorageConfig.Compression.NONE));
+
+        final BsonDocument document = underTest.toBson(JSON, Arrays.asList("thingId"));
+
+        assertThat(document.getString(BinaryStorage.FIELD_COMPRESSION).getValue()).isEqualTo("none");
+        assertThat(BinaryStorage.toJson(document)).isEqualTo(JSON);
+    }
+
+    @Test
+    public void plainDocumentIsNotBinary() {
+        assertThat(BinaryStorage.isBinary(DittoBsonJson.getInstance().parse(JSON))).isFalse();
+    }
+
+    @Test
+    public void unknownCompressionIsRejected() {
+        final BsonDocument document = BinaryStorage.of(config(BinaryStorageConfig.Compression.LZ4))
+                .toBson(JSON, Arrays.asList("thingId"));
+        document.put(BinaryStorage.FIELD_COMPRESSION, new BsonString("snappy"));
+
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> BinaryStorage.toJson(document));
+    }
+
+    private static BinaryStorageConfig config(final BinaryStorageConfig.Compression compression) {
+        return DefaultBinaryStorageConfig.of(ConfigFactory.parseString(
+                "persistence.binary-storage { enabled = true, compression = " + compression.getName() + " }"));
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultBinaryStorageConfig}.
+ */
+public final class DefaultBinaryStorageConfigTest {
+
+    private static Config binaryStorageTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        binaryStorageTestConf = ConfigFactory.load("binary-storage-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultBinaryStorageConfig.class,
+                areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultBinaryStorageConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultBinaryStorageConfig underTest = DefaultBinaryStorageConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(BinaryStorageConfig.BinaryStorageConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(BinaryStorageConfig.BinaryStorageConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getCompression().getName())
+                .as(BinaryStorageConfig.BinaryStorageConfigValue.COMPRESSION.getConfigPath())
+                .isEqualTo(BinaryStorageConfig.BinaryStorageConfigValue.COMPRESSION.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultBinaryStorageConfig underTest = DefaultBinaryStorageConfig.of(binaryStorageTestConf);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(BinaryStorageConfig.BinaryStorageConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getCompression())
+                .as(BinaryStorageConfig.BinaryStorageConfigValue.COMPRESSION.getConfigPath())
+                .isEqualTo(BinaryStorageConfig.Compression.NONE);
+    }
+
+    @Test
+    public void unknownCompressionIsRejected() {
+        final Config config = ConfigFactory.parseString("persistence.binary-storage.compression = snappy");
+
+        assertThatExceptionOfType(DittoConfigError.class).isThrownBy(() -> DefaultBinaryStorageConfig.of(config));
+    }
+}
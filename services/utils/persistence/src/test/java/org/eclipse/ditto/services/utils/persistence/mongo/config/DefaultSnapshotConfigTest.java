@@ -65,6 +65,9 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getDefaultValue());
+        softly.assertThat(underTest.getBaseSnapshotInterval())
+                .as(SnapshotConfig.SnapshotConfigValue.BASE_SNAPSHOT_INTERVAL.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.BASE_SNAPSHOT_INTERVAL.getDefaultValue());
     }
 
     @Test
@@ -77,5 +80,8 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(2);
+        softly.assertThat(underTest.getBaseSnapshotInterval())
+                .as(SnapshotConfig.SnapshotConfigValue.BASE_SNAPSHOT_INTERVAL.getConfigPath())
+                .isEqualTo(10);
     }
 }
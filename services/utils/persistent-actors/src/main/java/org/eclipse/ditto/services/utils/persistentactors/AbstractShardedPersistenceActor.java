@@ -13,8 +13,14 @@
 package org.eclipse.ditto.services.utils.persistentactors;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
@@ -29,8 +35,13 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.services.utils.akka.PingCommand;
 import org.eclipse.ditto.services.utils.akka.PingCommandResponse;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultGroupCommitConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.GroupCommitConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
@@ -40,13 +51,18 @@ import org.eclipse.ditto.services.utils.persistentactors.results.ResultVisitor;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.events.base.Event;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.actor.ActorRef;
 import akka.japi.pf.ReceiveBuilder;
 import akka.persistence.RecoveryCompleted;
 import akka.persistence.RecoveryTimedOut;
 import akka.persistence.SaveSnapshotFailure;
 import akka.persistence.SaveSnapshotSuccess;
+import akka.persistence.SelectedSnapshot;
 import akka.persistence.SnapshotOffer;
+import akka.persistence.SnapshotProtocol;
+import akka.persistence.SnapshotSelectionCriteria;
 import scala.Option;
 
 /**
@@ -72,12 +88,42 @@ public abstract class AbstractShardedPersistenceActor<
      */
     public static final String JOURNAL_TAG_ALWAYS_ALIVE = "always-alive";
 
+    private static final GroupCommitConfig GROUP_COMMIT_DISABLED = DefaultGroupCommitConfig.of(ConfigFactory.empty());
+    private static final String GROUP_COMMIT_TIMER = "groupCommit";
+    private static final Histogram GROUP_COMMIT_SIZE = DittoMetrics.histogram("persistence_group_commit_size");
+    private static final PreparedTimer GROUP_COMMIT_LATENCY =
+            DittoMetrics.timer("persistence_group_commit_command_latency");
+
     private final SnapshotAdapter<S> snapshotAdapter;
     private final Receive handleEvents;
     private final Receive handleCleanups;
     private long lastSnapshotRevision;
     private long confirmedSnapshotRevision;
 
+    /**
+     * The entity of the last full snapshot against which delta snapshots are taken, or null if delta snapshots are
+     * disabled, no full snapshot is known or saving it failed.
+     */
+    @Nullable private S baseSnapshotEntity;
+    private long baseSnapshotRevision;
+    private long confirmedBaseSnapshotRevision;
+    private int deltaSnapshotsSinceBase;
+
+    /**
+     * The delta snapshot offered during recovery; it is applied to its base snapshot after recovery completed
+     * together with the events replayed after it.
+     */
+    @Nullable private SnapshotOffer recoveredDeltaSnapshot;
+    private final List<ReplayedEvent> eventsAfterDeltaSnapshot;
+
+    /**
+     * Events of a group commit which are applied to the entity but not yet persisted, in command order.
+     * The first {@code submittedEvents} of them are being written to the journal.
+     */
+    private final List<PendingEvent<E>> unpersistedEvents;
+    private int submittedEvents;
+    @Nullable private ActorRef eventSender;
+
     /**
      * The current entity, or null if it was never created.
      */
@@ -106,6 +152,15 @@ public abstract class AbstractShardedPersistenceActor<
 
         lastSnapshotRevision = 0L;
         confirmedSnapshotRevision = 0L;
+        baseSnapshotEntity = null;
+        baseSnapshotRevision = 0L;
+        confirmedBaseSnapshotRevision = 0L;
+        deltaSnapshotsSinceBase = 0;
+        recoveredDeltaSnapshot = null;
+        eventsAfterDeltaSnapshot = new ArrayList<>();
+        unpersistedEvents = new ArrayList<>();
+        submittedEvents = 0;
+        eventSender = null;
 
         handleEvents = ReceiveBuilder.create()
                 .match(getEventClass(), event -> {
@@ -169,6 +224,16 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected abstract SnapshotConfig getSnapshotConfig();
 
+    /**
+     * Returns the configuration for persisting the events of commands arriving in short succession together.
+     * Group commit is disabled unless overridden.
+     *
+     * @return configuration for group commits.
+     */
+    protected GroupCommitConfig getGroupCommitConfig() {
+        return GROUP_COMMIT_DISABLED;
+    }
+
     /**
      * Check if the entity exists and is deleted. This is a sufficient condition to make a snapshot before stopping.
      *
@@ -238,15 +303,39 @@ public abstract class AbstractShardedPersistenceActor<
      * @return the current revision number for event handling.
      */
     protected long getRevisionNumber() {
-        return lastSequenceNr();
+        return lastSequenceNr() + unpersistedEvents.size();
+    }
+
+    /**
+     * Returns the sender of the command which caused the event being published. It differs from {@code getSender()}
+     * for events persisted by a group commit.
+     *
+     * @return the sender of the command of the current event.
+     */
+    protected ActorRef getEventSender() {
+        return null != eventSender ? eventSender : getSender();
     }
 
     @Override
     public void postStop() throws Exception {
         log.debug("Stopping PersistenceActor for entity with ID <{}>.", entityId);
+        if (!unpersistedEvents.isEmpty()) {
+            log.warning("Discarding <{}> not persisted events of entity with ID <{}>.", unpersistedEvents.size(),
+                    entityId);
+        }
         super.postStop();
     }
 
+    @Override
+    public void onPersistRejected(final Throwable cause, final Object event, final long seqNr) {
+        super.onPersistRejected(cause, event, seqNr);
+        if (submittedEvents > 0) {
+            // the entity already contains the rejected events of the group commit; recover it from the journal
+            log.error("Stopping entity with ID <{}> to discard events rejected from a group commit.", entityId);
+            getContext().stop(getSelf());
+        }
+    }
+
     @Override
     public Receive createReceive() {
         return createDeletedBehavior();
@@ -260,7 +349,13 @@ public abstract class AbstractShardedPersistenceActor<
     @Override
     public Receive createReceiveRecover() {
         // defines how state is updated during recovery
-        return handleEvents.orElse(ReceiveBuilder.create()
+        return ReceiveBuilder.create()
+                // events after a delta snapshot are applied once its base snapshot is loaded
+                .match(getEventClass(), event -> null != recoveredDeltaSnapshot,
+                        event -> eventsAfterDeltaSnapshot.add(new ReplayedEvent(event, lastSequenceNr())))
+                .build()
+                .orElse(handleEvents)
+                .orElse(ReceiveBuilder.create()
                 // # Snapshot handling
                 .match(SnapshotOffer.class, ss -> {
                     log.debug("Got SnapshotOffer: {}", ss);
@@ -271,7 +366,7 @@ public abstract class AbstractShardedPersistenceActor<
                         log.warning("RecoveryTimeout occurred during recovery for entity with ID {}", entityId)
                 )
                 // # Recovery handling
-                .match(RecoveryCompleted.class, this::recoveryCompleted)
+                .match(RecoveryCompleted.class, this::completeRecovery)
                 .matchAny(m -> log.warning("Unknown recover message: {}", m))
                 .build());
     }
@@ -285,8 +380,9 @@ public abstract class AbstractShardedPersistenceActor<
         final Receive receive = handleCleanups.orElse(ReceiveBuilder.create()
                 .match(commandStrategy.getMatchingClass(), commandStrategy::isDefined, this::handleByCommandStrategy)
                 .match(PersistEmptyEvent.class, this::handlePersistEmptyEvent)
-                .match(CheckForActivity.class, this::checkForActivity)
+                .match(CheckForActivity.class, this::checkForActivityAfterPendingEvents)
                 .match(PingCommand.class, this::processPingCommand)
+                .matchEquals(Control.GROUP_COMMIT, control -> persistPendingEvents())
                 .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
                 .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                 .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
@@ -336,6 +432,8 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected void persistAndApplyEvent(final E event, final BiConsumer<E, S> handler) {
 
+        // keep the journal in command order
+        persistPendingEvents();
         final E modifiedEvent = modifyEventBeforePersist(event);
         if (modifiedEvent.getDittoHeaders().isDryRun()) {
             handler.accept(modifiedEvent, entity);
@@ -399,6 +497,7 @@ public abstract class AbstractShardedPersistenceActor<
 
     private void handlePersistEmptyEvent(final PersistEmptyEvent persistEmptyEvent) {
         log.debug("Received PersistEmptyEvent: <{}>", persistEmptyEvent);
+        persistPendingEvents();
         persist(persistEmptyEvent.getEmptyEvent(), event -> log.debug("Persisted EmptyEvent: <{}>", event));
     }
 
@@ -412,7 +511,8 @@ public abstract class AbstractShardedPersistenceActor<
     private Receive createDeletedBehavior() {
         final CommandStrategy<? extends C, S, K, E> deleteStrategy = getDeletedStrategy();
         return handleCleanups.orElse(handleByStrategyReceiveBuilder(deleteStrategy)
-                .match(CheckForActivity.class, this::checkForActivity)
+                .match(CheckForActivity.class, this::checkForActivityAfterPendingEvents)
+                .matchEquals(Control.GROUP_COMMIT, control -> persistPendingEvents())
                 .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
                 .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                 .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
@@ -470,6 +570,10 @@ public abstract class AbstractShardedPersistenceActor<
     public void onMutation(final Command<?> command, final E event, final WithDittoHeaders<?> response,
             final boolean becomeCreated, final boolean becomeDeleted) {
 
+        if (getGroupCommitConfig().isEnabled()) {
+            groupCommitEvent(command, event, response, becomeCreated, becomeDeleted);
+            return;
+        }
         persistAndApplyEvent(event, (persistedEvent, resultingEntity) -> {
             if (shouldSendResponse(command.getDittoHeaders())) {
                 notifySender(response);
@@ -486,14 +590,16 @@ public abstract class AbstractShardedPersistenceActor<
     @Override
     public void onQuery(final Command<?> command, final WithDittoHeaders<?> response) {
         if (command.getDittoHeaders().isResponseRequired()) {
-            notifySender(response);
+            final ActorRef sender = getSender();
+            runAfterPendingEvents(() -> notifySender(sender, response));
         }
     }
 
     @Override
     public void onError(final DittoRuntimeException error, final Command<?> errorCausingCommand) {
         if (shouldSendResponse(errorCausingCommand.getDittoHeaders())) {
-            notifySender(error);
+            final ActorRef sender = getSender();
+            runAfterPendingEvents(() -> notifySender(sender, error));
         }
     }
 
@@ -533,6 +639,91 @@ public abstract class AbstractShardedPersistenceActor<
         });
     }
 
+    /**
+     * Apply the event of a mutation command to the entity right away and collect it for a group commit. The response
+     * is sent after the event is persisted.
+     */
+    private void groupCommitEvent(final Command<?> command, final E event, final WithDittoHeaders<?> response,
+            final boolean becomeCreated, final boolean becomeDeleted) {
+
+        final E modifiedEvent = modifyEventBeforePersist(event);
+        final ActorRef sender = getSender();
+        final Runnable afterPersist = () -> {
+            if (shouldSendResponse(command.getDittoHeaders())) {
+                notifySender(sender, response);
+            }
+            if (becomeDeleted) {
+                becomeDeletedHandler();
+            }
+            if (becomeCreated) {
+                becomeCreatedHandler();
+            }
+        };
+        if (modifiedEvent.getDittoHeaders().isDryRun()) {
+            runAfterPendingEvents(afterPersist);
+        } else {
+            unpersistedEvents.add(new PendingEvent<>(modifiedEvent, sender, afterPersist));
+            handleEvents.onMessage().apply(modifiedEvent);
+
+            final GroupCommitConfig groupCommitConfig = getGroupCommitConfig();
+            final int collectedEvents = unpersistedEvents.size() - submittedEvents;
+            if (becomeCreated || becomeDeleted || collectedEvents >= groupCommitConfig.getMaxEvents()) {
+                // the behavior has to change before the next command is handled
+                persistPendingEvents();
+            } else if (collectedEvents == 1) {
+                timers().startSingleTimer(GROUP_COMMIT_TIMER, Control.GROUP_COMMIT, groupCommitConfig.getWindow());
+            }
+        }
+    }
+
+    /**
+     * Run an action after all events of the current group commit are persisted, or immediately if there are none.
+     */
+    private void runAfterPendingEvents(final Runnable action) {
+        if (unpersistedEvents.isEmpty()) {
+            action.run();
+        } else {
+            unpersistedEvents.get(unpersistedEvents.size() - 1).afterPersist.add(action);
+        }
+    }
+
+    private void persistPendingEvents() {
+        timers().cancel(GROUP_COMMIT_TIMER);
+        final List<E> events = unpersistedEvents.subList(submittedEvents, unpersistedEvents.size())
+                .stream()
+                .map(pendingEvent -> pendingEvent.event)
+                .collect(Collectors.toList());
+        if (!events.isEmpty()) {
+            log.debug("Persisting <{}> events of a group commit.", events.size());
+            submittedEvents += events.size();
+            GROUP_COMMIT_SIZE.record((long) events.size());
+            persistAll(events, persistedEvent -> pendingEventPersisted());
+        }
+    }
+
+    private void pendingEventPersisted() {
+        final PendingEvent<E> pendingEvent = unpersistedEvents.remove(0);
+        submittedEvents--;
+        log.withCorrelationId(pendingEvent.event)
+                .info("Successfully persisted Event <{}>.", pendingEvent.event.getType());
+        GROUP_COMMIT_LATENCY.record(System.nanoTime() - pendingEvent.startNanos, TimeUnit.NANOSECONDS);
+
+        // the event was applied on the entity when it was collected
+        eventSender = pendingEvent.sender;
+        try {
+            publishEvent(pendingEvent.event);
+        } finally {
+            eventSender = null;
+        }
+        pendingEvent.afterPersist.forEach(Runnable::run);
+        onEntityModified();
+
+        // only the last event of a group commit matches the state of the entity
+        if (submittedEvents == 0 && snapshotThresholdPassed()) {
+            takeSnapshot("snapshot threshold is reached");
+        }
+    }
+
     private void takeSnapshot(final String reason) {
         final long revision = getRevisionNumber();
         if (entity != null && lastSnapshotRevision != revision) {
@@ -540,7 +731,7 @@ public abstract class AbstractShardedPersistenceActor<
                     revision,
                     reason);
 
-            final Object snapshotSubject = snapshotAdapter.toSnapshotStore(entity);
+            final Object snapshotSubject = toSnapshotStore(entity, revision);
             saveSnapshot(snapshotSubject);
 
             lastSnapshotRevision = revision;
@@ -552,6 +743,26 @@ public abstract class AbstractShardedPersistenceActor<
         }
     }
 
+    /**
+     * Converts the entity to a delta snapshot against the base snapshot if there is one and the configured number of
+     * delta snapshots is not yet reached, and to a full base snapshot otherwise.
+     */
+    private Object toSnapshotStore(final S snapshotEntity, final long revision) {
+        final int baseSnapshotInterval = getSnapshotConfig().getBaseSnapshotInterval();
+        if (null != baseSnapshotEntity && deltaSnapshotsSinceBase < baseSnapshotInterval - 1) {
+            final Optional<Object> deltaSnapshot = snapshotAdapter.toDeltaSnapshotStore(baseSnapshotEntity,
+                    baseSnapshotRevision, deltaSnapshotsSinceBase + 1, snapshotEntity);
+            if (deltaSnapshot.isPresent()) {
+                deltaSnapshotsSinceBase++;
+                return deltaSnapshot.get();
+            }
+        }
+        baseSnapshotEntity = baseSnapshotInterval > 1 ? snapshotEntity : null;
+        baseSnapshotRevision = revision;
+        deltaSnapshotsSinceBase = 0;
+        return snapshotAdapter.toSnapshotStore(snapshotEntity);
+    }
+
     private boolean snapshotThresholdPassed() {
         return getRevisionNumber() - lastSnapshotRevision >= getSnapshotConfig().getThreshold();
     }
@@ -566,26 +777,108 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     private void takeSnapshotByInterval(final Control takeSnapshot) {
-        takeSnapshot("snapshot interval has passed");
+        runAfterPendingEvents(() -> takeSnapshot("snapshot interval has passed"));
+        persistPendingEvents();
+    }
+
+    private void checkForActivityAfterPendingEvents(final CheckForActivity message) {
+        runAfterPendingEvents(() -> checkForActivity(message));
+        persistPendingEvents();
     }
 
     private void saveSnapshotSuccess(final SaveSnapshotSuccess s) {
         log.debug("Got {}", s);
         confirmedSnapshotRevision = s.metadata().sequenceNr();
+        if (confirmedSnapshotRevision == baseSnapshotRevision) {
+            confirmedBaseSnapshotRevision = confirmedSnapshotRevision;
+        }
     }
 
     private void saveSnapshotFailure(final SaveSnapshotFailure s) {
         log.error(s.cause(), "Got {}", s);
+        if (s.metadata().sequenceNr() == baseSnapshotRevision) {
+            // take the next snapshot as full base snapshot
+            baseSnapshotEntity = null;
+        }
     }
 
     private void recoverFromSnapshotOffer(final SnapshotOffer snapshotOffer) {
-        entity = snapshotAdapter.fromSnapshotStore(snapshotOffer);
-        lastSnapshotRevision = confirmedSnapshotRevision = snapshotOffer.metadata().sequenceNr();
+        final long sequenceNr = snapshotOffer.metadata().sequenceNr();
+        final OptionalLong deltaBaseSequenceNr = snapshotAdapter.getDeltaBaseSequenceNumber(snapshotOffer.snapshot());
+        if (deltaBaseSequenceNr.isPresent()) {
+            recoveredDeltaSnapshot = snapshotOffer;
+            baseSnapshotRevision = confirmedBaseSnapshotRevision = deltaBaseSequenceNr.getAsLong();
+            deltaSnapshotsSinceBase = snapshotAdapter.getDeltaOrdinal(snapshotOffer.snapshot());
+        } else {
+            entity = snapshotAdapter.fromSnapshotStore(snapshotOffer);
+            baseSnapshotEntity = getSnapshotConfig().getBaseSnapshotInterval() > 1 ? entity : null;
+            baseSnapshotRevision = confirmedBaseSnapshotRevision = sequenceNr;
+            deltaSnapshotsSinceBase = 0;
+        }
+        lastSnapshotRevision = confirmedSnapshotRevision = sequenceNr;
+    }
+
+    private void completeRecovery(final RecoveryCompleted recoveryCompleted) {
+        if (null == recoveredDeltaSnapshot) {
+            recoveryCompleted(recoveryCompleted);
+        } else {
+            // load the base snapshot of the recovered delta snapshot and stash all messages until it is applied
+            log.debug("Loading base snapshot <{}> of delta snapshot of entity with ID <{}>.", baseSnapshotRevision,
+                    entityId);
+            loadSnapshot(persistenceId(),
+                    SnapshotSelectionCriteria.create(baseSnapshotRevision, Long.MAX_VALUE, baseSnapshotRevision, 0L),
+                    baseSnapshotRevision);
+            getContext().become(ReceiveBuilder.create()
+                    .match(SnapshotProtocol.LoadSnapshotResult.class,
+                            result -> baseSnapshotLoaded(result, recoveryCompleted))
+                    .match(SnapshotProtocol.LoadSnapshotFailed.class, this::baseSnapshotFailed)
+                    .matchAny(message -> stash())
+                    .build());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void baseSnapshotLoaded(final SnapshotProtocol.LoadSnapshotResult result,
+            final RecoveryCompleted recoveryCompleted) {
+
+        final SnapshotOffer deltaSnapshot = recoveredDeltaSnapshot;
+        final Option<SelectedSnapshot> selectedSnapshot = result.snapshot();
+        @Nullable final S base;
+        if (selectedSnapshot.isDefined() && selectedSnapshot.get().metadata().sequenceNr() == baseSnapshotRevision) {
+            base = snapshotAdapter.fromSnapshotStore(selectedSnapshot.get());
+        } else {
+            base = null;
+        }
+        if (null == base || null == deltaSnapshot) {
+            // the delta snapshot and the events after the base snapshot are kept for manual recovery
+            log.error("Base snapshot <{}> of delta snapshot <{}> of entity with ID <{}> is missing.",
+                    baseSnapshotRevision, lastSnapshotRevision, entityId);
+            getContext().stop(getSelf());
+            return;
+        }
+
+        entity = snapshotAdapter.fromDeltaSnapshotStore(base, deltaSnapshot.snapshot());
+        baseSnapshotEntity = base;
+        for (final ReplayedEvent replayedEvent : eventsAfterDeltaSnapshot) {
+            entity = getEventStrategy().handle((E) replayedEvent.event, entity, replayedEvent.revision);
+        }
+        eventsAfterDeltaSnapshot.clear();
+        recoveredDeltaSnapshot = null;
+
+        recoveryCompleted(recoveryCompleted);
+        unstashAll();
+    }
+
+    private void baseSnapshotFailed(final SnapshotProtocol.LoadSnapshotFailed failed) {
+        log.error(failed.cause(), "Failed to load base snapshot <{}> of entity with ID <{}>.", baseSnapshotRevision,
+                entityId);
+        getContext().stop(getSelf());
     }
 
     @Override
     protected long getLatestSnapshotSequenceNumber() {
-        return confirmedSnapshotRevision;
+        // the base snapshot and the events after it are needed to recover from the delta snapshots after it
+        return confirmedBaseSnapshotRevision;
     }
 
     private void notAccessible(final Object message) {
@@ -646,7 +939,41 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     private enum Control {
-        TAKE_SNAPSHOT
+        TAKE_SNAPSHOT,
+        GROUP_COMMIT
+    }
+
+    /**
+     * An event replayed during recovery together with the revision it was persisted with.
+     */
+    private static final class ReplayedEvent {
+
+        private final Object event;
+        private final long revision;
+
+        private ReplayedEvent(final Object event, final long revision) {
+            this.event = event;
+            this.revision = revision;
+        }
+    }
+
+    /**
+     * An event of a group commit together with what to do after it is persisted.
+     */
+    private static final class PendingEvent<E> {
+
+        private final E event;
+        private final ActorRef sender;
+        private final List<Runnable> afterPersist;
+        private final long startNanos;
+
+        private PendingEvent(final E event, final ActorRef sender, final Runnable afterPersist) {
+            this.event = event;
+            this.sender = sender;
+            this.afterPersist = new ArrayList<>();
+            this.afterPersist.add(afterPersist);
+            startNanos = System.nanoTime();
+        }
     }
 
 